@@ -109,6 +109,11 @@ public class PoetExtension {
                                                                               "AsyncWaiter");
     }
 
+    public ClassName getBatchManagerAsyncInterface() {
+        return ClassName.get(model.getMetadata().getFullClientPackageName() + ".batchmanager",
+                             model.getMetadata().getServiceName() + "AsyncBatchManager");
+    }
+
     public ClassName waitersRuntimeClass() {
         return ClassName.get(model.getMetadata().getFullWaitersInternalPackageName(),
                              WaitersRuntimeGeneratorTask.RUNTIME_CLASS_NAME);
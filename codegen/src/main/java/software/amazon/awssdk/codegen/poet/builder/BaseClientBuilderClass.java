@@ -316,20 +316,15 @@ public class BaseClientBuilderClass implements ClassSpec {
                              ParameterizedTypeName.get(List.class, ExecutionInterceptor.class),
                              ArrayList.class);
 
-        List<ClassName> builtInInterceptors = new ArrayList<>();
-
         if (authSchemeSpecUtils.useSraAuth()) {
-            builtInInterceptors.add(authSchemeSpecUtils.authSchemeInterceptor());
+            builder.addStatement("endpointInterceptors.add(new $T())", authSchemeSpecUtils.authSchemeInterceptor());
         }
-        builtInInterceptors.add(endpointRulesSpecUtils.resolverInterceptorName());
-        builtInInterceptors.add(endpointRulesSpecUtils.requestModifierInterceptorName());
+        builder.addStatement("endpointInterceptors.add(new $T(config.option($T.ENDPOINT_RESOLUTION_CACHE_SIZE)))",
+                             endpointRulesSpecUtils.resolverInterceptorName(), SdkAdvancedClientOption.class);
+        builder.addStatement("endpointInterceptors.add(new $T())", endpointRulesSpecUtils.requestModifierInterceptorName());
 
         for (String interceptor : model.getCustomizationConfig().getInterceptors()) {
-            builtInInterceptors.add(ClassName.bestGuess(interceptor));
-        }
-
-        for (ClassName interceptor : builtInInterceptors) {
-            builder.addStatement("endpointInterceptors.add(new $T())", interceptor);
+            builder.addStatement("endpointInterceptors.add(new $T())", ClassName.bestGuess(interceptor));
         }
 
 
@@ -179,9 +179,7 @@ public final class AsyncClientClass extends AsyncClientInterface {
 
     @Override
     protected void addWaiterMethod(TypeSpec.Builder type) {
-        type.addField(FieldSpec.builder(ClassName.get(ScheduledExecutorService.class), "executorService")
-                                       .addModifiers(PRIVATE, FINAL)
-                                       .build());
+        addExecutorServiceField(type);
 
         MethodSpec waiter = MethodSpec.methodBuilder("waiter")
                                       .addModifiers(PUBLIC)
@@ -195,6 +193,30 @@ public final class AsyncClientClass extends AsyncClientInterface {
         type.addMethod(waiter);
     }
 
+    @Override
+    protected void addBatchManagerMethod(TypeSpec.Builder type) {
+        if (!model.hasWaiters()) {
+            addExecutorServiceField(type);
+        }
+
+        ClassName returnType = poetExtensions.getBatchManagerAsyncInterface();
+        MethodSpec batchManager = MethodSpec.methodBuilder("batchManager")
+                                            .addModifiers(PUBLIC)
+                                            .addAnnotation(Override.class)
+                                            .addStatement("return $T.builder().client(this)"
+                                                          + ".scheduledExecutor(executorService).build()", returnType)
+                                            .returns(returnType)
+                                            .build();
+
+        type.addMethod(batchManager);
+    }
+
+    private void addExecutorServiceField(TypeSpec.Builder type) {
+        type.addField(FieldSpec.builder(ClassName.get(ScheduledExecutorService.class), "executorService")
+                               .addModifiers(PRIVATE, FINAL)
+                               .build());
+    }
+
     @Override
     protected List<MethodSpec> operations() {
         return model.getOperations().values().stream()
@@ -262,7 +284,7 @@ public final class AsyncClientClass extends AsyncClientInterface {
             builder.endControlFlow();
         }
 
-        if (model.hasWaiters()) {
+        if (model.hasWaiters() || model.getCustomizationConfig().isBatchManagerSupported()) {
             builder.addStatement("this.executorService = clientConfiguration.option($T.SCHEDULED_EXECUTOR_SERVICE)",
                                  SdkClientOption.class);
         }
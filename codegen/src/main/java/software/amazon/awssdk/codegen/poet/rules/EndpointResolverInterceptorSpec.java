@@ -44,6 +44,7 @@ import software.amazon.awssdk.auth.signer.AwsS3V4Signer;
 import software.amazon.awssdk.auth.signer.SignerLoader;
 import software.amazon.awssdk.awscore.AwsExecutionAttribute;
 import software.amazon.awssdk.awscore.endpoints.AwsEndpointAttribute;
+import software.amazon.awssdk.awscore.endpoints.EndpointResolutionCache;
 import software.amazon.awssdk.awscore.endpoints.authscheme.EndpointAuthScheme;
 import software.amazon.awssdk.awscore.endpoints.authscheme.SigV4AuthScheme;
 import software.amazon.awssdk.awscore.endpoints.authscheme.SigV4aAuthScheme;
@@ -92,6 +93,8 @@ import software.amazon.awssdk.utils.internal.CodegenNamingUtils;
 
 public class EndpointResolverInterceptorSpec implements ClassSpec {
 
+    private static final String ENDPOINT_RESOLUTION_CACHE_FIELD = "endpointResolutionCache";
+
     private final IntermediateModel model;
     private final EndpointRulesSpecUtils endpointRulesSpecUtils;
     private final EndpointParamsKnowledgeIndex endpointParamsKnowledgeIndex;
@@ -128,9 +131,12 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
 
         if (!useSraAuth) {
             b.addField(endpointAuthSchemeStrategyFieldSpec);
-            b.addMethod(constructorMethodSpec(endpointAuthSchemeStrategyFieldSpec.name));
         }
+        b.addField(endpointResolutionCacheFieldSpec());
+        b.addMethod(defaultConstructorMethodSpec());
+        b.addMethod(constructorMethodSpec(endpointAuthSchemeStrategyFieldSpec.name));
         b.addMethod(modifyRequestMethod(endpointAuthSchemeStrategyFieldSpec.name));
+        b.addMethod(resolveEndpointMethod());
         b.addMethod(modifyHttpRequestMethod());
         b.addMethod(ruleParams());
 
@@ -170,6 +176,16 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
                         .build();
     }
 
+    private FieldSpec endpointResolutionCacheFieldSpec() {
+        return FieldSpec.builder(endpointResolutionCacheType(), ENDPOINT_RESOLUTION_CACHE_FIELD, Modifier.PRIVATE, Modifier.FINAL)
+                        .build();
+    }
+
+    private TypeName endpointResolutionCacheType() {
+        return ParameterizedTypeName.get(ClassName.get(EndpointResolutionCache.class),
+                                         endpointRulesSpecUtils.parametersClassName());
+    }
+
     private MethodSpec modifyRequestMethod(String endpointAuthSchemeStrategyFieldName) {
 
         MethodSpec.Builder b = MethodSpec.methodBuilder("modifyRequest")
@@ -191,13 +207,13 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         b.addStatement("$1T $2N = ($1T) executionAttributes.getAttribute($3T.ENDPOINT_PROVIDER)",
                        endpointRulesSpecUtils.providerInterfaceName(), providerVar, SdkInternalExecutionAttribute.class);
         b.beginControlFlow("try");
+        b.addStatement("$T metricCollector = executionAttributes.getOptionalAttribute($T.API_CALL_METRIC_COLLECTOR)",
+                       ParameterizedTypeName.get(Optional.class, MetricCollector.class), SdkExecutionAttribute.class);
         b.addStatement("long resolveEndpointStart = $T.nanoTime()", System.class);
-        b.addStatement("$T endpoint = $N.resolveEndpoint(ruleParams(result, executionAttributes)).join()",
+        b.addStatement("$T endpoint = resolveEndpoint($N, ruleParams(result, executionAttributes), metricCollector)",
                        Endpoint.class, providerVar);
         b.addStatement("$1T resolveEndpointDuration = $1T.ofNanos($2T.nanoTime() - resolveEndpointStart)", Duration.class,
                        System.class);
-        b.addStatement("$T metricCollector = executionAttributes.getOptionalAttribute($T.API_CALL_METRIC_COLLECTOR)",
-                       ParameterizedTypeName.get(Optional.class, MetricCollector.class), SdkExecutionAttribute.class);
         b.addStatement("metricCollector.ifPresent(mc -> mc.reportMetric($T.ENDPOINT_RESOLVE_DURATION, resolveEndpointDuration))",
                        CoreMetric.class);
         b.beginControlFlow("if (!$T.disableHostPrefixInjection(executionAttributes))",
@@ -250,6 +266,25 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         return b.build();
     }
 
+    private MethodSpec resolveEndpointMethod() {
+        MethodSpec.Builder b = MethodSpec.methodBuilder("resolveEndpoint")
+                                         .addModifiers(Modifier.PRIVATE)
+                                         .returns(Endpoint.class)
+                                         .addParameter(endpointRulesSpecUtils.providerInterfaceName(), "provider")
+                                         .addParameter(endpointRulesSpecUtils.parametersClassName(), "endpointParams")
+                                         .addParameter(ParameterizedTypeName.get(Optional.class, MetricCollector.class),
+                                                       "metricCollector");
+
+        // Only the default provider is known to resolve equal parameters to the same endpoint, so only its endpoints are
+        // cached.
+        b.beginControlFlow("if (provider instanceof $T)", endpointRulesSpecUtils.providerDefaultImplName());
+        b.addStatement("return $N.resolve(endpointParams, p -> provider.resolveEndpoint(p).join(), metricCollector.orElse(null))",
+                       ENDPOINT_RESOLUTION_CACHE_FIELD);
+        b.endControlFlow();
+        b.addStatement("return provider.resolveEndpoint(endpointParams).join()");
+        return b.build();
+    }
+
     private MethodSpec modifyHttpRequestMethod() {
         MethodSpec.Builder b = MethodSpec.methodBuilder("modifyHttpRequest")
                                          .addModifiers(Modifier.PUBLIC)
@@ -866,8 +901,23 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         return builder.build();
     }
 
+    private MethodSpec defaultConstructorMethodSpec() {
+        return MethodSpec.constructorBuilder()
+                         .addModifiers(Modifier.PUBLIC)
+                         .addStatement("this(null)")
+                         .build();
+    }
+
     private MethodSpec constructorMethodSpec(String endpointAuthSchemeFieldName) {
-        MethodSpec.Builder b = MethodSpec.constructorBuilder().addModifiers(Modifier.PUBLIC);
+        MethodSpec.Builder b = MethodSpec.constructorBuilder()
+                                         .addModifiers(Modifier.PUBLIC)
+                                         .addParameter(Integer.class, "endpointResolutionCacheSize");
+        b.addStatement("this.$N = $T.create(endpointResolutionCacheSize)", ENDPOINT_RESOLUTION_CACHE_FIELD,
+                       EndpointResolutionCache.class);
+        if (useSraAuth) {
+            return b.build();
+        }
+
         EndpointAuthSchemeConfig endpointAuthSchemeConfig = model.getCustomizationConfig().getEndpointAuthSchemeConfig();
         String factoryLocalVarName = "endpointAuthSchemeStrategyFactory";
         if (endpointAuthSchemeConfig != null && endpointAuthSchemeConfig.getAuthSchemeStrategyFactoryClass() != null) {
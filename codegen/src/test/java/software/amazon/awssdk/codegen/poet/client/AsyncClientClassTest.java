@@ -50,6 +50,14 @@ public class AsyncClientClassTest {
         assertThat(sraAsyncClientClass, generatesTo("sra/test-query-async-client-class.java"));
     }
 
+    @Test
+    public void asyncClientClassWithBatchManager() {
+        IntermediateModel model = queryServiceModels();
+        model.getCustomizationConfig().setBatchManagerSupported(true);
+        AsyncClientClass asyncClientClass = createAsyncClientClass(model, true);
+        assertThat(asyncClientClass, generatesTo("sra/test-query-async-client-class-with-batch-manager.java"));
+    }
+
     @Test
     public void asyncClientClassAwsJson() {
         AsyncClientClass asyncClientClass = createAsyncClientClass(awsJsonServiceModels(), false);
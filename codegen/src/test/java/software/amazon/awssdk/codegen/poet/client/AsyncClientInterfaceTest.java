@@ -20,6 +20,7 @@ import static software.amazon.awssdk.codegen.poet.ClientTestModels.restJsonServi
 import static software.amazon.awssdk.codegen.poet.PoetMatchers.generatesTo;
 
 import org.junit.Test;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.poet.ClassSpec;
 
 public class AsyncClientInterfaceTest {
@@ -28,4 +29,12 @@ public class AsyncClientInterfaceTest {
         ClassSpec asyncClientInterface = new AsyncClientInterface(restJsonServiceModels());
         assertThat(asyncClientInterface, generatesTo("test-json-async-client-interface.java"));
     }
+
+    @Test
+    public void asyncClientInterfaceWithBatchManager() {
+        IntermediateModel model = restJsonServiceModels();
+        model.getCustomizationConfig().setBatchManagerSupported(true);
+        ClassSpec asyncClientInterface = new AsyncClientInterface(model);
+        assertThat(asyncClientInterface, generatesTo("test-json-async-client-interface-with-batch-manager.java"));
+    }
 }
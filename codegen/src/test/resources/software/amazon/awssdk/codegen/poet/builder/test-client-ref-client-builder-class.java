@@ -54,7 +54,8 @@ abstract class DefaultXmlBaseClientBuilder<B extends XmlBaseClientBuilder<B, C>,
     protected final SdkClientConfiguration finalizeServiceConfiguration(
         SdkClientConfiguration config) {
         List<ExecutionInterceptor> endpointInterceptors = new ArrayList<>();
-        endpointInterceptors.add(new XmlResolveEndpointInterceptor());
+        endpointInterceptors.add(new XmlResolveEndpointInterceptor(config
+            .option(SdkAdvancedClientOption.ENDPOINT_RESOLUTION_CACHE_SIZE)));
         endpointInterceptors.add(new XmlEndpointAuthSchemeInterceptor());
         endpointInterceptors.add(new XmlRequestSetEndpointInterceptor());
         ClasspathInterceptorChainFactory interceptorFactory = new ClasspathInterceptorChainFactory();
@@ -2,6 +2,7 @@ package software.amazon.awssdk.services.query.endpoints;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.regions.Region;
@@ -131,6 +132,53 @@ public final class QueryEndpointParams implements ToCopyableBuilder<QueryEndpoin
         return new BuilderImpl(this);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QueryEndpointParams that = (QueryEndpointParams) o;
+        return Objects.equals(region, that.region)
+                && Objects.equals(useDualStackEndpoint, that.useDualStackEndpoint)
+                && Objects.equals(useFIPSEndpoint, that.useFIPSEndpoint)
+                && Objects.equals(accountId, that.accountId)
+                && Objects.equals(accountIdEndpointMode, that.accountIdEndpointMode)
+                && Objects.equals(listOfStrings, that.listOfStrings)
+                && Objects.equals(defaultListOfStrings, that.defaultListOfStrings)
+                && Objects.equals(endpointId, that.endpointId)
+                && Objects.equals(defaultTrueParam, that.defaultTrueParam)
+                && Objects.equals(defaultStringParam, that.defaultStringParam)
+                && Objects.equals(deprecatedParam, that.deprecatedParam)
+                && Objects.equals(booleanContextParam, that.booleanContextParam)
+                && Objects.equals(stringContextParam, that.stringContextParam)
+                && Objects.equals(operationContextParam, that.operationContextParam)
+                && Objects.equals(customEndpointArray, that.customEndpointArray);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        hashCode = 31 * hashCode + Objects.hashCode(region);
+        hashCode = 31 * hashCode + Objects.hashCode(useDualStackEndpoint);
+        hashCode = 31 * hashCode + Objects.hashCode(useFIPSEndpoint);
+        hashCode = 31 * hashCode + Objects.hashCode(accountId);
+        hashCode = 31 * hashCode + Objects.hashCode(accountIdEndpointMode);
+        hashCode = 31 * hashCode + Objects.hashCode(listOfStrings);
+        hashCode = 31 * hashCode + Objects.hashCode(defaultListOfStrings);
+        hashCode = 31 * hashCode + Objects.hashCode(endpointId);
+        hashCode = 31 * hashCode + Objects.hashCode(defaultTrueParam);
+        hashCode = 31 * hashCode + Objects.hashCode(defaultStringParam);
+        hashCode = 31 * hashCode + Objects.hashCode(deprecatedParam);
+        hashCode = 31 * hashCode + Objects.hashCode(booleanContextParam);
+        hashCode = 31 * hashCode + Objects.hashCode(stringContextParam);
+        hashCode = 31 * hashCode + Objects.hashCode(operationContextParam);
+        hashCode = 31 * hashCode + Objects.hashCode(customEndpointArray);
+        return hashCode;
+    }
+
     public interface Builder extends CopyableBuilder<Builder, QueryEndpointParams> {
         Builder region(Region region);
 
@@ -11,6 +11,7 @@ import software.amazon.awssdk.auth.signer.Aws4Signer;
 import software.amazon.awssdk.auth.signer.SignerLoader;
 import software.amazon.awssdk.awscore.AwsExecutionAttribute;
 import software.amazon.awssdk.awscore.endpoints.AwsEndpointAttribute;
+import software.amazon.awssdk.awscore.endpoints.EndpointResolutionCache;
 import software.amazon.awssdk.awscore.endpoints.authscheme.EndpointAuthScheme;
 import software.amazon.awssdk.awscore.endpoints.authscheme.SigV4AuthScheme;
 import software.amazon.awssdk.awscore.endpoints.authscheme.SigV4aAuthScheme;
@@ -49,7 +50,14 @@ import software.amazon.awssdk.utils.CompletableFutureUtils;
 public final class QueryResolveEndpointInterceptor implements ExecutionInterceptor {
     private final EndpointAuthSchemeStrategy endpointAuthSchemeStrategy;
 
+    private final EndpointResolutionCache<QueryEndpointParams> endpointResolutionCache;
+
     public QueryResolveEndpointInterceptor() {
+        this(null);
+    }
+
+    public QueryResolveEndpointInterceptor(Integer endpointResolutionCacheSize) {
+        this.endpointResolutionCache = EndpointResolutionCache.create(endpointResolutionCacheSize);
         EndpointAuthSchemeStrategyFactory endpointAuthSchemeStrategyFactory = new DefaultEndpointAuthSchemeStrategyFactory();
         this.endpointAuthSchemeStrategy = endpointAuthSchemeStrategyFactory.endpointAuthSchemeStrategy();
     }
@@ -63,11 +71,11 @@ public final class QueryResolveEndpointInterceptor implements ExecutionIntercept
         QueryEndpointProvider provider = (QueryEndpointProvider) executionAttributes
             .getAttribute(SdkInternalExecutionAttribute.ENDPOINT_PROVIDER);
         try {
-            long resolveEndpointStart = System.nanoTime();
-            Endpoint endpoint = provider.resolveEndpoint(ruleParams(result, executionAttributes)).join();
-            Duration resolveEndpointDuration = Duration.ofNanos(System.nanoTime() - resolveEndpointStart);
             Optional<MetricCollector> metricCollector = executionAttributes
                 .getOptionalAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR);
+            long resolveEndpointStart = System.nanoTime();
+            Endpoint endpoint = resolveEndpoint(provider, ruleParams(result, executionAttributes), metricCollector);
+            Duration resolveEndpointDuration = Duration.ofNanos(System.nanoTime() - resolveEndpointStart);
             metricCollector.ifPresent(mc -> mc.reportMetric(CoreMetric.ENDPOINT_RESOLVE_DURATION, resolveEndpointDuration));
             if (!AwsEndpointProviderUtils.disableHostPrefixInjection(executionAttributes)) {
                 Optional<String> hostPrefix = hostPrefix(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME),
@@ -100,6 +108,15 @@ public final class QueryResolveEndpointInterceptor implements ExecutionIntercept
         }
     }
 
+    private Endpoint resolveEndpoint(QueryEndpointProvider provider, QueryEndpointParams endpointParams,
+                                     Optional<MetricCollector> metricCollector) {
+        if (provider instanceof DefaultQueryEndpointProvider) {
+            return endpointResolutionCache.resolve(endpointParams, p -> provider.resolveEndpoint(p).join(),
+                                                   metricCollector.orElse(null));
+        }
+        return provider.resolveEndpoint(endpointParams).join();
+    }
+
     @Override
     public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context, ExecutionAttributes executionAttributes) {
         Endpoint resolvedEndpoint = executionAttributes.getAttribute(SdkInternalExecutionAttribute.RESOLVED_ENDPOINT);
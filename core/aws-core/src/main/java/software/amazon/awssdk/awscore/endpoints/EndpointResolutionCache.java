@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.awscore.endpoints;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded cache of resolved endpoints, keyed on the endpoint parameters they were resolved from. This is used by the
+ * generated endpoint resolver interceptors to avoid evaluating the endpoint rules of a service for every request, when the
+ * parameters are the same for nearly every request of a client.
+ * <p>
+ * The endpoint parameters must implement {@link Object#equals(Object)} and {@link Object#hashCode()}, and the resolver must
+ * always return the same endpoint for equal parameters. When the cache is full, the oldest entries are evicted first.
+ *
+ * @param <ParamsT> The type of the endpoint parameters of the service.
+ * @see SdkAdvancedClientOption#ENDPOINT_RESOLUTION_CACHE_SIZE
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class EndpointResolutionCache<ParamsT> {
+
+    private static final EndpointResolutionCache<?> DISABLED = new EndpointResolutionCache<>(0);
+
+    private final int maxSize;
+    private final Map<ParamsT, Endpoint> endpoints;
+    private final Queue<ParamsT> insertionOrder;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private EndpointResolutionCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.endpoints = maxSize > 0 ? new ConcurrentHashMap<>() : null;
+        this.insertionOrder = maxSize > 0 ? new ConcurrentLinkedQueue<>() : null;
+    }
+
+    /**
+     * Create a cache that holds at most the given number of endpoints. A null or zero size creates a disabled cache, which
+     * resolves every endpoint.
+     */
+    @SuppressWarnings("unchecked")
+    public static <ParamsT> EndpointResolutionCache<ParamsT> create(Integer maxSize) {
+        if (maxSize == null || maxSize == 0) {
+            return (EndpointResolutionCache<ParamsT>) DISABLED;
+        }
+        return new EndpointResolutionCache<>(Validate.isPositive(maxSize, "maxSize"));
+    }
+
+    /**
+     * @return True if endpoints are cached, false if every endpoint is resolved.
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Return the endpoint cached for the given parameters, resolving and caching it with the given resolver if it is not
+     * present. When the cache is enabled, whether the endpoint was served from the cache is reported to the metric collector
+     * as {@link CoreMetric#ENDPOINT_RESOLVE_CACHE_HIT}.
+     *
+     * @param params The endpoint parameters of the request.
+     * @param resolver The resolver used when the endpoint is not cached.
+     * @param metricCollector The metric collector of the API call, or null if metrics are not collected.
+     */
+    public Endpoint resolve(ParamsT params, Function<ParamsT, Endpoint> resolver, MetricCollector metricCollector) {
+        if (!isEnabled()) {
+            return resolver.apply(params);
+        }
+
+        Endpoint endpoint = endpoints.get(params);
+        boolean hit = endpoint != null;
+        if (hit) {
+            hits.increment();
+        } else {
+            misses.increment();
+            endpoint = resolver.apply(params);
+            if (endpoints.putIfAbsent(params, endpoint) == null) {
+                insertionOrder.add(params);
+                evictOldest();
+            }
+        }
+
+        if (metricCollector != null) {
+            metricCollector.reportMetric(CoreMetric.ENDPOINT_RESOLVE_CACHE_HIT, hit);
+        }
+        return endpoint;
+    }
+
+    /**
+     * @return The number of endpoints served from the cache since it was created.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of endpoints resolved because they were not cached, since the cache was created.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of endpoints currently cached.
+     */
+    public int size() {
+        return isEnabled() ? endpoints.size() : 0;
+    }
+
+    private void evictOldest() {
+        while (endpoints.size() > maxSize) {
+            ParamsT oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            endpoints.remove(oldest);
+        }
+    }
+}
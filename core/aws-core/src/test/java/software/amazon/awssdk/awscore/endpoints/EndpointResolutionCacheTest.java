@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.awscore.endpoints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class EndpointResolutionCacheTest {
+
+    private AtomicInteger resolutions;
+    private Function<String, Endpoint> resolver;
+
+    @BeforeEach
+    public void setup() {
+        resolutions = new AtomicInteger();
+        resolver = region -> {
+            resolutions.incrementAndGet();
+            return Endpoint.builder().url(URI.create("https://" + region + ".amazonaws.com")).build();
+        };
+    }
+
+    @Test
+    public void nullOrZeroSize_disabled_resolvesEveryRequest() {
+        EndpointResolutionCache<String> cache = EndpointResolutionCache.create(null);
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(EndpointResolutionCache.create(0).isEnabled()).isFalse();
+
+        cache.resolve("us-east-1", resolver, null);
+        cache.resolve("us-east-1", resolver, null);
+
+        assertThat(resolutions).hasValue(2);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.hitCount()).isZero();
+        assertThat(cache.missCount()).isZero();
+    }
+
+    @Test
+    public void negativeSize_throwsException() {
+        assertThatThrownBy(() -> EndpointResolutionCache.create(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxSize");
+    }
+
+    @Test
+    public void equalParams_resolvedOnce() {
+        EndpointResolutionCache<String> cache = EndpointResolutionCache.create(10);
+
+        Endpoint first = cache.resolve("us-east-1", resolver, null);
+        Endpoint second = cache.resolve(new String("us-east-1"), resolver, null);
+        cache.resolve("us-west-2", resolver, null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(resolutions).hasValue(2);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void cacheFull_evictsOldestEntry() {
+        EndpointResolutionCache<String> cache = EndpointResolutionCache.create(2);
+
+        cache.resolve("us-east-1", resolver, null);
+        cache.resolve("us-west-2", resolver, null);
+        cache.resolve("eu-west-1", resolver, null);
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.resolve("us-west-2", resolver, null);
+        assertThat(resolutions).hasValue(3);
+
+        cache.resolve("us-east-1", resolver, null);
+        assertThat(resolutions).hasValue(4);
+    }
+
+    @Test
+    public void metricCollector_reportsCacheHit() {
+        EndpointResolutionCache<String> cache = EndpointResolutionCache.create(10);
+
+        MetricCollector firstCollector = MetricCollector.create("first");
+        cache.resolve("us-east-1", resolver, firstCollector);
+        MetricCollector secondCollector = MetricCollector.create("second");
+        cache.resolve("us-east-1", resolver, secondCollector);
+
+        assertThat(cacheHit(firstCollector.collect())).isFalse();
+        assertThat(cacheHit(secondCollector.collect())).isTrue();
+    }
+
+    private static Boolean cacheHit(MetricCollection metrics) {
+        assertThat(metrics.metricValues(CoreMetric.ENDPOINT_RESOLVE_CACHE_HIT)).hasSize(1);
+        return metrics.metricValues(CoreMetric.ENDPOINT_RESOLVE_CACHE_HIT).get(0);
+    }
+}
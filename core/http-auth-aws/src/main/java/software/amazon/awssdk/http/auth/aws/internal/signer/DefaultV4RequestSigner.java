@@ -17,12 +17,10 @@ package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.AWS4_SIGNING_ALGORITHM;
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.deriveSigningKey;
-import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.hashCanonicalRequest;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant;
-import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -51,20 +49,22 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
     public V4RequestSigningResult sign(SdkHttpRequest.Builder requestBuilder) {
         // Step 1: Create a canonical request
         V4CanonicalRequest canonicalRequest = createCanonicalRequest(requestBuilder.build(), contentHash);
+        LOG.debug(() -> "AWS4 Canonical Request: " + canonicalRequest.getCanonicalRequestString());
 
-        String canonicalRequestString = canonicalRequest.getCanonicalRequestString();
-        LOG.debug(() -> "AWS4 Canonical Request: " + canonicalRequestString);
+        // The canonical request and string-to-sign are written to a reused per-thread buffer, instead of being built as strings
+        SigningBuffer buffer = SigningBuffer.forCurrentThread();
+        canonicalRequest.writeCanonicalRequest(buffer);
 
         // Step 2: Create a hash of the canonical request
-        String canonicalRequestHash = hashCanonicalRequest(canonicalRequestString);
+        byte[] canonicalRequestHash = buffer.sha256();
 
-        // Step 2: Create a hash of the canonical request
-        String stringToSign = createSignString(canonicalRequestHash);
+        // Step 3: Create a string to sign
+        writeSignString(buffer.reset(), canonicalRequestHash);
 
         // Step 4: Calculate the signature
         byte[] signingKey = createSigningKey();
 
-        String signature = createSignature(stringToSign, signingKey);
+        String signature = BinaryUtils.toHex(buffer.hmacSha256(signingKey));
 
         // Step 5: Return the results (including signature) of request signing
         return new V4RequestSigningResult(contentHash, signingKey, signature, canonicalRequest, requestBuilder);
@@ -77,26 +77,21 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
         ));
     }
 
-    private String createSignString(String canonicalRequestHash) {
-        LOG.debug(() -> "AWS4 Canonical Request Hash: " + canonicalRequestHash);
+    private void writeSignString(SigningBuffer buffer, byte[] canonicalRequestHash) {
+        LOG.debug(() -> "AWS4 Canonical Request Hash: " + BinaryUtils.toHex(canonicalRequestHash));
 
-        String stringToSign = AWS4_SIGNING_ALGORITHM +
-                              SignerConstant.LINE_SEPARATOR +
-                              properties.getCredentialScope().getDatetime() +
-                              SignerConstant.LINE_SEPARATOR +
-                              properties.getCredentialScope().scope() +
-                              SignerConstant.LINE_SEPARATOR +
-                              canonicalRequestHash;
+        buffer.append(AWS4_SIGNING_ALGORITHM)
+              .append(SignerConstant.LINE_SEPARATOR)
+              .append(properties.getCredentialScope().getDatetime())
+              .append(SignerConstant.LINE_SEPARATOR)
+              .append(properties.getCredentialScope().scope())
+              .append(SignerConstant.LINE_SEPARATOR)
+              .appendHex(canonicalRequestHash);
 
-        LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
-        return stringToSign;
+        LOG.debug(() -> "AWS4 String to sign: " + buffer);
     }
 
     private byte[] createSigningKey() {
         return deriveSigningKey(properties.getCredentials(), properties.getCredentialScope());
     }
-
-    private String createSignature(String stringToSign, byte[] signingKey) {
-        return BinaryUtils.toHex(SignerUtils.computeSignature(stringToSign, signingKey));
-    }
 }
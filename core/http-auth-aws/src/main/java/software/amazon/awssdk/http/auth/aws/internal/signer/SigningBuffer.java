@@ -0,0 +1,295 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.DigestAlgorithm;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SigningAlgorithm;
+
+/**
+ * A reusable, per-thread byte buffer that the canonical request and string-to-sign are written into as UTF-8, so that they can
+ * be hashed and signed without building intermediate {@link String}s.
+ * <p>
+ * The buffer also holds the scratch space used to sort the canonical headers of a request in place. A buffer is only valid
+ * until the next call to {@link #forCurrentThread()} on the same thread.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class SigningBuffer {
+    private static final int INITIAL_CAPACITY = 2048;
+    private static final int INITIAL_HEADER_CAPACITY = 16;
+
+    /**
+     * Buffers that grew beyond this size while signing an unusually large request are not kept for the next request.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final int SHA256_LENGTH = 32;
+
+    private static final ThreadLocal<SigningBuffer> BUFFER = ThreadLocal.withInitial(SigningBuffer::new);
+
+    private final byte[] digest = new byte[SHA256_LENGTH];
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    private String[] headerNames = new String[INITIAL_HEADER_CAPACITY];
+    private List<String>[] headerValues = newValuesArray(INITIAL_HEADER_CAPACITY);
+    private int headerCount;
+
+    private SigningBuffer() {
+    }
+
+    /**
+     * Return the empty buffer of the current thread.
+     */
+    public static SigningBuffer forCurrentThread() {
+        SigningBuffer buffer = BUFFER.get();
+        if (buffer.bytes.length > MAX_RETAINED_CAPACITY) {
+            buffer.bytes = new byte[INITIAL_CAPACITY];
+        }
+        buffer.clearHeaders();
+        return buffer.reset();
+    }
+
+    /**
+     * Discard the bytes written to this buffer.
+     */
+    public SigningBuffer reset() {
+        length = 0;
+        return this;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Append a single ASCII character.
+     */
+    public SigningBuffer append(char c) {
+        ensureCapacity(1);
+        bytes[length++] = (byte) c;
+        return this;
+    }
+
+    public SigningBuffer append(String value) {
+        return append(value, 0, value.length());
+    }
+
+    /**
+     * Append the UTF-8 encoding of the given range of a string. Unpaired surrogates are replaced with {@code '?'}, like
+     * {@link String#getBytes(java.nio.charset.Charset)} does.
+     */
+    public SigningBuffer append(String value, int start, int end) {
+        ensureCapacity(end - start);
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[length++] = (byte) c;
+            } else {
+                i = appendNonAscii(value, i, end);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Append a string with its ASCII upper-case letters converted to lower-case.
+     */
+    public SigningBuffer appendLowerCase(String value) {
+        int valueLength = value.length();
+        ensureCapacity(valueLength);
+        for (int i = 0; i < valueLength; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[length++] = (byte) (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c);
+            } else {
+                i = appendNonAscii(value, i, valueLength);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Append the lower-case hex encoding of the given bytes.
+     */
+    public SigningBuffer appendHex(byte[] data) {
+        ensureCapacity(data.length * 2);
+        for (byte b : data) {
+            bytes[length++] = HEX_DIGITS[(b >> 4) & 0xF];
+            bytes[length++] = HEX_DIGITS[b & 0xF];
+        }
+        return this;
+    }
+
+    /**
+     * Compute the SHA-256 digest of the bytes in this buffer. The returned array is reused by the next call to this method.
+     */
+    public byte[] sha256() {
+        MessageDigest md = DigestAlgorithm.SHA256.getDigest();
+        md.update(bytes, 0, length);
+        try {
+            md.digest(digest, 0, SHA256_LENGTH);
+        } catch (DigestException e) {
+            throw new RuntimeException("Unable to compute hash while signing request: ", e);
+        }
+        return digest;
+    }
+
+    /**
+     * Compute the HMAC-SHA256 of the bytes in this buffer with the given key.
+     */
+    public byte[] hmacSha256(byte[] key) {
+        try {
+            Mac mac = SigningAlgorithm.HMAC_SHA256.getMac();
+            mac.init(new SecretKeySpec(key, SigningAlgorithm.HMAC_SHA256.toString()));
+            mac.update(bytes, 0, length);
+            return mac.doFinal();
+        } catch (Exception e) {
+            throw new RuntimeException("Unable to calculate a request signature: ", e);
+        }
+    }
+
+    /**
+     * Decode the given range of this buffer as UTF-8.
+     */
+    public String toString(int start, int end) {
+        return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return toString(0, length);
+    }
+
+    void truncate(int newLength) {
+        length = newLength;
+    }
+
+    void addHeader(String name, List<String> values) {
+        if (headerCount == headerNames.length) {
+            headerNames = Arrays.copyOf(headerNames, headerCount * 2);
+            headerValues = Arrays.copyOf(headerValues, headerCount * 2);
+        }
+        headerNames[headerCount] = name;
+        headerValues[headerCount] = values;
+        headerCount++;
+    }
+
+    /**
+     * Sort the headers added with {@link #addHeader} by their lower-case names. This is a stable insertion sort, because there
+     * are only a handful of headers on a request and they usually arrive nearly sorted.
+     */
+    void sortHeaders() {
+        for (int i = 1; i < headerCount; i++) {
+            String name = headerNames[i];
+            List<String> values = headerValues[i];
+            int j = i - 1;
+            while (j >= 0 && compareLowerCase(headerNames[j], name) > 0) {
+                headerNames[j + 1] = headerNames[j];
+                headerValues[j + 1] = headerValues[j];
+                j--;
+            }
+            headerNames[j + 1] = name;
+            headerValues[j + 1] = values;
+        }
+    }
+
+    int headerCount() {
+        return headerCount;
+    }
+
+    String headerName(int index) {
+        return headerNames[index];
+    }
+
+    List<String> headerValues(int index) {
+        return headerValues[index];
+    }
+
+    private void clearHeaders() {
+        Arrays.fill(headerNames, 0, headerCount, null);
+        Arrays.fill(headerValues, 0, headerCount, null);
+        headerCount = 0;
+    }
+
+    /**
+     * Compare two strings as if their ASCII upper-case letters were converted to lower-case.
+     */
+    private static int compareLowerCase(String a, String b) {
+        int limit = Math.min(a.length(), b.length());
+        for (int i = 0; i < limit; i++) {
+            char ca = toLowerCaseAscii(a.charAt(i));
+            char cb = toLowerCaseAscii(b.charAt(i));
+            if (ca != cb) {
+                return ca - cb;
+            }
+        }
+        return a.length() - b.length();
+    }
+
+    private static char toLowerCaseAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * Append the non-ASCII character at the given index, returning the index of the last character consumed. This keeps at
+     * least one byte reserved for each of the remaining characters, so that ASCII characters can be appended without checking
+     * the capacity.
+     */
+    private int appendNonAscii(String value, int index, int end) {
+        char c = value.charAt(index);
+        ensureCapacity(4 + end - index);
+        if (c < 0x800) {
+            bytes[length++] = (byte) (0xC0 | (c >> 6));
+            bytes[length++] = (byte) (0x80 | (c & 0x3F));
+        } else if (!Character.isSurrogate(c)) {
+            bytes[length++] = (byte) (0xE0 | (c >> 12));
+            bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            bytes[length++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && index + 1 < end && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(++index));
+            bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+            bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+            bytes[length++] = '?';
+        }
+        return index;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String>[] newValuesArray(int size) {
+        return new List[size];
+    }
+}
@@ -94,6 +94,61 @@ public final class V4CanonicalRequest {
         return canonicalRequestString;
     }
 
+    /**
+     * Write the canonical request into the given buffer. The written bytes are identical to the UTF-8 encoding of
+     * {@link #getCanonicalRequestString()}, but the canonical headers are sorted in the buffer's scratch space and written
+     * directly, without creating a string for each header.
+     */
+    public void writeCanonicalRequest(SigningBuffer buffer) {
+        buffer.append(request.method().toString()).append(SignerConstant.LINE_SEPARATOR)
+              .append(canonicalUri()).append(SignerConstant.LINE_SEPARATOR)
+              .append(canonicalQueryString()).append(SignerConstant.LINE_SEPARATOR);
+
+        request.forEachHeader((key, value) -> {
+            if (isAscii(key)) {
+                if (!isIgnoredHeader(key)) {
+                    buffer.addHeader(key, value);
+                }
+            } else {
+                String lowerCaseHeader = lowerCase(key);
+                if (!HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader)) {
+                    buffer.addHeader(lowerCaseHeader, value);
+                }
+            }
+        });
+        buffer.sortHeaders();
+
+        for (int i = 0; i < buffer.headerCount(); i++) {
+            buffer.appendLowerCase(buffer.headerName(i));
+            List<String> values = buffer.headerValues(i);
+            if (!values.isEmpty()) {
+                buffer.append(':');
+                for (int j = 0; j < values.size(); j++) {
+                    if (j > 0) {
+                        buffer.append(',');
+                    }
+                    addAndTrim(buffer, values.get(j));
+                }
+            }
+            buffer.append('\n');
+        }
+        buffer.append(SignerConstant.LINE_SEPARATOR);
+
+        int signedHeadersStart = buffer.length();
+        for (int i = 0; i < buffer.headerCount(); i++) {
+            buffer.appendLowerCase(buffer.headerName(i)).append(';');
+        }
+        // get rid of trailing semicolon
+        if (buffer.length() - signedHeadersStart > 1) {
+            buffer.truncate(buffer.length() - 1);
+        }
+        if (signedHeadersString == null) {
+            signedHeadersString = buffer.toString(signedHeadersStart, buffer.length());
+        }
+
+        buffer.append(SignerConstant.LINE_SEPARATOR).append(contentHash);
+    }
+
     private SortedMap<String, List<String>> canonicalQueryParams() {
         if (canonicalParams == null) {
             canonicalParams = getCanonicalQueryParams(request);
@@ -290,6 +345,72 @@ public final class V4CanonicalRequest {
         }
     }
 
+    /**
+     * The same as {@link #addAndTrim(StringBuilder, String)}, but writing the trimmed value into a {@link SigningBuffer}.
+     */
+    private static void addAndTrim(SigningBuffer result, String value) {
+        int valueLength = value.length();
+        if (valueLength == 0) {
+            return;
+        }
+
+        int start = 0;
+        // Find first non-whitespace
+        while (isWhiteSpace(value.charAt(start))) {
+            ++start;
+            if (start >= valueLength) {
+                return;
+            }
+        }
+
+        // Add things word-by-word
+        int lastWordStart = start;
+        boolean lastWasWhitespace = false;
+        for (int i = start; i < valueLength; i++) {
+            char c = value.charAt(i);
+
+            if (isWhiteSpace(c)) {
+                if (!lastWasWhitespace) {
+                    // End of word, add word
+                    result.append(value, lastWordStart, i);
+                    lastWasWhitespace = true;
+                }
+            } else {
+                if (lastWasWhitespace) {
+                    // Start of new word, add space
+                    result.append(' ');
+                    lastWordStart = i;
+                    lastWasWhitespace = false;
+                }
+            }
+        }
+
+        if (!lastWasWhitespace) {
+            result.append(value, lastWordStart, valueLength);
+        }
+    }
+
+    /**
+     * Whether the given header name, which must only contain ASCII characters, is one of the headers that are not signed.
+     */
+    private static boolean isIgnoredHeader(String asciiHeaderName) {
+        for (String ignored : HEADERS_TO_IGNORE_IN_LOWER_CASE) {
+            if (ignored.equalsIgnoreCase(asciiHeaderName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Get the uri-encoded version of the absolute path component URL.
      * <p>
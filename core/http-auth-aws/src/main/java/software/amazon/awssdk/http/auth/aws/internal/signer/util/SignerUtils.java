@@ -94,7 +94,8 @@ public final class SignerUtils {
      * Get the signing key based on the given credentials and a credential-scope
      */
     public static byte[] deriveSigningKey(AwsCredentialsIdentity credentials, CredentialScope credentialScope) {
-        String cacheKey = createSigningCacheKeyName(credentials, credentialScope.getRegion(), credentialScope.getService());
+        String cacheKey = createSigningCacheKeyName(credentials, credentialScope.getDate(), credentialScope.getRegion(),
+                                                    credentialScope.getService());
         SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
 
         if (signerKey != null && signerKey.isValidForDate(credentialScope.getInstant())) {
@@ -111,10 +112,15 @@ public final class SignerUtils {
         return signingKey;
     }
 
+    /**
+     * The signing key depends on the date, so it is part of the cache key. This lets requests signed on either side of midnight
+     * UTC use their own keys, instead of replacing each other's cached key.
+     */
     private static String createSigningCacheKeyName(AwsCredentialsIdentity credentials,
+                                                    String dateStamp,
                                                     String regionName,
                                                     String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
+        return credentials.secretAccessKey() + "-" + dateStamp + "-" + regionName + "-" + serviceName;
     }
 
     private static byte[] newSigningKey(AwsCredentialsIdentity credentials,
@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class SigningBufferTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "ascii", "caf\u00e9", "\u2603 snowman", "emoji \ud83d\ude00", "unpaired \ud83d high",
+                            "unpaired \ude00 low", "trailing \ud83d"})
+    public void append_matchesStringGetBytes(String value) {
+        SigningBuffer buffer = SigningBuffer.forCurrentThread().append(value);
+
+        assertThat(buffer.length()).isEqualTo(value.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(buffer.sha256()).isEqualTo(SignerUtils.hash(value));
+    }
+
+    @Test
+    public void append_growsBuffer() {
+        char[] chars = new char[10_000];
+        Arrays.fill(chars, '\u00e9');
+        String value = "a" + new String(chars) + "b";
+
+        SigningBuffer buffer = SigningBuffer.forCurrentThread().append(value);
+
+        assertThat(buffer.toString()).isEqualTo(value);
+    }
+
+    @Test
+    public void appendLowerCase_onlyLowerCasesAscii() {
+        SigningBuffer buffer = SigningBuffer.forCurrentThread().appendLowerCase("X-Amz-Date-\u00c9");
+
+        assertThat(buffer.toString()).isEqualTo("x-amz-date-\u00c9");
+    }
+
+    @Test
+    public void appendHex_matchesBinaryUtils() {
+        byte[] data = {0, 1, 15, 16, 127, -128, -1};
+
+        SigningBuffer buffer = SigningBuffer.forCurrentThread().appendHex(data);
+
+        assertThat(buffer.toString()).isEqualTo(BinaryUtils.toHex(data));
+    }
+
+    @Test
+    public void sha256AndHmac_matchSignerUtils() {
+        String value = "PUT\n/\n\nfoo:bar\n\nfoo\nsha-256";
+        byte[] key = "key".getBytes(StandardCharsets.UTF_8);
+
+        SigningBuffer buffer = SigningBuffer.forCurrentThread().append(value);
+
+        assertThat(buffer.sha256()).isEqualTo(SignerUtils.hash(value));
+        assertThat(buffer.hmacSha256(key)).isEqualTo(SignerUtils.computeSignature(value, key));
+    }
+
+    @Test
+    public void sortHeaders_sortsByLowerCaseName() {
+        SigningBuffer buffer = SigningBuffer.forCurrentThread();
+        buffer.addHeader("X-Amz-Date", Collections.emptyList());
+        buffer.addHeader("x_underscore", Collections.emptyList());
+        buffer.addHeader("Host", Collections.emptyList());
+        buffer.addHeader("Content-Type", Collections.emptyList());
+
+        buffer.sortHeaders();
+
+        String[] names = new String[buffer.headerCount()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = buffer.headerName(i);
+        }
+        assertThat(names).containsExactly("Content-Type", "Host", "X-Amz-Date", "x_underscore");
+    }
+
+    @Test
+    public void forCurrentThread_clearsPreviousContent() {
+        SigningBuffer buffer = SigningBuffer.forCurrentThread().append("foo");
+        buffer.addHeader("foo", Collections.emptyList());
+
+        SigningBuffer next = SigningBuffer.forCurrentThread();
+
+        assertThat(next.length()).isZero();
+        assertThat(next.headerCount()).isZero();
+    }
+}
@@ -183,6 +183,58 @@ public class V4CanonicalRequestTest {
         assertEquals("PUT\n/\n\n\n\nsha-256", cr.getCanonicalRequestString());
     }
 
+    @Test
+    public void writeCanonicalRequest_matchesCanonicalRequestString() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .encodedPath("/foo/./bar%2Fbaz")
+                                               .method(SdkHttpMethod.POST)
+                                               .putRawQueryParameter("b", Arrays.asList("2", "1"))
+                                               .putRawQueryParameter("a", (String) null)
+                                               .putHeader("X-Amz-Date", "20240101T000000Z")
+                                               .putHeader("x_underscore", "  leading   and trailing  ")
+                                               .putHeader("Content-Type", "application/json")
+                                               .putHeader("User-Agent", "ignored")
+                                               .putHeader("Connection", "ignored")
+                                               .putHeader("x-amz-meta-unicode", "caf\u00e9 \u2603 \ud83d\ude00")
+                                               .putHeader("x-amz-meta-empty", "")
+                                               .appendHeader("x-amz-meta-multi", "b")
+                                               .appendHeader("x-amz-meta-multi", " a ")
+                                               .putHeader("Host", "localhost")
+                                               .build();
+
+        for (boolean doubleUrlEncode : new boolean[] {true, false}) {
+            V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256",
+                                                           new V4CanonicalRequest.Options(doubleUrlEncode, doubleUrlEncode));
+            V4CanonicalRequest expected = new V4CanonicalRequest(request, "sha-256",
+                                                                 new V4CanonicalRequest.Options(doubleUrlEncode,
+                                                                                                doubleUrlEncode));
+
+            SigningBuffer buffer = SigningBuffer.forCurrentThread();
+            cr.writeCanonicalRequest(buffer);
+
+            assertEquals(expected.getCanonicalRequestString(), buffer.toString());
+            assertEquals(expected.getSignedHeadersString(), cr.getSignedHeadersString());
+        }
+    }
+
+    @Test
+    public void writeCanonicalRequest_noHeaders_matchesCanonicalRequestString() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .method(SdkHttpMethod.GET)
+                                               .build();
+        V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256", new V4CanonicalRequest.Options(true, true));
+
+        SigningBuffer buffer = SigningBuffer.forCurrentThread();
+        cr.writeCanonicalRequest(buffer);
+
+        assertEquals("GET\n/\n\n\n\nsha-256", buffer.toString());
+        assertEquals("", cr.getSignedHeadersString());
+    }
+
     private static class TestCase {
         private final String name;
         private final String path;
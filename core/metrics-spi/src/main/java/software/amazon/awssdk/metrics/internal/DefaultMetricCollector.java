@@ -16,11 +16,14 @@
 package software.amazon.awssdk.metrics.internal;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.MetricRecord;
@@ -29,12 +32,35 @@ import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 
+/**
+ * The default {@link MetricCollector}.
+ * <p>
+ * Reported metrics and created children are pushed onto lock-free linked lists, so reporting a metric is a single allocation
+ * and, on the usual single-writer path, a single uncontended compare-and-set. Metrics are only grouped by {@link SdkMetric}
+ * when the collector is {@link #collect() collected}. Collectors are shared between the threads that execute a request (for
+ * example, the caller and the HTTP client's I/O threads), so concurrent reporting is still safe.
+ */
 @SdkInternalApi
+@ThreadSafe
 public final class DefaultMetricCollector implements MetricCollector {
     private static final Logger log = Logger.loggerFor(DefaultMetricCollector.class);
+
+    private static final AtomicReferenceFieldUpdater<DefaultMetricCollector, RecordNode> RECORDS =
+        AtomicReferenceFieldUpdater.newUpdater(DefaultMetricCollector.class, RecordNode.class, "records");
+    private static final AtomicReferenceFieldUpdater<DefaultMetricCollector, ChildNode> CHILDREN =
+        AtomicReferenceFieldUpdater.newUpdater(DefaultMetricCollector.class, ChildNode.class, "children");
+
     private final String name;
-    private final Map<SdkMetric<?>, List<MetricRecord<?>>> metrics = new LinkedHashMap<>();
-    private final List<MetricCollector> children = new ArrayList<>();
+
+    /**
+     * The most recently reported metric, linked to the ones reported before it.
+     */
+    private volatile RecordNode<?> records;
+
+    /**
+     * The most recently created child, linked to the ones created before it.
+     */
+    private volatile ChildNode children;
 
     public DefaultMetricCollector(String name) {
         this.name = name;
@@ -46,26 +72,31 @@ public final class DefaultMetricCollector implements MetricCollector {
     }
 
     @Override
-    public synchronized <T> void reportMetric(SdkMetric<T> metric, T data) {
-        metrics.computeIfAbsent(metric, (m) -> new ArrayList<>())
-               .add(new DefaultMetricRecord<>(metric, data));
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        RecordNode<T> node = new RecordNode<>(metric, data);
+        RecordNode<?> current;
+        do {
+            current = records;
+            node.setPrevious(current);
+        } while (!RECORDS.compareAndSet(this, current, node));
     }
 
     @Override
-    public synchronized MetricCollector createChild(String name) {
+    public MetricCollector createChild(String name) {
         MetricCollector child = new DefaultMetricCollector(name);
-        children.add(child);
+        ChildNode node = new ChildNode(child);
+        ChildNode current;
+        do {
+            current = children;
+            node.setPrevious(current);
+        } while (!CHILDREN.compareAndSet(this, current, node));
         return child;
     }
 
     @Override
-    public synchronized MetricCollection collect() {
-        List<MetricCollection> collectedChildren = children.stream()
-                .map(MetricCollector::collect)
-                .collect(Collectors.toList());
-
-        DefaultMetricCollection metricRecords = new DefaultMetricCollection(name, metrics, collectedChildren);
-
+    public MetricCollection collect() {
+        List<MetricCollection> collectedChildren = collectChildren();
+        DefaultMetricCollection metricRecords = new DefaultMetricCollection(name, groupRecords(), collectedChildren);
         log.debug(() -> "Collected metrics records: " + metricRecords);
         return metricRecords;
     }
@@ -78,6 +109,99 @@ public final class DefaultMetricCollector implements MetricCollector {
     @Override
     public String toString() {
         return ToString.builder("DefaultMetricCollector")
-            .add("metrics", metrics).build();
+            .add("metrics", groupRecords()).build();
+    }
+
+    /**
+     * Group the reported metrics by {@link SdkMetric}, keeping the values of each metric in the order they were reported.
+     */
+    private Map<SdkMetric<?>, List<MetricRecord<?>>> groupRecords() {
+        RecordNode<?> last = records;
+        if (last == null) {
+            return Collections.emptyMap();
+        }
+
+        MetricRecord<?>[] ordered = new MetricRecord<?>[last.position + 1];
+        for (RecordNode<?> node = last; node != null; node = node.previous) {
+            ordered[node.position] = node;
+        }
+
+        Map<SdkMetric<?>, List<MetricRecord<?>>> grouped = new HashMap<>(ordered.length * 4 / 3 + 1);
+        for (MetricRecord<?> record : ordered) {
+            List<MetricRecord<?>> values = grouped.get(record.metric());
+            if (values == null) {
+                values = new ArrayList<>(1);
+                grouped.put(record.metric(), values);
+            }
+            values.add(record);
+        }
+        return grouped;
+    }
+
+    private List<MetricCollection> collectChildren() {
+        ChildNode last = children;
+        if (last == null) {
+            return Collections.emptyList();
+        }
+
+        MetricCollection[] collected = new MetricCollection[last.position + 1];
+        for (ChildNode node = last; node != null; node = node.previous) {
+            collected[node.position] = node.child.collect();
+        }
+        return Arrays.asList(collected);
+    }
+
+    /**
+     * A reported metric, which is also the node of the list of reported metrics. Its links are only written before the node
+     * is published by the compare-and-set in {@link #reportMetric}.
+     */
+    private static final class RecordNode<T> implements MetricRecord<T> {
+        private final SdkMetric<T> metric;
+        private final T value;
+        private RecordNode<?> previous;
+        private int position;
+
+        private RecordNode(SdkMetric<T> metric, T value) {
+            this.metric = metric;
+            this.value = value;
+        }
+
+        private void setPrevious(RecordNode<?> previous) {
+            this.previous = previous;
+            this.position = previous == null ? 0 : previous.position + 1;
+        }
+
+        @Override
+        public SdkMetric<T> metric() {
+            return metric;
+        }
+
+        @Override
+        public T value() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("MetricRecord")
+                           .add("metric", metric.name())
+                           .add("value", value)
+                           .build();
+        }
+    }
+
+    private static final class ChildNode {
+        private final MetricCollector child;
+        private ChildNode previous;
+        private int position;
+
+        private ChildNode(MetricCollector child) {
+            this.child = child;
+        }
+
+        private void setPrevious(ChildNode previous) {
+            this.previous = previous;
+            this.position = previous == null ? 0 : previous.position + 1;
+        }
     }
 }
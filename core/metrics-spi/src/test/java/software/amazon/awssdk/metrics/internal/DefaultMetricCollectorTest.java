@@ -17,6 +17,12 @@ package software.amazon.awssdk.metrics.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.AfterClass;
 import org.junit.Rule;
@@ -30,6 +36,7 @@ import software.amazon.awssdk.metrics.SdkMetric;
 
 public class DefaultMetricCollectorTest {
     private static final SdkMetric<Integer> M1 = SdkMetric.create("m1", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<String> M2 = SdkMetric.create("m2", String.class, MetricLevel.INFO, MetricCategory.CORE);
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -70,4 +77,55 @@ public class DefaultMetricCollectorTest {
         MetricCollection collected = parent.collect();
         assertThat(collected.children().stream().map(MetricCollection::name)).containsExactly(childNames);
     }
+
+    @Test
+    public void testCollect_interleavedMetrics_valuesInReportedOrder() {
+        MetricCollector collector = MetricCollector.create("collector");
+        collector.reportMetric(M1, 1);
+        collector.reportMetric(M2, "a");
+        collector.reportMetric(M1, 2);
+        collector.reportMetric(M2, "b");
+        collector.reportMetric(M1, 3);
+
+        MetricCollection collected = collector.collect();
+        assertThat(collected.metricValues(M1)).containsExactly(1, 2, 3);
+        assertThat(collected.metricValues(M2)).containsExactly("a", "b");
+        assertThat(collected).hasSize(5);
+    }
+
+    @Test
+    public void testCollect_noMetrics_emptyCollection() {
+        MetricCollection collected = MetricCollector.create("collector").collect();
+        assertThat(collected).isEmpty();
+        assertThat(collected.children()).isEmpty();
+        assertThat(collected.metricValues(M1)).isEmpty();
+    }
+
+    @Test
+    public void testReportMetric_concurrentReporters_allMetricsCollected() {
+        MetricCollector collector = MetricCollector.create("collector");
+        int threads = 8;
+        int reportsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(CompletableFuture.runAsync(() -> {
+                    collector.createChild("child" + thread);
+                    for (int i = 0; i < reportsPerThread; i++) {
+                        collector.reportMetric(M1, thread * reportsPerThread + i);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        MetricCollection collected = collector.collect();
+        assertThat(collected.metricValues(M1).stream().sorted()).containsExactlyElementsOf(
+            () -> IntStream.range(0, threads * reportsPerThread).iterator());
+        assertThat(collected.children()).hasSize(threads);
+    }
 }
@@ -28,6 +28,7 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -78,6 +79,8 @@ public abstract class BaseAwsJsonProtocolFactory {
                                   .jsonFactory(getSdkFactory().getJsonFactory())
                                   .build())
             .defaultTimestampFormats(getDefaultTimestampFormats())
+            .enableStreamingUnmarshalling(SdkSystemSetting.STREAMING_JSON_UNMARSHALLING_ENABLED.getBooleanValueOrThrow())
+            .jsonFactory(getSdkFactory().getJsonFactory())
             .build();
     }
 
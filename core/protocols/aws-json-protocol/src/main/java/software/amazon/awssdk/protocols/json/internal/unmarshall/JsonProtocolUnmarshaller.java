@@ -45,6 +45,7 @@ import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.document.DocumentUnmarshaller;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 import software.amazon.awssdk.utils.builder.Buildable;
 
 /**
@@ -61,12 +62,17 @@ public final class JsonProtocolUnmarshaller {
 
     private final JsonNodeParser parser;
 
+    private final JsonStreamingUnmarshaller streamingUnmarshaller;
+
     private JsonProtocolUnmarshaller(Builder builder) {
         this.parser = builder.parser;
         this.instantStringToValue = StringToInstant.create(builder.defaultTimestampFormats.isEmpty() ?
                                                            new EnumMap<>(MarshallLocation.class) :
                                                            new EnumMap<>(builder.defaultTimestampFormats));
         this.registry = createUnmarshallerRegistry(instantStringToValue);
+        this.streamingUnmarshaller = builder.enableStreamingUnmarshalling ?
+                                     new JsonStreamingUnmarshaller(builder.jsonFactory, instantStringToValue) :
+                                     null;
     }
 
     private static JsonUnmarshallerRegistry createUnmarshallerRegistry(
@@ -187,6 +193,9 @@ public final class JsonProtocolUnmarshaller {
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response) throws IOException {
+        if (streamingUnmarshaller != null && !hasExplicitPayloadMember(sdkPojo) && hasJsonPayload(sdkPojo, response)) {
+            return streamingUnmarshaller.unmarshall(sdkPojo, createContext(response), response.content().get());
+        }
         JsonNode jsonNode = hasJsonPayload(sdkPojo, response) ? parser.parse(response.content().get()) : null;
         return unmarshall(sdkPojo, response, jsonNode);
     }
@@ -199,6 +208,10 @@ public final class JsonProtocolUnmarshaller {
                && response.content().isPresent();
     }
 
+    private boolean hasExplicitPayloadMember(SdkPojo sdkPojo) {
+        return sdkPojo.sdkFields().stream().anyMatch(JsonProtocolUnmarshaller::isExplicitPayloadMember);
+    }
+
     private boolean isExplicitBlobPayloadMember(SdkField<?> f) {
         return isExplicitPayloadMember(f) && f.marshallingType() == MarshallingType.SDK_BYTES;
     }
@@ -218,11 +231,14 @@ public final class JsonProtocolUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response,
                             JsonNode jsonContent) {
-        JsonUnmarshallerContext context = JsonUnmarshallerContext.builder()
-                                                                 .unmarshallerRegistry(registry)
-                                                                 .response(response)
-                                                                 .build();
-        return unmarshallStructured(sdkPojo, jsonContent, context);
+        return unmarshallStructured(sdkPojo, jsonContent, createContext(response));
+    }
+
+    private JsonUnmarshallerContext createContext(SdkHttpFullResponse response) {
+        return JsonUnmarshallerContext.builder()
+                                      .unmarshallerRegistry(registry)
+                                      .response(response)
+                                      .build();
     }
 
     @SuppressWarnings("unchecked")
@@ -278,6 +294,8 @@ public final class JsonProtocolUnmarshaller {
 
         private JsonNodeParser parser;
         private Map<MarshallLocation, TimestampFormatTrait.Format> defaultTimestampFormats;
+        private boolean enableStreamingUnmarshalling;
+        private JsonFactory jsonFactory = JsonNodeParser.DEFAULT_JSON_FACTORY;
 
         private Builder() {
         }
@@ -300,6 +318,26 @@ public final class JsonProtocolUnmarshaller {
             return this;
         }
 
+        /**
+         * @param enableStreamingUnmarshalling Whether the response payload should be unmarshalled directly from the
+         * token stream of a parser created by {@link #jsonFactory(JsonFactory)}, instead of being parsed into a tree by
+         * {@link #parser(JsonNodeParser)} first. Responses with an explicit payload member are always parsed into a tree.
+         * @return This builder for method chaining.
+         */
+        public Builder enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return this;
+        }
+
+        /**
+         * @param jsonFactory JSON factory used to create parsers when streaming unmarshalling is enabled.
+         * @return This builder for method chaining.
+         */
+        public Builder jsonFactory(JsonFactory jsonFactory) {
+            this.jsonFactory = jsonFactory;
+            return this;
+        }
+
         /**
          * @return New instance of {@link JsonProtocolUnmarshaller}.
          */
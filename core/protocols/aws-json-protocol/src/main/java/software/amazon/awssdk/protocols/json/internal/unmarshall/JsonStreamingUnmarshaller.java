@@ -0,0 +1,230 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SDK_BYTES;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls the JSON payload of a response by walking the token stream of the parser and populating the builders
+ * described by the {@link SdkField}s of the response, without first parsing the payload into a
+ * {@link software.amazon.awssdk.protocols.jsoncore.JsonNode} tree. Unknown members are skipped without being materialized.
+ *
+ * <p>The result is the same as the one produced by the tree based unmarshalling in {@link JsonProtocolUnmarshaller}, which
+ * remains responsible for responses with an explicit payload member.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class JsonStreamingUnmarshaller {
+
+    private final JsonFactory jsonFactory;
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters;
+    private final Map<Class<?>, Map<String, SdkField<?>>> payloadFieldsByType = new ConcurrentHashMap<>();
+
+    JsonStreamingUnmarshaller(JsonFactory jsonFactory, StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+        this.jsonFactory = jsonFactory;
+        this.simpleTypeConverters = new HashMap<>();
+        simpleTypeConverters.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        simpleTypeConverters.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        simpleTypeConverters.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        simpleTypeConverters.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        simpleTypeConverters.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        simpleTypeConverters.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        simpleTypeConverters.put(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL);
+        simpleTypeConverters.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        simpleTypeConverters.put(MarshallingType.INSTANT, instantStringToValue);
+    }
+
+    /**
+     * Unmarshall the response into the given builder. Members that are not bound to the payload, such as headers and the
+     * status code, are unmarshalled with the unmarshallers registered in the context.
+     */
+    @SuppressWarnings("unchecked")
+    <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, JsonUnmarshallerContext context, InputStream content) {
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (!isPayloadMember(field)) {
+                JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+
+        return invokeSafely(() -> {
+            try (JsonParser parser = jsonFactory.createParser(content)
+                                                .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.START_OBJECT) {
+                    unmarshallMembers(sdkPojo, parser);
+                } else if (token != null) {
+                    parser.skipChildren();
+                }
+                return (TypeT) ((Buildable) sdkPojo).build();
+            }
+        });
+    }
+
+    /**
+     * Populate the builder from the members of the current JSON object, leaving the parser on its {@code END_OBJECT} token.
+     */
+    private void unmarshallMembers(SdkPojo sdkPojo, JsonParser parser) throws IOException {
+        Map<String, SdkField<?>> payloadFields = payloadFields(sdkPojo);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            SdkField<?> field = payloadFields.get(parser.getCurrentName());
+            JsonToken valueToken = parser.nextToken();
+            if (field == null) {
+                parser.skipChildren();
+            } else {
+                field.set(sdkPojo, unmarshallValue(field, parser, valueToken));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object unmarshallValue(SdkField<?> field, JsonParser parser, JsonToken token) throws IOException {
+        MarshallingType<?> marshallingType = field.marshallingType();
+        if (marshallingType == MarshallingType.DOCUMENT) {
+            return unmarshallDocument(parser, token);
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (marshallingType == MarshallingType.SDK_POJO) {
+            expectToken(field, token, JsonToken.START_OBJECT);
+            SdkPojo sdkPojo = field.constructor().get();
+            unmarshallMembers(sdkPojo, parser);
+            return ((Buildable) sdkPojo).build();
+        }
+        if (marshallingType == MarshallingType.LIST) {
+            expectToken(field, token, JsonToken.START_ARRAY);
+            SdkField<?> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
+            List<Object> list = new ArrayList<>();
+            JsonToken memberToken;
+            while ((memberToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+                list.add(unmarshallValue(memberInfo, parser, memberToken));
+            }
+            return list;
+        }
+        if (marshallingType == MarshallingType.MAP) {
+            expectToken(field, token, JsonToken.START_OBJECT);
+            SdkField<?> valueInfo = field.getTrait(MapTrait.class).valueFieldInfo();
+            Map<String, Object> map = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.getCurrentName();
+                map.put(key, unmarshallValue(valueInfo, parser, parser.nextToken()));
+            }
+            return map;
+        }
+        if (marshallingType == MarshallingType.SDK_BYTES) {
+            // Binary protocols like CBOR may already have the raw bytes extracted.
+            if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+                return SdkBytes.fromByteArray((byte[]) parser.getEmbeddedObject());
+            }
+            return TO_SDK_BYTES.convert(parser.getText(), (SdkField<SdkBytes>) field);
+        }
+
+        StringToValueConverter.StringToValue<Object> converter =
+            (StringToValueConverter.StringToValue<Object>) simpleTypeConverters.get(marshallingType);
+        if (converter == null) {
+            throw SdkClientException.create("Unable to unmarshall member " + field.memberName() + " of type "
+                                            + marshallingType);
+        }
+        String text = token == JsonToken.VALUE_EMBEDDED_OBJECT ? null : parser.getText();
+        return converter.convert(text, (SdkField<Object>) field);
+    }
+
+    private static Document unmarshallDocument(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NULL:
+                return Document.fromNull();
+            case VALUE_TRUE:
+                return Document.fromBoolean(true);
+            case VALUE_FALSE:
+                return Document.fromBoolean(false);
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return Document.fromNumber(parser.getText());
+            case VALUE_STRING:
+                return Document.fromString(parser.getText());
+            case START_ARRAY:
+                List<Document> list = new ArrayList<>();
+                JsonToken memberToken;
+                while ((memberToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    list.add(unmarshallDocument(parser, memberToken));
+                }
+                return Document.fromList(list);
+            case START_OBJECT:
+                Map<String, Document> map = new LinkedHashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.getCurrentName();
+                    map.put(key, unmarshallDocument(parser, parser.nextToken()));
+                }
+                return Document.fromMap(map);
+            case VALUE_EMBEDDED_OBJECT:
+                throw new UnsupportedOperationException("Embedded objects are not supported within Document types.");
+            default:
+                throw new IllegalArgumentException("Unexpected JSON token - " + token);
+        }
+    }
+
+    private static void expectToken(SdkField<?> field, JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw SdkClientException.create("Unable to unmarshall member " + field.memberName() + ": expected " + expected
+                                            + " but found " + actual);
+        }
+    }
+
+    private Map<String, SdkField<?>> payloadFields(SdkPojo sdkPojo) {
+        return payloadFieldsByType.computeIfAbsent(sdkPojo.getClass(), type -> {
+            Map<String, SdkField<?>> fields = new HashMap<>();
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                if (isPayloadMember(field)) {
+                    fields.put(field.locationName(), field);
+                }
+            }
+            return fields;
+        });
+    }
+
+    private static boolean isPayloadMember(SdkField<?> field) {
+        return field.location() == MarshallLocation.PAYLOAD || MarshallerUtil.isInUri(field.location());
+    }
+}
@@ -25,6 +25,7 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -50,6 +51,7 @@ public class AwsQueryProtocolFactory {
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final MetricCollectingHttpResponseHandler<AwsServiceException> errorUnmarshaller;
+    private final boolean enableStreamingUnmarshalling;
 
     AwsQueryProtocolFactory(Builder<?> builder) {
         this.clientConfiguration = builder.clientConfiguration;
@@ -63,6 +65,7 @@ public class AwsQueryProtocolFactory {
             .errorUnmarshaller(QueryProtocolUnmarshaller.builder().build())
             .errorRootExtractor(this::getErrorRoot)
             .build());
+        this.enableStreamingUnmarshalling = SdkSystemSetting.STREAMING_XML_UNMARSHALLING_ENABLED.getBooleanValueOrThrow();
     }
 
     /**
@@ -90,6 +93,8 @@ public class AwsQueryProtocolFactory {
     public final <T extends AwsResponse> HttpResponseHandler<T> createResponseHandler(Supplier<SdkPojo> pojoSupplier) {
         return timeUnmarshalling(new AwsQueryResponseHandler<>(QueryProtocolUnmarshaller.builder()
                                                                                         .hasResultWrapper(!isEc2())
+                                                                                        .enableStreamingUnmarshalling(
+                                                                                            enableStreamingUnmarshalling)
                                                                                         .build(), r -> pojoSupplier.get()));
     }
 
@@ -22,10 +22,14 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -34,6 +38,7 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Pair;
@@ -65,10 +70,29 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), content.get(0)))
         .build();
 
+    private static final XmlStreamingUnmarshaller STREAMING_UNMARSHALLER = XmlStreamingUnmarshaller
+        .builder()
+        .simpleTypeConverter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+        .simpleTypeConverter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+        .simpleTypeConverter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+        .simpleTypeConverter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+        .simpleTypeConverter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+        .simpleTypeConverter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+        .simpleTypeConverter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+        .simpleTypeConverter(MarshallingType.INSTANT, StringToInstant.create(defaultTimestampFormats()))
+        .simpleTypeConverter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+        .matchListMemberNames(false)
+        .build();
+
+    private static final String RESPONSE_METADATA = "ResponseMetadata";
+    private static final String REQUEST_ID = "requestId";
+
     private final boolean hasResultWrapper;
+    private final boolean enableStreamingUnmarshalling;
 
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.enableStreamingUnmarshalling = builder.enableStreamingUnmarshalling;
     }
 
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
@@ -82,6 +106,10 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
+        if (enableStreamingUnmarshalling) {
+            return unmarshallStreaming(sdkPojo, response);
+        }
+
         XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
@@ -108,13 +136,67 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
     }
 
+    /**
+     * Unmarshall the response directly from the XML event stream, collecting the response metadata along the way.
+     */
+    private <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshallStreaming(SdkPojo sdkPojo,
+                                                                                        SdkHttpFullResponse response) {
+        Map<String, String> metadata = new HashMap<>();
+        XMLStreamReader reader = response.content().map(XmlStreamingUnmarshaller::createReader).orElse(null);
+        if (reader != null) {
+            try {
+                if (hasResultWrapper) {
+                    unmarshallWrappedResult(reader, sdkPojo, metadata);
+                } else {
+                    STREAMING_UNMARSHALLER.unmarshallMembers(reader, sdkPojo, r -> parseMetadata(r, metadata));
+                }
+            } catch (XMLStreamException e) {
+                throw SdkClientException.create("Could not parse XML response.", e);
+            } finally {
+                invokeSafely(reader::close);
+            }
+        }
+        return Pair.of((TypeT) ((Buildable) sdkPojo).build(), metadata);
+    }
+
+    private void unmarshallWrappedResult(XMLStreamReader reader, SdkPojo sdkPojo, Map<String, String> metadata)
+            throws XMLStreamException {
+        boolean isResultRoot = true;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (isResultRoot && !isMetadataElement(reader.getLocalName())) {
+                STREAMING_UNMARSHALLER.unmarshallMembers(reader, sdkPojo);
+            } else {
+                parseMetadata(reader, metadata);
+            }
+            isResultRoot = false;
+        }
+    }
+
+    private static boolean isMetadataElement(String elementName) {
+        return RESPONSE_METADATA.equals(elementName) || REQUEST_ID.equals(elementName);
+    }
+
+    private void parseMetadata(XMLStreamReader reader, Map<String, String> metadata) throws XMLStreamException {
+        String elementName = reader.getLocalName();
+        if (RESPONSE_METADATA.equals(elementName)) {
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                String keyName = metadataKeyName(reader.getLocalName());
+                metadata.put(keyName, XmlStreamingUnmarshaller.readText(reader));
+            }
+        } else if (REQUEST_ID.equals(elementName)) {
+            metadata.put(AWS_REQUEST_ID, XmlStreamingUnmarshaller.readText(reader));
+        } else {
+            XmlStreamingUnmarshaller.skipElement(reader);
+        }
+    }
+
     private Map<String, String> parseMetadata(XmlElement document) {
-        XmlElement responseMetadata = document.getElementByName("ResponseMetadata");
+        XmlElement responseMetadata = document.getElementByName(RESPONSE_METADATA);
         Map<String, String> metadata = new HashMap<>();
         if (responseMetadata != null) {
             responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c), c.textContent()));
         }
-        XmlElement requestId = document.getElementByName("requestId");
+        XmlElement requestId = document.getElementByName(REQUEST_ID);
         if (requestId != null) {
             metadata.put(AWS_REQUEST_ID, requestId.textContent());
         }
@@ -122,7 +204,11 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     }
 
     private String metadataKeyName(XmlElement c) {
-        return c.elementName().equals("RequestId") ? AWS_REQUEST_ID : c.elementName();
+        return metadataKeyName(c.elementName());
+    }
+
+    private static String metadataKeyName(String elementName) {
+        return elementName.equals("RequestId") ? AWS_REQUEST_ID : elementName;
     }
 
     private SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
@@ -158,6 +244,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final class Builder {
 
         private boolean hasResultWrapper;
+        private boolean enableStreamingUnmarshalling;
 
         private Builder() {
         }
@@ -207,6 +294,17 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return this;
         }
 
+        /**
+         * @param enableStreamingUnmarshalling True if the response should be unmarshalled directly from the XML event
+         * stream, instead of first being parsed into an {@link XmlElement} tree. Exceptions are always unmarshalled from the
+         * tree.
+         * @return This builder for method chaining.
+         */
+        public Builder enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolUnmarshaller}.
          */
@@ -122,6 +122,13 @@ public final class XmlDomParser {
         }
     }
 
+    /**
+     * @return The {@link XMLInputFactory} of the current thread, configured to not resolve DTDs and external entities.
+     */
+    static XMLInputFactory xmlInputFactory() {
+        return FACTORY.get();
+    }
+
     /**
      * Disables certain dangerous features that attempt to automatically fetch DTDs
      *
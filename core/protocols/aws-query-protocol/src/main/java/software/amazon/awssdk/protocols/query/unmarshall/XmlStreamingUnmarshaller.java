@@ -0,0 +1,475 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls XML by pulling events from an {@link XMLStreamReader} and mapping them directly onto the {@link SdkField}s of
+ * the builders, without first parsing the document into an {@link XmlElement} tree with {@link XmlDomParser}. Elements
+ * that do not map to a member are skipped without being materialized.
+ *
+ * <p>The result matches the tree based unmarshallers of the query and REST-XML protocols: the first occurrence of a member
+ * element wins, members of flattened lists and maps are collected from every occurrence, and the text of an element is its
+ * last run of character data.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class XmlStreamingUnmarshaller {
+
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters;
+    private final boolean matchListMemberNames;
+    private final Map<Class<?>, StructureMembers> membersByType = new ConcurrentHashMap<>();
+
+    private XmlStreamingUnmarshaller(Builder builder) {
+        this.simpleTypeConverters = new HashMap<>(builder.simpleTypeConverters);
+        this.matchListMemberNames = builder.matchListMemberNames;
+    }
+
+    /**
+     * Creates a reader over the given XML document, positioned on the start of its root element.
+     *
+     * @return The reader, or null if the content is empty.
+     */
+    public static XMLStreamReader createReader(InputStream content) {
+        LookaheadInputStream stream = new LookaheadInputStream(content);
+        try {
+            if (stream.peek() == -1) {
+                return null;
+            }
+            XMLStreamReader reader = XmlDomParser.xmlInputFactory().createXMLStreamReader(stream);
+            while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+                // Skip ahead to the root element
+            }
+            return reader.isStartElement() ? reader : null;
+        } catch (IOException | XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Populate the builder from the root element of the given XML document, skipping the elements that do not map to a
+     * member. Empty content leaves the builder untouched.
+     */
+    public void unmarshall(InputStream content, SdkPojo sdkPojo) {
+        XMLStreamReader reader = createReader(content);
+        if (reader == null) {
+            return;
+        }
+        try {
+            unmarshallMembers(reader, sdkPojo);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        } finally {
+            invokeSafely(reader::close);
+        }
+    }
+
+    /**
+     * Populate the builder from the attributes and child elements of the element the reader is positioned on. Child elements
+     * that do not map to a payload member of the builder are passed to the given handler. Returns with the reader positioned
+     * on the end of the element.
+     *
+     * @param reader Reader positioned on the start of the element.
+     * @param sdkPojo Builder to populate.
+     * @param unmappedElementHandler Handler for the child elements that do not map to a member, which must consume the
+     * element.
+     */
+    @SuppressWarnings("unchecked")
+    public void unmarshallMembers(XMLStreamReader reader, SdkPojo sdkPojo, ElementHandler unmappedElementHandler)
+            throws XMLStreamException {
+        StructureMembers members = structureMembers(sdkPojo);
+
+        for (SdkField<?> attributeField : members.attributeFields) {
+            String value = attributeValue(reader, attributeField.unmarshallLocationName());
+            if (value != null) {
+                attributeField.set(sdkPojo, value);
+            }
+        }
+
+        boolean[] seen = null;
+        List<Object>[] flattenedLists = null;
+        Map<String, Object>[] flattenedMaps = null;
+        while (nextTag(reader) == XMLStreamConstants.START_ELEMENT) {
+            Member member = members.elements.get(reader.getLocalName());
+            if (member == null) {
+                unmappedElementHandler.handle(reader);
+                continue;
+            }
+
+            SdkField<?> field = member.field;
+            if (isFlattenedList(field)) {
+                if (flattenedLists == null) {
+                    flattenedLists = new List[members.size];
+                }
+                if (flattenedLists[member.index] == null) {
+                    flattenedLists[member.index] = new ArrayList<>();
+                }
+                flattenedLists[member.index].add(unmarshallValue(reader, field.getTrait(ListTrait.class).memberFieldInfo()));
+            } else if (isFlattenedMap(field)) {
+                if (flattenedMaps == null) {
+                    flattenedMaps = new Map[members.size];
+                }
+                if (flattenedMaps[member.index] == null) {
+                    flattenedMaps[member.index] = new HashMap<>();
+                }
+                unmarshallMapEntry(reader, field.getTrait(MapTrait.class), flattenedMaps[member.index]);
+            } else {
+                if (seen == null) {
+                    seen = new boolean[members.size];
+                }
+                if (seen[member.index]) {
+                    skipElement(reader);
+                } else {
+                    seen[member.index] = true;
+                    field.set(sdkPojo, unmarshallValue(reader, field));
+                }
+            }
+        }
+
+        for (int i = 0; flattenedLists != null && i < flattenedLists.length; i++) {
+            if (flattenedLists[i] != null) {
+                members.fields.get(i).set(sdkPojo, flattenedLists[i]);
+            }
+        }
+        for (int i = 0; flattenedMaps != null && i < flattenedMaps.length; i++) {
+            if (flattenedMaps[i] != null) {
+                members.fields.get(i).set(sdkPojo, flattenedMaps[i]);
+            }
+        }
+    }
+
+    /**
+     * Populate the builder from the element the reader is positioned on, skipping the child elements that do not map to a
+     * member.
+     *
+     * @see #unmarshallMembers(XMLStreamReader, SdkPojo, ElementHandler)
+     */
+    public void unmarshallMembers(XMLStreamReader reader, SdkPojo sdkPojo) throws XMLStreamException {
+        unmarshallMembers(reader, sdkPojo, XmlStreamingUnmarshaller::skipElement);
+    }
+
+    /**
+     * Read the text content of the element the reader is positioned on, which is its last run of character data, or an
+     * empty string if it has none. Returns with the reader positioned on the end of the element.
+     */
+    public static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = "";
+        StringBuilder run = null;
+        boolean inRun = false;
+        while (true) {
+            switch (reader.next()) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (!inRun) {
+                        text = reader.getText();
+                        run = null;
+                        inRun = true;
+                    } else {
+                        if (run == null) {
+                            run = new StringBuilder(text);
+                        }
+                        run.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    skipElement(reader);
+                    inRun = false;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    return run == null ? text : run.toString();
+                default:
+                    inRun = false;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Skip the element the reader is positioned on, including all of its children. Returns with the reader positioned on the
+     * end of the element.
+     */
+    public static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private Object unmarshallValue(XMLStreamReader reader, SdkField<?> field) throws XMLStreamException {
+        MarshallingType<?> marshallingType = field.marshallingType();
+        if (marshallingType == MarshallingType.SDK_POJO) {
+            SdkPojo sdkPojo = field.constructor().get();
+            unmarshallMembers(reader, sdkPojo);
+            return ((Buildable) sdkPojo).build();
+        }
+        if (marshallingType == MarshallingType.LIST) {
+            return unmarshallList(reader, field.getTrait(ListTrait.class));
+        }
+        if (marshallingType == MarshallingType.MAP) {
+            return unmarshallMap(reader, field.getTrait(MapTrait.class));
+        }
+        if (marshallingType == MarshallingType.NULL) {
+            skipElement(reader);
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        StringToValueConverter.StringToValue<Object> converter =
+            (StringToValueConverter.StringToValue<Object>) simpleTypeConverters.get(marshallingType);
+        if (converter == null) {
+            throw SdkClientException.create("Unable to unmarshall member " + field.memberName() + " of type "
+                                            + marshallingType);
+        }
+        @SuppressWarnings("unchecked")
+        SdkField<Object> objectField = (SdkField<Object>) field;
+        return converter.convert(readText(reader), objectField);
+    }
+
+    private List<Object> unmarshallList(XMLStreamReader reader, ListTrait listTrait) throws XMLStreamException {
+        SdkField<?> memberInfo = listTrait.memberFieldInfo();
+        List<Object> list = new ArrayList<>();
+        if (listTrait.isFlattened()) {
+            list.add(unmarshallValue(reader, memberInfo));
+            return list;
+        }
+
+        String memberLocation = listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                                       : memberInfo.locationName();
+        while (nextTag(reader) == XMLStreamConstants.START_ELEMENT) {
+            // Query protocols accept any child element as a member, since EC2 does not always model the member name
+            // correctly.
+            if (!matchListMemberNames || reader.getLocalName().equals(memberLocation)) {
+                list.add(unmarshallValue(reader, memberInfo));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return list;
+    }
+
+    private Map<String, Object> unmarshallMap(XMLStreamReader reader, MapTrait mapTrait) throws XMLStreamException {
+        Map<String, Object> map = new HashMap<>();
+        if (mapTrait.isFlattened()) {
+            unmarshallMapEntry(reader, mapTrait, map);
+            return map;
+        }
+
+        while (nextTag(reader) == XMLStreamConstants.START_ELEMENT) {
+            if (reader.getLocalName().equals("entry")) {
+                unmarshallMapEntry(reader, mapTrait, map);
+            } else {
+                skipElement(reader);
+            }
+        }
+        return map;
+    }
+
+    private void unmarshallMapEntry(XMLStreamReader reader, MapTrait mapTrait, Map<String, Object> map)
+            throws XMLStreamException {
+        String entryName = reader.getLocalName();
+        String key = null;
+        Object value = null;
+        boolean hasKey = false;
+        boolean hasValue = false;
+        while (nextTag(reader) == XMLStreamConstants.START_ELEMENT) {
+            String elementName = reader.getLocalName();
+            if (elementName.equals(mapTrait.keyLocationName())) {
+                assertSingleElement(hasKey, elementName, entryName);
+                hasKey = true;
+                key = readText(reader);
+            } else if (elementName.equals(mapTrait.valueLocationName())) {
+                assertSingleElement(hasValue, elementName, entryName);
+                hasValue = true;
+                value = unmarshallValue(reader, mapTrait.valueFieldInfo());
+            } else {
+                skipElement(reader);
+            }
+        }
+        if (!hasKey) {
+            throw SdkClientException.create(String.format("Missing the key element %s in the XML event %s",
+                                                          mapTrait.keyLocationName(), entryName));
+        }
+        map.put(key, value);
+    }
+
+    private static void assertSingleElement(boolean alreadySeen, String elementName, String parentName) {
+        if (alreadySeen) {
+            throw SdkClientException.create(
+                String.format("Did not expect more than one element with the name %s in the XML event %s",
+                              elementName, parentName));
+        }
+    }
+
+    /**
+     * Advance to the next start or end element at the current level, ignoring character data and comments.
+     */
+    private static int nextTag(XMLStreamReader reader) throws XMLStreamException {
+        int event;
+        do {
+            event = reader.next();
+        } while (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT);
+        return event;
+    }
+
+    /**
+     * Attributes are matched on {@code prefix:localName}, with an empty prefix for attributes without a namespace, the same
+     * way {@link XmlDomParser} names them.
+     */
+    private static String attributeValue(XMLStreamReader reader, String name) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String attributeName = (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(i);
+            if (attributeName.equals(name)) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isFlattenedList(SdkField<?> field) {
+        return field.marshallingType() == MarshallingType.LIST && field.getTrait(ListTrait.class).isFlattened();
+    }
+
+    private static boolean isFlattenedMap(SdkField<?> field) {
+        return field.marshallingType() == MarshallingType.MAP && field.getTrait(MapTrait.class).isFlattened();
+    }
+
+    private StructureMembers structureMembers(SdkPojo sdkPojo) {
+        return membersByType.computeIfAbsent(sdkPojo.getClass(), type -> new StructureMembers(sdkPojo.sdkFields()));
+    }
+
+    /**
+     * @return New {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Handler for an element the reader is positioned on. The handler must consume the element, leaving the reader
+     * positioned on its end.
+     */
+    @FunctionalInterface
+    public interface ElementHandler {
+        void handle(XMLStreamReader reader) throws XMLStreamException;
+    }
+
+    /**
+     * The payload members of a structure, indexed by the name of the element they are unmarshalled from. If more than one
+     * member is bound to the same element, the first one is used.
+     */
+    private static final class StructureMembers {
+        private final Map<String, Member> elements = new HashMap<>();
+        private final List<SdkField<?>> fields = new ArrayList<>();
+        private final List<SdkField<?>> attributeFields = new ArrayList<>();
+        private final int size;
+
+        private StructureMembers(List<SdkField<?>> sdkFields) {
+            for (SdkField<?> field : sdkFields) {
+                if (field.location() != MarshallLocation.PAYLOAD) {
+                    continue;
+                }
+                if (field.containsTrait(XmlAttributeTrait.class)) {
+                    attributeFields.add(field);
+                } else if (!elements.containsKey(field.unmarshallLocationName())) {
+                    elements.put(field.unmarshallLocationName(), new Member(field, fields.size()));
+                    fields.add(field);
+                }
+            }
+            this.size = fields.size();
+        }
+    }
+
+    private static final class Member {
+        private final SdkField<?> field;
+        private final int index;
+
+        private Member(SdkField<?> field, int index) {
+            this.field = field;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Builder for {@link XmlStreamingUnmarshaller}.
+     */
+    public static final class Builder {
+        private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters = new HashMap<>();
+        private boolean matchListMemberNames;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the converter used to unmarshall the text content of elements of the given simple type.
+         *
+         * @return This builder for method chaining.
+         */
+        public <T> Builder simpleTypeConverter(MarshallingType<T> marshallingType,
+                                               StringToValueConverter.StringToValue<T> converter) {
+            simpleTypeConverters.put(marshallingType, converter);
+            return this;
+        }
+
+        /**
+         * @param matchListMemberNames True if only the child elements named after the list member are members of a
+         * non-flattened list, false if every child element is a member.
+         * @return This builder for method chaining.
+         */
+        public Builder matchListMemberNames(boolean matchListMemberNames) {
+            this.matchListMemberNames = matchListMemberNames;
+            return this;
+        }
+
+        /**
+         * @return New instance of {@link XmlStreamingUnmarshaller}.
+         */
+        public XmlStreamingUnmarshaller build() {
+            return new XmlStreamingUnmarshaller(this);
+        }
+    }
+}
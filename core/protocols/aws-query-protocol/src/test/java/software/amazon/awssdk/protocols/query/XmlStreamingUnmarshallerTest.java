@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class XmlStreamingUnmarshallerTest {
+
+    @Test
+    public void emptyContent_ReturnsNoReader() {
+        assertThat(XmlStreamingUnmarshaller.createReader(new StringInputStream(""))).isNull();
+    }
+
+    @Test
+    public void createReader_PositionedOnRootElement() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<!-- comment -->"
+                     + "<Struct><stringMember>stringVal</stringMember></Struct>";
+        XMLStreamReader reader = XmlStreamingUnmarshaller.createReader(new StringInputStream(xml));
+        assertThat(reader.isStartElement()).isTrue();
+        assertThat(reader.getLocalName()).isEqualTo("Struct");
+    }
+
+    @Test
+    public void readText_ReturnsTextContent() throws XMLStreamException {
+        XMLStreamReader reader = readerOnFirstChild("<Struct><stringMember>stringVal</stringMember><next/></Struct>");
+        assertThat(XmlStreamingUnmarshaller.readText(reader)).isEqualTo("stringVal");
+        assertThat(reader.isEndElement()).isTrue();
+        assertThat(reader.getLocalName()).isEqualTo("stringMember");
+    }
+
+    @Test
+    public void readText_EmptyElement_ReturnsEmptyString() throws XMLStreamException {
+        XMLStreamReader reader = readerOnFirstChild("<Struct><stringMember/></Struct>");
+        assertThat(XmlStreamingUnmarshaller.readText(reader)).isEmpty();
+    }
+
+    @Test
+    public void readText_MixedContent_MatchesDomParser() throws XMLStreamException {
+        String xml = "<Struct><stringMember>first<child>ignored</child>last</stringMember></Struct>";
+        XMLStreamReader reader = readerOnFirstChild(xml);
+        String expected = XmlDomParser.parse(new StringInputStream(xml))
+                                      .getElementByName("stringMember")
+                                      .textContent();
+        assertThat(XmlStreamingUnmarshaller.readText(reader)).isEqualTo(expected).isEqualTo("last");
+    }
+
+    @Test
+    public void readText_EscapedCharacters_Concatenated() throws XMLStreamException {
+        XMLStreamReader reader = readerOnFirstChild("<Struct><stringMember>a &amp; b<![CDATA[ <c> ]]></stringMember></Struct>");
+        assertThat(XmlStreamingUnmarshaller.readText(reader)).isEqualTo("a & b <c> ");
+    }
+
+    @Test
+    public void skipElement_SkipsNestedChildren() throws XMLStreamException {
+        XMLStreamReader reader = readerOnFirstChild("<Struct><skipped><a><b/></a><a/></skipped><next/></Struct>");
+        XmlStreamingUnmarshaller.skipElement(reader);
+        assertThat(reader.isEndElement()).isTrue();
+        assertThat(reader.getLocalName()).isEqualTo("skipped");
+    }
+
+    @Test
+    public void malformedXml_ThrowsSdkClientException() {
+        assertThatThrownBy(() -> XmlStreamingUnmarshaller.createReader(new StringInputStream("not xml")))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("Could not parse XML response.");
+    }
+
+    private static XMLStreamReader readerOnFirstChild(String xml) throws XMLStreamException {
+        XMLStreamReader reader = XmlStreamingUnmarshaller.createReader(new StringInputStream(xml));
+        reader.nextTag();
+        return reader;
+    }
+}
@@ -39,6 +39,7 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.builder.Buildable;
 
@@ -48,15 +49,30 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final StringToValueConverter.StringToValue<Instant> INSTANT_STRING_TO_VALUE
         = StringToInstant.create(getDefaultTimestampFormats());
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
+    private static final XmlStreamingUnmarshaller STREAMING_UNMARSHALLER = createStreamingUnmarshaller();
 
-    private XmlProtocolUnmarshaller() {
+    private final boolean enableStreamingUnmarshalling;
+
+    private XmlProtocolUnmarshaller(boolean enableStreamingUnmarshalling) {
+        this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
     }
 
     public static XmlProtocolUnmarshaller create() {
-        return new XmlProtocolUnmarshaller();
+        return create(false);
+    }
+
+    /**
+     * @param enableStreamingUnmarshalling True if successful responses should be unmarshalled directly from the XML event
+     * stream, instead of first being parsed into an {@link XmlElement} tree.
+     */
+    public static XmlProtocolUnmarshaller create(boolean enableStreamingUnmarshalling) {
+        return new XmlProtocolUnmarshaller(enableStreamingUnmarshalling);
     }
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        if (enableStreamingUnmarshalling && canUnmarshallStreaming(sdkPojo, response)) {
+            return unmarshallStreaming(sdkPojo, response);
+        }
         XmlElement document = hasXmlPayload(sdkPojo, response) ? XmlResponseParserUtils.parse(sdkPojo, response) : null;
         return unmarshall(sdkPojo, document, response);
     }
@@ -136,6 +152,34 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return (SdkPojo) ((Buildable) sdkPojo).build();
     }
 
+    /**
+     * Explicit payload members and error responses are always unmarshalled from the {@link XmlElement} tree.
+     */
+    private boolean canUnmarshallStreaming(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        return response.isSuccessful()
+               && response.content().isPresent()
+               && sdkPojo.sdkFields().stream().noneMatch(this::isExplicitPayloadMember)
+               && sdkPojo.sdkFields().stream().anyMatch(f -> f.location() == MarshallLocation.PAYLOAD);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> TypeT unmarshallStreaming(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        XmlUnmarshallerContext context = XmlUnmarshallerContext.builder()
+                                                               .response(response)
+                                                               .registry(REGISTRY)
+                                                               .protocolUnmarshaller(this)
+                                                               .build();
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+
+        STREAMING_UNMARSHALLER.unmarshall(response.content().get(), sdkPojo);
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
     private void setExplicitStringPayload(XmlUnmarshaller<Object> unmarshaller, XmlUnmarshallerContext context,
                                              SdkPojo sdkPojo, XmlElement element, SdkField<?> field) {
         SdkBytes sdkBytes = SdkBytes.fromInputStream(context.response().content().get());
@@ -212,6 +256,23 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return Collections.unmodifiableMap(formats);
     }
 
+    private static XmlStreamingUnmarshaller createStreamingUnmarshaller() {
+        return XmlStreamingUnmarshaller
+            .builder()
+            .simpleTypeConverter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+            .simpleTypeConverter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+            .simpleTypeConverter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+            .simpleTypeConverter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+            .simpleTypeConverter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+            .simpleTypeConverter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+            .simpleTypeConverter(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL)
+            .simpleTypeConverter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+            .simpleTypeConverter(MarshallingType.INSTANT, INSTANT_STRING_TO_VALUE)
+            .simpleTypeConverter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+            .matchListMemberNames(true)
+            .build();
+    }
+
     private static XmlUnmarshallerRegistry createUnmarshallerRegistry() {
         return XmlUnmarshallerRegistry
             .builder()
@@ -0,0 +1,267 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core;
+
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration of the adaptive concurrency limit of an asynchronous client. When configured, the client limits the number
+ * of request attempts in flight to each endpoint, and adapts the limit to the latency and errors it observes: the limit
+ * grows while the service keeps up, and shrinks when requests are throttled, fail with server errors or time out, or when
+ * their latency rises. Requests over the limit wait for a request in flight to complete, and fail when too many are
+ * already waiting.
+ *
+ * <p>Unlike the maximum concurrency of the HTTP client, which is fixed, this lets a client back off before a degraded
+ * service causes requests to pile up in the connection pool.
+ */
+@SdkPublicApi
+public final class ConcurrencyLimitConfiguration
+    implements ToCopyableBuilder<ConcurrencyLimitConfiguration.Builder, ConcurrencyLimitConfiguration> {
+
+    private static final int DEFAULT_INITIAL_LIMIT = 20;
+    private static final int DEFAULT_MIN_LIMIT = 1;
+    private static final int DEFAULT_MAX_LIMIT = 1000;
+    private static final int DEFAULT_MAX_PENDING_ACQUIRES = 10_000;
+
+    private final Algorithm algorithm;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxPendingAcquires;
+
+    private ConcurrencyLimitConfiguration(DefaultBuilder builder) {
+        this.algorithm = builder.algorithm == null ? Algorithm.AIMD : builder.algorithm;
+        this.minLimit = Validate.isPositive(builder.minLimit == null ? DEFAULT_MIN_LIMIT : builder.minLimit, "minLimit");
+        this.maxLimit = Validate.isPositive(builder.maxLimit == null ? DEFAULT_MAX_LIMIT : builder.maxLimit, "maxLimit");
+        this.initialLimit = builder.initialLimit == null ? Math.max(minLimit, Math.min(maxLimit, DEFAULT_INITIAL_LIMIT))
+                                                         : builder.initialLimit;
+        this.maxPendingAcquires = Validate.isNotNegative(builder.maxPendingAcquires == null ? DEFAULT_MAX_PENDING_ACQUIRES
+                                                                                            : builder.maxPendingAcquires,
+                                                         "maxPendingAcquires");
+        Validate.isTrue(minLimit <= initialLimit && initialLimit <= maxLimit,
+                        "initialLimit (%s) must be between minLimit (%s) and maxLimit (%s).", initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Create a {@link ConcurrencyLimitConfiguration.Builder}, used to create a {@link ConcurrencyLimitConfiguration}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * The algorithm used to adapt the limit.
+     */
+    public Algorithm algorithm() {
+        return algorithm;
+    }
+
+    /**
+     * The limit of each endpoint before any request has completed.
+     */
+    public int initialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * The lowest the limit of an endpoint can go.
+     */
+    public int minLimit() {
+        return minLimit;
+    }
+
+    /**
+     * The highest the limit of an endpoint can go.
+     */
+    public int maxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * The maximum number of requests that can wait for an endpoint whose limit is reached. Further requests fail
+     * immediately.
+     */
+    public int maxPendingAcquires() {
+        return maxPendingAcquires;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConcurrencyLimitConfiguration")
+                       .add("algorithm", algorithm)
+                       .add("initialLimit", initialLimit)
+                       .add("minLimit", minLimit)
+                       .add("maxLimit", maxLimit)
+                       .add("maxPendingAcquires", maxPendingAcquires)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ConcurrencyLimitConfiguration that = (ConcurrencyLimitConfiguration) o;
+
+        return initialLimit == that.initialLimit
+               && minLimit == that.minLimit
+               && maxLimit == that.maxLimit
+               && maxPendingAcquires == that.maxPendingAcquires
+               && algorithm == that.algorithm;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(algorithm);
+        result = 31 * result + initialLimit;
+        result = 31 * result + minLimit;
+        result = 31 * result + maxLimit;
+        result = 31 * result + maxPendingAcquires;
+        return result;
+    }
+
+    /**
+     * The algorithms available to adapt the concurrency limit.
+     */
+    public enum Algorithm {
+        /**
+         * Additive increase, multiplicative decrease. The limit grows by one after each successful request made while at
+         * least half of the limit is in use, and is cut by 10% after each request that is throttled, fails with a server
+         * error or times out.
+         */
+        AIMD,
+
+        /**
+         * Gradient-based. The limit follows the ratio of the long-term average latency to the latency of each request, so
+         * that it shrinks as soon as latency rises above its usual level, before errors occur. The limit is also cut by 10%
+         * after each request that is throttled, fails with a server error or times out.
+         */
+        GRADIENT
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, ConcurrencyLimitConfiguration> {
+        /**
+         * Configures the algorithm used to adapt the limit. The default is {@link Algorithm#AIMD}.
+         *
+         * @param algorithm
+         * @return This object for method chaining.
+         */
+        Builder algorithm(Algorithm algorithm);
+
+        /**
+         * Configures the limit of each endpoint before any request has completed. The default value is 20, or the closest
+         * value between the minimum and maximum limits.
+         *
+         * @param initialLimit
+         * @return This object for method chaining.
+         */
+        Builder initialLimit(Integer initialLimit);
+
+        /**
+         * Configures the lowest the limit of an endpoint can go. The default value is 1.
+         *
+         * @param minLimit
+         * @return This object for method chaining.
+         */
+        Builder minLimit(Integer minLimit);
+
+        /**
+         * Configures the highest the limit of an endpoint can go. The default value is 1000.
+         *
+         * @param maxLimit
+         * @return This object for method chaining.
+         */
+        Builder maxLimit(Integer maxLimit);
+
+        /**
+         * Configures the maximum number of requests that can wait for an endpoint whose limit is reached. Further requests
+         * fail immediately. Set this to 0 to fail every request over the limit instead of queueing it. The default value is
+         * 10_000.
+         *
+         * @param maxPendingAcquires
+         * @return This object for method chaining.
+         */
+        Builder maxPendingAcquires(Integer maxPendingAcquires);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Algorithm algorithm;
+        private Integer initialLimit;
+        private Integer minLimit;
+        private Integer maxLimit;
+        private Integer maxPendingAcquires;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(ConcurrencyLimitConfiguration configuration) {
+            this.algorithm = configuration.algorithm;
+            this.initialLimit = configuration.initialLimit;
+            this.minLimit = configuration.minLimit;
+            this.maxLimit = configuration.maxLimit;
+            this.maxPendingAcquires = configuration.maxPendingAcquires;
+        }
+
+        @Override
+        public Builder algorithm(Algorithm algorithm) {
+            this.algorithm = algorithm;
+            return this;
+        }
+
+        @Override
+        public Builder initialLimit(Integer initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        @Override
+        public Builder minLimit(Integer minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        @Override
+        public Builder maxLimit(Integer maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        @Override
+        public Builder maxPendingAcquires(Integer maxPendingAcquires) {
+            this.maxPendingAcquires = maxPendingAcquires;
+            return this;
+        }
+
+        @Override
+        public ConcurrencyLimitConfiguration build() {
+            return new ConcurrencyLimitConfiguration(this);
+        }
+    }
+}
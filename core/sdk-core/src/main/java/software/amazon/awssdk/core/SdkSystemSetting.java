@@ -155,6 +155,18 @@ public enum SdkSystemSetting implements SystemSetting {
      */
     BINARY_ION_ENABLED("aws.binaryIonEnabled", "true"),
 
+    /**
+     * Whether JSON responses should be unmarshalled directly from the parser's token stream, instead of first being parsed
+     * into an intermediate tree. This reduces the memory allocated for large responses.
+     */
+    STREAMING_JSON_UNMARSHALLING_ENABLED("aws.streamingJsonUnmarshallingEnabled", "false"),
+
+    /**
+     * Whether successful XML responses should be unmarshalled directly from the parser's event stream, instead of first being
+     * parsed into an intermediate tree. This reduces the memory allocated for large responses.
+     */
+    STREAMING_XML_UNMARSHALLING_ENABLED("aws.streamingXmlUnmarshallingEnabled", "false"),
+
     /**
      * The execution environment of the SDK user. This is automatically set in certain environments by the underlying AWS service.
      * For example, AWS Lambda will automatically specify a runtime indicating that the SDK is being used within Lambda.
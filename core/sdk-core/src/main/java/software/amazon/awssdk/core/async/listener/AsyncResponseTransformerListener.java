@@ -60,6 +60,9 @@ public interface AsyncResponseTransformerListener<ResponseT> extends PublisherLi
     static <ResponseT, ResultT> AsyncResponseTransformer<ResponseT, ResultT> wrap(
         AsyncResponseTransformer<ResponseT, ResultT> delegate,
         AsyncResponseTransformerListener<ResponseT> listener) {
+        if (delegate instanceof ListenerAwareAsyncResponseTransformer) {
+            return ((ListenerAwareAsyncResponseTransformer<ResponseT, ResultT>) delegate).wrapWithListener(listener);
+        }
         return new NotifyingAsyncResponseTransformer<>(delegate, listener);
     }
 
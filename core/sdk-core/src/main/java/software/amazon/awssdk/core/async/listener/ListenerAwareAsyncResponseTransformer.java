@@ -0,0 +1,37 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.async.listener;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+
+/**
+ * An {@link AsyncResponseTransformer} that creates its own wrapper when it is wrapped by
+ * {@link AsyncResponseTransformerListener#wrap}, so that the wrapper keeps the capabilities of the transformer that a plain
+ * {@link AsyncResponseTransformer} would hide.
+ *
+ * @param <ResponseT> Response POJO type.
+ * @param <ResultT> Type this transformer produces.
+ */
+@SdkProtectedApi
+public interface ListenerAwareAsyncResponseTransformer<ResponseT, ResultT> extends AsyncResponseTransformer<ResponseT, ResultT> {
+
+    /**
+     * Wrap this transformer with a new one that will notify a {@link AsyncResponseTransformerListener} of important events
+     * occurring.
+     */
+    AsyncResponseTransformer<ResponseT, ResultT> wrapWithListener(AsyncResponseTransformerListener<ResponseT> listener);
+}
@@ -18,6 +18,7 @@ package software.amazon.awssdk.core.client.builder;
 import static software.amazon.awssdk.core.ClientType.ASYNC;
 import static software.amazon.awssdk.core.ClientType.SYNC;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.PREWARM_CONNECTIONS;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ADDITIONAL_HTTP_HEADERS;
@@ -33,6 +34,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGUR
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_SYNC_HTTP_CLIENT_BUILDER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.DEFAULT_RETRY_MODE;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.ENDPOINT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.HTTP_CLIENT_CONFIG;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.IDENTITY_PROVIDERS;
@@ -97,6 +99,7 @@ import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.AttributeMap.LazyValueSource;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.OptionalUtils;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
@@ -121,6 +124,8 @@ import software.amazon.awssdk.utils.Validate;
 @SdkProtectedApi
 public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>, C> implements SdkClientBuilder<B, C> {
 
+    private static final Logger log = Logger.loggerFor(SdkDefaultClientBuilder.class);
+
     private static final SdkHttpClient.Builder DEFAULT_HTTP_CLIENT_BUILDER = new DefaultSdkHttpClientBuilder();
     private static final SdkAsyncHttpClient.Builder DEFAULT_ASYNC_HTTP_CLIENT_BUILDER = new DefaultSdkAsyncHttpClientBuilder();
 
@@ -192,6 +197,9 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         // Invoke the plugins
         configuration = invokePlugins(configuration);
 
+        // Open connections ahead of the first request, if configured
+        prewarmConnections(configuration);
+
         return configuration;
     }
 
@@ -223,6 +231,9 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         // Invoke the plugins
         configuration = invokePlugins(configuration);
 
+        // Open connections ahead of the first request, if configured
+        prewarmConnections(configuration);
+
         return configuration;
     }
 
@@ -312,6 +323,29 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
                      .build();
     }
 
+    /**
+     * Open the number of connections configured by {@code PREWARM_CONNECTIONS} to the client's endpoint, and wait for them to
+     * open.
+     */
+    private void prewarmConnections(SdkClientConfiguration config) {
+        Integer connections = config.option(PREWARM_CONNECTIONS);
+        URI endpoint = config.option(ENDPOINT);
+        if (connections == null || endpoint == null) {
+            return;
+        }
+
+        Validate.isPositive(connections, "PREWARM_CONNECTIONS");
+        try {
+            CompletableFuture<Void> prewarmFuture = config.option(CLIENT_TYPE) == ASYNC
+                                                    ? config.option(ASYNC_HTTP_CLIENT).prewarm(endpoint, connections)
+                                                    : config.option(SYNC_HTTP_CLIENT).prewarm(endpoint, connections);
+            prewarmFuture.join();
+        } catch (RuntimeException e) {
+            log.warn(() -> "Unable to open " + connections + " connections to " + endpoint + " ahead of time. Connections "
+                           + "will be opened by the first requests instead.", e);
+        }
+    }
+
     private CompressionConfiguration resolveCompressionConfiguration(LazyValueSource config) {
         CompressionConfiguration compressionConfig = config.get(CONFIGURED_COMPRESSION_CONFIGURATION);
         return compressionConfig.toBuilder()
@@ -605,6 +639,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
             return delegate.prepareRequest(request);
         }
 
+        @Override
+        public CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+            return delegate.prewarm(endpoint, connections);
+        }
+
         @Override
         public void close() {
             // Do nothing, this client is managed by the customer.
@@ -634,6 +673,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
             return delegate.execute(request);
         }
 
+        @Override
+        public CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+            return delegate.prewarm(endpoint, connections);
+        }
+
         @Override
         public String clientName() {
             return delegate.clientName();
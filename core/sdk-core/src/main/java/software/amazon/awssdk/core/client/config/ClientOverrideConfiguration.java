@@ -21,10 +21,12 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.ADDITION
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_ATTEMPT_TIMEOUT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_TIMEOUT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.COMPRESSION_CONFIGURATION;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.CONCURRENCY_LIMIT_CONFIGURATION;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_COMPRESSION_CONFIGURATION;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_ATTRIBUTES;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.HEDGING_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.METRIC_PUBLISHERS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_FILE_SUPPLIER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_NAME;
@@ -49,11 +51,13 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ToBuilderIgnoreField;
 import software.amazon.awssdk.core.CompressionConfiguration;
+import software.amazon.awssdk.core.ConcurrencyLimitConfiguration;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.SdkPlugin;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
@@ -107,6 +111,8 @@ public final class ClientOverrideConfiguration
         options.add(CONFIGURED_COMPRESSION_CONFIGURATION);
         options.add(CONFIGURED_SCHEDULED_EXECUTOR_SERVICE);
         options.add(RETRY_POLICY);
+        options.add(HEDGING_POLICY);
+        options.add(CONCURRENCY_LIMIT_CONFIGURATION);
         options.add(API_CALL_TIMEOUT);
         options.add(API_CALL_ATTEMPT_TIMEOUT);
         options.add(PROFILE_FILE_SUPPLIER);
@@ -205,6 +211,24 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(config.option(RETRY_POLICY));
     }
 
+    /**
+     * The optional hedging policy that should be used for latency-critical operations of an asynchronous client.
+     *
+     * @see Builder#hedgingPolicy(HedgingPolicy)
+     */
+    public Optional<HedgingPolicy> hedgingPolicy() {
+        return Optional.ofNullable(config.option(HEDGING_POLICY));
+    }
+
+    /**
+     * The optional adaptive concurrency limit of an asynchronous client.
+     *
+     * @see Builder#concurrencyLimitConfiguration(ConcurrencyLimitConfiguration)
+     */
+    public Optional<ConcurrencyLimitConfiguration> concurrencyLimitConfiguration() {
+        return Optional.ofNullable(config.option(CONCURRENCY_LIMIT_CONFIGURATION));
+    }
+
     /**
      * Load the optional requested advanced option that was configured on the client builder.
      *
@@ -346,6 +370,8 @@ public final class ClientOverrideConfiguration
         return ToString.builder("ClientOverrideConfiguration")
                        .add("headers", headers())
                        .add("retryPolicy", retryPolicy().orElse(null))
+                       .add("hedgingPolicy", hedgingPolicy().orElse(null))
+                       .add("concurrencyLimitConfiguration", concurrencyLimitConfiguration().orElse(null))
                        .add("apiCallTimeout", apiCallTimeout().orElse(null))
                        .add("apiCallAttemptTimeout", apiCallAttemptTimeout().orElse(null))
                        .add("executionInterceptors", executionInterceptors())
@@ -435,6 +461,45 @@ public final class ClientOverrideConfiguration
 
         RetryPolicy retryPolicy();
 
+        /**
+         * Configure the hedging policy that should be used for latency-critical operations. Calls to the operations of the
+         * policy are sent a second time when they have not completed after the hedge delay, and the first response is used.
+         * This is only supported by asynchronous clients, and is ignored by synchronous clients.
+         *
+         * @see ClientOverrideConfiguration#hedgingPolicy()
+         */
+        Builder hedgingPolicy(HedgingPolicy hedgingPolicy);
+
+        /**
+         * Configure the hedging policy that should be used for latency-critical operations.
+         */
+        default Builder hedgingPolicy(Consumer<HedgingPolicy.Builder> hedgingPolicy) {
+            return hedgingPolicy(HedgingPolicy.builder().applyMutation(hedgingPolicy).build());
+        }
+
+        HedgingPolicy hedgingPolicy();
+
+        /**
+         * Configure an adaptive limit on the number of request attempts in flight to each endpoint. The limit adapts to the
+         * latency and errors of the requests, and requests over the limit wait for a request in flight to complete. This is
+         * only supported by asynchronous clients, and is ignored by synchronous clients.
+         *
+         * @see ClientOverrideConfiguration#concurrencyLimitConfiguration()
+         */
+        Builder concurrencyLimitConfiguration(ConcurrencyLimitConfiguration concurrencyLimitConfiguration);
+
+        /**
+         * Configure an adaptive limit on the number of request attempts in flight to each endpoint.
+         */
+        default Builder concurrencyLimitConfiguration(
+            Consumer<ConcurrencyLimitConfiguration.Builder> concurrencyLimitConfiguration) {
+            return concurrencyLimitConfiguration(ConcurrencyLimitConfiguration.builder()
+                                                                              .applyMutation(concurrencyLimitConfiguration)
+                                                                              .build());
+        }
+
+        ConcurrencyLimitConfiguration concurrencyLimitConfiguration();
+
         /**
          * Configure a list of execution interceptors that will have access to read and modify the request and response objcets as
          * they are processed by the SDK. These will replace any interceptors configured previously with this method or
@@ -734,6 +799,36 @@ public final class ClientOverrideConfiguration
             return config.option(RETRY_POLICY);
         }
 
+        @Override
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            config.option(HEDGING_POLICY, hedgingPolicy);
+            return this;
+        }
+
+        public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+            hedgingPolicy(hedgingPolicy);
+        }
+
+        @Override
+        public HedgingPolicy hedgingPolicy() {
+            return config.option(HEDGING_POLICY);
+        }
+
+        @Override
+        public Builder concurrencyLimitConfiguration(ConcurrencyLimitConfiguration concurrencyLimitConfiguration) {
+            config.option(CONCURRENCY_LIMIT_CONFIGURATION, concurrencyLimitConfiguration);
+            return this;
+        }
+
+        public void setConcurrencyLimitConfiguration(ConcurrencyLimitConfiguration concurrencyLimitConfiguration) {
+            concurrencyLimitConfiguration(concurrencyLimitConfiguration);
+        }
+
+        @Override
+        public ConcurrencyLimitConfiguration concurrencyLimitConfiguration() {
+            return config.option(CONCURRENCY_LIMIT_CONFIGURATION);
+        }
+
         @Override
         public Builder executionInterceptors(List<ExecutionInterceptor> executionInterceptors) {
             Validate.paramNotNull(executionInterceptors, "executionInterceptors");
@@ -45,6 +45,9 @@ public final class SdkAdvancedAsyncClientOption<T> extends ClientOption<T> {
      *     <li>You want more fine-grained control over the {@link ThreadPoolExecutor} used, such as configuring the pool size
      *     or sharing a single pool between multiple clients.
      *     <li>You want to add instrumentation (i.e., metrics) around how the {@link Executor} is used.
+     *     <li>You want future completions, and any blocking work chained onto them, to run on virtual threads. On Java 21 or
+     *     later, {@code Executors.newVirtualThreadPerTaskExecutor()} may be used here. The SDK does not shut down an executor
+     *     configured here, so it should be closed by the caller once the client is closed.
      * </ol>
      * <b>WARNING</b>
      * <p>
@@ -64,6 +64,26 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * The maximum number of resolved endpoints to cache for the client, keyed on the endpoint parameters of the request.
+     * Resolving an endpoint evaluates the endpoint rules of the service, while the parameters are the same for nearly every
+     * request of a client. Only endpoints resolved by the default endpoint provider of the service are cached.
+     *
+     * By default, no endpoints are cached.
+     */
+    public static final SdkAdvancedClientOption<Integer> ENDPOINT_RESOLUTION_CACHE_SIZE =
+        new SdkAdvancedClientOption<>(Integer.class);
+
+    /**
+     * The number of connections to open to the client's endpoint when the client is built, before it sends any request. This
+     * moves the cost of the TCP and TLS handshakes out of the first requests, for example right after a deployment. Building
+     * the client waits for the connections to open, and a failure to open them is logged rather than failing the build.
+     *
+     * The connections are only opened if the HTTP client supports it, see {@code SdkHttpClient#prewarm}. By default, no
+     * connections are opened ahead of time.
+     */
+    public static final SdkAdvancedClientOption<Integer> PREWARM_CONNECTIONS = new SdkAdvancedClientOption<>(Integer.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
         OPTIONS.add(this);
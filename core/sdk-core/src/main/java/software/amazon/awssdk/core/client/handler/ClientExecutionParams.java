@@ -238,4 +238,30 @@ public final class ClientExecutionParams<InputT extends SdkRequest, OutputT> {
         this.requestConfiguration = requestConfiguration;
         return this;
     }
+
+    /**
+     * Create a copy of these parameters with a copy of their execution attributes, so that the API call can be executed a
+     * second time without sharing the attributes that are modified during an execution.
+     */
+    public ClientExecutionParams<InputT, OutputT> copy() {
+        ClientExecutionParams<InputT, OutputT> copy = new ClientExecutionParams<>();
+        copy.input = input;
+        copy.requestBody = requestBody;
+        copy.asyncRequestBody = asyncRequestBody;
+        copy.marshaller = marshaller;
+        copy.responseHandler = responseHandler;
+        copy.errorResponseHandler = errorResponseHandler;
+        copy.combinedResponseHandler = combinedResponseHandler;
+        copy.fullDuplex = fullDuplex;
+        copy.hasInitialRequestEvent = hasInitialRequestEvent;
+        copy.hostPrefixExpression = hostPrefixExpression;
+        copy.operationName = operationName;
+        copy.protocolMetadata = protocolMetadata;
+        copy.discoveredEndpoint = discoveredEndpoint;
+        copy.credentialType = credentialType;
+        copy.metricCollector = metricCollector;
+        copy.attributes.putAbsentAttributes(attributes);
+        copy.requestConfiguration = requestConfiguration;
+        return copy;
+    }
 }
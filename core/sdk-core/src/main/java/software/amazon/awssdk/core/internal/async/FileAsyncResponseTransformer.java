@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.OpenOption;
@@ -30,7 +31,9 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
@@ -48,10 +51,13 @@ import software.amazon.awssdk.utils.Logger;
 /**
  * {@link AsyncResponseTransformer} that writes the data to the specified file.
  *
+ * <p>Also supports writing the body as independently positioned parts, see {@link PositionalWriteAsyncResponseTransformer}.
+ *
  * @param <ResponseT> Response POJO type.
  */
 @SdkInternalApi
-public final class FileAsyncResponseTransformer<ResponseT> implements AsyncResponseTransformer<ResponseT, ResponseT> {
+public final class FileAsyncResponseTransformer<ResponseT>
+    implements PositionalWriteAsyncResponseTransformer<ResponseT, ResponseT> {
     private static final Logger log = Logger.loggerFor(FileAsyncResponseTransformer.class);
     private final Path path;
     private volatile AsynchronousFileChannel fileChannel;
@@ -60,6 +66,12 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     private final long position;
     private final FileTransformerConfiguration configuration;
 
+    // Only used by positional writes: the end of the parts written without a gap from the start of the body, and the
+    // parts written after a gap, by their start.
+    private final NavigableMap<Long, Long> writtenPartsAfterGap = new TreeMap<>();
+    private long contiguousWriteEnd;
+    private volatile boolean positionalWrite;
+
     public FileAsyncResponseTransformer(Path path) {
         this.path = path;
         this.configuration = FileTransformerConfiguration.defaultCreateNew();
@@ -136,6 +148,58 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         }
     }
 
+    @Override
+    public void startPositionalWrite() {
+        try {
+            this.fileChannel = createChannel(path);
+            // Only set once the channel is open, so that a file that could not be opened, such as an existing file with
+            // CREATE_NEW, is never truncated.
+            synchronized (this) {
+                this.positionalWrite = true;
+                this.contiguousWriteEnd = position;
+                this.writtenPartsAfterGap.clear();
+            }
+        } catch (Throwable e) {
+            exceptionOccurred(e);
+        }
+    }
+
+    @Override
+    public Subscriber<ByteBuffer> positionalWriteSubscriber(long partPosition, CompletableFuture<Void> writeFuture) {
+        long start = position + partPosition;
+        CompletableFuture<Void> partWriteFuture = new CompletableFuture<>();
+        // The channel is shared by all the parts, so it is only closed once all of them are written
+        FileSubscriber subscriber = new FileSubscriber(this.fileChannel, path, partWriteFuture,
+                                                       partWriteFuture::completeExceptionally, start, false);
+        partWriteFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                writeFuture.completeExceptionally(t);
+            } else {
+                partWritten(start, subscriber.position.get());
+                writeFuture.complete(null);
+            }
+        });
+        return subscriber;
+    }
+
+    private synchronized void partWritten(long start, long end) {
+        writtenPartsAfterGap.put(start, end);
+        Long nextEnd;
+        while ((nextEnd = writtenPartsAfterGap.remove(contiguousWriteEnd)) != null) {
+            contiguousWriteEnd = nextEnd;
+        }
+    }
+
+    @Override
+    public void completePositionalWrite() {
+        try {
+            invokeSafely(fileChannel::close);
+            cf.complete(null);
+        } catch (RuntimeException exception) {
+            exceptionOccurred(exception);
+        }
+    }
+
     @Override
     public void exceptionOccurred(Throwable throwable) {
         try {
@@ -149,11 +213,28 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                 runAndLogError(log.logger(),
                                String.format("Failed to delete the file %s", path),
                                () -> Files.deleteIfExists(path));
+            } else if (positionalWrite) {
+                // Parts are written out of order, so cut the file after the last byte that has no gap before it. Otherwise
+                // a download resumed from the size of the file would leave the unfinished parts as zero-filled holes.
+                runAndLogError(log.logger(),
+                               String.format("Failed to truncate the file %s", path),
+                               this::truncateAfterContiguousWrite);
             }
         }
         cf.completeExceptionally(throwable);
     }
 
+    private void truncateAfterContiguousWrite() throws IOException {
+        long size;
+        synchronized (this) {
+            size = contiguousWriteEnd;
+        }
+        // Closing the asynchronous channel waited for the writes in progress, so none of them can extend the file again.
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
     /**
      * {@link Subscriber} implementation that writes chunks to a file.
      */
@@ -163,6 +244,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         private final Path path;
         private final CompletableFuture<Void> future;
         private final Consumer<Throwable> onErrorMethod;
+        private final boolean closeChannelOnComplete;
 
         private volatile boolean writeInProgress = false;
         private volatile boolean closeOnLastWrite = false;
@@ -170,11 +252,17 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
         FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future,
                        Consumer<Throwable> onErrorMethod, long startingPosition) {
+            this(fileChannel, path, future, onErrorMethod, startingPosition, true);
+        }
+
+        FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future,
+                       Consumer<Throwable> onErrorMethod, long startingPosition, boolean closeChannelOnComplete) {
             this.fileChannel = fileChannel;
             this.path = path;
             this.future = future;
             this.onErrorMethod = onErrorMethod;
             this.position = new AtomicLong(startingPosition);
+            this.closeChannelOnComplete = closeChannelOnComplete;
         }
 
         @Override
@@ -246,7 +334,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
         private void close() {
             try {
-                if (fileChannel != null) {
+                if (fileChannel != null && closeChannelOnComplete) {
                     invokeSafely(fileChannel::close);
                 }
                 future.complete(null);
@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
+import software.amazon.awssdk.core.async.listener.PublisherListener;
+import software.amazon.awssdk.core.async.listener.SubscriberListener;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Notifies a {@link AsyncResponseTransformerListener} of the events of a {@link PositionalWriteAsyncResponseTransformer}, and
+ * keeps its positional write capability.
+ *
+ * <p>Only {@link AsyncResponseTransformerListener#subscriberOnNext(Object)} is forwarded for the individual parts, and the
+ * stream is treated as complete when the last part has been written. A part that is retried only reports the bytes beyond
+ * those its failed attempts already reported, so every byte of the body is reported once.
+ */
+@SdkInternalApi
+public final class NotifyingPositionalWriteAsyncResponseTransformer<ResponseT, ResultT>
+    implements PositionalWriteAsyncResponseTransformer<ResponseT, ResultT> {
+    private static final Logger log = Logger.loggerFor(NotifyingPositionalWriteAsyncResponseTransformer.class);
+
+    private final PositionalWriteAsyncResponseTransformer<ResponseT, ResultT> delegate;
+    private final AsyncResponseTransformerListener<ResponseT> listener;
+    private final Map<Long, AtomicLong> reportedBytesByPosition = new ConcurrentHashMap<>();
+
+    NotifyingPositionalWriteAsyncResponseTransformer(PositionalWriteAsyncResponseTransformer<ResponseT, ResultT> delegate,
+                                                     AsyncResponseTransformerListener<ResponseT> listener) {
+        this.delegate = Validate.notNull(delegate, "delegate");
+        this.listener = Validate.notNull(listener, "listener");
+    }
+
+    @Override
+    public CompletableFuture<ResultT> prepare() {
+        return delegate.prepare();
+    }
+
+    @Override
+    public void onResponse(ResponseT response) {
+        invoke(() -> listener.transformerOnResponse(response), "transformerOnResponse");
+        delegate.onResponse(response);
+    }
+
+    @Override
+    public void onStream(SdkPublisher<ByteBuffer> publisher) {
+        invoke(() -> listener.transformerOnStream(publisher), "transformerOnStream");
+        delegate.onStream(PublisherListener.wrap(publisher, listener));
+    }
+
+    @Override
+    public void exceptionOccurred(Throwable error) {
+        invoke(() -> listener.transformerExceptionOccurred(error), "transformerExceptionOccurred");
+        delegate.exceptionOccurred(error);
+    }
+
+    @Override
+    public void startPositionalWrite() {
+        delegate.startPositionalWrite();
+    }
+
+    @Override
+    public Subscriber<ByteBuffer> positionalWriteSubscriber(long position, CompletableFuture<Void> writeFuture) {
+        AtomicLong reportedBytes = reportedBytesByPosition.computeIfAbsent(position, p -> new AtomicLong());
+        SubscriberListener<ByteBuffer> partListener = new SubscriberListener<ByteBuffer>() {
+            // Reset for every attempt, because every attempt writes the part from its start.
+            private long receivedBytes;
+
+            @Override
+            public void subscriberOnNext(ByteBuffer byteBuffer) {
+                int size = byteBuffer.remaining();
+                receivedBytes += size;
+                long previouslyReported = reportedBytes.getAndAccumulate(receivedBytes, Math::max);
+                long newBytes = Math.min(size, receivedBytes - previouslyReported);
+                if (newBytes > 0) {
+                    ByteBuffer newContent = byteBuffer.duplicate();
+                    newContent.position(newContent.limit() - (int) newBytes);
+                    listener.subscriberOnNext(newContent.slice());
+                }
+            }
+        };
+        return SubscriberListener.wrap(delegate.positionalWriteSubscriber(position, writeFuture), partListener);
+    }
+
+    @Override
+    public void completePositionalWrite() {
+        delegate.completePositionalWrite();
+        invoke(listener::subscriberOnComplete, "subscriberOnComplete");
+    }
+
+    private static void invoke(Runnable runnable, String callbackName) {
+        try {
+            runnable.run();
+        } catch (Exception e) {
+            log.error(() -> callbackName + " callback failed. This exception will be dropped.", e);
+        }
+    }
+}
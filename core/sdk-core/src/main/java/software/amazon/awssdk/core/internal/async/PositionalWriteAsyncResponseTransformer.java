@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
+import software.amazon.awssdk.core.async.listener.ListenerAwareAsyncResponseTransformer;
+
+/**
+ * An {@link AsyncResponseTransformer} that can accept the response body as independent parts, each written at its own
+ * position, instead of as a single ordered stream. This allows multipart downloads to write parts as they arrive, in any
+ * order, rather than re-sequencing them in memory.
+ *
+ * <p>The expected sequence of calls is:
+ * <ol>
+ *     <li>{@link #prepare()}</li>
+ *     <li>{@link #onResponse(Object)} with the response describing the whole body</li>
+ *     <li>{@link #startPositionalWrite()} instead of {@link #onStream(SdkPublisher)}</li>
+ *     <li>{@link #positionalWriteSubscriber(long, CompletableFuture)} for every part, possibly concurrently and more than
+ *     once for the same position if a part is retried</li>
+ *     <li>{@link #completePositionalWrite()} once every part has been written, or {@link #exceptionOccurred(Throwable)}
+ *     if any part failed</li>
+ * </ol>
+ *
+ * @param <ResponseT> Response POJO type.
+ * @param <ResultT> Type this transformer produces.
+ */
+@SdkInternalApi
+public interface PositionalWriteAsyncResponseTransformer<ResponseT, ResultT>
+    extends ListenerAwareAsyncResponseTransformer<ResponseT, ResultT> {
+
+    /**
+     * Acquire any resources needed to write the parts of the body. Called once, in place of
+     * {@link #onStream(SdkPublisher)}.
+     */
+    void startPositionalWrite();
+
+    /**
+     * Create a {@link Subscriber} that writes the content it receives starting at the given position, relative to the start
+     * of the body.
+     *
+     * @param position the position of the first byte received by the subscriber.
+     * @param writeFuture completed once all the received content has been written, or exceptionally if it could not be.
+     */
+    Subscriber<ByteBuffer> positionalWriteSubscriber(long position, CompletableFuture<Void> writeFuture);
+
+    /**
+     * Release the resources acquired by {@link #startPositionalWrite()} and complete the future returned by
+     * {@link #prepare()}. Called once every part has been written.
+     */
+    void completePositionalWrite();
+
+    /**
+     * Wrap this transformer with one that keeps its positional write capability, and reports the bytes written by the parts
+     * to the listener.
+     */
+    @Override
+    default AsyncResponseTransformer<ResponseT, ResultT> wrapWithListener(AsyncResponseTransformerListener<ResponseT> listener) {
+        return new NotifyingPositionalWriteAsyncResponseTransformer<>(this, listener);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.capacity;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.ConcurrencyLimitConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Limits the number of requests in flight to an endpoint, adapting the limit to the latency and outcome of the requests with a
+ * {@link ConcurrencyLimitAlgorithm}. Requests over the limit wait, in order, for a request in flight to complete, and fail
+ * when the configured maximum number of requests is already waiting.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class AdaptiveConcurrencyLimiter {
+    private final ConcurrencyLimitAlgorithm algorithm;
+    private final int maxPendingAcquires;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Queue<CompletableFuture<Permit>> waiters = new ConcurrentLinkedQueue<>();
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitConfiguration configuration) {
+        this(configuration, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    AdaptiveConcurrencyLimiter(ConcurrencyLimitConfiguration configuration, LongSupplier nanoClock) {
+        this.algorithm = ConcurrencyLimitAlgorithm.create(configuration);
+        this.maxPendingAcquires = configuration.maxPendingAcquires();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Acquire a permit to send a request. The returned future is already completed when the limit is not reached. Otherwise,
+     * it completes when a request in flight completes, or fails with an {@link SdkClientException} if too many requests are
+     * already waiting. Cancelling the returned future gives up the place in the queue.
+     */
+    public CompletableFuture<Permit> acquire() {
+        if (waiters.isEmpty() && tryReserve()) {
+            return CompletableFuture.completedFuture(new Permit());
+        }
+
+        if (pending.incrementAndGet() > maxPendingAcquires) {
+            pending.decrementAndGet();
+            return CompletableFutureUtils.failedFuture(
+                SdkClientException.create("Unable to send the request: the concurrency limit of " + algorithm.limit()
+                                          + " requests is reached, and " + maxPendingAcquires
+                                          + " requests are already waiting for it."));
+        }
+
+        CompletableFuture<Permit> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        waiter.whenComplete((r, t) -> {
+            if (waiter.isCancelled() && waiters.remove(waiter)) {
+                pending.decrementAndGet();
+            }
+        });
+        drain();
+        return waiter;
+    }
+
+    /**
+     * The current limit.
+     */
+    public int limit() {
+        return algorithm.limit();
+    }
+
+    /**
+     * The number of permits currently held.
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * The number of requests currently waiting for a permit.
+     */
+    public int pending() {
+        return pending.get();
+    }
+
+    /**
+     * Whether no permit is held and no request is waiting for one.
+     */
+    public boolean isIdle() {
+        return inFlight.get() == 0 && pending.get() == 0;
+    }
+
+    private boolean tryReserve() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= algorithm.limit()) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Hand permits to the waiters while the limit allows it. This is called after every change that can free a permit or
+     * add a waiter, so a waiter is never left in the queue while a permit is available.
+     */
+    private void drain() {
+        while (!waiters.isEmpty() && tryReserve()) {
+            CompletableFuture<Permit> waiter = waiters.poll();
+            if (waiter == null) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            pending.decrementAndGet();
+            if (!waiter.complete(new Permit())) {
+                // The waiter was cancelled.
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * A permit to send one request, which must be released exactly once when the request completes. Further releases are
+     * ignored.
+     */
+    public final class Permit {
+        private final long startNanos = nanoClock.getAsLong();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        /**
+         * Release the permit, and update the limit with the latency of the request.
+         *
+         * @param dropped Whether the request was throttled, failed with a server error or timed out.
+         */
+        public void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                algorithm.onSample(nanoClock.getAsLong() - startNanos, inFlight.get(), dropped);
+                inFlight.decrementAndGet();
+                drain();
+            }
+        }
+
+        /**
+         * Release the permit without updating the limit, for requests whose outcome says nothing about the endpoint, such as
+         * cancelled requests.
+         */
+        public void ignore() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                drain();
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.capacity;
+
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.ConcurrencyLimitConfiguration;
+
+/**
+ * Computes the concurrency limit of an {@link AdaptiveConcurrencyLimiter} from the latency and outcome of the requests that
+ * completed under it.
+ */
+@SdkInternalApi
+@ThreadSafe
+abstract class ConcurrencyLimitAlgorithm {
+    /**
+     * The factor by which the limit is multiplied when a request is dropped, that is throttled, failed with a server error or
+     * timed out.
+     */
+    private static final double DECREASE_FACTOR = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private volatile int limit;
+
+    private ConcurrencyLimitAlgorithm(ConcurrencyLimitConfiguration configuration) {
+        this.minLimit = configuration.minLimit();
+        this.maxLimit = configuration.maxLimit();
+        this.limit = configuration.initialLimit();
+    }
+
+    static ConcurrencyLimitAlgorithm create(ConcurrencyLimitConfiguration configuration) {
+        switch (configuration.algorithm()) {
+            case AIMD:
+                return new Aimd(configuration);
+            case GRADIENT:
+                return new Gradient(configuration);
+            default:
+                throw new IllegalArgumentException("Unsupported concurrency limit algorithm: " + configuration.algorithm());
+        }
+    }
+
+    /**
+     * The current limit.
+     */
+    int limit() {
+        return limit;
+    }
+
+    /**
+     * Update the limit after a request completed.
+     *
+     * @param latencyNanos The time the request took.
+     * @param inFlight The number of requests in flight when the request completed, including this one.
+     * @param dropped Whether the request was throttled, failed with a server error or timed out.
+     */
+    abstract void onSample(long latencyNanos, int inFlight, boolean dropped);
+
+    /**
+     * Set the limit, bounded by the configured minimum and maximum.
+     */
+    final void limit(double newLimit) {
+        this.limit = (int) bound(newLimit);
+    }
+
+    /**
+     * Bound a value by the configured minimum and maximum limits.
+     */
+    final double bound(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    /**
+     * Additive increase, multiplicative decrease: grow the limit by one after each successful request made while at least half
+     * of the limit was in use, and shrink it after each dropped request.
+     */
+    private static final class Aimd extends ConcurrencyLimitAlgorithm {
+        private Aimd(ConcurrencyLimitConfiguration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        synchronized void onSample(long latencyNanos, int inFlight, boolean dropped) {
+            int current = limit();
+            if (dropped) {
+                limit(current * DECREASE_FACTOR);
+            } else if (inFlight * 2 >= current) {
+                limit(current + 1);
+            }
+        }
+    }
+
+    /**
+     * Follow the ratio of the long-term average latency to the latency of each request: the limit shrinks as soon as latency
+     * rises above its usual level, and grows by a queue allowance of the square root of the limit while it does not.
+     */
+    private static final class Gradient extends ConcurrencyLimitAlgorithm {
+        /**
+         * The number of samples over which the long-term latency is averaged.
+         */
+        private static final int LONG_WINDOW = 100;
+
+        /**
+         * How much higher than the long-term latency the latency of a request can be before the limit shrinks.
+         */
+        private static final double TOLERANCE = 1.5;
+
+        /**
+         * The weight of each new limit against the previous one.
+         */
+        private static final double SMOOTHING = 0.2;
+
+        private static final long MIN_LATENCY_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+
+        private double estimatedLimit;
+        private double longLatencyNanos;
+
+        private Gradient(ConcurrencyLimitConfiguration configuration) {
+            super(configuration);
+            this.estimatedLimit = configuration.initialLimit();
+        }
+
+        @Override
+        synchronized void onSample(long latencyNanos, int inFlight, boolean dropped) {
+            if (dropped) {
+                estimatedLimit = estimatedLimit * DECREASE_FACTOR;
+                update();
+                return;
+            }
+
+            double latency = Math.max(latencyNanos, MIN_LATENCY_NANOS);
+            if (longLatencyNanos == 0) {
+                longLatencyNanos = latency;
+            } else {
+                longLatencyNanos += (latency - longLatencyNanos) / LONG_WINDOW;
+            }
+
+            // Let the long-term latency recover quickly after a period of high latency.
+            if (longLatencyNanos / latency > 2) {
+                longLatencyNanos *= 0.95;
+            }
+
+            // The limit is not what held back a client that is using less than half of it.
+            if (inFlight * 2 < estimatedLimit) {
+                return;
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longLatencyNanos / latency));
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            estimatedLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+            update();
+        }
+
+        private void update() {
+            estimatedLimit = bound(estimatedLimit);
+            limit(estimatedLimit);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.capacity;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.ConcurrencyLimitConfiguration;
+import software.amazon.awssdk.http.SdkHttpRequest;
+
+/**
+ * The {@link AdaptiveConcurrencyLimiter}s of a client, one for each endpoint the client sends requests to. Once the client has
+ * sent requests to {@link #MAX_ENDPOINTS} endpoints, the limiters of the endpoints without requests in flight are forgotten
+ * before a new one is added, so that a client sending requests to many hosts, such as the virtual hosts of S3 buckets, does
+ * not keep a limiter for each of them.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ConcurrencyLimiters {
+    static final int MAX_ENDPOINTS = 64;
+
+    private final ConcurrencyLimitConfiguration configuration;
+    private final ConcurrentMap<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiters(ConcurrencyLimitConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * The limiter of the endpoint the request is sent to.
+     */
+    public AdaptiveConcurrencyLimiter limiterFor(SdkHttpRequest request) {
+        String endpoint = request.protocol() + "://" + request.host() + ":" + request.port();
+        AdaptiveConcurrencyLimiter limiter = limiters.get(endpoint);
+        if (limiter != null) {
+            return limiter;
+        }
+
+        if (limiters.size() >= MAX_ENDPOINTS) {
+            // A request that looked up one of these limiters just before it is removed still uses it, so the endpoint may
+            // briefly have two limiters. The limiter of an idle endpoint only holds what it learned about the endpoint.
+            limiters.values().removeIf(AdaptiveConcurrencyLimiter::isIdle);
+        }
+        return limiters.computeIfAbsent(endpoint, e -> new AdaptiveConcurrencyLimiter(configuration));
+    }
+}
@@ -28,6 +28,7 @@ import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.handler.AsyncClientHandler;
 import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
 import software.amazon.awssdk.core.exception.SdkException;
@@ -44,8 +45,10 @@ import software.amazon.awssdk.core.internal.http.async.AsyncAfterTransmissionInt
 import software.amazon.awssdk.core.internal.http.async.AsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.AsyncStreamingResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.CombinedResponseAsyncHttpResponseHandler;
+import software.amazon.awssdk.core.internal.retry.AsyncHedger;
 import software.amazon.awssdk.core.internal.util.ThrowableUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -58,12 +61,17 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
     private static final Logger log = Logger.loggerFor(BaseAsyncClientHandler.class);
     private final AmazonAsyncHttpClient client;
     private final Function<SdkHttpFullResponse, SdkHttpFullResponse> crc32Validator;
+    private final AsyncHedger hedger;
 
     protected BaseAsyncClientHandler(SdkClientConfiguration clientConfiguration,
                                      AmazonAsyncHttpClient client) {
         super(clientConfiguration);
         this.client = client;
         this.crc32Validator = response -> Crc32Validation.validate(isCalculateCrc32FromCompressedData(), response);
+        HedgingPolicy hedgingPolicy = clientConfiguration.option(SdkClientOption.HEDGING_POLICY);
+        this.hedger = hedgingPolicy == null
+                      ? null
+                      : new AsyncHedger(hedgingPolicy, clientConfiguration.option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE));
     }
 
     @Override
@@ -71,13 +79,10 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
         ClientExecutionParams<InputT, OutputT> executionParams) {
 
         return measureApiCallSuccess(executionParams, () -> {
-            // Running beforeExecution interceptors and modifyRequest interceptors.
-            ExecutionContext executionContext = invokeInterceptorsAndCreateExecutionContext(executionParams);
-
-            TransformingAsyncResponseHandler<Response<OutputT>> combinedResponseHandler =
-                createCombinedResponseHandler(executionParams, executionContext);
-
-            return doExecute(executionParams, executionContext, combinedResponseHandler);
+            if (isHedged(executionParams)) {
+                return executeHedged(executionParams);
+            }
+            return executeOnce(executionParams);
         });
     }
 
@@ -130,6 +135,44 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
         });
     }
 
+    private <InputT extends SdkRequest, OutputT extends SdkResponse> CompletableFuture<OutputT> executeOnce(
+        ClientExecutionParams<InputT, OutputT> executionParams) {
+
+        // Running beforeExecution interceptors and modifyRequest interceptors.
+        ExecutionContext executionContext = invokeInterceptorsAndCreateExecutionContext(executionParams);
+
+        TransformingAsyncResponseHandler<Response<OutputT>> combinedResponseHandler =
+            createCombinedResponseHandler(executionParams, executionContext);
+
+        return doExecute(executionParams, executionContext, combinedResponseHandler);
+    }
+
+    /**
+     * Calls with a streaming request body are never hedged, because the body can only be sent once.
+     */
+    private boolean isHedged(ClientExecutionParams<?, ?> executionParams) {
+        return hedger != null
+               && executionParams.getAsyncRequestBody() == null
+               && hedger.isHedged(executionParams.getOperationName());
+    }
+
+    private <InputT extends SdkRequest, OutputT extends SdkResponse> CompletableFuture<OutputT> executeHedged(
+        ClientExecutionParams<InputT, OutputT> executionParams) {
+
+        // The hedged call gets its own copy of the parameters before the call is sent, because the execution attributes are
+        // modified while a call is executed. Its metrics are reported in a child collection of the API call.
+        ClientExecutionParams<InputT, OutputT> hedgedParams = executionParams.copy();
+        MetricCollector metricCollector = executionParams.getMetricCollector();
+        if (metricCollector != null) {
+            hedgedParams.withMetricCollector(metricCollector.createChild("HedgedApiCall"));
+        }
+
+        return hedger.execute(executionParams.getOperationName(),
+                              metricCollector,
+                              () -> executeOnce(executionParams),
+                              () -> executeOnce(hedgedParams));
+    }
+
     private <InputT extends SdkRequest, OutputT extends SdkResponse> TransformingAsyncResponseHandler<Response<OutputT>>
         createCombinedResponseHandler(ClientExecutionParams<InputT, OutputT> executionParams,
                                       ExecutionContext executionContext) {
@@ -19,10 +19,16 @@ import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.ConcurrencyLimitConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.internal.capacity.ConcurrencyLimiters;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
+import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
@@ -37,11 +43,20 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     private final SdkClientTime sdkClientTime;
     private final ClockSkewAdjuster clockSkewAdjuster;
     private final SdkClientConfiguration clientConfiguration;
+    private final RateLimitingTokenBucket rateLimitingTokenBucket;
+    private final String sharedRateLimitingScope;
+    private final ConcurrencyLimiters concurrencyLimiters;
 
     private HttpClientDependencies(Builder builder) {
         this.sdkClientTime = builder.sdkClientTime != null ? builder.sdkClientTime : new SdkClientTime();
         this.clockSkewAdjuster = builder.clockSkewAdjuster != null ? builder.clockSkewAdjuster : new ClockSkewAdjuster();
         this.clientConfiguration = paramNotNull(builder.clientConfiguration, "ClientConfiguration");
+        // Copies made with toBuilder() use the bucket of the original, which releases it when it is closed.
+        this.sharedRateLimitingScope = builder.rateLimitingTokenBucket != null ? null : resolveSharedRateLimitingScope();
+        this.rateLimitingTokenBucket = builder.rateLimitingTokenBucket != null ? builder.rateLimitingTokenBucket
+                                                                               : resolveRateLimitingTokenBucket();
+        this.concurrencyLimiters = builder.concurrencyLimiters != null ? builder.concurrencyLimiters
+                                                                       : resolveConcurrencyLimiters();
     }
 
     public static Builder builder() {
@@ -59,6 +74,21 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return clockSkewAdjuster;
     }
 
+    /**
+     * @return The rate limiter used by the {@code ADAPTIVE} retry mode for this client. This is shared with the other clients
+     * of the same service and endpoint when {@link RetryPolicy#isSharedRateLimiting()} is enabled.
+     */
+    public RateLimitingTokenBucket rateLimitingTokenBucket() {
+        return rateLimitingTokenBucket;
+    }
+
+    /**
+     * @return The adaptive concurrency limiters of this client, or null if no concurrency limit is configured.
+     */
+    public ConcurrencyLimiters concurrencyLimiters() {
+        return concurrencyLimiters;
+    }
+
     /**
      * @return Current time offset. This is mutable and should not be cached.
      */
@@ -77,9 +107,34 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return new Builder(this);
     }
 
+    private String resolveSharedRateLimitingScope() {
+        RetryPolicy retryPolicy = clientConfiguration.option(SdkClientOption.RETRY_POLICY);
+        if (retryPolicy == null || !Boolean.TRUE.equals(retryPolicy.isSharedRateLimiting())) {
+            return null;
+        }
+        return clientConfiguration.option(SdkClientOption.SERVICE_NAME) + " "
+               + clientConfiguration.option(SdkClientOption.ENDPOINT);
+    }
+
+    private RateLimitingTokenBucket resolveRateLimitingTokenBucket() {
+        if (sharedRateLimitingScope == null) {
+            return new RateLimitingTokenBucket();
+        }
+        return RateLimitingTokenBucket.acquireShared(sharedRateLimitingScope);
+    }
+
+    private ConcurrencyLimiters resolveConcurrencyLimiters() {
+        ConcurrencyLimitConfiguration configuration =
+            clientConfiguration.option(SdkClientOption.CONCURRENCY_LIMIT_CONFIGURATION);
+        return configuration == null ? null : new ConcurrencyLimiters(configuration);
+    }
+
     @Override
     public void close() {
         this.clientConfiguration.close();
+        if (sharedRateLimitingScope != null) {
+            RateLimitingTokenBucket.releaseShared(sharedRateLimitingScope);
+        }
     }
 
     /**
@@ -89,6 +144,8 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         private SdkClientTime sdkClientTime;
         private ClockSkewAdjuster clockSkewAdjuster;
         private SdkClientConfiguration clientConfiguration;
+        private RateLimitingTokenBucket rateLimitingTokenBucket;
+        private ConcurrencyLimiters concurrencyLimiters;
 
         private Builder() {
         }
@@ -97,6 +154,8 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
             this.sdkClientTime = from.sdkClientTime;
             this.clientConfiguration = from.clientConfiguration;
             this.clockSkewAdjuster = from.clockSkewAdjuster;
+            this.rateLimitingTokenBucket = from.rateLimitingTokenBucket;
+            this.concurrencyLimiters = from.concurrencyLimiters;
         }
 
         public Builder clockSkewAdjuster(ClockSkewAdjuster clockSkewAdjuster) {
@@ -116,6 +175,12 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
             return this;
         }
 
+        @SdkTestInternalApi
+        public Builder rateLimitingTokenBucket(RateLimitingTokenBucket rateLimitingTokenBucket) {
+            this.rateLimitingTokenBucket = rateLimitingTokenBucket;
+            return this;
+        }
+
         public HttpClientDependencies build() {
             return new HttpClientDependencies(this);
         }
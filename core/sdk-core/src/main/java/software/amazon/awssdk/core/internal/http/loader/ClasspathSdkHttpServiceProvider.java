@@ -47,6 +47,7 @@ final class ClasspathSdkHttpServiceProvider<T> implements SdkHttpServiceProvider
         ImmutableMap.<String, Integer>builder()
                     .put("software.amazon.awssdk.http.nio.netty.NettySdkAsyncHttpService", 1)
                     .put("software.amazon.awssdk.http.crt.AwsCrtSdkHttpService", 2)
+                    .put("software.amazon.awssdk.http.jdk.JdkSdkAsyncHttpService", 3)
                     .build();
 
     private static final Logger log = Logger.loggerFor(ClasspathSdkHttpServiceProvider.class);
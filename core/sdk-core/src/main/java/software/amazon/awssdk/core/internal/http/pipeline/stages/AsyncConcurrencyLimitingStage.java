@@ -0,0 +1,172 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.internal.capacity.AdaptiveConcurrencyLimiter;
+import software.amazon.awssdk.core.internal.capacity.AdaptiveConcurrencyLimiter.Permit;
+import software.amazon.awssdk.core.internal.capacity.ConcurrencyLimiters;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.metrics.SdkErrorType;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Wrapper pipeline that holds a permit of the adaptive concurrency limiter of the endpoint for the duration of each attempt,
+ * when a concurrency limit is configured. Attempts over the limit wait for a permit, and are then sent from the client's
+ * scheduled executor so that the thread completing the previous attempt is not used to send the next one.
+ */
+@SdkInternalApi
+public final class AsyncConcurrencyLimitingStage<OutputT> implements RequestPipeline<SdkHttpFullRequest,
+    CompletableFuture<Response<OutputT>>> {
+
+    private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> wrapped;
+    private final ConcurrencyLimiters concurrencyLimiters;
+    private final ScheduledExecutorService scheduledExecutor;
+
+    public AsyncConcurrencyLimitingStage(HttpClientDependencies dependencies,
+                                         RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> wrapped) {
+        this.wrapped = wrapped;
+        this.concurrencyLimiters = dependencies.concurrencyLimiters();
+        this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+    }
+
+    @Override
+    public CompletableFuture<Response<OutputT>> execute(SdkHttpFullRequest input,
+                                                        RequestExecutionContext context) throws Exception {
+        if (concurrencyLimiters == null) {
+            return wrapped.execute(input, context);
+        }
+
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimiters.limiterFor(input);
+        CompletableFuture<Permit> permitFuture = limiter.acquire();
+        if (permitFuture.isDone() && !permitFuture.isCompletedExceptionally()) {
+            return executeWithPermit(permitFuture.join(), input, context);
+        }
+
+        CompletableFuture<Response<OutputT>> future = new CompletableFuture<>();
+        permitFuture.whenComplete((permit, t) -> {
+            if (t != null) {
+                future.completeExceptionally(t);
+                return;
+            }
+
+            try {
+                scheduledExecutor.execute(() -> {
+                    try {
+                        CompletableFuture<Response<OutputT>> responseFuture = executeWithPermit(permit, input, context);
+                        CompletableFutureUtils.forwardResultTo(responseFuture, future);
+                        CompletableFutureUtils.forwardExceptionTo(future, responseFuture);
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    }
+                });
+            } catch (Throwable e) {
+                permit.ignore();
+                future.completeExceptionally(e);
+            }
+        });
+        return CompletableFutureUtils.forwardExceptionTo(future, permitFuture);
+    }
+
+    private CompletableFuture<Response<OutputT>> executeWithPermit(Permit permit,
+                                                                   SdkHttpFullRequest input,
+                                                                   RequestExecutionContext context) throws Exception {
+        CompletableFuture<Response<OutputT>> executeFuture;
+        try {
+            executeFuture = wrapped.execute(input, context);
+        } catch (Throwable t) {
+            permit.ignore();
+            throw t;
+        }
+
+        // Release the permit before the caller sees the outcome. The returned future is not a dependent of the attempt's, so
+        // that the permit is still released when the caller cancels it: a dependent completed first skips its action.
+        CompletableFuture<Response<OutputT>> releasedFuture = new CompletableFuture<>();
+        executeFuture.whenComplete((r, t) -> {
+            release(permit, r, t);
+            if (t != null) {
+                releasedFuture.completeExceptionally(t);
+            } else {
+                releasedFuture.complete(r);
+            }
+        });
+        return CompletableFutureUtils.forwardExceptionTo(releasedFuture, executeFuture);
+    }
+
+    private static void release(Permit permit, Response<?> response, Throwable t) {
+        if (t != null) {
+            Throwable cause = t instanceof CompletionException ? t.getCause() : t;
+            if (cause instanceof CancellationException) {
+                permit.ignore();
+            } else {
+                release(permit, cause);
+            }
+        } else if (Boolean.TRUE.equals(response.isSuccess())) {
+            permit.release(false);
+        } else if (response.exception() != null) {
+            release(permit, response.exception());
+        } else {
+            permit.ignore();
+        }
+    }
+
+    /**
+     * Release the permit of a failed attempt. Throttling, server errors, timeouts and I/O errors show that the endpoint is
+     * overloaded; other service errors are ordinary responses; and other client-side failures say nothing about the endpoint.
+     */
+    private static void release(Permit permit, Throwable failure) {
+        Throwable classified = unwrapClientFailure(failure);
+        switch (SdkErrorType.fromException(classified)) {
+            case THROTTLING:
+            case CONFIGURED_TIMEOUT:
+            case IO:
+                permit.release(true);
+                break;
+            case SERVER_ERROR:
+                permit.release(classified instanceof SdkServiceException
+                               && ((SdkServiceException) classified).statusCode() >= 500);
+                break;
+            default:
+                permit.ignore();
+                break;
+        }
+    }
+
+    /**
+     * Client failures wrap the error that caused them, such as the {@link java.io.IOException} of a reset connection. Classify
+     * the cause of those that are not otherwise classified.
+     */
+    private static Throwable unwrapClientFailure(Throwable failure) {
+        Throwable current = failure;
+        while (current instanceof SdkClientException
+               && current.getCause() != null
+               && SdkErrorType.fromException(current) == SdkErrorType.OTHER) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
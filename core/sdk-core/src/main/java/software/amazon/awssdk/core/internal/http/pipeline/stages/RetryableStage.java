@@ -19,7 +19,6 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
@@ -27,7 +26,6 @@ import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.RetryableStageHelper;
-import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 
 /**
@@ -37,28 +35,16 @@ import software.amazon.awssdk.http.SdkHttpFullRequest;
 public final class RetryableStage<OutputT> implements RequestToResponsePipeline<OutputT> {
     private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline;
     private final HttpClientDependencies dependencies;
-    private final RateLimitingTokenBucket rateLimitingTokenBucket;
 
     public RetryableStage(HttpClientDependencies dependencies,
                           RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline) {
         this.dependencies = dependencies;
         this.requestPipeline = requestPipeline;
-        this.rateLimitingTokenBucket = null;
-    }
-
-    @SdkTestInternalApi
-    public RetryableStage(HttpClientDependencies dependencies,
-                          RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline,
-                          RateLimitingTokenBucket rateLimitingTokenBucket) {
-        this.dependencies = dependencies;
-        this.requestPipeline = requestPipeline;
-        this.rateLimitingTokenBucket = rateLimitingTokenBucket;
     }
 
     @Override
     public Response<OutputT> execute(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
-        RetryableStageHelper retryableStageHelper = new RetryableStageHelper(request, context, rateLimitingTokenBucket,
-                                                                             dependencies);
+        RetryableStageHelper retryableStageHelper = new RetryableStageHelper(request, context, dependencies);
 
         while (true) {
             retryableStageHelper.startingAttempt();
@@ -67,20 +67,13 @@ public class RetryableStageHelper {
 
     public RetryableStageHelper(SdkHttpFullRequest request,
                                 RequestExecutionContext context,
-                                RateLimitingTokenBucket rateLimitingTokenBucket,
                                 HttpClientDependencies dependencies) {
         this.request = request;
         this.context = context;
         this.retryPolicy = dependencies.clientConfiguration().option(SdkClientOption.RETRY_POLICY);
         this.dependencies = dependencies;
 
-        if (rateLimitingTokenBucket != null) {
-            this.rateLimitingTokenBucket = rateLimitingTokenBucket;
-        } else if (isRateLimitingEnabled()) {
-            this.rateLimitingTokenBucket = new RateLimitingTokenBucket();
-        } else {
-            this.rateLimitingTokenBucket = null;
-        }
+        this.rateLimitingTokenBucket = isRateLimitingEnabled() ? dependencies.rateLimitingTokenBucket() : null;
     }
 
     /**
@@ -0,0 +1,195 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Executes calls to the operations of a {@link HedgingPolicy}. When a call has not completed after the hedge delay, and the
+ * {@link HedgeBudget} allows it, a hedged call is sent. The first of the two calls to succeed completes the API call, and
+ * the other one is cancelled. When one of them fails, the API call waits for the other.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class AsyncHedger {
+    private final HedgingPolicy policy;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final HedgeBudget budget;
+    private final Map<String, LatencyTracker> latencies = new ConcurrentHashMap<>();
+
+    public AsyncHedger(HedgingPolicy policy, ScheduledExecutorService scheduledExecutor) {
+        this.policy = policy;
+        this.scheduledExecutor = scheduledExecutor;
+        this.budget = new HedgeBudget(policy.hedgeBudget());
+    }
+
+    /**
+     * Whether calls to the given operation are hedged.
+     */
+    public boolean isHedged(String operationName) {
+        return operationName != null && policy.operations().contains(operationName);
+    }
+
+    /**
+     * Execute a call to the given operation, sending the hedged call if it does not complete in time.
+     *
+     * @param operationName The name of the operation.
+     * @param metricCollector The collector of the API call, to which the hedging metrics are reported. May be null.
+     * @param call Sends the call.
+     * @param hedgedCall Sends the hedged call. It must not share mutable state with the call.
+     */
+    public <T> CompletableFuture<T> execute(String operationName,
+                                            MetricCollector metricCollector,
+                                            Supplier<CompletableFuture<T>> call,
+                                            Supplier<CompletableFuture<T>> hedgedCall) {
+        LatencyTracker tracker = latencies.computeIfAbsent(operationName, o -> new LatencyTracker());
+        budget.recordCall();
+        return new HedgedCall<T>(tracker, metricCollector).execute(call, hedgedCall, hedgeDelay(tracker));
+    }
+
+    private Duration hedgeDelay(LatencyTracker tracker) {
+        return policy.latencyPercentile()
+                     .flatMap(tracker::percentile)
+                     .orElseGet(policy::hedgeDelay);
+    }
+
+    private static <T> CompletableFuture<T> send(Supplier<CompletableFuture<T>> call) {
+        try {
+            return call.get();
+        } catch (Throwable t) {
+            return CompletableFutureUtils.failedFuture(t);
+        }
+    }
+
+    private final class HedgedCall<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicInteger pendingCalls = new AtomicInteger(1);
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        private final LatencyTracker tracker;
+        private final MetricCollector metricCollector;
+
+        private volatile boolean hedgeSent;
+        private volatile CompletableFuture<T> primaryFuture;
+        private volatile CompletableFuture<T> hedgeFuture;
+        private volatile ScheduledFuture<?> hedgeTimer;
+
+        private HedgedCall(LatencyTracker tracker, MetricCollector metricCollector) {
+            this.tracker = tracker;
+            this.metricCollector = metricCollector;
+        }
+
+        private CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call,
+                                             Supplier<CompletableFuture<T>> hedgedCall,
+                                             Duration hedgeDelay) {
+            long startTime = System.nanoTime();
+            primaryFuture = send(call);
+            primaryFuture.whenComplete((r, t) -> onCallComplete(r, t, false, startTime));
+
+            if (!result.isDone()) {
+                hedgeTimer = scheduledExecutor.schedule(() -> sendHedge(hedgedCall), hedgeDelay.toNanos(),
+                                                        TimeUnit.NANOSECONDS);
+            }
+
+            // Cancel whatever is still running once the API call completes, including when it is cancelled by the caller.
+            result.whenComplete((r, t) -> cancelRemainingCalls());
+            return result;
+        }
+
+        private void sendHedge(Supplier<CompletableFuture<T>> hedgedCall) {
+            if (result.isDone()) {
+                return;
+            }
+
+            // Don't send the hedged call, or spend the budget on it, if the call has already failed.
+            if (pendingCalls.getAndUpdate(n -> n == 0 ? 0 : n + 1) == 0) {
+                return;
+            }
+
+            if (!budget.tryAcquire()) {
+                // Give back the hedge's share. If the call failed in the meantime, it is up to us to complete the result.
+                if (pendingCalls.decrementAndGet() == 0) {
+                    complete(false, () -> result.completeExceptionally(firstFailure.get()));
+                }
+                return;
+            }
+
+            long startTime = System.nanoTime();
+            hedgeSent = true;
+            hedgeFuture = send(hedgedCall);
+            hedgeFuture.whenComplete((r, t) -> onCallComplete(r, t, true, startTime));
+            if (result.isDone()) {
+                hedgeFuture.cancel(false);
+            }
+        }
+
+        private void onCallComplete(T response, Throwable error, boolean hedge, long startTime) {
+            if (error == null) {
+                tracker.record(System.nanoTime() - startTime);
+                complete(hedge, () -> result.complete(response));
+                return;
+            }
+
+            firstFailure.compareAndSet(null, error);
+            if (pendingCalls.decrementAndGet() == 0) {
+                complete(false, () -> result.completeExceptionally(firstFailure.get()));
+            }
+        }
+
+        private void complete(boolean hedgeWon, Runnable completion) {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+
+            if (metricCollector != null) {
+                metricCollector.reportMetric(CoreMetric.HEDGE_SENT, hedgeSent);
+                if (hedgeSent) {
+                    metricCollector.reportMetric(CoreMetric.HEDGE_WON, hedgeWon);
+                }
+            }
+            completion.run();
+        }
+
+        private void cancelRemainingCalls() {
+            ScheduledFuture<?> timer = hedgeTimer;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            primaryFuture.cancel(false);
+            CompletableFuture<T> hedge = hedgeFuture;
+            if (hedge != null) {
+                hedge.cancel(false);
+            }
+        }
+    }
+}
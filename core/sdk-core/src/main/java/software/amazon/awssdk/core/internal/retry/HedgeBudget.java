@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Limits the number of hedged calls to a fraction of the calls to the hedged operations. Each call deposits the fraction
+ * of a token into the budget, and each hedged call withdraws a whole token. The budget starts full, and holds up to
+ * {@value #MAX_HEDGES} tokens so that short bursts of slow calls can all be hedged.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class HedgeBudget {
+    private static final int MAX_HEDGES = 10;
+    private static final long TOKEN = 1_000;
+    private static final long CAPACITY = MAX_HEDGES * TOKEN;
+
+    private final long deposit;
+    private final AtomicLong balance = new AtomicLong(CAPACITY);
+
+    public HedgeBudget(double hedgeFraction) {
+        this.deposit = Math.round(hedgeFraction * TOKEN);
+    }
+
+    /**
+     * Record a call to a hedged operation, adding its share of a hedge to the budget.
+     */
+    public void recordCall() {
+        balance.updateAndGet(b -> Math.min(CAPACITY, b + deposit));
+    }
+
+    /**
+     * Withdraw a hedge from the budget, returning false if the budget is exhausted.
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Tracks the latencies of the most recent successful calls to an operation, to compute the percentile after which a call
+ * is hedged.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class LatencyTracker {
+    private static final int WINDOW_SIZE = 100;
+    private static final int MIN_SAMPLES = 20;
+
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private int next;
+    private int count;
+
+    /**
+     * Record the latency of a successful call, in nanoseconds.
+     */
+    public synchronized void record(long latencyNanos) {
+        latencies[next] = latencyNanos;
+        next = (next + 1) % WINDOW_SIZE;
+        count = Math.min(count + 1, WINDOW_SIZE);
+    }
+
+    /**
+     * The given percentile of the recorded latencies, or empty if too few calls were recorded for it to be meaningful.
+     */
+    public Optional<Duration> percentile(double percentile) {
+        long[] samples;
+        synchronized (this) {
+            if (count < MIN_SAMPLES) {
+                return Optional.empty();
+            }
+            samples = Arrays.copyOf(latencies, count);
+        }
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(percentile / 100 * samples.length) - 1;
+        return Optional.of(Duration.ofNanos(samples[Math.max(0, index)]));
+    }
+}
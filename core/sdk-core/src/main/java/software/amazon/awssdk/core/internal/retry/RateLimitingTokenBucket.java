@@ -15,12 +15,25 @@
 
 package software.amazon.awssdk.core.internal.retry;
 
+import java.util.Map;
 import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.exception.SdkClientException;
 
+/**
+ * The client side rate limiter of the {@code ADAPTIVE} retry mode.
+ * <p>
+ * The state of the bucket is held in a single {@link State} snapshot that is replaced with compare-and-set, instead of
+ * being guarded by the bucket's monitor. Threads acquiring capacity while rate limiting is not engaged only read the
+ * snapshot, and threads updating the state never block each other.
+ */
 @SdkInternalApi
+@ThreadSafe
 public class RateLimitingTokenBucket {
     private static final double MIN_FILL_RATE = 0.5;
     private static final double MIN_CAPACITY = 1.0;
@@ -29,20 +42,10 @@ public class RateLimitingTokenBucket {
     private static final double BETA = 0.7;
     private static final double SCALE_CONSTANT = 0.4;
 
-    private final Clock clock;
-
-    private Double fillRate;
-    private Double maxCapacity;
-    private double currentCapacity;
-    private Double lastTimestamp;
-    private boolean enabled;
-    private double measuredTxRate;
-    private double lastTxRateBucket;
-    private long requestCount;
-    private double lastMaxRate;
-    private double lastThrottleTime;
+    private static final Map<String, SharedBucket> SHARED_BUCKETS = new ConcurrentHashMap<>();
 
-    private double timeWindow;
+    private final Clock clock;
+    private final AtomicReference<State> state = new AtomicReference<>();
 
     public interface Clock {
         double time();
@@ -59,6 +62,26 @@ public class RateLimitingTokenBucket {
         initialize();
     }
 
+    /**
+     * Acquire the bucket shared by every client in the JVM that sends requests to the given scope, typically a service and
+     * region, so that they learn the sending rate the service allows together. Every call must be matched by a call to
+     * {@link #releaseShared(String)} once the client is closed.
+     */
+    public static RateLimitingTokenBucket acquireShared(String scope) {
+        return SHARED_BUCKETS.compute(scope, (s, shared) -> {
+            SharedBucket result = shared != null ? shared : new SharedBucket();
+            result.references++;
+            return result;
+        }).bucket;
+    }
+
+    /**
+     * Release a bucket acquired with {@link #acquireShared(String)}. The bucket is forgotten once no client uses it.
+     */
+    public static void releaseShared(String scope) {
+        SHARED_BUCKETS.computeIfPresent(scope, (s, shared) -> --shared.references == 0 ? null : shared);
+    }
+
     /**
      *
      * Acquire tokens from the bucket. If the bucket contains enough capacity
@@ -151,32 +174,34 @@ public class RateLimitingTokenBucket {
      * @return The amount of time in seconds to wait before proceeding.
      */
     public OptionalDouble acquireNonBlocking(double amount, boolean fastFail) {
-        double waitTime = 0.0;
+        while (true) {
+            State current = state.get();
 
-        synchronized (this) {
             // If rate limiting is not enabled, we technically have an uncapped limit
-            if (!enabled) {
+            if (!current.enabled) {
                 return OptionalDouble.of(0.0);
             }
 
-            refill();
+            State next = current.copy();
+            refill(next);
 
-            double originalCapacity = currentCapacity;
-            double unfulfilled = tryAcquireCapacity(amount);
+            double originalCapacity = next.currentCapacity;
+            double unfulfilled = tryAcquireCapacity(next, amount);
 
             if (unfulfilled > 0.0 && fastFail) {
-                currentCapacity = originalCapacity;
-                return OptionalDouble.empty();
+                next.currentCapacity = originalCapacity;
+                if (state.compareAndSet(current, next)) {
+                    return OptionalDouble.empty();
+                }
+                continue;
             }
 
-            // If all the tokens couldn't be acquired immediately, wait enough
-            // time to fill the remainder.
-            if (unfulfilled > 0) {
-                waitTime = unfulfilled / fillRate;
+            if (state.compareAndSet(current, next)) {
+                // If all the tokens couldn't be acquired immediately, wait enough
+                // time to fill the remainder.
+                return OptionalDouble.of(unfulfilled > 0 ? unfulfilled / next.fillRate : 0.0);
             }
         }
-
-        return OptionalDouble.of(waitTime);
     }
 
     /**
@@ -185,27 +210,50 @@ public class RateLimitingTokenBucket {
      * @return The unfulfilled amount.
      */
     double tryAcquireCapacity(double amount) {
+        double[] result = new double[1];
+        update(s -> result[0] = tryAcquireCapacity(s, amount));
+        return result[0];
+    }
+
+    private static double tryAcquireCapacity(State s, double amount) {
         double result;
-        if (amount <= currentCapacity) {
+        if (amount <= s.currentCapacity) {
             result = 0;
         } else {
-            result = amount - currentCapacity;
+            result = amount - s.currentCapacity;
         }
-        currentCapacity = currentCapacity - amount;
+        s.currentCapacity = s.currentCapacity - amount;
         return result;
     }
 
     private void initialize() {
-        fillRate = null;
-        maxCapacity = null;
-        currentCapacity = 0.0;
-        lastTimestamp = null;
-        enabled = false;
-        measuredTxRate = 0.0;
-        lastTxRateBucket = Math.floor(clock.time());
-        requestCount = 0;
-        lastMaxRate = 0.0;
-        lastThrottleTime = clock.time();
+        State initial = new State();
+        initial.fillRate = null;
+        initial.maxCapacity = null;
+        initial.currentCapacity = 0.0;
+        initial.lastTimestamp = null;
+        initial.enabled = false;
+        initial.measuredTxRate = 0.0;
+        initial.lastTxRateBucket = Math.floor(clock.time());
+        initial.requestCount = 0;
+        initial.lastMaxRate = 0.0;
+        initial.lastThrottleTime = clock.time();
+        state.set(initial);
+    }
+
+    /**
+     * Apply an update to a copy of the current state, and publish it if no other thread changed the state in the meantime.
+     * The update is retried on a fresh copy otherwise, so it must not have side effects outside of the state.
+     */
+    private void update(Consumer<State> update) {
+        while (true) {
+            State current = state.get();
+            State next = current.copy();
+            update.accept(next);
+            if (state.compareAndSet(current, next)) {
+                return;
+            }
+        }
     }
 
     /**
@@ -221,16 +269,20 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized void refill() {
+    void refill() {
+        update(this::refill);
+    }
+
+    private void refill(State s) {
         double timestamp = clock.time();
-        if (lastTimestamp == null) {
-            lastTimestamp = timestamp;
+        if (s.lastTimestamp == null) {
+            s.lastTimestamp = timestamp;
             return;
         }
 
-        double fillAmount = (timestamp - lastTimestamp) * fillRate;
-        currentCapacity = Math.min(maxCapacity, currentCapacity + fillAmount);
-        lastTimestamp = timestamp;
+        double fillAmount = (timestamp - s.lastTimestamp) * s.fillRate;
+        s.currentCapacity = Math.min(s.maxCapacity, s.currentCapacity + fillAmount);
+        s.lastTimestamp = timestamp;
     }
 
     /**
@@ -245,11 +297,11 @@ public class RateLimitingTokenBucket {
      *   current_capacity = min(current_capacity, max_capacity)
      * </pre>
      */
-    private synchronized void updateRate(double newRps) {
-        refill();
-        fillRate = Math.max(newRps, MIN_FILL_RATE);
-        maxCapacity = Math.max(newRps, MIN_CAPACITY);
-        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    private void updateRate(State s, double newRps) {
+        refill(s);
+        s.fillRate = Math.max(newRps, MIN_FILL_RATE);
+        s.maxCapacity = Math.max(newRps, MIN_CAPACITY);
+        s.currentCapacity = Math.min(s.currentCapacity, s.maxCapacity);
     }
 
     /**
@@ -264,20 +316,20 @@ public class RateLimitingTokenBucket {
      *   last_tx_rate_bucket = time_bucket
      * </pre>
      */
-    private synchronized void updateMeasuredRate() {
+    private void updateMeasuredRate(State s) {
         double t = clock.time();
         double timeBucket = Math.floor(t * 2) / 2;
-        requestCount = requestCount + 1;
-        if (timeBucket > lastTxRateBucket) {
-            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
-            measuredTxRate = (currentRate * SMOOTH) + (measuredTxRate * (1 - SMOOTH));
-            requestCount = 0;
-            lastTxRateBucket = timeBucket;
+        s.requestCount = s.requestCount + 1;
+        if (timeBucket > s.lastTxRateBucket) {
+            double currentRate = s.requestCount / (timeBucket - s.lastTxRateBucket);
+            s.measuredTxRate = (currentRate * SMOOTH) + (s.measuredTxRate * (1 - SMOOTH));
+            s.requestCount = 0;
+            s.lastTxRateBucket = timeBucket;
         }
     }
 
-    synchronized void enable() {
-        enabled = true;
+    void enable() {
+        update(s -> s.enabled = true);
     }
 
     /**
@@ -305,30 +357,34 @@ public class RateLimitingTokenBucket {
      *   _TokenBucketUpdateRate(new_rate)
      * </pre>
      */
-    public synchronized void updateClientSendingRate(boolean throttlingResponse) {
-        updateMeasuredRate();
+    public void updateClientSendingRate(boolean throttlingResponse) {
+        update(s -> updateClientSendingRate(s, throttlingResponse));
+    }
+
+    private void updateClientSendingRate(State s, boolean throttlingResponse) {
+        updateMeasuredRate(s);
 
         double calculatedRate;
         if (throttlingResponse) {
             double rateToUse;
-            if (!enabled) {
-                rateToUse = measuredTxRate;
+            if (!s.enabled) {
+                rateToUse = s.measuredTxRate;
             } else {
-                rateToUse = Math.min(measuredTxRate, fillRate);
+                rateToUse = Math.min(s.measuredTxRate, s.fillRate);
             }
 
-            lastMaxRate = rateToUse;
-            calculateTimeWindow();
-            lastThrottleTime = clock.time();
+            s.lastMaxRate = rateToUse;
+            calculateTimeWindow(s);
+            s.lastThrottleTime = clock.time();
             calculatedRate = cubicThrottle(rateToUse);
-            enable();
+            s.enabled = true;
         } else {
-            calculateTimeWindow();
-            calculatedRate = cubicSuccess(clock.time());
+            calculateTimeWindow(s);
+            calculatedRate = cubicSuccess(s, clock.time());
         }
 
-        double newRate = Math.min(calculatedRate, 2 * measuredTxRate);
-        updateRate(newRate);
+        double newRate = Math.min(calculatedRate, 2 * s.measuredTxRate);
+        updateRate(s, newRate);
     }
 
     /**
@@ -340,8 +396,12 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized void calculateTimeWindow() {
-        timeWindow = Math.pow((lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
+    void calculateTimeWindow() {
+        update(RateLimitingTokenBucket::calculateTimeWindow);
+    }
+
+    private static void calculateTimeWindow(State s) {
+        s.timeWindow = Math.pow((s.lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
     }
 
     /**
@@ -381,9 +441,13 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized double cubicSuccess(double timestamp) {
-        double dt = timestamp - lastThrottleTime;
-        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - timeWindow, 3) + lastMaxRate;
+    double cubicSuccess(double timestamp) {
+        return cubicSuccess(state.get(), timestamp);
+    }
+
+    private static double cubicSuccess(State s, double timestamp) {
+        double dt = timestamp - s.lastThrottleTime;
+        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - s.timeWindow, 3) + s.lastMaxRate;
         return calculatedRate;
     }
 
@@ -396,37 +460,84 @@ public class RateLimitingTokenBucket {
     }
 
     @SdkTestInternalApi
-    synchronized void setLastMaxRate(double lastMaxRate) {
-        this.lastMaxRate = lastMaxRate;
+    void setLastMaxRate(double lastMaxRate) {
+        update(s -> s.lastMaxRate = lastMaxRate);
+    }
+
+    @SdkTestInternalApi
+    void setLastThrottleTime(double lastThrottleTime) {
+        update(s -> s.lastThrottleTime = lastThrottleTime);
     }
 
     @SdkTestInternalApi
-    synchronized void setLastThrottleTime(double lastThrottleTime) {
-        this.lastThrottleTime = lastThrottleTime;
+    double getMeasuredTxRate() {
+        return state.get().measuredTxRate;
     }
 
     @SdkTestInternalApi
-    synchronized double getMeasuredTxRate() {
-        return measuredTxRate;
+    double getFillRate() {
+        return state.get().fillRate;
     }
 
     @SdkTestInternalApi
-    synchronized double getFillRate() {
-        return fillRate;
+    void setCurrentCapacity(double currentCapacity) {
+        update(s -> s.currentCapacity = currentCapacity);
     }
 
     @SdkTestInternalApi
-    synchronized void setCurrentCapacity(double currentCapacity) {
-        this.currentCapacity = currentCapacity;
+    double getCurrentCapacity() {
+        return state.get().currentCapacity;
     }
 
     @SdkTestInternalApi
-    synchronized double getCurrentCapacity() {
-        return currentCapacity;
+    void setFillRate(double fillRate) {
+        update(s -> s.fillRate = fillRate);
     }
 
     @SdkTestInternalApi
-    synchronized void setFillRate(double fillRate) {
-        this.fillRate = fillRate;
+    void setMaxCapacity(double maxCapacity) {
+        update(s -> s.maxCapacity = maxCapacity);
+    }
+
+    /**
+     * A snapshot of the state of the bucket. Published snapshots are never modified; updates are made to a copy.
+     */
+    private static final class State {
+        private Double fillRate;
+        private Double maxCapacity;
+        private double currentCapacity;
+        private Double lastTimestamp;
+        private boolean enabled;
+        private double measuredTxRate;
+        private double lastTxRateBucket;
+        private long requestCount;
+        private double lastMaxRate;
+        private double lastThrottleTime;
+        private double timeWindow;
+
+        private State copy() {
+            State copy = new State();
+            copy.fillRate = fillRate;
+            copy.maxCapacity = maxCapacity;
+            copy.currentCapacity = currentCapacity;
+            copy.lastTimestamp = lastTimestamp;
+            copy.enabled = enabled;
+            copy.measuredTxRate = measuredTxRate;
+            copy.lastTxRateBucket = lastTxRateBucket;
+            copy.requestCount = requestCount;
+            copy.lastMaxRate = lastMaxRate;
+            copy.lastThrottleTime = lastThrottleTime;
+            copy.timeWindow = timeWindow;
+            return copy;
+        }
+    }
+
+    /**
+     * A shared bucket and the number of clients using it. The count is only changed while the registry holds the entry's
+     * lock, in {@link Map#compute}.
+     */
+    private static final class SharedBucket {
+        private final RateLimitingTokenBucket bucket = new RateLimitingTokenBucket();
+        private int references;
     }
 }
@@ -53,6 +53,20 @@ public final class CoreMetric {
     public static final SdkMetric<Integer> RETRY_COUNT =
         metric("RetryCount", Integer.class, MetricLevel.ERROR);
 
+    /**
+     * True if a hedged call was sent for the API call because it did not complete within the hedge delay, false otherwise.
+     * Only reported for the operations of the {@link software.amazon.awssdk.core.retry.HedgingPolicy} of the client.
+     */
+    public static final SdkMetric<Boolean> HEDGE_SENT =
+        metric("HedgeSent", Boolean.class, MetricLevel.INFO);
+
+    /**
+     * True if the response of the hedged call was used for the API call, false otherwise. Only reported when a hedged call
+     * was sent. The metrics of the hedged call itself are reported in the {@code HedgedApiCall} child collection.
+     */
+    public static final SdkMetric<Boolean> HEDGE_WON =
+        metric("HedgeWon", Boolean.class, MetricLevel.INFO);
+
     /**
      * The endpoint for the service.
      */
@@ -162,6 +176,14 @@ public final class CoreMetric {
     public static final SdkMetric<Duration> ENDPOINT_RESOLVE_DURATION =
         metric("EndpointResolveDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * True if the endpoint used for the API call was served from the endpoint resolution cache of the client, false if it
+     * was resolved by evaluating the endpoint rules. Only reported when the cache is enabled with
+     * {@link software.amazon.awssdk.core.client.config.SdkAdvancedClientOption#ENDPOINT_RESOLUTION_CACHE_SIZE}.
+     */
+    public static final SdkMetric<Boolean> ENDPOINT_RESOLVE_CACHE_HIT =
+        metric("EndpointResolveCacheHit", Boolean.class, MetricLevel.INFO);
+
 
     /**
      * The type of error that occurred for a call attempt.
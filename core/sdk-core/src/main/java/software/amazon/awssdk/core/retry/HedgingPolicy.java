@@ -0,0 +1,250 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * A policy for hedging calls to latency-critical operations of an asynchronous client. When a call to one of the configured
+ * operations has not completed after the hedge delay, the SDK sends a second, identical call. The first of the two calls
+ * to succeed is used, and the other one is cancelled.
+ *
+ * <p>Hedging sends the same request twice, so it must only be enabled for idempotent operations, such as DynamoDB's
+ * {@code GetItem} and {@code Query}. Operations with a streaming response, such as S3's {@code GetObject}, and operations
+ * with a streaming request are never hedged. The number of hedged calls is limited by the {@link #hedgeBudget()}, so that
+ * hedging does not overload the service when it is slow for every call.
+ *
+ * <p>This is configured on an asynchronous client via {@link ClientOverrideConfiguration.Builder#hedgingPolicy}.
+ */
+@Immutable
+@SdkPublicApi
+public final class HedgingPolicy implements ToCopyableBuilder<HedgingPolicy.Builder, HedgingPolicy> {
+    private static final Duration DEFAULT_HEDGE_DELAY = Duration.ofMillis(50);
+    private static final double DEFAULT_HEDGE_BUDGET = 0.1;
+
+    private final Set<String> operations;
+    private final Duration hedgeDelay;
+    private final Double latencyPercentile;
+    private final double hedgeBudget;
+
+    private HedgingPolicy(BuilderImpl builder) {
+        this.operations = Collections.unmodifiableSet(new LinkedHashSet<>(builder.operations));
+        this.hedgeDelay = Validate.isPositive(builder.hedgeDelay == null ? DEFAULT_HEDGE_DELAY : builder.hedgeDelay,
+                                              "hedgeDelay");
+        this.latencyPercentile = builder.latencyPercentile;
+        if (latencyPercentile != null) {
+            Validate.isTrue(latencyPercentile > 0 && latencyPercentile < 100,
+                            "latencyPercentile must be between 0 and 100, exclusive, but was %s.", latencyPercentile);
+        }
+        this.hedgeBudget = builder.hedgeBudget == null ? DEFAULT_HEDGE_BUDGET : builder.hedgeBudget;
+        Validate.isTrue(hedgeBudget > 0 && hedgeBudget <= 1,
+                        "hedgeBudget must be greater than 0 and at most 1, but was %s.", hedgeBudget);
+    }
+
+    /**
+     * Create a {@link HedgingPolicy.Builder}, used to create a {@link HedgingPolicy}.
+     */
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * The names of the operations whose calls are hedged, for example {@code GetItem}.
+     */
+    public Set<String> operations() {
+        return operations;
+    }
+
+    /**
+     * The time to wait for a call to complete before sending the hedged call. When a {@link #latencyPercentile()} is
+     * configured, this is only used until enough calls of the operation have completed to compute the percentile.
+     */
+    public Duration hedgeDelay() {
+        return hedgeDelay;
+    }
+
+    /**
+     * The percentile of the recent latencies of an operation after which the hedged call is sent, for example {@code 95}.
+     * When not set, the {@link #hedgeDelay()} is always used.
+     */
+    public Optional<Double> latencyPercentile() {
+        return Optional.ofNullable(latencyPercentile);
+    }
+
+    /**
+     * The maximum number of hedged calls, as a fraction of the calls to the hedged operations.
+     */
+    public double hedgeBudget() {
+        return hedgeBudget;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new BuilderImpl(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HedgingPolicy")
+                       .add("operations", operations)
+                       .add("hedgeDelay", hedgeDelay)
+                       .add("latencyPercentile", latencyPercentile)
+                       .add("hedgeBudget", hedgeBudget)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        HedgingPolicy that = (HedgingPolicy) o;
+
+        return Double.compare(hedgeBudget, that.hedgeBudget) == 0
+               && operations.equals(that.operations)
+               && hedgeDelay.equals(that.hedgeDelay)
+               && Objects.equals(latencyPercentile, that.latencyPercentile);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = operations.hashCode();
+        result = 31 * result + hedgeDelay.hashCode();
+        result = 31 * result + Objects.hashCode(latencyPercentile);
+        result = 31 * result + Double.hashCode(hedgeBudget);
+        return result;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, HedgingPolicy> {
+        /**
+         * Configure the names of the operations whose calls are hedged, for example {@code GetItem}. Only idempotent
+         * operations should be configured. This replaces any operations configured previously.
+         */
+        Builder operations(Collection<String> operations);
+
+        /**
+         * Configure the names of the operations whose calls are hedged, for example {@code GetItem}. Only idempotent
+         * operations should be configured. This replaces any operations configured previously.
+         */
+        Builder operations(String... operations);
+
+        /**
+         * Configure the time to wait for a call to complete before sending the hedged call. The default value is 50
+         * milliseconds.
+         */
+        Builder hedgeDelay(Duration hedgeDelay);
+
+        /**
+         * Configure the percentile of the recent latencies of an operation after which the hedged call is sent, for example
+         * {@code 95}. The {@link #hedgeDelay(Duration)} is used until enough calls of the operation have completed to compute
+         * the percentile. By default, the hedge delay is always used.
+         */
+        Builder latencyPercentile(Double latencyPercentile);
+
+        /**
+         * Configure the maximum number of hedged calls, as a fraction of the calls to the hedged operations. The default
+         * value is 0.1, which allows one call in ten to be hedged.
+         */
+        Builder hedgeBudget(Double hedgeBudget);
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private Set<String> operations = new LinkedHashSet<>();
+        private Duration hedgeDelay;
+        private Double latencyPercentile;
+        private Double hedgeBudget;
+
+        private BuilderImpl() {
+        }
+
+        private BuilderImpl(HedgingPolicy policy) {
+            this.operations = new LinkedHashSet<>(policy.operations);
+            this.hedgeDelay = policy.hedgeDelay;
+            this.latencyPercentile = policy.latencyPercentile;
+            this.hedgeBudget = policy.hedgeBudget;
+        }
+
+        @Override
+        public Builder operations(Collection<String> operations) {
+            Validate.paramNotNull(operations, "operations");
+            this.operations = new LinkedHashSet<>(operations);
+            return this;
+        }
+
+        @Override
+        public Builder operations(String... operations) {
+            Validate.paramNotNull(operations, "operations");
+            return operations(Arrays.asList(operations));
+        }
+
+        public void setOperations(Collection<String> operations) {
+            operations(operations);
+        }
+
+        @Override
+        public Builder hedgeDelay(Duration hedgeDelay) {
+            this.hedgeDelay = hedgeDelay;
+            return this;
+        }
+
+        public void setHedgeDelay(Duration hedgeDelay) {
+            hedgeDelay(hedgeDelay);
+        }
+
+        @Override
+        public Builder latencyPercentile(Double latencyPercentile) {
+            this.latencyPercentile = latencyPercentile;
+            return this;
+        }
+
+        public void setLatencyPercentile(Double latencyPercentile) {
+            latencyPercentile(latencyPercentile);
+        }
+
+        @Override
+        public Builder hedgeBudget(Double hedgeBudget) {
+            this.hedgeBudget = hedgeBudget;
+            return this;
+        }
+
+        public void setHedgeBudget(Double hedgeBudget) {
+            hedgeBudget(hedgeBudget);
+        }
+
+        @Override
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -55,6 +55,7 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
     private final RetryCondition retryCapacityCondition;
     private final RetryCondition aggregateRetryCondition;
     private Boolean fastFailRateLimiting;
+    private final Boolean sharedRateLimiting;
 
     private RetryPolicy(BuilderImpl builder) {
         this.additionalRetryConditionsAllowed = builder.additionalRetryConditionsAllowed;
@@ -66,7 +67,9 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         this.retryCapacityCondition = builder.retryCapacityCondition;
         this.aggregateRetryCondition = generateAggregateRetryCondition();
         this.fastFailRateLimiting = builder.isFastFailRateLimiting();
+        this.sharedRateLimiting = builder.isSharedRateLimiting();
         validateFastFailRateLimiting();
+        validateSharedRateLimiting();
     }
 
     /**
@@ -129,6 +132,15 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         return fastFailRateLimiting;
     }
 
+    /**
+     * When using {@link RetryMode#ADAPTIVE} retry mode, this controls whether the rate limiter of the client is shared with
+     * every other client in the JVM that calls the same service endpoint, so that the clients slow down together when the
+     * service throttles any of them.
+     */
+    public Boolean isSharedRateLimiting() {
+        return sharedRateLimiting;
+    }
+
     /**
      * Returns true if service-specific conditions are allowed on this policy (e.g. more conditions may be added by the SDK if
      * they are recommended).
@@ -191,7 +203,8 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
                                  .backoffStrategy(backoffStrategy)
                                  .throttlingBackoffStrategy(throttlingBackoffStrategy)
                                  .retryCapacityCondition(retryCapacityCondition)
-                                 .fastFailRateLimiting(fastFailRateLimiting);
+                                 .fastFailRateLimiting(fastFailRateLimiting)
+                                 .sharedRateLimiting(sharedRateLimiting);
     }
 
     @Override
@@ -202,6 +215,7 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
                        .add("backoffStrategy", backoffStrategy)
                        .add("throttlingBackoffStrategy", throttlingBackoffStrategy)
                        .add("fastFailRateLimiting", fastFailRateLimiting)
+                       .add("sharedRateLimiting", sharedRateLimiting)
                        .build();
     }
 
@@ -228,7 +242,10 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         if (!throttlingBackoffStrategy.equals(that.throttlingBackoffStrategy)) {
             return false;
         }
-        return Objects.equals(fastFailRateLimiting, that.fastFailRateLimiting);
+        if (!Objects.equals(fastFailRateLimiting, that.fastFailRateLimiting)) {
+            return false;
+        }
+        return Objects.equals(sharedRateLimiting, that.sharedRateLimiting);
     }
 
     @Override
@@ -238,6 +255,7 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         result = 31 * result + backoffStrategy.hashCode();
         result = 31 * result + throttlingBackoffStrategy.hashCode();
         result = 31 * result + Objects.hashCode(fastFailRateLimiting);
+        result = 31 * result + Objects.hashCode(sharedRateLimiting);
         return result;
     }
 
@@ -251,6 +269,16 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
                         + "configured mode is %s.", retryMode.name());
     }
 
+    private void validateSharedRateLimiting() {
+        if (sharedRateLimiting == null) {
+            return;
+        }
+
+        Validate.isTrue(RetryMode.ADAPTIVE == retryMode,
+                        "SharedRateLimiting is enabled, but this setting is only valid for the ADAPTIVE retry mode. The "
+                        + "configured mode is %s.", retryMode.name());
+    }
+
     public interface Builder extends CopyableBuilder<Builder, RetryPolicy> {
         /**
          * Configure whether further conditions can be added to this policy after it is created. This may include service-
@@ -349,7 +377,22 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
          * rate limiter to execute the request, instead of waiting for capacity to be available.
          */
         Boolean isFastFailRateLimiting();
-        
+
+        /**
+         * Whether the rate limiter of the client should be shared with every other client in the JVM that calls the same
+         * service endpoint with a shared rate limiter, instead of each client learning the sending rate allowed by the service
+         * on its own. This is only valid for the {@link RetryMode#ADAPTIVE} retry mode.
+         *
+         * @param sharedRateLimiting Whether to share the rate limiter.
+         */
+        Builder sharedRateLimiting(Boolean sharedRateLimiting);
+
+        /**
+         * Whether the rate limiter of the client should be shared with every other client in the JVM that calls the same
+         * service endpoint.
+         */
+        Boolean isSharedRateLimiting();
+
         @Override
         RetryPolicy build();
     }
@@ -367,6 +410,7 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         private RetryCondition retryCondition;
         private RetryCondition retryCapacityCondition;
         private Boolean fastFailRateLimiting;
+        private Boolean sharedRateLimiting;
 
         private BuilderImpl(RetryMode retryMode) {
             this.retryMode = retryMode;
@@ -419,6 +463,17 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
             return fastFailRateLimiting;
         }
 
+        @Override
+        public Builder sharedRateLimiting(Boolean sharedRateLimiting) {
+            this.sharedRateLimiting = sharedRateLimiting;
+            return this;
+        }
+
+        @Override
+        public Boolean isSharedRateLimiting() {
+            return sharedRateLimiting;
+        }
+
         @Override
         public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
             this.backoffStrategy = backoffStrategy;
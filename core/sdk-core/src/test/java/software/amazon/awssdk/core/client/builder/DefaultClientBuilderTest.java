@@ -18,6 +18,7 @@ package software.amazon.awssdk.core.client.builder;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -55,6 +56,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
@@ -378,6 +380,53 @@ public class DefaultClientBuilderTest {
         verify(defaultAsyncHttpClientFactory, never()).buildWithDefaults(any());
     }
 
+    @Test
+    public void prewarmConnectionsConfigured_syncClientIsPrewarmed() {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+        when(httpClient.prewarm(any(), anyInt())).thenReturn(CompletableFuture.completedFuture(null));
+
+        testClientBuilder().overrideConfiguration(prewarmOverrideConfig(4))
+                           .httpClient(httpClient)
+                           .build();
+
+        verify(httpClient).prewarm(DEFAULT_ENDPOINT, 4);
+    }
+
+    @Test
+    public void prewarmConnectionsConfigured_asyncClientIsPrewarmed() {
+        SdkAsyncHttpClient httpClient = mock(SdkAsyncHttpClient.class);
+        when(httpClient.prewarm(any(), anyInt())).thenReturn(CompletableFuture.completedFuture(null));
+
+        testAsyncClientBuilder().overrideConfiguration(prewarmOverrideConfig(4))
+                                .httpClient(httpClient)
+                                .build();
+
+        verify(httpClient).prewarm(DEFAULT_ENDPOINT, 4);
+    }
+
+    @Test
+    public void prewarmConnectionsFails_clientIsStillBuilt() {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+        CompletableFuture<Void> failedPrewarm = new CompletableFuture<>();
+        failedPrewarm.completeExceptionally(new RuntimeException("connection refused"));
+        when(httpClient.prewarm(any(), anyInt())).thenReturn(failedPrewarm);
+
+        TestClient client = testClientBuilder().overrideConfiguration(prewarmOverrideConfig(4))
+                                               .httpClient(httpClient)
+                                               .build();
+
+        assertThat(client.clientConfiguration.option(SdkClientOption.SYNC_HTTP_CLIENT)).isNotNull();
+    }
+
+    @Test
+    public void prewarmConnectionsNotConfigured_clientIsNotPrewarmed() {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+
+        testClientBuilder().httpClient(httpClient).build();
+
+        verify(httpClient, never()).prewarm(any(), anyInt());
+    }
+
     @Test
     public void clientBuilderFieldsHaveBeanEquivalents() throws Exception {
         // Mutating properties might not have bean equivalents. This is probably fine, since very few customers require
@@ -437,6 +486,13 @@ public class DefaultClientBuilderTest {
         return new TestAsyncClientBuilder().overrideConfiguration(overrideConfig);
     }
 
+    private static ClientOverrideConfiguration prewarmOverrideConfig(int connections) {
+        return ClientOverrideConfiguration.builder()
+                                          .putAdvancedOption(SIGNER, TEST_SIGNER)
+                                          .putAdvancedOption(SdkAdvancedClientOption.PREWARM_CONNECTIONS, connections)
+                                          .build();
+    }
+
     private static class TestClient {
         private final SdkClientConfiguration clientConfiguration;
 
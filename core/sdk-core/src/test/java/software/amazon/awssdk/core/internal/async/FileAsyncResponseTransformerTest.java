@@ -41,6 +41,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,7 +51,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
 
 /**
  * Tests for {@link FileAsyncResponseTransformer}.
@@ -182,6 +185,126 @@ class FileAsyncResponseTransformerTest {
         assertThat(testPath).hasContent(existingString + content);
     }
 
+    @Test
+    void positionalWrite_partsWrittenOutOfOrder_shouldWriteEachPartAtItsPosition() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        String content = RandomStringUtils.randomAlphanumeric(30);
+        FileAsyncResponseTransformer<String> transformer = new FileAsyncResponseTransformer<>(testPath,
+                                                                                              FileTransformerConfiguration.defaultCreateOrReplaceExisting());
+
+        CompletableFuture<String> future = transformer.prepare();
+        transformer.onResponse("foobar");
+        transformer.startPositionalWrite();
+        for (int position : new int[] {20, 0, 10}) {
+            CompletableFuture<Void> partFuture = new CompletableFuture<>();
+            testPublisher(content.substring(position, position + 10))
+                .subscribe(transformer.positionalWriteSubscriber(position, partFuture));
+            partFuture.get(10, TimeUnit.SECONDS);
+        }
+        assertThat(future).isNotDone();
+
+        transformer.completePositionalWrite();
+        assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo("foobar");
+        assertThat(testPath).hasContent(content);
+    }
+
+    @Test
+    void positionalWrite_createOrAppendExisting_shouldWriteAfterExistingContent() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        String existingString = RandomStringUtils.randomAlphanumeric(10);
+        Files.write(testPath, existingString.getBytes(StandardCharsets.UTF_8));
+        String content = RandomStringUtils.randomAlphanumeric(20);
+        FileAsyncResponseTransformer<String> transformer = new FileAsyncResponseTransformer<>(testPath,
+                                                                                              FileTransformerConfiguration.defaultCreateOrAppend());
+
+        CompletableFuture<String> future = transformer.prepare();
+        transformer.onResponse("foobar");
+        transformer.startPositionalWrite();
+        CompletableFuture<Void> secondPart = new CompletableFuture<>();
+        testPublisher(content.substring(10)).subscribe(transformer.positionalWriteSubscriber(10, secondPart));
+        CompletableFuture<Void> firstPart = new CompletableFuture<>();
+        testPublisher(content.substring(0, 10)).subscribe(transformer.positionalWriteSubscriber(0, firstPart));
+        CompletableFuture.allOf(firstPart, secondPart).get(10, TimeUnit.SECONDS);
+        transformer.completePositionalWrite();
+
+        future.get(10, TimeUnit.SECONDS);
+        assertThat(testPath).hasContent(existingString + content);
+    }
+
+    @Test
+    void positionalWrite_createNewWithExistingFile_shouldLeaveExistingFileIntact() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        String existingString = RandomStringUtils.randomAlphanumeric(10);
+        Files.write(testPath, existingString.getBytes(StandardCharsets.UTF_8));
+        FileTransformerConfiguration configuration = FileTransformerConfiguration.builder()
+                                                                                 .fileWriteOption(FileWriteOption.CREATE_NEW)
+                                                                                 .failureBehavior(LEAVE)
+                                                                                 .build();
+        FileAsyncResponseTransformer<String> transformer = new FileAsyncResponseTransformer<>(testPath, configuration);
+
+        CompletableFuture<String> future = transformer.prepare();
+        transformer.onResponse("foobar");
+        transformer.startPositionalWrite();
+
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS)).hasRootCauseInstanceOf(FileAlreadyExistsException.class);
+        assertThat(testPath).hasContent(existingString);
+    }
+
+    @Test
+    void positionalWrite_exceptionOccurred_shouldTruncateAfterPartsWrittenWithoutGap() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        String content = RandomStringUtils.randomAlphanumeric(40);
+        FileAsyncResponseTransformer<String> transformer = new FileAsyncResponseTransformer<>(testPath,
+                                                                                              FileTransformerConfiguration.defaultCreateOrReplaceExisting());
+
+        CompletableFuture<String> future = transformer.prepare();
+        transformer.onResponse("foobar");
+        transformer.startPositionalWrite();
+        for (int position : new int[] {30, 0, 10}) {
+            CompletableFuture<Void> partFuture = new CompletableFuture<>();
+            testPublisher(content.substring(position, position + 10))
+                .subscribe(transformer.positionalWriteSubscriber(position, partFuture));
+            partFuture.get(10, TimeUnit.SECONDS);
+        }
+        transformer.exceptionOccurred(new RuntimeException("Part 3 failed"));
+
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS)).hasRootCauseMessage("Part 3 failed");
+        assertThat(testPath).hasContent(content.substring(0, 20));
+    }
+
+    @Test
+    void positionalWrite_wrappedWithListener_shouldReportRetriedPartOnce() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        String content = RandomStringUtils.randomAlphanumeric(20);
+        AtomicLong reportedBytes = new AtomicLong();
+        AsyncResponseTransformerListener<String> listener = new AsyncResponseTransformerListener<String>() {
+            @Override
+            public void subscriberOnNext(ByteBuffer byteBuffer) {
+                reportedBytes.addAndGet(byteBuffer.remaining());
+            }
+        };
+        AsyncResponseTransformer<String, String> wrapped = AsyncResponseTransformerListener.wrap(
+            new FileAsyncResponseTransformer<>(testPath, FileTransformerConfiguration.defaultCreateOrReplaceExisting()), listener);
+        assertThat(wrapped).isInstanceOf(PositionalWriteAsyncResponseTransformer.class);
+        PositionalWriteAsyncResponseTransformer<String, String> transformer =
+            (PositionalWriteAsyncResponseTransformer<String, String>) wrapped;
+
+        CompletableFuture<String> future = transformer.prepare();
+        transformer.onResponse("foobar");
+        transformer.startPositionalWrite();
+        for (int position : new int[] {10, 0, 10}) {
+            CompletableFuture<Void> partFuture = new CompletableFuture<>();
+            testPublisher(content.substring(position, position + 10))
+                .subscribe(transformer.positionalWriteSubscriber(position, partFuture));
+            partFuture.get(10, TimeUnit.SECONDS);
+        }
+        transformer.completePositionalWrite();
+
+        future.get(10, TimeUnit.SECONDS);
+        assertThat(reportedBytes).hasValue(20);
+        assertThat(testPath).hasContent(content);
+    }
+
     @ParameterizedTest
     @MethodSource("configurations")
     void exceptionOccurred_deleteFileBehavior(FileTransformerConfiguration configuration) throws Exception {
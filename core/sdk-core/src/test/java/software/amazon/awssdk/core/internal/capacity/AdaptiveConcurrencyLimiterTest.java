@@ -0,0 +1,203 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.capacity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ConcurrencyLimitConfiguration;
+import software.amazon.awssdk.core.ConcurrencyLimitConfiguration.Algorithm;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.capacity.AdaptiveConcurrencyLimiter.Permit;
+
+public class AdaptiveConcurrencyLimiterTest {
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    public void acquire_underLimit_completesImmediately() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Algorithm.AIMD, 2, 10);
+
+        assertThat(limiter.acquire()).isCompleted();
+        assertThat(limiter.acquire()).isCompleted();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    public void acquire_atLimit_waitsForRelease() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Algorithm.AIMD, 1, 10);
+        Permit permit = limiter.acquire().join();
+
+        CompletableFuture<Permit> waiter = limiter.acquire();
+        assertThat(waiter).isNotDone();
+        assertThat(limiter.pending()).isEqualTo(1);
+
+        permit.ignore();
+        assertThat(waiter).isCompleted();
+        assertThat(limiter.pending()).isZero();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    public void acquire_tooManyPending_fails() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Algorithm.AIMD, 1, 1);
+        limiter.acquire().join();
+        limiter.acquire();
+
+        assertThatThrownBy(() -> limiter.acquire().join()).isInstanceOf(CompletionException.class)
+                                                           .hasCauseInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    public void acquire_noPendingAllowed_failsFast() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Algorithm.AIMD, 1, 0);
+        limiter.acquire().join();
+
+        assertThat(limiter.acquire()).isCompletedExceptionally();
+    }
+
+    @Test
+    public void cancelledWaiter_isSkipped() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Algorithm.AIMD, 1, 10);
+        Permit permit = limiter.acquire().join();
+        CompletableFuture<Permit> cancelled = limiter.acquire();
+        CompletableFuture<Permit> waiter = limiter.acquire();
+
+        cancelled.cancel(false);
+        permit.ignore();
+
+        assertThat(waiter).isCompleted();
+        assertThat(limiter.pending()).isZero();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    public void release_isIdempotent() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Algorithm.AIMD, 2, 10);
+        Permit permit = limiter.acquire().join();
+        limiter.acquire().join();
+
+        permit.release(false);
+        permit.release(false);
+        permit.ignore();
+
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    public void aimd_dropped_decreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Algorithm.AIMD, 20, 10);
+
+        limiter.acquire().join().release(true);
+
+        assertThat(limiter.limit()).isEqualTo(18);
+    }
+
+    @Test
+    public void aimd_successAtLimit_increasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Algorithm.AIMD, 2, 10);
+        Permit permit = limiter.acquire().join();
+        limiter.acquire().join();
+
+        permit.release(false);
+
+        assertThat(limiter.limit()).isEqualTo(3);
+    }
+
+    @Test
+    public void aimd_successFarBelowLimit_keepsLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Algorithm.AIMD, 10, 10);
+
+        limiter.acquire().join().release(false);
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    public void aimd_limitStaysWithinBounds() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(ConcurrencyLimitConfiguration.builder()
+                                                                                                         .minLimit(2)
+                                                                                                         .initialLimit(2)
+                                                                                                         .maxLimit(3)
+                                                                                                         .build(),
+                                                                            nanoTime::get);
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire().join().release(true);
+        }
+        assertThat(limiter.limit()).isEqualTo(2);
+
+        for (int i = 0; i < 5; i++) {
+            Permit first = limiter.acquire().join();
+            Permit second = limiter.acquire().join();
+            first.release(false);
+            second.release(false);
+        }
+        assertThat(limiter.limit()).isEqualTo(3);
+    }
+
+    @Test
+    public void gradient_steadyLatency_increasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Algorithm.GRADIENT, 10, 10);
+
+        for (int i = 0; i < 20; i++) {
+            runAtLimit(limiter, Duration.ofMillis(10));
+        }
+
+        assertThat(limiter.limit()).isGreaterThan(10);
+    }
+
+    @Test
+    public void gradient_risingLatency_decreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Algorithm.GRADIENT, 10, 10);
+        for (int i = 0; i < 20; i++) {
+            runAtLimit(limiter, Duration.ofMillis(10));
+        }
+        int steadyLimit = limiter.limit();
+
+        runAtLimit(limiter, Duration.ofMillis(100));
+
+        assertThat(limiter.limit()).isLessThan(steadyLimit);
+    }
+
+    /**
+     * Acquire every permit of the limiter, then release them all after the given latency.
+     */
+    private void runAtLimit(AdaptiveConcurrencyLimiter limiter, Duration latency) {
+        int limit = limiter.limit();
+        Permit[] permits = new Permit[limit];
+        for (int i = 0; i < limit; i++) {
+            permits[i] = limiter.acquire().join();
+        }
+        nanoTime.addAndGet(latency.toNanos());
+        for (Permit permit : permits) {
+            permit.release(false);
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(Algorithm algorithm, int initialLimit, int maxPendingAcquires) {
+        return new AdaptiveConcurrencyLimiter(ConcurrencyLimitConfiguration.builder()
+                                                                           .algorithm(algorithm)
+                                                                           .initialLimit(initialLimit)
+                                                                           .maxLimit(100)
+                                                                           .maxPendingAcquires(maxPendingAcquires)
+                                                                           .build(),
+                                              nanoTime::get);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.capacity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ConcurrencyLimitConfiguration;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+
+public class ConcurrencyLimitersTest {
+    private final ConcurrencyLimiters limiters = new ConcurrencyLimiters(ConcurrencyLimitConfiguration.builder().build());
+
+    @Test
+    public void limiterFor_sameEndpoint_returnsSameLimiter() {
+        assertThat(limiters.limiterFor(request("https://a.example.com/foo")))
+            .isSameAs(limiters.limiterFor(request("https://a.example.com/bar")));
+    }
+
+    @Test
+    public void limiterFor_differentEndpoints_returnsDifferentLimiters() {
+        AdaptiveConcurrencyLimiter limiter = limiters.limiterFor(request("https://a.example.com"));
+
+        assertThat(limiters.limiterFor(request("https://b.example.com"))).isNotSameAs(limiter);
+        assertThat(limiters.limiterFor(request("http://a.example.com"))).isNotSameAs(limiter);
+        assertThat(limiters.limiterFor(request("https://a.example.com:8443"))).isNotSameAs(limiter);
+    }
+
+    @Test
+    public void limiterFor_tooManyEndpoints_forgetsIdleLimiters() {
+        AdaptiveConcurrencyLimiter idle = limiters.limiterFor(request("https://idle.example.com"));
+        AdaptiveConcurrencyLimiter busy = limiters.limiterFor(request("https://busy.example.com"));
+        busy.acquire().join();
+
+        for (int i = 0; i < ConcurrencyLimiters.MAX_ENDPOINTS; i++) {
+            limiters.limiterFor(request("https://bucket-" + i + ".example.com"));
+        }
+
+        assertThat(limiters.limiterFor(request("https://busy.example.com"))).isSameAs(busy);
+        assertThat(limiters.limiterFor(request("https://idle.example.com"))).isNotSameAs(idle);
+    }
+
+    private static SdkHttpRequest request(String uri) {
+        return SdkHttpFullRequest.builder()
+                                 .uri(URI.create(uri))
+                                 .method(SdkHttpMethod.GET)
+                                 .build();
+    }
+}
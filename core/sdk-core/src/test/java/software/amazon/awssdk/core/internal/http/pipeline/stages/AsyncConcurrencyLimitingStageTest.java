@@ -0,0 +1,273 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ConcurrencyLimitConfiguration;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.internal.capacity.AdaptiveConcurrencyLimiter;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+
+public class AsyncConcurrencyLimitingStageTest {
+    private static final int INITIAL_LIMIT = 20;
+
+    private final List<CompletableFuture<Response<Object>>> attempts = new ArrayList<>();
+    private final List<Runnable> handedOff = new ArrayList<>();
+    private final SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                                 .uri(URI.create("https://localhost"))
+                                                                 .method(SdkHttpMethod.GET)
+                                                                 .build();
+    private final RequestExecutionContext context =
+        RequestExecutionContext.builder()
+                               .originalRequest(NoopTestRequest.builder().build())
+                               .executionContext(ExecutionContext.builder()
+                                                                 .executionAttributes(new ExecutionAttributes())
+                                                                 .build())
+                               .build();
+    private ScheduledExecutorService scheduledExecutor;
+
+    @BeforeEach
+    public void setup() {
+        scheduledExecutor = mock(ScheduledExecutorService.class);
+        doAnswer(i -> handedOff.add(i.getArgument(0))).when(scheduledExecutor).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void execute_noConcurrencyLimit_sendsAttemptDirectly() throws Exception {
+        HttpClientDependencies dependencies =
+            HttpClientDependencies.builder()
+                                  .clientConfiguration(c -> c.option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE,
+                                                                     scheduledExecutor))
+                                  .build();
+        AsyncConcurrencyLimitingStage<Object> stage = new AsyncConcurrencyLimitingStage<>(dependencies, this::attempt);
+
+        stage.execute(request, context);
+
+        assertThat(attempts).hasSize(1);
+    }
+
+    @Test
+    public void execute_success_releasesPermit() throws Exception {
+        Fixture fixture = new Fixture(INITIAL_LIMIT, 10);
+
+        CompletableFuture<Response<Object>> result = fixture.stage.execute(request, context);
+        assertThat(fixture.limiter.inFlight()).isEqualTo(1);
+        attempts.get(0).complete(Response.builder().isSuccess(true).build());
+
+        assertThat(result).isCompleted();
+        assertThat(fixture.limiter.inFlight()).isZero();
+        assertThat(fixture.limiter.limit()).isEqualTo(INITIAL_LIMIT);
+    }
+
+    @Test
+    public void execute_throttlingResponse_countsAsDropped() throws Exception {
+        assertDropped(serviceErrorResponse(429));
+    }
+
+    @Test
+    public void execute_serverErrorResponse_countsAsDropped() throws Exception {
+        assertDropped(serviceErrorResponse(503));
+    }
+
+    @Test
+    public void execute_clientErrorResponse_doesNotCountAsDropped() throws Exception {
+        assertNotDropped(serviceErrorResponse(400));
+    }
+
+    @Test
+    public void execute_attemptTimeout_countsAsDropped() throws Exception {
+        assertDropped(failure(ApiCallAttemptTimeoutException.create(1000)));
+    }
+
+    @Test
+    public void execute_ioError_countsAsDropped() throws Exception {
+        assertDropped(failure(new IOException("Connection reset")));
+    }
+
+    @Test
+    public void execute_ioErrorWrappedInClientException_countsAsDropped() throws Exception {
+        assertDropped(failure(SdkClientException.create("Unable to execute HTTP request", new IOException("Connection reset"))));
+    }
+
+    @Test
+    public void execute_otherClientError_isIgnored() throws Exception {
+        assertNotDropped(failure(SdkClientException.create("Unable to marshall request",
+                                                           new IllegalArgumentException("bad input"))));
+    }
+
+    @Test
+    public void execute_otherError_isIgnored() throws Exception {
+        assertNotDropped(failure(new RuntimeException("boom")));
+    }
+
+    @Test
+    public void execute_atLimit_handsQueuedAttemptToScheduledExecutorWhenPermitIsReleased() throws Exception {
+        Fixture fixture = new Fixture(1, 10);
+        fixture.stage.execute(request, context);
+
+        CompletableFuture<Response<Object>> queued = fixture.stage.execute(request, context);
+        assertThat(attempts).hasSize(1);
+        assertThat(fixture.limiter.pending()).isEqualTo(1);
+
+        attempts.get(0).complete(Response.builder().isSuccess(true).build());
+        assertThat(handedOff).hasSize(1);
+        assertThat(attempts).hasSize(1);
+
+        handedOff.get(0).run();
+        assertThat(attempts).hasSize(2);
+        assertThat(fixture.limiter.inFlight()).isEqualTo(1);
+
+        attempts.get(1).complete(Response.builder().isSuccess(true).build());
+        assertThat(queued).isCompleted();
+        assertThat(fixture.limiter.inFlight()).isZero();
+    }
+
+    @Test
+    public void execute_tooManyPending_fails() throws Exception {
+        Fixture fixture = new Fixture(1, 1);
+        fixture.stage.execute(request, context);
+        fixture.stage.execute(request, context);
+
+        CompletableFuture<Response<Object>> rejected = fixture.stage.execute(request, context);
+
+        assertThatThrownBy(rejected::join).isInstanceOf(CompletionException.class)
+                                          .hasCauseInstanceOf(SdkClientException.class);
+        assertThat(attempts).hasSize(1);
+        assertThat(fixture.limiter.pending()).isEqualTo(1);
+    }
+
+    @Test
+    public void cancel_queuedAttempt_givesUpPlaceInQueue() throws Exception {
+        Fixture fixture = new Fixture(1, 10);
+        fixture.stage.execute(request, context);
+        CompletableFuture<Response<Object>> queued = fixture.stage.execute(request, context);
+
+        queued.cancel(false);
+        assertThat(fixture.limiter.pending()).isZero();
+
+        attempts.get(0).complete(Response.builder().isSuccess(true).build());
+        assertThat(handedOff).isEmpty();
+        assertThat(fixture.limiter.inFlight()).isZero();
+    }
+
+    @Test
+    public void cancel_attemptInFlight_releasesPermitWithoutUpdatingLimit() throws Exception {
+        Fixture fixture = new Fixture(INITIAL_LIMIT, 10);
+        CompletableFuture<Response<Object>> result = fixture.stage.execute(request, context);
+
+        result.cancel(false);
+
+        assertThat(attempts.get(0)).isCancelled();
+        assertThat(fixture.limiter.inFlight()).isZero();
+        assertThat(fixture.limiter.limit()).isEqualTo(INITIAL_LIMIT);
+    }
+
+    private void assertDropped(CompletableFuture<Response<Object>> outcome) throws Exception {
+        AdaptiveConcurrencyLimiter limiter = complete(outcome);
+        assertThat(limiter.limit()).isLessThan(INITIAL_LIMIT);
+    }
+
+    private void assertNotDropped(CompletableFuture<Response<Object>> outcome) throws Exception {
+        AdaptiveConcurrencyLimiter limiter = complete(outcome);
+        assertThat(limiter.limit()).isEqualTo(INITIAL_LIMIT);
+    }
+
+    /**
+     * Send one attempt and complete it like the given outcome, returning the limiter of the endpoint.
+     */
+    private AdaptiveConcurrencyLimiter complete(CompletableFuture<Response<Object>> outcome) throws Exception {
+        Fixture fixture = new Fixture(INITIAL_LIMIT, 10);
+        fixture.stage.execute(request, context);
+        outcome.whenComplete((r, t) -> {
+            if (t != null) {
+                attempts.get(0).completeExceptionally(t);
+            } else {
+                attempts.get(0).complete(r);
+            }
+        });
+        assertThat(fixture.limiter.inFlight()).isZero();
+        return fixture.limiter;
+    }
+
+    private static CompletableFuture<Response<Object>> serviceErrorResponse(int statusCode) {
+        return CompletableFuture.completedFuture(Response.builder()
+                                                         .isSuccess(false)
+                                                         .exception(SdkServiceException.builder()
+                                                                                       .statusCode(statusCode)
+                                                                                       .build())
+                                                         .build());
+    }
+
+    private static CompletableFuture<Response<Object>> failure(Throwable t) {
+        CompletableFuture<Response<Object>> future = new CompletableFuture<>();
+        future.completeExceptionally(t);
+        return future;
+    }
+
+    private CompletableFuture<Response<Object>> attempt(SdkHttpFullRequest request, RequestExecutionContext context) {
+        CompletableFuture<Response<Object>> attempt = new CompletableFuture<>();
+        attempts.add(attempt);
+        return attempt;
+    }
+
+    private final class Fixture {
+        private final AsyncConcurrencyLimitingStage<Object> stage;
+        private final AdaptiveConcurrencyLimiter limiter;
+
+        private Fixture(int initialLimit, int maxPendingAcquires) {
+            ConcurrencyLimitConfiguration configuration = ConcurrencyLimitConfiguration.builder()
+                                                                                       .initialLimit(initialLimit)
+                                                                                       .maxPendingAcquires(maxPendingAcquires)
+                                                                                       .build();
+            SdkClientConfiguration clientConfiguration =
+                SdkClientConfiguration.builder()
+                                      .option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE, scheduledExecutor)
+                                      .option(SdkClientOption.CONCURRENCY_LIMIT_CONFIGURATION, configuration)
+                                      .build();
+            HttpClientDependencies dependencies = HttpClientDependencies.builder()
+                                                                        .clientConfiguration(clientConfiguration)
+                                                                        .build();
+            this.stage = new AsyncConcurrencyLimitingStage<>(dependencies, AsyncConcurrencyLimitingStageTest.this::attempt);
+            this.limiter = dependencies.concurrencyLimiters().limiterFor(request);
+        }
+    }
+}
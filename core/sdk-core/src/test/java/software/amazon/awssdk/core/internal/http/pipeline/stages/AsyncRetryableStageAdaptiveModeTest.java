@@ -258,7 +258,7 @@ public class AsyncRetryableStageAdaptiveModeTest {
     }
 
     private AsyncRetryableStage<Object> createStage(RetryPolicy retryPolicy) {
-        return new AsyncRetryableStage<>(null, clientDependencies(retryPolicy), mockChildPipeline, tokenBucket);
+        return new AsyncRetryableStage<>(null, clientDependencies(retryPolicy), mockChildPipeline);
     }
 
     private Response<Object> createSuccessResponse() {
@@ -283,6 +283,7 @@ public class AsyncRetryableStageAdaptiveModeTest {
 
         return HttpClientDependencies.builder()
                                      .clientConfiguration(clientConfiguration)
+                                     .rateLimitingTokenBucket(tokenBucket)
                                      .build();
     }
 
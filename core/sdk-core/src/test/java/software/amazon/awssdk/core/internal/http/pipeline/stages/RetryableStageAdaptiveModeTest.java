@@ -208,7 +208,7 @@ public class RetryableStageAdaptiveModeTest {
     }
 
     private RetryableStage<Object> createStage(RetryPolicy retryPolicy) {
-        return new RetryableStage<>(clientDependencies(retryPolicy), mockChildPipeline, tokenBucket);
+        return new RetryableStage<>(clientDependencies(retryPolicy), mockChildPipeline);
     }
 
     private Response<Object> createSuccessResponse() {
@@ -232,6 +232,7 @@ public class RetryableStageAdaptiveModeTest {
 
         return HttpClientDependencies.builder()
                 .clientConfiguration(clientConfiguration)
+                .rateLimitingTokenBucket(tokenBucket)
                 .build();
     }
 
@@ -0,0 +1,222 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class AsyncHedgerTest {
+    private static final String OPERATION = "GetItem";
+
+    private final List<Runnable> scheduledHedges = new ArrayList<>();
+    private final List<Long> hedgeDelays = new ArrayList<>();
+    private final List<CompletableFuture<String>> hedgedCalls = new ArrayList<>();
+    private ScheduledExecutorService scheduledExecutor;
+    private MetricCollector metricCollector;
+
+    @BeforeEach
+    public void setup() {
+        scheduledExecutor = mock(ScheduledExecutorService.class);
+        when(scheduledExecutor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(i -> {
+            scheduledHedges.add(i.getArgument(0));
+            hedgeDelays.add(i.<TimeUnit>getArgument(2).toNanos(i.getArgument(1)));
+            return mock(ScheduledFuture.class);
+        });
+        metricCollector = MetricCollector.create("ApiCall");
+    }
+
+    @Test
+    public void isHedged_onlyConfiguredOperations() {
+        AsyncHedger hedger = hedger(HedgingPolicy.builder().operations(OPERATION));
+
+        assertThat(hedger.isHedged(OPERATION)).isTrue();
+        assertThat(hedger.isHedged("PutItem")).isFalse();
+        assertThat(hedger.isHedged(null)).isFalse();
+    }
+
+    @Test
+    public void execute_callCompletesBeforeDelay_doesNotSendHedge() {
+        AsyncHedger hedger = hedger(HedgingPolicy.builder().operations(OPERATION));
+
+        CompletableFuture<String> result = hedger.execute(OPERATION, metricCollector,
+                                                          () -> CompletableFuture.completedFuture("call"), hedgedCall());
+
+        assertThat(result.join()).isEqualTo("call");
+        assertThat(scheduledHedges).isEmpty();
+        MetricCollection metrics = metricCollector.collect();
+        assertThat(metrics.metricValues(CoreMetric.HEDGE_SENT)).containsExactly(false);
+        assertThat(metrics.metricValues(CoreMetric.HEDGE_WON)).isEmpty();
+    }
+
+    @Test
+    public void execute_hedgeSucceedsFirst_usesHedgeAndCancelsCall() {
+        AsyncHedger hedger = hedger(HedgingPolicy.builder().operations(OPERATION).hedgeDelay(Duration.ofMillis(20)));
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        CompletableFuture<String> result = hedger.execute(OPERATION, metricCollector, () -> call, hedgedCall());
+        assertThat(hedgeDelays).containsExactly(Duration.ofMillis(20).toNanos());
+        scheduledHedges.get(0).run();
+        hedgedCalls.get(0).complete("hedge");
+
+        assertThat(result.join()).isEqualTo("hedge");
+        assertThat(call).isCancelled();
+        MetricCollection metrics = metricCollector.collect();
+        assertThat(metrics.metricValues(CoreMetric.HEDGE_SENT)).containsExactly(true);
+        assertThat(metrics.metricValues(CoreMetric.HEDGE_WON)).containsExactly(true);
+    }
+
+    @Test
+    public void execute_callSucceedsFirst_cancelsHedge() {
+        AsyncHedger hedger = hedger(HedgingPolicy.builder().operations(OPERATION));
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        CompletableFuture<String> result = hedger.execute(OPERATION, metricCollector, () -> call, hedgedCall());
+        scheduledHedges.get(0).run();
+        call.complete("call");
+
+        assertThat(result.join()).isEqualTo("call");
+        assertThat(hedgedCalls.get(0)).isCancelled();
+        assertThat(metricCollector.collect().metricValues(CoreMetric.HEDGE_WON)).containsExactly(false);
+    }
+
+    @Test
+    public void execute_callFailsAfterHedgeSent_waitsForHedge() {
+        AsyncHedger hedger = hedger(HedgingPolicy.builder().operations(OPERATION));
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        CompletableFuture<String> result = hedger.execute(OPERATION, metricCollector, () -> call, hedgedCall());
+        scheduledHedges.get(0).run();
+        call.completeExceptionally(new RuntimeException("call failed"));
+        assertThat(result).isNotDone();
+
+        hedgedCalls.get(0).complete("hedge");
+        assertThat(result.join()).isEqualTo("hedge");
+    }
+
+    @Test
+    public void execute_bothFail_failsWithFirstFailure() {
+        AsyncHedger hedger = hedger(HedgingPolicy.builder().operations(OPERATION));
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        CompletableFuture<String> result = hedger.execute(OPERATION, metricCollector, () -> call, hedgedCall());
+        scheduledHedges.get(0).run();
+        call.completeExceptionally(new RuntimeException("call failed"));
+        hedgedCalls.get(0).completeExceptionally(new RuntimeException("hedge failed"));
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasMessageContaining("call failed");
+    }
+
+    @Test
+    public void execute_callFailsBeforeDelay_doesNotSendHedge() {
+        AsyncHedger hedger = hedger(HedgingPolicy.builder().operations(OPERATION));
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        CompletableFuture<String> result = hedger.execute(OPERATION, metricCollector, () -> call, hedgedCall());
+        call.completeExceptionally(new RuntimeException("call failed"));
+        scheduledHedges.get(0).run();
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(hedgedCalls).isEmpty();
+    }
+
+    @Test
+    public void execute_budgetExhausted_stopsHedging() {
+        AsyncHedger hedger = hedger(HedgingPolicy.builder().operations(OPERATION).hedgeBudget(0.1));
+
+        for (int i = 0; i < 30; i++) {
+            hedger.execute(OPERATION, null, CompletableFuture::new, hedgedCall());
+            scheduledHedges.get(i).run();
+        }
+
+        // The budget starts full with ten hedges, and each call after the first adds a tenth of a hedge.
+        assertThat(hedgedCalls).hasSize(12);
+    }
+
+    @Test
+    public void execute_callFailsBeforeDelay_doesNotSpendBudget() {
+        AsyncHedger hedger = hedger(HedgingPolicy.builder().operations(OPERATION).hedgeBudget(0.1));
+
+        for (int i = 0; i < 20; i++) {
+            CompletableFuture<String> call = new CompletableFuture<>();
+            hedger.execute(OPERATION, null, () -> call, hedgedCall());
+            call.completeExceptionally(new RuntimeException("call failed"));
+            scheduledHedges.get(i).run();
+        }
+        assertThat(hedgedCalls).isEmpty();
+
+        // The budget is still full, so these calls hedge just as they would have on a new hedger.
+        for (int i = 20; i < 40; i++) {
+            hedger.execute(OPERATION, null, CompletableFuture::new, hedgedCall());
+            scheduledHedges.get(i).run();
+        }
+        assertThat(hedgedCalls).hasSize(11);
+    }
+
+    @Test
+    public void execute_latencyPercentile_usesRecentLatenciesOnceKnown() {
+        AsyncHedger hedger = hedger(HedgingPolicy.builder()
+                                                 .operations(OPERATION)
+                                                 .hedgeDelay(Duration.ofSeconds(1))
+                                                 .latencyPercentile(95.0));
+
+        for (int i = 0; i < 20; i++) {
+            hedger.execute(OPERATION, null, () -> CompletableFuture.completedFuture("call"), hedgedCall());
+        }
+        hedger.execute(OPERATION, null, CompletableFuture::new, hedgedCall());
+
+        assertThat(hedgeDelays).hasSize(1);
+        assertThat(hedgeDelays.get(0)).isLessThan(Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    public void build_invalidHedgeBudget_throws() {
+        assertThatThrownBy(() -> HedgingPolicy.builder().hedgeBudget(0.0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AsyncHedger hedger(HedgingPolicy.Builder policy) {
+        return new AsyncHedger(policy.build(), scheduledExecutor);
+    }
+
+    private Supplier<CompletableFuture<String>> hedgedCall() {
+        return () -> {
+            CompletableFuture<String> hedgedCall = new CompletableFuture<>();
+            hedgedCalls.add(hedgedCall);
+            return hedgedCall;
+        };
+    }
+}
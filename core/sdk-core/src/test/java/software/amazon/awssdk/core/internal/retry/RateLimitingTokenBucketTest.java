@@ -147,6 +147,66 @@ public class RateLimitingTokenBucketTest {
         assertThat(tb.getCurrentCapacity()).isEqualTo(-3.0);
     }
 
+    @Test
+    public void acquire_concurrentCallers_acquireEveryTokenOnce() throws InterruptedException {
+        RateLimitingTokenBucket tb = Mockito.spy(new RateLimitingTokenBucket());
+
+        // stub out sleep, since callers that find the bucket empty would otherwise wait for it to refill
+        Mockito.doAnswer(invocationOnMock -> null).when(tb).sleep(Mockito.anyDouble());
+
+        tb.setFillRate(0.5);
+        tb.setMaxCapacity(8000.0);
+        tb.setCurrentCapacity(8000.0);
+        tb.enable();
+
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    tb.acquire(1.0);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Allow for the little capacity refilled while the threads were running.
+        assertThat(tb.getCurrentCapacity()).isBetween(0.0, 1.0);
+    }
+
+    @Test
+    public void acquireShared_sameScope_returnsSameBucket() {
+        String scope = "dynamodb https://dynamodb.us-east-1.amazonaws.com";
+        String otherScope = "dynamodb https://dynamodb.us-west-2.amazonaws.com";
+        try {
+            assertThat(RateLimitingTokenBucket.acquireShared(scope))
+                .isSameAs(RateLimitingTokenBucket.acquireShared(scope))
+                .isNotSameAs(RateLimitingTokenBucket.acquireShared(otherScope));
+        } finally {
+            RateLimitingTokenBucket.releaseShared(scope);
+            RateLimitingTokenBucket.releaseShared(scope);
+            RateLimitingTokenBucket.releaseShared(otherScope);
+        }
+    }
+
+    @Test
+    public void releaseShared_lastClientReleased_forgetsBucket() {
+        String scope = "sqs https://sqs.us-east-1.amazonaws.com";
+        RateLimitingTokenBucket first = RateLimitingTokenBucket.acquireShared(scope);
+        RateLimitingTokenBucket.acquireShared(scope);
+
+        RateLimitingTokenBucket.releaseShared(scope);
+        assertThat(RateLimitingTokenBucket.acquireShared(scope)).isSameAs(first);
+
+        RateLimitingTokenBucket.releaseShared(scope);
+        RateLimitingTokenBucket.releaseShared(scope);
+        RateLimitingTokenBucket second = RateLimitingTokenBucket.acquireShared(scope);
+        RateLimitingTokenBucket.releaseShared(scope);
+        assertThat(second).isNotSameAs(first);
+    }
+
     @Test
     public void tryAcquireCapacity_capacityInsufficient_returnsDifference() {
         RateLimitingTokenBucket tb = new RateLimitingTokenBucket();
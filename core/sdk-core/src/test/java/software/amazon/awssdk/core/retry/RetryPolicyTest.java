@@ -181,6 +181,20 @@ public class RetryPolicyTest {
         RetryPolicy.builder(RetryMode.ADAPTIVE).fastFailRateLimiting(true).build();
     }
 
+    @Test
+    public void sharedRateLimitingConfigured_retryModeNotAdaptive_throws() {
+        assertThatThrownBy(() -> RetryPolicy.builder(RetryMode.STANDARD).sharedRateLimiting(true).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("only valid for the ADAPTIVE retry mode");
+    }
+
+    @Test
+    public void sharedRateLimitingConfigured_retryModeAdaptive_isKeptByToBuilder() {
+        RetryPolicy policy = RetryPolicy.builder(RetryMode.ADAPTIVE).sharedRateLimiting(true).build();
+
+        assertThat(policy.toBuilder().build().isSharedRateLimiting()).isTrue();
+    }
+
     @Test
     public void hashCodeDoesNotThrow() {
         RetryPolicy.defaultRetryPolicy().hashCode();
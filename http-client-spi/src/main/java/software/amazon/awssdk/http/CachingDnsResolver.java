@@ -0,0 +1,346 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A DNS resolver that caches the addresses of each host in memory, and spreads new connections across all of them.
+ * <p>
+ * The first lookup of a host blocks on the JVM's resolver. Later lookups are answered from the cache. Once the cached
+ * addresses are older than {@link Builder#cacheTtl(Duration)}, they are still returned while a background thread
+ * resolves the host again, so DNS lookups stay off the request path. If that lookup fails, the previous addresses keep
+ * being used.
+ * <p>
+ * Each lookup returns the addresses in a different order, so that connections opened one after the other use different
+ * addresses. Addresses that a client has failed to connect to are moved to the end of the order for
+ * {@link Builder#failedAddressTimeout(Duration)}.
+ * <p>
+ * A host that has not been looked up for twice the cache TTL is removed from the cache, so that the cache does not grow
+ * with every host a long-running application has ever connected to. Its next lookup blocks on the JVM's resolver again.
+ * <p>
+ * HTTP clients do not close a resolver that is configured on them, so one resolver may be shared between clients. It
+ * should be closed once the clients using it are closed.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class CachingDnsResolver implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(CachingDnsResolver.class);
+
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_FAILED_ADDRESS_TIMEOUT = Duration.ofSeconds(10);
+
+    private final long cacheTtlNanos;
+    private final long failedAddressTimeoutNanos;
+    private final AddressLookup lookup;
+    private final LongSupplier nanoTime;
+    private final Executor refreshExecutor;
+    private final Map<String, CachedAddresses> cache = new ConcurrentHashMap<>();
+    private final Map<InetAddress, Long> failedAddresses = new ConcurrentHashMap<>();
+    private final AtomicLong nextCleanupAt;
+
+    private CachingDnsResolver(BuilderImpl builder) {
+        this(builder, InetAddress::getAllByName, System::nanoTime, newRefreshExecutor());
+    }
+
+    @SdkTestInternalApi
+    CachingDnsResolver(BuilderImpl builder, AddressLookup lookup, LongSupplier nanoTime, Executor refreshExecutor) {
+        this.cacheTtlNanos = Validate.isPositive(builder.cacheTtl, "cacheTtl").toNanos();
+        this.failedAddressTimeoutNanos = Validate.isNotNegative(builder.failedAddressTimeout, "failedAddressTimeout")
+                                                 .toNanos();
+        this.lookup = lookup;
+        this.nanoTime = nanoTime;
+        this.refreshExecutor = refreshExecutor;
+        this.nextCleanupAt = new AtomicLong(nanoTime.getAsLong() + cacheTtlNanos);
+    }
+
+    /**
+     * Create a resolver with the default configuration.
+     */
+    public static CachingDnsResolver create() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * Resolve all addresses of a host, in the order that connections to the host should try them.
+     *
+     * @param host The host name or IP address literal.
+     * @return The addresses of the host. This is never empty.
+     * @throws UnknownHostException If the host is not cached and cannot be resolved.
+     */
+    public InetAddress[] resolveAll(String host) throws UnknownHostException {
+        long now = nanoTime.getAsLong();
+        cleanUpIfDue(now);
+        CachedAddresses entry = cache.get(host);
+        if (entry == null) {
+            CachedAddresses resolved = new CachedAddresses(lookup.lookup(host), now);
+            entry = cache.putIfAbsent(host, resolved);
+            if (entry == null) {
+                entry = resolved;
+            }
+        } else if (now - entry.resolvedAt >= cacheTtlNanos) {
+            refresh(host, entry);
+        }
+        return entry.nextOrder(now);
+    }
+
+    /**
+     * Resolve the address of a host that the next connection to it should use.
+     *
+     * @param host The host name or IP address literal.
+     * @return The address to connect to.
+     * @throws UnknownHostException If the host is not cached and cannot be resolved.
+     */
+    public InetAddress resolve(String host) throws UnknownHostException {
+        return resolveAll(host)[0];
+    }
+
+    /**
+     * Report that a connection to an address failed. The address is tried last until the failed address timeout has
+     * passed.
+     *
+     * @param address The address that could not be connected to.
+     */
+    public void reportFailure(InetAddress address) {
+        if (address == null || failedAddressTimeoutNanos == 0) {
+            return;
+        }
+        log.debug(() -> "Connection to " + address + " failed. It will be tried last for the next "
+                        + Duration.ofNanos(failedAddressTimeoutNanos) + ".");
+        failedAddresses.put(address, nanoTime.getAsLong() + failedAddressTimeoutNanos);
+    }
+
+    @Override
+    public void close() {
+        if (refreshExecutor instanceof ExecutorService) {
+            ((ExecutorService) refreshExecutor).shutdownNow();
+        }
+        cache.clear();
+        failedAddresses.clear();
+    }
+
+    private void refresh(String host, CachedAddresses entry) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                long now = nanoTime.getAsLong();
+                try {
+                    cache.replace(host, entry, new CachedAddresses(lookup.lookup(host), now));
+                } catch (UnknownHostException | RuntimeException e) {
+                    log.debug(() -> "Unable to resolve " + host + " again. The cached addresses will be used until the "
+                                    + "next attempt.", e);
+                    cache.replace(host, entry, entry.resolvedAgainAt(now));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Remove the hosts that have not been looked up for twice the cache TTL, and the failed addresses whose timeout has
+     * passed. This runs at most once per cache TTL.
+     */
+    private void cleanUpIfDue(long now) {
+        long cleanupAt = nextCleanupAt.get();
+        if (now - cleanupAt < 0 || !nextCleanupAt.compareAndSet(cleanupAt, now + cacheTtlNanos)) {
+            return;
+        }
+
+        cache.forEach((host, entry) -> {
+            if (now - entry.lastUsedAt >= 2 * cacheTtlNanos) {
+                log.debug(() -> "Removing " + host + " from the DNS cache, because it has not been used recently.");
+                cache.remove(host, entry);
+            }
+        });
+        failedAddresses.forEach((address, failedUntil) -> {
+            if (now - failedUntil >= 0) {
+                failedAddresses.remove(address, failedUntil);
+            }
+        });
+    }
+
+    private boolean hasFailed(InetAddress address, long now) {
+        Long failedUntil = failedAddresses.get(address);
+        if (failedUntil == null) {
+            return false;
+        }
+        if (now - failedUntil >= 0) {
+            failedAddresses.remove(address, failedUntil);
+            return false;
+        }
+        return true;
+    }
+
+    private static Executor newRefreshExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                                             new ThreadFactoryBuilder().threadNamePrefix("sdk-dns-refresh")
+                                                                                       .daemonThreads(true)
+                                                                                       .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @FunctionalInterface
+    interface AddressLookup {
+        InetAddress[] lookup(String host) throws UnknownHostException;
+    }
+
+    /**
+     * The addresses of a host, and the position to start from for the next lookup.
+     */
+    private final class CachedAddresses {
+        private final InetAddress[] addresses;
+        private final long resolvedAt;
+        private final AtomicInteger next;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long lastUsedAt;
+
+        private CachedAddresses(InetAddress[] addresses, long resolvedAt) {
+            this(addresses, resolvedAt, new AtomicInteger(), resolvedAt);
+        }
+
+        private CachedAddresses(InetAddress[] addresses, long resolvedAt, AtomicInteger next, long lastUsedAt) {
+            this.addresses = addresses;
+            this.resolvedAt = resolvedAt;
+            this.next = next;
+            this.lastUsedAt = lastUsedAt;
+        }
+
+        private CachedAddresses resolvedAgainAt(long now) {
+            return new CachedAddresses(addresses, now, next, lastUsedAt);
+        }
+
+        /**
+         * Rotate the addresses by one position each call. Addresses of the family the JVM resolver prefers stay ahead of
+         * the others, and failed addresses go last.
+         */
+        private InetAddress[] nextOrder(long now) {
+            lastUsedAt = now;
+            int start = next.getAndIncrement();
+            Class<?> preferredFamily = addresses[0].getClass();
+
+            List<InetAddress> preferred = new ArrayList<>(addresses.length);
+            List<InetAddress> others = new ArrayList<>();
+            for (InetAddress address : addresses) {
+                (address.getClass() == preferredFamily ? preferred : others).add(address);
+            }
+
+            List<InetAddress> ordered = new ArrayList<>(addresses.length);
+            List<InetAddress> failed = new ArrayList<>();
+            addRotated(preferred, start, now, ordered, failed);
+            addRotated(others, start, now, ordered, failed);
+            ordered.addAll(failed);
+            return ordered.toArray(new InetAddress[0]);
+        }
+
+        private void addRotated(List<InetAddress> family, int start, long now,
+                                List<InetAddress> ordered, List<InetAddress> failed) {
+            int size = family.size();
+            for (int i = 0; i < size; i++) {
+                InetAddress address = family.get(Math.floorMod(start + i, size));
+                (hasFailed(address, now) ? failed : ordered).add(address);
+            }
+        }
+    }
+
+    /**
+     * A builder for a {@link CachingDnsResolver}.
+     */
+    public interface Builder {
+        /**
+         * How long the addresses of a host are used before they are resolved again in the background. The JVM's own
+         * address cache, configured with the {@code networkaddress.cache.ttl} security property, still applies to those
+         * lookups.
+         * <p>
+         * By default, this is 30 seconds.
+         */
+        Builder cacheTtl(Duration cacheTtl);
+
+        /**
+         * How long an address that could not be connected to is tried after the other addresses of its host. Zero
+         * disables this.
+         * <p>
+         * By default, this is 10 seconds.
+         */
+        Builder failedAddressTimeout(Duration failedAddressTimeout);
+
+        CachingDnsResolver build();
+    }
+
+    static final class BuilderImpl implements Builder {
+        private Duration cacheTtl = DEFAULT_CACHE_TTL;
+        private Duration failedAddressTimeout = DEFAULT_FAILED_ADDRESS_TIMEOUT;
+
+        private BuilderImpl() {
+        }
+
+        @Override
+        public Builder cacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        public void setCacheTtl(Duration cacheTtl) {
+            cacheTtl(cacheTtl);
+        }
+
+        @Override
+        public Builder failedAddressTimeout(Duration failedAddressTimeout) {
+            this.failedAddressTimeout = failedAddressTimeout;
+            return this;
+        }
+
+        public void setFailedAddressTimeout(Duration failedAddressTimeout) {
+            failedAddressTimeout(failedAddressTimeout);
+        }
+
+        @Override
+        public CachingDnsResolver build() {
+            return new CachingDnsResolver(this);
+        }
+    }
+}
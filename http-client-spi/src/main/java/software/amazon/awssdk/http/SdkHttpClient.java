@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.http;
 
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -55,6 +57,22 @@ public interface SdkHttpClient extends SdkAutoCloseable {
         return "UNKNOWN";
     }
 
+    /**
+     * Open connections to an endpoint ahead of time, so that the first requests sent to it do not pay for the TCP and TLS
+     * handshakes. The opened connections are left idle in the client's connection pool, where the client's idle timeouts still
+     * apply to them.
+     * <p>
+     * At most the client's maximum number of connections are opened. Clients that do not pool connections ignore this.
+     *
+     * @param endpoint The endpoint to connect to. Only its scheme, host and port are used.
+     * @param connections The number of connections to open.
+     * @return A future that completes once the connections are open, or completes exceptionally if any of them could not be
+     * opened.
+     */
+    default CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Interface for creating an {@link SdkHttpClient} with service specific defaults applied.
      */
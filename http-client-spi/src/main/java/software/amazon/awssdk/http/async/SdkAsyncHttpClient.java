@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http.async;
 
+import java.net.URI;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -59,6 +60,22 @@ public interface SdkAsyncHttpClient extends SdkAutoCloseable {
         return "UNKNOWN";
     }
 
+    /**
+     * Open connections to an endpoint ahead of time, so that the first requests sent to it do not pay for the TCP and TLS
+     * handshakes. The opened connections are left idle in the client's connection pool, where the client's idle timeouts still
+     * apply to them.
+     * <p>
+     * At most the client's maximum number of connections are opened. Clients that do not pool connections ignore this.
+     *
+     * @param endpoint The endpoint to connect to. Only its scheme, host and port are used.
+     * @param connections The number of connections to open.
+     * @return A future that completes once the connections are open, or completes exceptionally if any of them could not be
+     * opened.
+     */
+    default CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     @FunctionalInterface
     interface Builder<T extends SdkAsyncHttpClient.Builder<T>> extends SdkBuilder<T, SdkAsyncHttpClient> {
         /**
@@ -0,0 +1,188 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CachingDnsResolverTest {
+    private static final String HOST = "s3.amazonaws.com";
+
+    private final Map<String, InetAddress[]> records = new HashMap<>();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final AtomicLong now = new AtomicLong();
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private CachingDnsResolver resolver;
+
+    @BeforeEach
+    public void setup() throws UnknownHostException {
+        records.put(HOST, new InetAddress[] {ipv4(1), ipv4(2), ipv4(3)});
+        resolver = resolver(Duration.ofSeconds(30), Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void resolve_cachedHost_doesNotLookUpAgain() throws UnknownHostException {
+        resolver.resolve(HOST);
+        resolver.resolve(HOST);
+
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    public void resolve_spreadsAcrossAllAddresses() throws UnknownHostException {
+        assertThat(resolver.resolve(HOST)).isEqualTo(ipv4(1));
+        assertThat(resolver.resolve(HOST)).isEqualTo(ipv4(2));
+        assertThat(resolver.resolve(HOST)).isEqualTo(ipv4(3));
+        assertThat(resolver.resolve(HOST)).isEqualTo(ipv4(1));
+    }
+
+    @Test
+    public void resolveAll_returnsEveryAddressRotated() throws UnknownHostException {
+        resolver.resolveAll(HOST);
+
+        assertThat(resolver.resolveAll(HOST)).containsExactly(ipv4(2), ipv4(3), ipv4(1));
+    }
+
+    @Test
+    public void resolveAll_mixedFamilies_keepsPreferredFamilyFirst() throws UnknownHostException {
+        records.put(HOST, new InetAddress[] {ipv4(1), ipv6(1), ipv4(2)});
+        resolver.resolveAll(HOST);
+
+        assertThat(resolver.resolveAll(HOST)).containsExactly(ipv4(2), ipv4(1), ipv6(1));
+    }
+
+    @Test
+    public void resolve_failedAddress_isTriedLastUntilTimeout() throws UnknownHostException {
+        resolver.reportFailure(ipv4(1));
+
+        assertThat(resolver.resolveAll(HOST)).containsExactly(ipv4(2), ipv4(3), ipv4(1));
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(resolver.resolveAll(HOST)).containsExactly(ipv4(2), ipv4(3), ipv4(1));
+        assertThat(resolver.resolveAll(HOST)).containsExactly(ipv4(3), ipv4(1), ipv4(2));
+    }
+
+    @Test
+    public void resolve_failedAddressTimeoutZero_ignoresFailures() throws UnknownHostException {
+        resolver = resolver(Duration.ofSeconds(30), Duration.ZERO);
+        resolver.reportFailure(ipv4(1));
+
+        assertThat(resolver.resolve(HOST)).isEqualTo(ipv4(1));
+    }
+
+    @Test
+    public void resolve_expiredEntry_returnsCachedAddressesAndRefreshesInBackground() throws UnknownHostException {
+        resolver.resolve(HOST);
+        records.put(HOST, new InetAddress[] {ipv4(4)});
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(resolver.resolveAll(HOST)).containsExactly(ipv4(2), ipv4(3), ipv4(1));
+        assertThat(pendingRefreshes).hasSize(1);
+
+        resolver.resolve(HOST);
+        assertThat(pendingRefreshes).hasSize(1);
+
+        pendingRefreshes.remove(0).run();
+        assertThat(resolver.resolveAll(HOST)).containsExactly(ipv4(4));
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    public void resolve_refreshFails_keepsCachedAddressesUntilNextAttempt() throws UnknownHostException {
+        resolver.resolve(HOST);
+        records.remove(HOST);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        resolver.resolve(HOST);
+        pendingRefreshes.remove(0).run();
+
+        assertThat(resolver.resolveAll(HOST)).containsExactlyInAnyOrder(ipv4(1), ipv4(2), ipv4(3));
+        assertThat(pendingRefreshes).isEmpty();
+
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        resolver.resolve(HOST);
+        assertThat(pendingRefreshes).hasSize(1);
+    }
+
+    @Test
+    public void resolve_hostUnusedForTwiceTheTtl_isRemovedFromCache() throws UnknownHostException {
+        String otherHost = "dynamodb.us-east-1.amazonaws.com";
+        records.put(otherHost, new InetAddress[] {ipv4(5)});
+        resolver.resolve(HOST);
+        resolver.resolve(otherHost);
+
+        now.addAndGet(Duration.ofSeconds(40).toNanos());
+        resolver.resolve(otherHost);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        resolver.resolve(otherHost);
+        assertThat(lookups).hasValue(2);
+
+        records.put(HOST, new InetAddress[] {ipv4(4)});
+        assertThat(resolver.resolveAll(HOST)).containsExactly(ipv4(4));
+        assertThat(lookups).hasValue(3);
+    }
+
+    @Test
+    public void resolve_unknownHost_throws() {
+        assertThatThrownBy(() -> resolver.resolve("unknown.example.com")).isInstanceOf(UnknownHostException.class);
+    }
+
+    @Test
+    public void build_nonPositiveCacheTtl_throws() {
+        assertThatThrownBy(() -> CachingDnsResolver.builder().cacheTtl(Duration.ZERO).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CachingDnsResolver resolver(Duration cacheTtl, Duration failedAddressTimeout) {
+        CachingDnsResolver.BuilderImpl builder = (CachingDnsResolver.BuilderImpl) CachingDnsResolver.builder()
+                                                                                                   .cacheTtl(cacheTtl)
+                                                                                                   .failedAddressTimeout(
+                                                                                                       failedAddressTimeout);
+        return new CachingDnsResolver(builder, this::lookup, now::get, pendingRefreshes::add);
+    }
+
+    private InetAddress[] lookup(String host) throws UnknownHostException {
+        lookups.incrementAndGet();
+        InetAddress[] addresses = records.get(host);
+        if (addresses == null) {
+            throw new UnknownHostException(host);
+        }
+        return addresses;
+    }
+
+    private static InetAddress ipv4(int lastOctet) throws UnknownHostException {
+        return InetAddress.getByAddress(HOST, new byte[] {10, 0, 0, (byte) lastOctet});
+    }
+
+    private static InetAddress ipv6(int lastByte) throws UnknownHostException {
+        byte[] address = new byte[16];
+        address[0] = (byte) 0xfd;
+        address[15] = (byte) lastByte;
+        return InetAddress.getByAddress(HOST, address);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics of the connection pool of an {@link ApacheHttpClient}, published periodically to the publisher configured with
+ * {@link ApacheHttpClient.Builder#connectionPoolMetricPublisher}.
+ *
+ * <p>Each published collection is named {@value #POOL_COLLECTION_NAME}, and reports the {@link HttpMetric#MAX_CONCURRENCY},
+ * {@link HttpMetric#AVAILABLE_CONCURRENCY}, {@link HttpMetric#LEASED_CONCURRENCY} and
+ * {@link HttpMetric#PENDING_CONCURRENCY_ACQUIRES} of the whole pool. It has a child collection named
+ * {@value #ROUTE_COLLECTION_NAME} for each route of the pool, which reports the same metrics for the route along with the
+ * metrics of this class.
+ */
+@SdkPublicApi
+public final class ApacheConnectionPoolMetric {
+    /**
+     * The name of the metric collections of the whole connection pool.
+     */
+    public static final String POOL_COLLECTION_NAME = "ApacheConnectionPool";
+
+    /**
+     * The name of the metric collections of each route of the connection pool.
+     */
+    public static final String ROUTE_COLLECTION_NAME = "ApacheConnectionPoolRoute";
+
+    /**
+     * The route, for example {@code https://dynamodb.us-west-2.amazonaws.com:443}, followed by the proxy it goes through if
+     * any.
+     */
+    public static final SdkMetric<String> ROUTE = metric("Route", String.class, MetricLevel.INFO);
+
+    /**
+     * The number of connections established on the route since the previous report.
+     */
+    public static final SdkMetric<Integer> NEW_CONNECTIONS = metric("NewConnections", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of requests on the route since the previous report that were sent on a connection already established for
+     * an earlier request.
+     */
+    public static final SdkMetric<Integer> REUSED_CONNECTIONS = metric("ReusedConnections", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The age of the oldest open connection of the route. This is not reported when the route has no open connection.
+     */
+    public static final SdkMetric<Duration> OLDEST_CONNECTION_AGE =
+        metric("OldestConnectionAge", Duration.class, MetricLevel.INFO);
+
+    private ApacheConnectionPoolMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.HTTP_CLIENT);
+    }
+}
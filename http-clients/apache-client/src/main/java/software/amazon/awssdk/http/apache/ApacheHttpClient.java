@@ -25,12 +25,14 @@ import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.URI;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.KeyManager;
@@ -64,6 +66,7 @@ import org.apache.http.protocol.HttpRequestExecutor;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.CachingDnsResolver;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
@@ -78,6 +81,9 @@ import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
 import software.amazon.awssdk.http.apache.internal.SdkConnectionReuseStrategy;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
+import software.amazon.awssdk.http.apache.internal.conn.ConnectFailureReportingSocketFactory;
+import software.amazon.awssdk.http.apache.internal.conn.ConnectionPoolMetricsReporter;
+import software.amazon.awssdk.http.apache.internal.conn.ConnectionPrewarmer;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
@@ -86,6 +92,7 @@ import software.amazon.awssdk.http.apache.internal.impl.ApacheSdkHttpClient;
 import software.amazon.awssdk.http.apache.internal.impl.ConnectionManagerAwareHttpClient;
 import software.amazon.awssdk.http.apache.internal.utils.ApacheUtils;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Logger;
@@ -107,10 +114,14 @@ public final class ApacheHttpClient implements SdkHttpClient {
 
     private static final Logger log = Logger.loggerFor(ApacheHttpClient.class);
 
+    private static final Duration DEFAULT_CONNECTION_POOL_METRIC_INTERVAL = Duration.ofMinutes(1);
+
     private final ApacheHttpRequestFactory apacheHttpRequestFactory = new ApacheHttpRequestFactory();
     private final ConnectionManagerAwareHttpClient httpClient;
     private final ApacheHttpRequestConfig requestConfig;
     private final AttributeMap resolvedOptions;
+    private final boolean directRoutes;
+    private final ConnectionPoolMetricsReporter connectionPoolMetricsReporter;
 
     @SdkTestInternalApi
     ApacheHttpClient(ConnectionManagerAwareHttpClient httpClient,
@@ -119,12 +130,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
         this.httpClient = httpClient;
         this.requestConfig = requestConfig;
         this.resolvedOptions = resolvedOptions;
+        this.directRoutes = true;
+        this.connectionPoolMetricsReporter = null;
     }
 
     private ApacheHttpClient(DefaultBuilder builder, AttributeMap resolvedOptions) {
+        this.connectionPoolMetricsReporter = createConnectionPoolMetricsReporter(builder);
         this.httpClient = createClient(builder, resolvedOptions);
         this.requestConfig = createRequestConfig(builder, resolvedOptions);
         this.resolvedOptions = resolvedOptions;
+        this.directRoutes = builder.httpRoutePlanner == null && !isProxyEnabled(builder.proxyConfiguration);
     }
 
     public static Builder builder() {
@@ -140,6 +155,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
         return new DefaultBuilder().build();
     }
 
+    private ConnectionPoolMetricsReporter createConnectionPoolMetricsReporter(DefaultBuilder configuration) {
+        if (configuration.connectionPoolMetricPublisher == null) {
+            return null;
+        }
+        Duration interval = configuration.connectionPoolMetricInterval != null ? configuration.connectionPoolMetricInterval
+                                                                               : DEFAULT_CONNECTION_POOL_METRIC_INTERVAL;
+        return new ConnectionPoolMetricsReporter(configuration.connectionPoolMetricPublisher,
+                                                 Validate.isPositive(interval, "connectionPoolMetricInterval"));
+    }
+
     private ConnectionManagerAwareHttpClient createClient(ApacheHttpClient.DefaultBuilder configuration,
                                                           AttributeMap standardOptions) {
         ApacheConnectionManagerFactory cmFactory = new ApacheConnectionManagerFactory();
@@ -148,7 +173,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         // Note that it is important we register the original connection manager with the
         // IdleConnectionReaper as it's required for the successful deregistration of managers
         // from the reaper. See https://github.com/aws/aws-sdk-java/issues/722.
-        HttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions);
+        HttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions, connectionPoolMetricsReporter);
 
         builder.setRequestExecutor(new HttpRequestExecutor())
                // SDK handles decompression
@@ -158,7 +183,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
                .disableAutomaticRetries()
                .setUserAgent("") // SDK will set the user agent header in the pipeline. Don't let Apache waste time
                .setConnectionReuseStrategy(new SdkConnectionReuseStrategy())
-               .setConnectionManager(ClientConnectionManagerFactory.wrap(cm));
+               .setConnectionManager(ClientConnectionManagerFactory.wrap(cm, connectionPoolMetricsReporter));
 
         addProxyConfig(builder, configuration);
 
@@ -167,6 +192,10 @@ public final class ApacheHttpClient implements SdkHttpClient {
                     cm, standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis());
         }
 
+        if (connectionPoolMetricsReporter != null) {
+            connectionPoolMetricsReporter.start((PoolingHttpClientConnectionManager) cm);
+        }
+
         return new ApacheSdkHttpClient(builder.build(), cm);
     }
 
@@ -240,10 +269,32 @@ public final class ApacheHttpClient implements SdkHttpClient {
         };
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Connections are not opened ahead of time when a proxy or a custom {@link HttpRoutePlanner} is configured.
+     */
+    @Override
+    public CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+        if (!directRoutes) {
+            log.debug(() -> "Not opening connections to " + endpoint + " ahead of time, because requests are not sent to it "
+                            + "directly.");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        int maxConnections = resolvedOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+        long connectionMaxIdleMillis = resolvedOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
+        return new ConnectionPrewarmer(httpClient.getHttpClientConnectionManager(), requestConfig, connectionMaxIdleMillis)
+            .prewarm(endpoint, Math.min(connections, maxConnections));
+    }
+
     @Override
     public void close() {
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
         IdleConnectionReaper.getInstance().deregisterConnectionManager(cm);
+        if (connectionPoolMetricsReporter != null) {
+            connectionPoolMetricsReporter.close();
+        }
         cm.shutdown();
     }
 
@@ -404,6 +455,17 @@ public final class ApacheHttpClient implements SdkHttpClient {
          */
         Builder dnsResolver(DnsResolver dnsResolver);
 
+        /**
+         * Configure a {@link CachingDnsResolver} that resolves the addresses of remote hosts. This can't be combined with
+         * {@link #dnsResolver(DnsResolver)}.
+         * <p>
+         * With a caching resolver, addresses are served from memory and refreshed in the background, new connections are
+         * spread across all addresses of a host, and addresses that could not be connected to are tried last for a while.
+         * <p>
+         * The resolver is not closed when this client is closed, so it may be shared between clients.
+         */
+        Builder cachingDnsResolver(CachingDnsResolver cachingDnsResolver);
+
         /**
          * Configuration that defines a custom Socket factory. If set to a null value, a default factory is used.
          * <p>
@@ -451,6 +513,23 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * when constructing the SSL context.
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure a {@link MetricPublisher} to which the statistics of the connection pool are published periodically: the
+         * number of leased, available and pending connections and the maximum number of connections, in total and for each
+         * route, along with the age of the connections of each route and how often they are reused. See
+         * {@link ApacheConnectionPoolMetric} for the published metrics.
+         * <p>
+         * By default, the statistics of the pool are not published. The publisher is not closed when this client is closed,
+         * so it may be shared with other clients.
+         */
+        Builder connectionPoolMetricPublisher(MetricPublisher connectionPoolMetricPublisher);
+
+        /**
+         * Configure how often the statistics of the connection pool are published to the
+         * {@link #connectionPoolMetricPublisher(MetricPublisher)}. The default is one minute.
+         */
+        Builder connectionPoolMetricInterval(Duration connectionPoolMetricInterval);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -461,7 +540,10 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private HttpRoutePlanner httpRoutePlanner;
         private CredentialsProvider credentialsProvider;
         private DnsResolver dnsResolver;
+        private CachingDnsResolver cachingDnsResolver;
         private ConnectionSocketFactory socketFactory;
+        private MetricPublisher connectionPoolMetricPublisher;
+        private Duration connectionPoolMetricInterval;
 
         private DefaultBuilder() {
         }
@@ -582,6 +664,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
             dnsResolver(dnsResolver);
         }
 
+        @Override
+        public Builder cachingDnsResolver(CachingDnsResolver cachingDnsResolver) {
+            this.cachingDnsResolver = cachingDnsResolver;
+            return this;
+        }
+
+        public void setCachingDnsResolver(CachingDnsResolver cachingDnsResolver) {
+            cachingDnsResolver(cachingDnsResolver);
+        }
+
         @Override
         public Builder socketFactory(ConnectionSocketFactory socketFactory) {
             this.socketFactory = socketFactory;
@@ -642,6 +734,26 @@ public final class ApacheHttpClient implements SdkHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder connectionPoolMetricPublisher(MetricPublisher connectionPoolMetricPublisher) {
+            this.connectionPoolMetricPublisher = connectionPoolMetricPublisher;
+            return this;
+        }
+
+        public void setConnectionPoolMetricPublisher(MetricPublisher connectionPoolMetricPublisher) {
+            connectionPoolMetricPublisher(connectionPoolMetricPublisher);
+        }
+
+        @Override
+        public Builder connectionPoolMetricInterval(Duration connectionPoolMetricInterval) {
+            this.connectionPoolMetricInterval = connectionPoolMetricInterval;
+            return this;
+        }
+
+        public void setConnectionPoolMetricInterval(Duration connectionPoolMetricInterval) {
+            connectionPoolMetricInterval(connectionPoolMetricInterval);
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(
@@ -653,15 +765,20 @@ public final class ApacheHttpClient implements SdkHttpClient {
     private static class ApacheConnectionManagerFactory {
 
         public HttpClientConnectionManager create(ApacheHttpClient.DefaultBuilder configuration,
-                                                  AttributeMap standardOptions) {
+                                                  AttributeMap standardOptions,
+                                                  ConnectionPoolMetricsReporter connectionPoolMetricsReporter) {
             ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions);
+            CachingDnsResolver cachingDnsResolver = configuration.cachingDnsResolver;
+            Validate.isTrue(cachingDnsResolver == null || configuration.dnsResolver == null,
+                            "A cachingDnsResolver can't be provided if a dnsResolver is also set");
+            DnsResolver dnsResolver = cachingDnsResolver != null ? cachingDnsResolver::resolveAll : configuration.dnsResolver;
 
             PoolingHttpClientConnectionManager cm = new
                     PoolingHttpClientConnectionManager(
-                    createSocketFactoryRegistry(sslsf),
-                    null,
+                    createSocketFactoryRegistry(sslsf, cachingDnsResolver),
+                    connectionPoolMetricsReporter,
                     DefaultSchemePortResolver.INSTANCE,
-                    configuration.dnsResolver,
+                    dnsResolver,
                     standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
                     TimeUnit.MILLISECONDS);
 
@@ -748,9 +865,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
                                .build();
         }
 
-        private Registry<ConnectionSocketFactory> createSocketFactoryRegistry(ConnectionSocketFactory sslSocketFactory) {
+        private Registry<ConnectionSocketFactory> createSocketFactoryRegistry(ConnectionSocketFactory sslSocketFactory,
+                                                                              CachingDnsResolver cachingDnsResolver) {
+            ConnectionSocketFactory plainSocketFactory = PlainConnectionSocketFactory.getSocketFactory();
+            if (cachingDnsResolver != null) {
+                // Addresses that can't be connected to are tried last by the next connections
+                plainSocketFactory = ConnectFailureReportingSocketFactory.wrap(plainSocketFactory, cachingDnsResolver);
+                sslSocketFactory = ConnectFailureReportingSocketFactory.wrap(sslSocketFactory, cachingDnsResolver);
+            }
             return RegistryBuilder.<ConnectionSocketFactory>create()
-                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                    .register("http", plainSocketFactory)
                     .register("https", sslSocketFactory)
                     .build();
         }
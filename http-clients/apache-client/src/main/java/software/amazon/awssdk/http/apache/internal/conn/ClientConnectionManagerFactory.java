@@ -37,10 +37,23 @@ public final class ClientConnectionManagerFactory {
      * @param orig the target instance to be wrapped
      */
     public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig) {
+        return wrap(orig, null);
+    }
+
+    /**
+     * Returns a wrapped instance of {@link HttpClientConnectionManager}
+     * to capture the necessary performance metrics, and report the connections leased from the pool to a
+     * {@link ConnectionPoolMetricsReporter}.
+     *
+     * @param orig the target instance to be wrapped
+     * @param poolMetricsReporter the reporter of the connection pool metrics, or null
+     */
+    public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig,
+                                                   ConnectionPoolMetricsReporter poolMetricsReporter) {
         if (orig instanceof DelegatingHttpClientConnectionManager) {
             throw new IllegalArgumentException();
         }
-        return new InstrumentedHttpClientConnectionManager(orig);
+        return new InstrumentedHttpClientConnectionManager(orig, poolMetricsReporter);
     }
 
     /**
@@ -48,14 +61,18 @@ public final class ClientConnectionManagerFactory {
      */
     private static class InstrumentedHttpClientConnectionManager extends DelegatingHttpClientConnectionManager {
 
-        private InstrumentedHttpClientConnectionManager(HttpClientConnectionManager delegate) {
+        private final ConnectionPoolMetricsReporter poolMetricsReporter;
+
+        private InstrumentedHttpClientConnectionManager(HttpClientConnectionManager delegate,
+                                                        ConnectionPoolMetricsReporter poolMetricsReporter) {
             super(delegate);
+            this.poolMetricsReporter = poolMetricsReporter;
         }
 
         @Override
         public ConnectionRequest requestConnection(HttpRoute route, Object state) {
             ConnectionRequest connectionRequest = super.requestConnection(route, state);
-            return ClientConnectionRequestFactory.wrap(connectionRequest);
+            return ClientConnectionRequestFactory.wrap(connectionRequest, route, poolMetricsReporter);
         }
     }
 
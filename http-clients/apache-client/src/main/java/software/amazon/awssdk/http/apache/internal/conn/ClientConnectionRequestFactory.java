@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.http.HttpClientConnection;
 import org.apache.http.conn.ConnectionPoolTimeoutException;
 import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
@@ -44,21 +45,30 @@ public final class ClientConnectionRequestFactory {
      * to capture the necessary performance metrics.
      *
      * @param orig the target instance to be wrapped
+     * @param route the route of the requested connection
+     * @param poolMetricsReporter the reporter of the connection pool metrics, or null
      */
-    static ConnectionRequest wrap(ConnectionRequest orig) {
+    static ConnectionRequest wrap(ConnectionRequest orig, HttpRoute route, ConnectionPoolMetricsReporter poolMetricsReporter) {
         if (orig instanceof DelegatingConnectionRequest) {
             throw new IllegalArgumentException();
         }
-        return new InstrumentedConnectionRequest(orig);
+        return new InstrumentedConnectionRequest(orig, route, poolMetricsReporter);
     }
 
     /**
-     * Measures the latency of {@link ConnectionRequest#get(long, java.util.concurrent.TimeUnit)}.
+     * Measures the latency of {@link ConnectionRequest#get(long, java.util.concurrent.TimeUnit)}, and reports the leased
+     * connection to the {@link ConnectionPoolMetricsReporter} if any.
      */
     private static class InstrumentedConnectionRequest extends DelegatingConnectionRequest {
+        private final HttpRoute route;
+        private final ConnectionPoolMetricsReporter poolMetricsReporter;
 
-        private InstrumentedConnectionRequest(ConnectionRequest delegate) {
+        private InstrumentedConnectionRequest(ConnectionRequest delegate,
+                                              HttpRoute route,
+                                              ConnectionPoolMetricsReporter poolMetricsReporter) {
             super(delegate);
+            this.route = route;
+            this.poolMetricsReporter = poolMetricsReporter;
         }
 
         @Override
@@ -66,7 +76,11 @@ public final class ClientConnectionRequestFactory {
                                                                                 ConnectionPoolTimeoutException {
             Instant startTime = Instant.now();
             try {
-                return super.get(timeout, timeUnit);
+                HttpClientConnection connection = super.get(timeout, timeUnit);
+                if (poolMetricsReporter != null) {
+                    poolMetricsReporter.connectionLeased(route, connection);
+                }
+                return connection;
             } finally {
                 Duration elapsed = Duration.between(startTime, Instant.now());
                 MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.CachingDnsResolver;
+
+/**
+ * Reports the address of a connection that could not be established to the {@link CachingDnsResolver} that resolved it,
+ * so that the next connections try the other addresses of the host first.
+ */
+@SdkInternalApi
+public class ConnectFailureReportingSocketFactory implements ConnectionSocketFactory {
+    private final ConnectionSocketFactory delegate;
+    private final CachingDnsResolver dnsResolver;
+
+    private ConnectFailureReportingSocketFactory(ConnectionSocketFactory delegate, CachingDnsResolver dnsResolver) {
+        this.delegate = delegate;
+        this.dnsResolver = dnsResolver;
+    }
+
+    /**
+     * Wrap a socket factory, keeping it a {@link LayeredConnectionSocketFactory} if it is one.
+     */
+    public static ConnectionSocketFactory wrap(ConnectionSocketFactory delegate, CachingDnsResolver dnsResolver) {
+        if (delegate instanceof LayeredConnectionSocketFactory) {
+            return new Layered((LayeredConnectionSocketFactory) delegate, dnsResolver);
+        }
+        return new ConnectFailureReportingSocketFactory(delegate, dnsResolver);
+    }
+
+    @Override
+    public Socket createSocket(HttpContext context) throws IOException {
+        return delegate.createSocket(context);
+    }
+
+    @Override
+    public Socket connectSocket(int connectTimeout,
+                                Socket sock,
+                                HttpHost host,
+                                InetSocketAddress remoteAddress,
+                                InetSocketAddress localAddress,
+                                HttpContext context) throws IOException {
+        try {
+            return delegate.connectSocket(connectTimeout, sock, host, remoteAddress, localAddress, context);
+        } catch (IOException e) {
+            dnsResolver.reportFailure(remoteAddress.getAddress());
+            throw e;
+        }
+    }
+
+    private static final class Layered extends ConnectFailureReportingSocketFactory implements LayeredConnectionSocketFactory {
+        private final LayeredConnectionSocketFactory delegate;
+
+        private Layered(LayeredConnectionSocketFactory delegate, CachingDnsResolver dnsResolver) {
+            super(delegate, dnsResolver);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+            return delegate.createLayeredSocket(socket, target, port, context);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static software.amazon.awssdk.http.HttpMetric.AVAILABLE_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.PENDING_CONCURRENCY_ACQUIRES;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.config.ConnectionConfig;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.apache.ApacheConnectionPoolMetric;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Periodically publishes the statistics of a connection pool, in total and for each of its routes, to a
+ * {@link MetricPublisher}. The connections of the pool must be created by this reporter, and the connections leased from the
+ * pool reported to it with {@link #connectionLeased(HttpRoute, HttpClientConnection)}, to compute the age of the connections
+ * and how often they are reused.
+ */
+@SdkInternalApi
+public final class ConnectionPoolMetricsReporter
+    implements HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection>, SdkAutoCloseable {
+
+    private static final Logger log = Logger.loggerFor(ConnectionPoolMetricsReporter.class);
+
+    private final HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> delegate =
+        ManagedHttpClientConnectionFactory.INSTANCE;
+    private final Map<HttpRoute, RouteActivity> routes = new ConcurrentHashMap<>();
+    private final MetricPublisher publisher;
+    private final Duration interval;
+
+    private volatile PoolingHttpClientConnectionManager connectionManager;
+    private volatile ScheduledExecutorService executor;
+
+    public ConnectionPoolMetricsReporter(MetricPublisher publisher, Duration interval) {
+        this.publisher = publisher;
+        this.interval = interval;
+    }
+
+    @Override
+    public ManagedHttpClientConnection create(HttpRoute route, ConnectionConfig config) {
+        ManagedHttpClientConnection connection = delegate.create(route, config);
+        activity(route).connectionCreated(connection);
+        return connection;
+    }
+
+    /**
+     * Record that a connection was leased from the pool for the route. A connection that is already open was used for an
+     * earlier request, while a new connection is only opened after it is leased.
+     */
+    public void connectionLeased(HttpRoute route, HttpClientConnection connection) {
+        if (connection.isOpen()) {
+            activity(route).reused.increment();
+        }
+    }
+
+    /**
+     * Start publishing the statistics of the connection manager, which must create its connections with this reporter.
+     */
+    public synchronized void start(PoolingHttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+        this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                                                                        .threadNamePrefix("apache-connection-pool-metrics")
+                                                                        .daemonThreads(true)
+                                                                        .build());
+        long intervalMillis = interval.toMillis();
+        executor.scheduleWithFixedDelay(this::report, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void report() {
+        try {
+            publisher.publish(collect(System.nanoTime()));
+        } catch (RuntimeException e) {
+            log.warn(() -> "Unable to publish the connection pool metrics.", e);
+        }
+    }
+
+    private MetricCollection collect(long now) {
+        MetricCollector poolCollector = MetricCollector.create(ApacheConnectionPoolMetric.POOL_COLLECTION_NAME);
+        poolCollector.reportMetric(HTTP_CLIENT_NAME, ApacheHttpClient.CLIENT_NAME);
+        reportStats(poolCollector, connectionManager.getTotalStats());
+
+        Set<HttpRoute> pooledRoutes = connectionManager.getRoutes();
+        Set<HttpRoute> allRoutes = new LinkedHashSet<>(pooledRoutes);
+        allRoutes.addAll(routes.keySet());
+        for (HttpRoute route : allRoutes) {
+            MetricCollector routeCollector = poolCollector.createChild(ApacheConnectionPoolMetric.ROUTE_COLLECTION_NAME);
+            routeCollector.reportMetric(ApacheConnectionPoolMetric.ROUTE, describe(route));
+            reportStats(routeCollector, connectionManager.getStats(route));
+
+            RouteActivity activity = routes.get(route);
+            if (activity != null) {
+                activity.report(routeCollector, now);
+                if (activity.isIdle() && !pooledRoutes.contains(route)) {
+                    routes.remove(route, activity);
+                }
+            }
+        }
+        return poolCollector.collect();
+    }
+
+    private RouteActivity activity(HttpRoute route) {
+        return routes.computeIfAbsent(route, r -> new RouteActivity());
+    }
+
+    private static void reportStats(MetricCollector collector, PoolStats stats) {
+        collector.reportMetric(MAX_CONCURRENCY, stats.getMax());
+        collector.reportMetric(AVAILABLE_CONCURRENCY, stats.getAvailable());
+        collector.reportMetric(LEASED_CONCURRENCY, stats.getLeased());
+        collector.reportMetric(PENDING_CONCURRENCY_ACQUIRES, stats.getPending());
+    }
+
+    private static String describe(HttpRoute route) {
+        String target = route.getTargetHost().toURI();
+        HttpHost proxy = route.getProxyHost();
+        return proxy == null ? target : target + " via " + proxy.toURI();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * The connections created for a route, and the number of times its connections were reused since the previous report.
+     */
+    private static final class RouteActivity {
+        private final LongAdder reused = new LongAdder();
+        private final LongAdder created = new LongAdder();
+        private final Set<TrackedConnection> connections = ConcurrentHashMap.newKeySet();
+
+        private void connectionCreated(ManagedHttpClientConnection connection) {
+            created.increment();
+            connections.add(new TrackedConnection(connection, System.nanoTime()));
+        }
+
+        private void report(MetricCollector collector, long now) {
+            collector.reportMetric(ApacheConnectionPoolMetric.NEW_CONNECTIONS, (int) created.sumThenReset());
+            collector.reportMetric(ApacheConnectionPoolMetric.REUSED_CONNECTIONS, (int) reused.sumThenReset());
+
+            long oldestCreated = Long.MAX_VALUE;
+            Iterator<TrackedConnection> iterator = connections.iterator();
+            while (iterator.hasNext()) {
+                TrackedConnection tracked = iterator.next();
+                if (tracked.connection.isOpen()) {
+                    tracked.opened = true;
+                    oldestCreated = Math.min(oldestCreated, tracked.createdNanos);
+                } else if (tracked.opened || tracked.seenClosed) {
+                    // Closed, or never connected: a connection is connected right after it is created.
+                    iterator.remove();
+                } else {
+                    tracked.seenClosed = true;
+                }
+            }
+
+            if (oldestCreated != Long.MAX_VALUE) {
+                collector.reportMetric(ApacheConnectionPoolMetric.OLDEST_CONNECTION_AGE, Duration.ofNanos(now - oldestCreated));
+            }
+        }
+
+        private boolean isIdle() {
+            return connections.isEmpty() && reused.sum() == 0 && created.sum() == 0;
+        }
+    }
+
+    private static final class TrackedConnection {
+        private final ManagedHttpClientConnection connection;
+        private final long createdNanos;
+        private boolean opened;
+        private boolean seenClosed;
+
+        private TrackedConnection(ManagedHttpClientConnection connection, long createdNanos) {
+            this.connection = connection;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
+import software.amazon.awssdk.http.apache.internal.utils.ApacheUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Opens connections in a {@link HttpClientConnectionManager} ahead of the requests that will use them.
+ * <p>
+ * Apache connects on the calling thread, so the connections are opened in parallel on a short-lived executor. Every connection
+ * stays leased until all of them are open, so that each lease opens a new connection instead of reusing one that was just
+ * opened. Only direct routes are supported, because tunneling through a proxy is done by the client rather than by the
+ * connection manager.
+ */
+@SdkInternalApi
+public final class ConnectionPrewarmer {
+    private static final int MAX_PREWARM_THREADS = 16;
+
+    private final HttpClientConnectionManager connectionManager;
+    private final ApacheHttpRequestConfig requestConfig;
+    private final long connectionMaxIdleMillis;
+
+    public ConnectionPrewarmer(HttpClientConnectionManager connectionManager,
+                               ApacheHttpRequestConfig requestConfig,
+                               long connectionMaxIdleMillis) {
+        this.connectionManager = connectionManager;
+        this.requestConfig = requestConfig;
+        this.connectionMaxIdleMillis = connectionMaxIdleMillis;
+    }
+
+    public CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+        HttpRoute route = directRoute(endpoint);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(connections, MAX_PREWARM_THREADS),
+                                                                new ThreadFactoryBuilder().threadNamePrefix("sdk-apache-prewarm")
+                                                                                          .build());
+
+        List<CompletableFuture<HttpClientConnection>> opens = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            CompletableFuture<HttpClientConnection> open = new CompletableFuture<>();
+            executor.execute(() -> {
+                try {
+                    open.complete(open(route));
+                } catch (Throwable t) {
+                    open.completeExceptionally(t);
+                }
+            });
+            opens.add(open);
+        }
+        executor.shutdown();
+
+        return CompletableFuture.allOf(opens.toArray(new CompletableFuture[0]))
+                                .whenComplete((r, t) -> opens.forEach(open -> open.thenAccept(this::release)));
+    }
+
+    private HttpRoute directRoute(URI endpoint) {
+        boolean secure = "https".equalsIgnoreCase(endpoint.getScheme());
+        // Match the route that the client plans for requests, which always has an explicit port.
+        int port = endpoint.getPort() > 0 ? endpoint.getPort() : secure ? 443 : 80;
+        HttpHost target = new HttpHost(endpoint.getHost(), port, endpoint.getScheme());
+        return new HttpRoute(target, requestConfig.localAddress(), secure);
+    }
+
+    private HttpClientConnection open(HttpRoute route) throws IOException, InterruptedException, ExecutionException {
+        HttpClientConnection connection =
+            connectionManager.requestConnection(route, null)
+                             .get(requestConfig.connectionAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+
+        // The connection may already be open if it was idle in the pool.
+        if (!connection.isOpen()) {
+            try {
+                HttpClientContext context = ApacheUtils.newClientContext(requestConfig.proxyConfiguration());
+                connectionManager.connect(connection, route, (int) requestConfig.connectionTimeout().toMillis(), context);
+                connectionManager.routeComplete(connection, route, context);
+            } catch (IOException | RuntimeException e) {
+                connectionManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+                throw e;
+            }
+        }
+        return connection;
+    }
+
+    private void release(HttpClientConnection connection) {
+        connectionManager.releaseConnection(connection, null, connectionMaxIdleMillis, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.CachingDnsResolver;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+public class ApacheHttpClientCachingDnsResolverTest {
+    private final List<Socket> accepted = new CopyOnWriteArrayList<>();
+    private final CachingDnsResolver dnsResolver = CachingDnsResolver.create();
+    private ServerSocket server;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        server = new ServerSocket(0);
+        Thread acceptor = new Thread(() -> {
+            try {
+                while (true) {
+                    accepted.add(server.accept());
+                }
+            } catch (IOException e) {
+                // The server was closed.
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        dnsResolver.close();
+        server.close();
+        for (Socket socket : accepted) {
+            socket.close();
+        }
+    }
+
+    @Test
+    public void cachingDnsResolver_connectsToResolvedAddress() throws InterruptedException {
+        try (SdkHttpClient client = ApacheHttpClient.builder().cachingDnsResolver(dnsResolver).build()) {
+            client.prewarm(URI.create("http://127.0.0.1:" + server.getLocalPort()), 2).join();
+
+            assertThat(awaitAccepted(2)).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void cachingDnsResolverAndDnsResolver_throwsException() {
+        assertThatThrownBy(() -> ApacheHttpClient.builder()
+                                                 .cachingDnsResolver(dnsResolver)
+                                                 .dnsResolver(SystemDefaultDnsResolver.INSTANCE)
+                                                 .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cachingDnsResolver");
+    }
+
+    /**
+     * Wait up to a second for the server to accept the expected number of connections, and return the number accepted.
+     */
+    private int awaitAccepted(int expected) throws InterruptedException {
+        for (int i = 0; i < 20 && accepted.size() < expected; i++) {
+            Thread.sleep(50);
+        }
+        return accepted.size();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+public class ApacheHttpClientPrewarmTest {
+    private final List<Socket> accepted = new CopyOnWriteArrayList<>();
+    private ServerSocket server;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        server = new ServerSocket(0);
+        Thread acceptor = new Thread(() -> {
+            try {
+                while (true) {
+                    accepted.add(server.accept());
+                }
+            } catch (IOException e) {
+                // The server was closed.
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        server.close();
+        for (Socket socket : accepted) {
+            socket.close();
+        }
+    }
+
+    @Test
+    public void prewarm_opensRequestedConnections() throws InterruptedException {
+        try (SdkHttpClient client = ApacheHttpClient.create()) {
+            client.prewarm(endpoint(), 3).join();
+
+            assertThat(awaitAccepted(3)).isEqualTo(3);
+        }
+    }
+
+    @Test
+    public void prewarm_moreThanMaxConnections_opensMaxConnections() throws InterruptedException {
+        try (SdkHttpClient client = ApacheHttpClient.builder().maxConnections(2).build()) {
+            client.prewarm(endpoint(), 5).join();
+
+            assertThat(awaitAccepted(5)).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void prewarm_proxyConfigured_opensNoConnections() throws InterruptedException {
+        ProxyConfiguration proxyConfiguration = ProxyConfiguration.builder()
+                                                                  .endpoint(URI.create("http://localhost:1234"))
+                                                                  .useSystemPropertyValues(false)
+                                                                  .build();
+        try (SdkHttpClient client = ApacheHttpClient.builder().proxyConfiguration(proxyConfiguration).build()) {
+            client.prewarm(endpoint(), 3).join();
+
+            assertThat(awaitAccepted(1)).isZero();
+        }
+    }
+
+    private URI endpoint() {
+        return URI.create("http://localhost:" + server.getLocalPort());
+    }
+
+    /**
+     * Wait up to a second for the server to accept the expected number of connections, and return the number accepted.
+     */
+    private int awaitAccepted(int expected) throws InterruptedException {
+        for (int i = 0; i < 20 && accepted.size() < expected; i++) {
+            Thread.sleep(50);
+        }
+        return accepted.size();
+    }
+}
@@ -20,9 +20,15 @@ import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
 import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -38,6 +44,7 @@ import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
 
 
 public class ApacheMetricsTest {
@@ -82,6 +89,54 @@ public class ApacheMetricsTest {
         assertThat(collection.metricValues(CONCURRENCY_ACQUIRE_DURATION)).isNotEmpty();
     }
 
+    @Test
+    public void connectionPoolMetricsArePublished() throws Exception {
+        BlockingQueue<MetricCollection> published = new LinkedBlockingQueue<>();
+        client = ApacheHttpClient.builder()
+                                 .connectionPoolMetricPublisher(new MetricPublisher() {
+                                     @Override
+                                     public void publish(MetricCollection metricCollection) {
+                                         published.add(metricCollection);
+                                     }
+
+                                     @Override
+                                     public void close() {
+                                     }
+                                 })
+                                 .connectionPoolMetricInterval(Duration.ofMillis(50))
+                                 .build();
+
+        for (int i = 0; i < 2; i++) {
+            try (InputStream body = makeRequestWithMetrics(client, MetricCollector.create("test")).responseBody().get()) {
+                while (body.read() != -1) {
+                    // Read the body so that the connection is returned to the pool.
+                }
+            }
+        }
+
+        int newConnections = 0;
+        int reusedConnections = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (newConnections + reusedConnections < 2 && System.nanoTime() < deadline) {
+            MetricCollection pool = published.poll(100, TimeUnit.MILLISECONDS);
+            if (pool == null) {
+                continue;
+            }
+            assertThat(pool.name()).isEqualTo(ApacheConnectionPoolMetric.POOL_COLLECTION_NAME);
+            assertThat(pool.metricValues(MAX_CONCURRENCY)).isNotEmpty();
+            for (MetricCollection route : pool.children()) {
+                assertThat(route.name()).isEqualTo(ApacheConnectionPoolMetric.ROUTE_COLLECTION_NAME);
+                assertThat(route.metricValues(ApacheConnectionPoolMetric.ROUTE))
+                    .containsExactly("http://localhost:" + wireMockServer.port());
+                newConnections += route.metricValues(ApacheConnectionPoolMetric.NEW_CONNECTIONS).get(0);
+                reusedConnections += route.metricValues(ApacheConnectionPoolMetric.REUSED_CONNECTIONS).get(0);
+            }
+        }
+
+        assertThat(newConnections).isEqualTo(1);
+        assertThat(reusedConnections).isEqualTo(1);
+    }
+
     private HttpExecuteResponse makeRequestWithMetrics(SdkHttpClient httpClient, MetricCollector metricCollector) throws IOException {
         SdkHttpRequest httpRequest = SdkHttpFullRequest.builder()
                                                        .method(SdkHttpMethod.GET)
@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.crt;
 import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
+import java.net.URI;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -70,6 +71,11 @@ public final class AwsCrtAsyncHttpClient extends AwsCrtHttpClientBase implements
         return super.clientName();
     }
 
+    @Override
+    public CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+        return prewarmConnections(endpoint, connections);
+    }
+
     @Override
     public CompletableFuture<Void> execute(AsyncExecuteRequest asyncRequest) {
 
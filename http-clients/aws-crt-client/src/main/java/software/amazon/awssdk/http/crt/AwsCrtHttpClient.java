@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.crt;
 import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
 
 import java.io.IOException;
+import java.net.URI;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -76,6 +77,11 @@ public final class AwsCrtHttpClient extends AwsCrtHttpClientBase implements SdkH
         return super.clientName();
     }
 
+    @Override
+    public CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+        return prewarmConnections(endpoint, connections);
+    }
+
     @Override
     public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
         request.metricCollector()
@@ -23,11 +23,15 @@ import static software.amazon.awssdk.http.crt.internal.AwsCrtConfigurationUtils.
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.crt.CrtResource;
+import software.amazon.awssdk.crt.http.HttpClientConnection;
 import software.amazon.awssdk.crt.http.HttpClientConnectionManager;
 import software.amazon.awssdk.crt.http.HttpClientConnectionManagerOptions;
 import software.amazon.awssdk.crt.http.HttpMonitoringOptions;
@@ -38,6 +42,7 @@ import software.amazon.awssdk.crt.io.TlsContext;
 import software.amazon.awssdk.crt.io.TlsContextOptions;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.crt.internal.AwsCrtClientBuilderBase;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -158,6 +163,28 @@ abstract class AwsCrtHttpClientBase implements SdkAutoCloseable {
         }
     }
 
+    /**
+     * Acquire connections from the endpoint's connection pool, and release them all back to it once they are acquired. Every
+     * connection is held until all are acquired, so that each acquire opens a new connection instead of reusing one.
+     */
+    CompletableFuture<Void> prewarmConnections(URI endpoint, int connections) {
+        SdkHttpRequest endpointRequest = SdkHttpRequest.builder().uri(endpoint).method(SdkHttpMethod.GET).build();
+        int count = Math.min(connections, maxConnectionsPerEndpoint);
+        List<CompletableFuture<HttpClientConnection>> acquires = new ArrayList<>(count);
+
+        // See the note on getOrCreateConnectionPool(). Acquires that are already submitted fail if the client is closed.
+        try (HttpClientConnectionManager crtConnPool = getOrCreateConnectionPool(poolKey(endpointRequest))) {
+            for (int i = 0; i < count; i++) {
+                acquires.add(crtConnPool.acquireConnection());
+            }
+        }
+
+        // Closing a connection acquired from a pool releases it back to the pool.
+        return CompletableFuture.allOf(acquires.toArray(new CompletableFuture[0]))
+                                .whenComplete((r, t) -> acquires.forEach(acquire -> acquire.thenAccept(
+                                    HttpClientConnection::close)));
+    }
+
     URI poolKey(SdkHttpRequest sdkRequest) {
         return invokeSafely(() -> new URI(sdkRequest.protocol(), null, sdkRequest.host(),
                                           sdkRequest.port(), null, null, null));
@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Limits the number of requests that {@link software.amazon.awssdk.http.jdk.JdkAsyncHttpClient} has in flight, because
+ * {@link java.net.http.HttpClient} has no limit on its number of connections.
+ * <p>
+ * Each successful {@link #acquire()} must be followed by exactly one {@link #release()}. Acquires over the limit wait in FIFO
+ * order, and fail if more than {@code maxPendingAcquires} are waiting or if they wait longer than {@code acquireTimeout}.
+ */
+@SdkInternalApi
+public final class ConcurrencyLimiter {
+    private final int maxConcurrency;
+    private final int maxPendingAcquires;
+    private final Duration acquireTimeout;
+
+    private final Queue<CompletableFuture<Void>> pendingAcquires = new ArrayDeque<>();
+    private int leased;
+
+    public ConcurrencyLimiter(int maxConcurrency, int maxPendingAcquires, Duration acquireTimeout) {
+        this.maxConcurrency = Validate.isPositive(maxConcurrency, "maxConcurrency");
+        this.maxPendingAcquires = Validate.isNotNegative(maxPendingAcquires, "maxPendingAcquires");
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * @return A future that completes once the caller may send its request, or completes exceptionally if the caller waited
+     * too long, or too many callers are already waiting.
+     */
+    public CompletableFuture<Void> acquire() {
+        CompletableFuture<Void> acquireFuture = new CompletableFuture<>();
+        synchronized (this) {
+            if (leased < maxConcurrency) {
+                leased++;
+                acquireFuture.complete(null);
+                return acquireFuture;
+            }
+
+            if (pendingAcquires.size() >= maxPendingAcquires) {
+                acquireFuture.completeExceptionally(new IllegalStateException("Too many outstanding acquire operations"));
+                return acquireFuture;
+            }
+
+            pendingAcquires.add(acquireFuture);
+        }
+
+        // A pending acquire that times out or is cancelled no longer waits for a release.
+        acquireFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                synchronized (this) {
+                    pendingAcquires.remove(acquireFuture);
+                }
+            }
+        });
+
+        if (acquireTimeout != null && !acquireTimeout.isZero()) {
+            acquireFuture.orTimeout(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        return acquireFuture;
+    }
+
+    /**
+     * Release a lease obtained from {@link #acquire()}, handing it to the oldest pending acquire if there is one.
+     */
+    public void release() {
+        while (true) {
+            CompletableFuture<Void> next;
+            synchronized (this) {
+                next = pendingAcquires.poll();
+                if (next == null) {
+                    leased--;
+                    return;
+                }
+            }
+
+            // Completed outside the lock, because it runs the waiting request. If the acquire timed out or was cancelled
+            // meanwhile, the lease goes to the next one.
+            if (next.complete(null)) {
+                return;
+            }
+        }
+    }
+
+    public void reportMetrics(MetricCollector metricCollector) {
+        int leasedSnapshot;
+        int pendingSnapshot;
+        synchronized (this) {
+            leasedSnapshot = leased;
+            pendingSnapshot = pendingAcquires.size();
+        }
+        metricCollector.reportMetric(HttpMetric.MAX_CONCURRENCY, maxConcurrency);
+        metricCollector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, maxConcurrency - leasedSnapshot);
+        metricCollector.reportMetric(HttpMetric.LEASED_CONCURRENCY, leasedSnapshot);
+        metricCollector.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, pendingSnapshot);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import org.reactivestreams.FlowAdapters;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Header;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.utils.StringUtils;
+
+/**
+ * Adapts an SDK request to a {@link HttpRequest}.
+ */
+@SdkInternalApi
+public final class JdkRequestAdapter {
+
+    /**
+     * Headers that {@link java.net.http.HttpClient} sets itself, and rejects if they are set on the request.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private JdkRequestAdapter() {
+    }
+
+    public static HttpRequest adapt(SdkHttpRequest sdkRequest, SdkHttpContentPublisher contentPublisher, Duration readTimeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(sdkRequest.getUri())
+                                                 .method(sdkRequest.method().name(),
+                                                         bodyPublisher(sdkRequest, contentPublisher));
+
+        if (readTimeout != null && !readTimeout.isZero()) {
+            builder.timeout(readTimeout);
+        }
+
+        sdkRequest.forEachHeader((name, values) -> {
+            String lowerCaseName = StringUtils.lowerCase(name);
+            if (!RESTRICTED_HEADERS.contains(lowerCaseName)) {
+                values.forEach(value -> builder.header(name, value));
+            } else if ("expect".equals(lowerCaseName) && values.contains("100-continue")) {
+                builder.expectContinue(true);
+            }
+        });
+
+        return builder.build();
+    }
+
+    private static HttpRequest.BodyPublisher bodyPublisher(SdkHttpRequest sdkRequest, SdkHttpContentPublisher contentPublisher) {
+        Optional<Long> contentLength = contentPublisher.contentLength();
+        if (!contentLength.isPresent()) {
+            contentLength = sdkRequest.firstMatchingHeader(Header.CONTENT_LENGTH).map(Long::parseLong);
+        }
+
+        if (!contentLength.isPresent()) {
+            return HttpRequest.BodyPublishers.fromPublisher(FlowAdapters.toFlowPublisher(contentPublisher));
+        }
+
+        if (contentLength.get() == 0) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+
+        return HttpRequest.BodyPublishers.fromPublisher(FlowAdapters.toFlowPublisher(contentPublisher), contentLength.get());
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.async.EventListeningSubscriber;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * Executes SDK requests with a {@link HttpClient}.
+ * <p>
+ * The future returned by {@link #execute(AsyncExecuteRequest)} completes once the response body has been fully delivered to
+ * the response handler's subscriber, like the other asynchronous clients. The request holds its lease from the
+ * {@link ConcurrencyLimiter} until then.
+ */
+@SdkInternalApi
+public final class JdkRequestExecutor {
+    private final HttpClient httpClient;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final Duration readTimeout;
+
+    public JdkRequestExecutor(HttpClient httpClient, ConcurrencyLimiter concurrencyLimiter, Duration readTimeout) {
+        this.httpClient = httpClient;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.readTimeout = readTimeout;
+    }
+
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+
+        long acquireStartTime = System.nanoTime();
+        CompletableFuture<Void> acquireFuture = concurrencyLimiter.acquire();
+
+        // Stop waiting for a lease if the request is cancelled, for example by an API call timeout.
+        executeFuture.whenComplete((r, t) -> acquireFuture.cancel(false));
+
+        acquireFuture.whenComplete((r, t) -> {
+            metricCollector.reportMetric(CONCURRENCY_ACQUIRE_DURATION, Duration.ofNanos(System.nanoTime() - acquireStartTime));
+            concurrencyLimiter.reportMetrics(metricCollector);
+
+            if (t != null) {
+                notifyError(request.responseHandler(), executeFuture, t);
+                return;
+            }
+
+            executeFuture.whenComplete((r2, t2) -> concurrencyLimiter.release());
+            if (!executeFuture.isDone()) {
+                send(request, executeFuture);
+            }
+        });
+
+        return executeFuture;
+    }
+
+    private void send(AsyncExecuteRequest request, CompletableFuture<Void> executeFuture) {
+        SdkAsyncHttpResponseHandler responseHandler = request.responseHandler();
+
+        HttpRequest httpRequest;
+        try {
+            httpRequest = JdkRequestAdapter.adapt(request.request(), request.requestContentPublisher(), readTimeout);
+        } catch (RuntimeException e) {
+            notifyError(responseHandler, executeFuture, e);
+            return;
+        }
+
+        CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> responseFuture =
+            httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofPublisher());
+
+        executeFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                responseFuture.cancel(true);
+            }
+        });
+
+        responseFuture.whenComplete((response, t) -> {
+            if (t != null) {
+                notifyError(responseHandler, executeFuture, unwrap(t));
+                return;
+            }
+
+            try {
+                responseHandler.onHeaders(toSdkResponse(response));
+                responseHandler.onStream(responsePublisher(response.body(), responseHandler, executeFuture));
+            } catch (RuntimeException e) {
+                discard(response.body());
+                notifyError(responseHandler, executeFuture, e);
+            }
+        });
+    }
+
+    /**
+     * Adapt the body to a {@link Publisher} of {@link ByteBuffer}s, completing the execute future once the subscriber has
+     * received all of it.
+     */
+    private static Publisher<ByteBuffer> responsePublisher(Flow.Publisher<List<ByteBuffer>> body,
+                                                           SdkAsyncHttpResponseHandler responseHandler,
+                                                           CompletableFuture<Void> executeFuture) {
+        return subscriber -> {
+            EventListeningSubscriber<ByteBuffer> completingSubscriber =
+                new EventListeningSubscriber<>(subscriberOf(subscriber),
+                                               () -> executeFuture.complete(null),
+                                               t -> notifyError(responseHandler, executeFuture, t),
+                                               () -> executeFuture.complete(null));
+            FlowAdapters.toPublisher(body).subscribe(new FlatteningSubscriber<>(completingSubscriber));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Subscriber<ByteBuffer> subscriberOf(Subscriber<? super ByteBuffer> subscriber) {
+        return (Subscriber<ByteBuffer>) subscriber;
+    }
+
+    private static SdkHttpResponse toSdkResponse(HttpResponse<?> response) {
+        return SdkHttpResponse.builder()
+                              .statusCode(response.statusCode())
+                              .headers(response.headers().map())
+                              .build();
+    }
+
+    /**
+     * Cancel a body that will not be read, so that the client releases its connection.
+     */
+    private static void discard(Flow.Publisher<List<ByteBuffer>> body) {
+        body.subscribe(new Flow.Subscriber<List<ByteBuffer>>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.cancel();
+            }
+
+            @Override
+            public void onNext(List<ByteBuffer> item) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+    }
+
+    private static void notifyError(SdkAsyncHttpResponseHandler responseHandler,
+                                    CompletableFuture<Void> executeFuture,
+                                    Throwable t) {
+        if (executeFuture.isDone()) {
+            return;
+        }
+        try {
+            responseHandler.onError(t);
+        } finally {
+            executeFuture.completeExceptionally(t);
+        }
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        if (t instanceof CompletionException && t.getCause() != null) {
+            return t.getCause();
+        }
+        return t;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class JdkAsyncHttpClientWireMockTest {
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig()
+                                                          .dynamicPort()
+                                                          .dynamicHttpsPort());
+
+    @Test
+    public void getRequest_receivesHeadersAndBody() throws Exception {
+        String body = randomAlphabetic(250000);
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withHeader("x-amz-foo", "bar").withBody(body)));
+
+        try (SdkAsyncHttpClient client = JdkAsyncHttpClient.create()) {
+            RecordingResponseHandler recorder = execute(client, request(httpUri(), SdkHttpMethod.GET), "");
+
+            assertThat(recorder.responses()).hasSize(1);
+            assertThat(recorder.responses().get(0).statusCode()).isEqualTo(200);
+            assertThat(recorder.responses().get(0).firstMatchingHeader("x-amz-foo")).hasValue("bar");
+            assertThat(recorder.fullResponseAsString()).isEqualTo(body);
+        }
+    }
+
+    @Test
+    public void putRequest_sendsBodyAndHeaders() throws Exception {
+        String body = randomAlphabetic(100000);
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse()));
+
+        SdkHttpRequest request = request(httpUri(), SdkHttpMethod.PUT).toBuilder()
+                                                                      .putHeader("Host", "localhost")
+                                                                      .putHeader("Content-Length",
+                                                                                 String.valueOf(body.length()))
+                                                                      .putHeader("x-amz-foo", "bar")
+                                                                      .build();
+
+        try (SdkAsyncHttpClient client = JdkAsyncHttpClient.create()) {
+            execute(client, request, body);
+        }
+
+        verify(putRequestedFor(urlPathEqualTo("/")).withHeader("x-amz-foo", equalTo("bar"))
+                                                    .withHeader("Content-Length", equalTo(String.valueOf(body.length())))
+                                                    .withRequestBody(equalTo(body)));
+    }
+
+    @Test
+    public void httpsRequest_trustAllCertificates_succeeds() throws Exception {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody("hello")));
+
+        try (SdkAsyncHttpClient client = JdkAsyncHttpClient.builder()
+                                                           .buildWithDefaults(AttributeMap.builder()
+                                                                                          .put(TRUST_ALL_CERTIFICATES, true)
+                                                                                          .build())) {
+            URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+            RecordingResponseHandler recorder = execute(client, request(uri, SdkHttpMethod.GET), "");
+
+            assertThat(recorder.fullResponseAsString()).isEqualTo("hello");
+        }
+    }
+
+    @Test
+    public void readTimeout_slowResponse_fails() {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withFixedDelay(2000)));
+
+        try (SdkAsyncHttpClient client = JdkAsyncHttpClient.builder().readTimeout(Duration.ofMillis(200)).build()) {
+            assertThatThrownBy(() -> execute(client, request(httpUri(), SdkHttpMethod.GET), ""))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(HttpTimeoutException.class);
+        }
+    }
+
+    @Test
+    public void sendRequest_withCollector_shouldCollectMetrics() throws Exception {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody("hello")));
+
+        try (SdkAsyncHttpClient client = JdkAsyncHttpClient.builder().maxConcurrency(10).build()) {
+            RecordingResponseHandler recorder = execute(client, request(httpUri(), SdkHttpMethod.GET), "");
+            MetricCollection metrics = recorder.collector().collect();
+
+            assertThat(metrics.metricValues(HttpMetric.HTTP_CLIENT_NAME)).containsExactly("JdkHttpClient");
+            assertThat(metrics.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(10);
+            assertThat(metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(0);
+            assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(1);
+            assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(9);
+            assertThat(metrics.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION)).hasSize(1);
+        }
+    }
+
+    private URI httpUri() {
+        return URI.create("http://localhost:" + mockServer.port());
+    }
+
+    private static SdkHttpFullRequest request(URI uri, SdkHttpMethod method) {
+        return SdkHttpFullRequest.builder()
+                                 .uri(uri)
+                                 .method(method)
+                                 .encodedPath("/")
+                                 .build();
+    }
+
+    private static RecordingResponseHandler execute(SdkAsyncHttpClient client, SdkHttpRequest request, String body)
+        throws Exception {
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(contentPublisher(body))
+                                          .responseHandler(recorder)
+                                          .metricCollector(recorder.collector())
+                                          .build());
+        recorder.completeFuture().get(5, TimeUnit.SECONDS);
+        return recorder;
+    }
+
+    /**
+     * A content publisher that emits the whole body on the first request. The JDK client requests the body one buffer at a
+     * time, so the publisher must tolerate repeated calls to {@link Subscription#request(long)}.
+     */
+    private static SdkHttpContentPublisher contentPublisher(String body) {
+        byte[] bytes = body.getBytes(UTF_8);
+        return new SdkHttpContentPublisher() {
+            @Override
+            public Optional<Long> contentLength() {
+                return Optional.of((long) bytes.length);
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> s) {
+                s.onSubscribe(new Subscription() {
+                    private boolean done;
+
+                    @Override
+                    public void request(long n) {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        if (bytes.length > 0) {
+                            s.onNext(ByteBuffer.wrap(bytes));
+                        }
+                        s.onComplete();
+                    }
+
+                    @Override
+                    public void cancel() {
+                        done = true;
+                    }
+                });
+            }
+        };
+    }
+}
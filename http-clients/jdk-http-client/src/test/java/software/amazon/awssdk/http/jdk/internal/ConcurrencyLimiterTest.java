@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimiterTest {
+
+    @Test
+    public void acquire_underLimit_completesImmediately() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 10, Duration.ZERO);
+
+        assertThat(limiter.acquire()).isCompleted();
+        assertThat(limiter.acquire()).isCompleted();
+        assertThat(limiter.acquire()).isNotDone();
+    }
+
+    @Test
+    public void release_withPendingAcquire_handsLeaseToOldestPendingAcquire() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, Duration.ZERO);
+        limiter.acquire();
+        CompletableFuture<Void> first = limiter.acquire();
+        CompletableFuture<Void> second = limiter.acquire();
+
+        limiter.release();
+
+        assertThat(first).isCompleted();
+        assertThat(second).isNotDone();
+    }
+
+    @Test
+    public void release_pendingAcquireCancelled_skipsIt() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, Duration.ZERO);
+        limiter.acquire();
+        CompletableFuture<Void> cancelled = limiter.acquire();
+        CompletableFuture<Void> waiting = limiter.acquire();
+
+        cancelled.cancel(false);
+        limiter.release();
+
+        assertThat(waiting).isCompleted();
+    }
+
+    @Test
+    public void release_noPendingAcquire_freesLease() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, Duration.ZERO);
+        limiter.acquire();
+
+        limiter.release();
+
+        assertThat(limiter.acquire()).isCompleted();
+    }
+
+    @Test
+    public void acquire_tooManyPending_fails() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, Duration.ZERO);
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThat(limiter.acquire()).isCompletedExceptionally();
+    }
+
+    @Test
+    public void acquire_waitsLongerThanTimeout_failsWithTimeout() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, Duration.ofMillis(50));
+        limiter.acquire();
+
+        CompletableFuture<Void> pending = limiter.acquire();
+
+        assertThatThrownBy(pending::get).isInstanceOf(ExecutionException.class)
+                                        .hasCauseInstanceOf(TimeoutException.class);
+    }
+}
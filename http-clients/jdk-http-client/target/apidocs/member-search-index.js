@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"software.amazon.awssdk.http.jdk.internal","c":"ConcurrencyLimiter","l":"acquire()"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"JdkRequestAdapter","l":"adapt(SdkHttpRequest, SdkHttpContentPublisher, Duration)","u":"adapt(software.amazon.awssdk.http.SdkHttpRequest,software.amazon.awssdk.http.async.SdkHttpContentPublisher,java.time.Duration)"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient","l":"builder()"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"TrustAllManager","l":"checkClientTrusted(X509Certificate[], String)","u":"checkClientTrusted(java.security.cert.X509Certificate[],java.lang.String)"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"TrustAllManager","l":"checkClientTrusted(X509Certificate[], String, Socket)","u":"checkClientTrusted(java.security.cert.X509Certificate[],java.lang.String,java.net.Socket)"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"TrustAllManager","l":"checkClientTrusted(X509Certificate[], String, SSLEngine)","u":"checkClientTrusted(java.security.cert.X509Certificate[],java.lang.String,javax.net.ssl.SSLEngine)"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"TrustAllManager","l":"checkServerTrusted(X509Certificate[], String)","u":"checkServerTrusted(java.security.cert.X509Certificate[],java.lang.String)"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"TrustAllManager","l":"checkServerTrusted(X509Certificate[], String, Socket)","u":"checkServerTrusted(java.security.cert.X509Certificate[],java.lang.String,java.net.Socket)"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"TrustAllManager","l":"checkServerTrusted(X509Certificate[], String, SSLEngine)","u":"checkServerTrusted(java.security.cert.X509Certificate[],java.lang.String,javax.net.ssl.SSLEngine)"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient","l":"clientName()"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient","l":"close()"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"ConcurrencyLimiter","l":"ConcurrencyLimiter(int, int, Duration)","u":"%3Cinit%3E(int,int,java.time.Duration)"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient.Builder","l":"connectionAcquisitionTimeout(Duration)","u":"connectionAcquisitionTimeout(java.time.Duration)"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient.Builder","l":"connectionTimeout(Duration)","u":"connectionTimeout(java.time.Duration)"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient","l":"create()"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkSdkAsyncHttpService","l":"createAsyncHttpClientFactory()"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"JdkRequestExecutor","l":"execute(AsyncExecuteRequest)","u":"execute(software.amazon.awssdk.http.async.AsyncExecuteRequest)"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient","l":"execute(AsyncExecuteRequest)","u":"execute(software.amazon.awssdk.http.async.AsyncExecuteRequest)"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient.Builder","l":"executor(Executor)","u":"executor(java.util.concurrent.Executor)"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"TrustAllManager","l":"getAcceptedIssuers()"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"TrustAllManager","l":"INSTANCE"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"JdkRequestExecutor","l":"JdkRequestExecutor(HttpClient, ConcurrencyLimiter, Duration)","u":"%3Cinit%3E(java.net.http.HttpClient,software.amazon.awssdk.http.jdk.internal.ConcurrencyLimiter,java.time.Duration)"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkSdkAsyncHttpService","l":"JdkSdkAsyncHttpService()","u":"%3Cinit%3E()"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient.Builder","l":"maxConcurrency(Integer)","u":"maxConcurrency(java.lang.Integer)"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient.Builder","l":"maxPendingConnectionAcquires(Integer)","u":"maxPendingConnectionAcquires(java.lang.Integer)"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient.Builder","l":"protocol(Protocol)","u":"protocol(software.amazon.awssdk.http.Protocol)"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient.Builder","l":"readTimeout(Duration)","u":"readTimeout(java.time.Duration)"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"ConcurrencyLimiter","l":"release()"},{"p":"software.amazon.awssdk.http.jdk.internal","c":"ConcurrencyLimiter","l":"reportMetrics(MetricCollector)","u":"reportMetrics(software.amazon.awssdk.metrics.MetricCollector)"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient.Builder","l":"tlsKeyManagersProvider(TlsKeyManagersProvider)","u":"tlsKeyManagersProvider(software.amazon.awssdk.http.TlsKeyManagersProvider)"},{"p":"software.amazon.awssdk.http.jdk","c":"JdkAsyncHttpClient.Builder","l":"tlsTrustManagersProvider(TlsTrustManagersProvider)","u":"tlsTrustManagersProvider(software.amazon.awssdk.http.TlsTrustManagersProvider)"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+moduleSearchIndex = [{"l":"software.amazon.awssdk.http.jdk"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"m":"software.amazon.awssdk.http.jdk","l":"software.amazon.awssdk.http.jdk"},{"m":"software.amazon.awssdk.http.jdk","l":"software.amazon.awssdk.http.jdk.internal"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"software.amazon.awssdk.http.jdk","l":"JdkAsyncHttpClient.Builder"},{"p":"software.amazon.awssdk.http.jdk.internal","l":"ConcurrencyLimiter"},{"p":"software.amazon.awssdk.http.jdk","l":"JdkAsyncHttpClient"},{"p":"software.amazon.awssdk.http.jdk.internal","l":"JdkRequestAdapter"},{"p":"software.amazon.awssdk.http.jdk.internal","l":"JdkRequestExecutor"},{"p":"software.amazon.awssdk.http.jdk","l":"JdkSdkAsyncHttpService"},{"p":"software.amazon.awssdk.http.jdk.internal","l":"TrustAllManager"}];updateSearchResults();
\ No newline at end of file
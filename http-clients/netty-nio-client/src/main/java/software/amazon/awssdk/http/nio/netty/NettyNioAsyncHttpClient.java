@@ -22,13 +22,17 @@ import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.runAndLogError;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
+import io.netty.util.concurrent.Future;
 import java.net.SocketOptions;
 import java.net.URI;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -36,8 +40,10 @@ import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.CachingDnsResolver;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
@@ -45,6 +51,7 @@ import software.amazon.awssdk.http.TlsTrustManagersProvider;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.AwaitCloseChannelPoolMap;
+import software.amazon.awssdk.http.nio.netty.internal.NettyClientOption;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
@@ -123,6 +130,36 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return new NettyRequestExecutor(ctx).execute();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each connection is acquired from the endpoint's channel pool, and all of them are released back to it once they are
+     * acquired. With HTTP/2, streams are multiplexed over connections, so fewer connections than requested may be opened.
+     */
+    @Override
+    public CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+        SdkHttpRequest endpointRequest = SdkHttpRequest.builder().uri(endpoint).method(SdkHttpMethod.GET).build();
+        SdkChannelPool pool = pools.get(poolKey(endpointRequest));
+
+        int count = Math.min(connections, configuration.maxConnections());
+        List<CompletableFuture<Channel>> acquires = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CompletableFuture<Channel> acquire = new CompletableFuture<>();
+            pool.acquire().addListener((Future<Channel> f) -> {
+                if (f.isSuccess()) {
+                    acquire.complete(f.getNow());
+                } else {
+                    acquire.completeExceptionally(f.cause());
+                }
+            });
+            acquires.add(acquire);
+        }
+
+        // Hold every channel until all are acquired, so that each acquire opens a new connection instead of reusing one.
+        return CompletableFuture.allOf(acquires.toArray(new CompletableFuture[0]))
+                                .whenComplete((r, t) -> acquires.forEach(acquire -> acquire.thenAccept(pool::release)));
+    }
+
     public static Builder builder() {
         return new DefaultBuilder();
     }
@@ -485,6 +522,36 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * See https://netty.io/news/2016/05/26/4-1-0-Final.html
          */
         Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver);
+
+        /**
+         * Configure a {@link CachingDnsResolver} that resolves the addresses of remote hosts. By default, hosts are resolved by
+         * the JVM each time a connection is opened.
+         * <p>
+         * With a caching resolver, addresses are served from memory and refreshed in the background, new connections are
+         * spread across all addresses of a host, and addresses that could not be connected to are tried last for a while. This
+         * takes precedence over {@link #useNonBlockingDnsResolver(Boolean)}.
+         * <p>
+         * The resolver is not closed when this client is closed, so it may be shared between clients.
+         */
+        Builder cachingDnsResolver(CachingDnsResolver cachingDnsResolver);
+
+        /**
+         * Configure whether the client reads responses into pooled direct buffers, and delivers response content to the
+         * response body subscriber without copying it. False by default.
+         * <p>
+         * By default, each chunk of response content is copied from Netty's buffer into a new heap {@link java.nio.ByteBuffer}
+         * before it is delivered. When enabled, the client allocates from Netty's pooled allocator, which prefers direct
+         * memory, and delivers a read-only view of Netty's buffer instead. This avoids allocating and copying every chunk of
+         * large streaming responses.
+         * <p>
+         * <b>Warning:</b> In this mode, each {@link java.nio.ByteBuffer} is released back to the pool as soon as the
+         * subscriber's {@code onNext} returns, so the subscriber must finish reading it before returning and must not keep a
+         * reference to it. Only enable this when every response is consumed this way, for example by an
+         * {@code AsyncResponseTransformer} that writes each buffer synchronously. Transformers that hold on to buffers or
+         * read them asynchronously, such as {@code AsyncResponseTransformer.toBlockingInputStream()} and
+         * {@code AsyncResponseTransformer.toFile()}, must not be used with a client in this mode.
+         */
+        Builder usePooledDirectBuffers(Boolean usePooledDirectBuffers);
     }
 
     /**
@@ -737,6 +804,26 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             useNonBlockingDnsResolver(useNonBlockingDnsResolver);
         }
 
+        @Override
+        public Builder cachingDnsResolver(CachingDnsResolver cachingDnsResolver) {
+            standardOptions.put(NettyClientOption.CACHING_DNS_RESOLVER, cachingDnsResolver);
+            return this;
+        }
+
+        public void setCachingDnsResolver(CachingDnsResolver cachingDnsResolver) {
+            cachingDnsResolver(cachingDnsResolver);
+        }
+
+        @Override
+        public Builder usePooledDirectBuffers(Boolean usePooledDirectBuffers) {
+            standardOptions.put(NettyClientOption.POOLED_DIRECT_BUFFERS, usePooledDirectBuffers);
+            return this;
+        }
+
+        public void setUsePooledDirectBuffers(Boolean usePooledDirectBuffers) {
+            usePooledDirectBuffers(usePooledDirectBuffers);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
@@ -25,6 +25,7 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.nio.netty.internal.IoUringLoader;
 import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelResolver;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
@@ -80,9 +81,10 @@ public final class SdkEventLoopGroup {
      * Create an instance of {@link SdkEventLoopGroup} from the builder
      */
     private SdkEventLoopGroup(DefaultBuilder builder) {
-        this.eventLoopGroup = resolveEventLoopGroup(builder);
-        this.channelFactory = resolveSocketChannelFactory(builder);
-        this.datagramChannelFactory = resolveDatagramChannelFactory(builder);
+        boolean useIoUring = Boolean.TRUE.equals(builder.useIoUring) && IoUringLoader.isAvailable();
+        this.eventLoopGroup = resolveEventLoopGroup(builder, useIoUring);
+        this.channelFactory = resolveSocketChannelFactory(builder, useIoUring);
+        this.datagramChannelFactory = resolveDatagramChannelFactory(builder, useIoUring);
     }
 
     /**
@@ -136,12 +138,15 @@ public final class SdkEventLoopGroup {
         return new DefaultBuilder();
     }
 
-    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder) {
+    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder, boolean useIoUring) {
         int numThreads = Optional.ofNullable(builder.numberOfThreads).orElse(0);
         ThreadFactory threadFactory = Optional.ofNullable(builder.threadFactory)
                                               .orElseGet(() -> new ThreadFactoryBuilder()
                                                   .threadNamePrefix("aws-java-sdk-NettyEventLoop")
                                                   .build());
+        if (useIoUring) {
+            return IoUringLoader.newEventLoopGroup(numThreads, threadFactory);
+        }
         return new NioEventLoopGroup(numThreads, threadFactory);
         /*
         Need to investigate why epoll is raising channel inactive after successful response that causes
@@ -154,12 +159,19 @@ public final class SdkEventLoopGroup {
         }*/
     }
 
-    private ChannelFactory<? extends Channel> resolveSocketChannelFactory(DefaultBuilder builder) {
-        return builder.channelFactory;
+    private ChannelFactory<? extends Channel> resolveSocketChannelFactory(DefaultBuilder builder, boolean useIoUring) {
+        if (builder.channelFactory != null) {
+            return builder.channelFactory;
+        }
+        return useIoUring ? IoUringLoader.socketChannelFactory() : defaultSocketChannelFactory();
     }
 
-    private ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(DefaultBuilder builder) {
-        return builder.datagramChannelFactory;
+    private ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(DefaultBuilder builder,
+                                                                                    boolean useIoUring) {
+        if (builder.datagramChannelFactory != null) {
+            return builder.datagramChannelFactory;
+        }
+        return useIoUring ? IoUringLoader.datagramChannelFactory() : defaultDatagramChannelFactory();
     }
 
     private static ChannelFactory<? extends Channel> defaultSocketChannelFactory() {
@@ -198,7 +210,7 @@ public final class SdkEventLoopGroup {
 
         /**
          * {@link ChannelFactory} to create socket channels used by the {@link EventLoopGroup}. If not set,
-         * NioSocketChannel is used.
+         * NioSocketChannel is used, or IOUringSocketChannel if the io_uring transport is used.
          *
          * @param channelFactory ChannelFactory to use.
          * @return This builder for method chaining.
@@ -207,13 +219,26 @@ public final class SdkEventLoopGroup {
 
         /**
          * {@link ChannelFactory} to create datagram channels used by the {@link EventLoopGroup}. If not set,
-         * NioDatagramChannel is used.
+         * NioDatagramChannel is used, or IOUringDatagramChannel if the io_uring transport is used.
          *
          * @param datagramChannelFactory ChannelFactory to use.
          * @return This builder for method chaining.
          */
         Builder datagramChannelFactory(ChannelFactory<? extends DatagramChannel> datagramChannelFactory);
 
+        /**
+         * Whether to use netty's io_uring transport instead of NIO. False by default.
+         * <p>
+         * io_uring is only used if the {@code netty-incubator-transport-classes-io_uring} module and a matching
+         * {@code netty-incubator-transport-native-io_uring} library are on the class path, and the running kernel supports
+         * it. Otherwise the NIO transport is used. Socket and datagram channel factories that are not set explicitly are
+         * resolved to the io_uring channels when io_uring is used.
+         *
+         * @param useIoUring Whether to use io_uring when it is available.
+         * @return This builder for method chaining.
+         */
+        Builder useIoUring(Boolean useIoUring);
+
         SdkEventLoopGroup build();
     }
 
@@ -221,8 +246,9 @@ public final class SdkEventLoopGroup {
 
         private Integer numberOfThreads;
         private ThreadFactory threadFactory;
-        private ChannelFactory<? extends Channel> channelFactory = defaultSocketChannelFactory();
-        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory = defaultDatagramChannelFactory();
+        private ChannelFactory<? extends Channel> channelFactory;
+        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory;
+        private Boolean useIoUring;
 
         private DefaultBuilder() {
         }
@@ -267,6 +293,16 @@ public final class SdkEventLoopGroup {
             datagramChannelFactory(datagramChannelFactory);
         }
 
+        @Override
+        public Builder useIoUring(Boolean useIoUring) {
+            this.useIoUring = useIoUring;
+            return this;
+        }
+
+        public void setUseIoUring(Boolean useIoUring) {
+            useIoUring(useIoUring);
+        }
+
         @Override
         public SdkEventLoopGroup build() {
             return new SdkEventLoopGroup(this);
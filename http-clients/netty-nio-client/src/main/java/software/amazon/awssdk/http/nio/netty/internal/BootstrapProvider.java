@@ -47,7 +47,8 @@ public class BootstrapProvider {
      * @param host                      The unresolved remote hostname
      * @param port                      The remote port
      * @param useNonBlockingDnsResolver If true, uses the default non-blocking DNS resolver from Netty. Otherwise, the default
-     *                                  JDK blocking DNS resolver will be used.
+     *                                  JDK blocking DNS resolver will be used. Ignored if a caching DNS resolver is
+     *                                  configured.
      * @return A newly created Bootstrap using the configuration this provider was initialized with, and having an unresolved
      * remote address.
      */
@@ -60,7 +61,9 @@ public class BootstrapProvider {
                 .option(ChannelOption.SO_KEEPALIVE, nettyConfiguration.tcpKeepAlive())
                 .remoteAddress(InetSocketAddress.createUnresolved(host, port));
 
-        if (Boolean.TRUE.equals(useNonBlockingDnsResolver)) {
+        if (nettyConfiguration.cachingDnsResolver() != null) {
+            bootstrap.resolver(new CachingAddressResolverGroup(nettyConfiguration.cachingDnsResolver()));
+        } else if (Boolean.TRUE.equals(useNonBlockingDnsResolver)) {
             bootstrap.resolver(DnsResolverLoader.init(sdkEventLoopGroup.datagramChannelFactory()));
         }
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetNameResolver;
+import io.netty.resolver.InetSocketAddressResolver;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.CachingDnsResolver;
+
+/**
+ * Resolves remote addresses with a {@link CachingDnsResolver}. Each connection is given the next address of the host, so
+ * that the connections of a pool are spread across all of its addresses.
+ */
+@SdkInternalApi
+public final class CachingAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+    private final CachingDnsResolver dnsResolver;
+
+    public CachingAddressResolverGroup(CachingDnsResolver dnsResolver) {
+        this.dnsResolver = dnsResolver;
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+        return new InetSocketAddressResolver(executor, new CachingNameResolver(executor, dnsResolver));
+    }
+
+    private static final class CachingNameResolver extends InetNameResolver {
+        private final CachingDnsResolver dnsResolver;
+
+        private CachingNameResolver(EventExecutor executor, CachingDnsResolver dnsResolver) {
+            super(executor);
+            this.dnsResolver = dnsResolver;
+        }
+
+        @Override
+        protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+            try {
+                promise.setSuccess(dnsResolver.resolve(inetHost));
+            } catch (Exception e) {
+                promise.setFailure(e);
+            }
+        }
+
+        @Override
+        protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+            try {
+                promise.setSuccess(Arrays.asList(dnsResolver.resolveAll(inetHost)));
+            } catch (Exception e) {
+                promise.setFailure(e);
+            }
+        }
+    }
+}
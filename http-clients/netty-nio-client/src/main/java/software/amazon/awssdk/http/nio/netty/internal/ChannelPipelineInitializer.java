@@ -24,6 +24,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.ne
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
@@ -92,6 +93,10 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         ch.attr(CHANNEL_DIAGNOSTICS).set(new ChannelDiagnostics(ch));
         ch.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
         ChannelPipeline pipeline = ch.pipeline();
+        if (configuration.cachingDnsResolver() != null) {
+            pipeline.addLast(new ConnectFailureReportingHandler(configuration.cachingDnsResolver()));
+        }
+
         if (sslCtx != null) {
 
             SslHandler sslHandler = newSslHandler(sslCtx, ch.alloc(), poolKey.getHost(), poolKey.getPort(),
@@ -102,11 +107,15 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
 
             // Use unpooled allocator to avoid increased heap memory usage from Netty 4.1.43.
             // See https://github.com/netty/netty/issues/9768
-            if (sslProvider == SslProvider.JDK) {
+            if (sslProvider == SslProvider.JDK && !configuration.pooledDirectBuffers()) {
                 ch.config().setOption(ChannelOption.ALLOCATOR, UnpooledByteBufAllocator.DEFAULT);
             }
         }
 
+        if (configuration.pooledDirectBuffers()) {
+            ch.config().setOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+        }
+
         if (protocol == Protocol.HTTP2) {
             configureHttp2(ch, pipeline);
         } else {
@@ -0,0 +1,52 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.CachingDnsResolver;
+
+/**
+ * Reports the address of a connection that could not be established to the {@link CachingDnsResolver} that resolved it,
+ * so that the next connections try the other addresses of the host first.
+ */
+@SdkInternalApi
+@ChannelHandler.Sharable
+public final class ConnectFailureReportingHandler extends ChannelOutboundHandlerAdapter {
+    private final CachingDnsResolver dnsResolver;
+
+    public ConnectFailureReportingHandler(CachingDnsResolver dnsResolver) {
+        this.dnsResolver = dnsResolver;
+    }
+
+    @Override
+    public void connect(ChannelHandlerContext ctx, SocketAddress remoteAddress, SocketAddress localAddress,
+                        ChannelPromise promise) {
+        if (remoteAddress instanceof InetSocketAddress) {
+            promise.addListener(f -> {
+                if (!f.isSuccess() && !f.isCancelled()) {
+                    dnsResolver.reportFailure(((InetSocketAddress) remoteAddress).getAddress());
+                }
+            });
+        }
+        ctx.connect(remoteAddress, localAddress, promise);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ReflectiveChannelFactory;
+import io.netty.channel.socket.DatagramChannel;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Utility class for using netty's io_uring transport only if it is on the class path and supported by the running kernel.
+ */
+@SdkInternalApi
+public final class IoUringLoader {
+    public static final String IO_URING_EVENT_LOOP_GROUP = "io.netty.incubator.channel.uring.IOUringEventLoopGroup";
+    public static final String IO_URING_SOCKET_CHANNEL = "io.netty.incubator.channel.uring.IOUringSocketChannel";
+    public static final String IO_URING_DATAGRAM_CHANNEL = "io.netty.incubator.channel.uring.IOUringDatagramChannel";
+
+    private static final Logger log = Logger.loggerFor(IoUringLoader.class);
+    private static final String IO_URING = "io.netty.incubator.channel.uring.IOUring";
+    private static final boolean AVAILABLE = checkAvailable();
+
+    private IoUringLoader() {
+    }
+
+    /**
+     * @return True if the io_uring transport classes and native library are on the class path, and the kernel supports
+     * io_uring.
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static EventLoopGroup newEventLoopGroup(int numberOfThreads, ThreadFactory threadFactory) {
+        try {
+            return (EventLoopGroup) loadClass(IO_URING_EVENT_LOOP_GROUP).getConstructor(int.class, ThreadFactory.class)
+                                                                        .newInstance(numberOfThreads, threadFactory);
+        } catch (ClassNotFoundException | NoSuchMethodException | InvocationTargetException | IllegalAccessException
+                 | InstantiationException e) {
+            throw new IllegalStateException("Failed to create io_uring event loop group", e);
+        }
+    }
+
+    public static ChannelFactory<? extends Channel> socketChannelFactory() {
+        return newChannelFactory(IO_URING_SOCKET_CHANNEL);
+    }
+
+    public static ChannelFactory<? extends DatagramChannel> datagramChannelFactory() {
+        return newChannelFactory(IO_URING_DATAGRAM_CHANNEL);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Channel> ChannelFactory<T> newChannelFactory(String channelFqcn) {
+        try {
+            return new ReflectiveChannelFactory<>((Class<? extends T>) loadClass(channelFqcn));
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to load io_uring channel " + channelFqcn, e);
+        }
+    }
+
+    private static boolean checkAvailable() {
+        try {
+            return (Boolean) loadClass(IO_URING).getMethod("isAvailable").invoke(null);
+        } catch (ClassNotFoundException e) {
+            return false;
+        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException | LinkageError e) {
+            log.debug(() -> "The io_uring transport is on the class path but could not be loaded.", e);
+            return false;
+        }
+    }
+
+    private static Class<?> loadClass(String fqcn) throws ClassNotFoundException {
+        return ClassLoaderHelper.loadClass(fqcn, false, (Class) null);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.CachingDnsResolver;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Configuration options that only apply to the Netty client. These are stored in the same {@link AttributeMap} as the
+ * {@link software.amazon.awssdk.http.SdkHttpConfigurationOption}s, and read through {@link NettyConfiguration}.
+ *
+ * @param <T> The type of the option.
+ */
+@SdkInternalApi
+public final class NettyClientOption<T> extends AttributeMap.Key<T> {
+    /**
+     * Whether channels allocate from a pooled direct allocator, and response content is delivered to subscribers without
+     * being copied.
+     */
+    public static final NettyClientOption<Boolean> POOLED_DIRECT_BUFFERS =
+        new NettyClientOption<>("PooledDirectBuffers", Boolean.class);
+
+    /**
+     * The resolver that looks up the addresses of remote hosts, instead of the JVM's resolver.
+     */
+    public static final NettyClientOption<CachingDnsResolver> CACHING_DNS_RESOLVER =
+        new NettyClientOption<>("CachingDnsResolver", CachingDnsResolver.class);
+
+    private final String name;
+
+    private NettyClientOption(String name, Class<T> valueClass) {
+        super(valueClass);
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
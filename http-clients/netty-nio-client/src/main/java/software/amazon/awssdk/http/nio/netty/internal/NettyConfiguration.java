@@ -25,6 +25,7 @@ import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.CachingDnsResolver;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
@@ -107,4 +108,12 @@ public final class NettyConfiguration {
     public Duration tlsHandshakeTimeout() {
         return configuration.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT);
     }
+
+    public boolean pooledDirectBuffers() {
+        return Boolean.TRUE.equals(configuration.get(NettyClientOption.POOLED_DIRECT_BUFFERS));
+    }
+
+    public CachingDnsResolver cachingDnsResolver() {
+        return configuration.get(NettyClientOption.CACHING_DNS_RESOLVER);
+    }
 }
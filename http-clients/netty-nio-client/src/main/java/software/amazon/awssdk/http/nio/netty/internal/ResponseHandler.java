@@ -280,6 +280,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         private final RequestContext requestContext;
         private final CompletableFuture<Void> executeFuture;
         private final AtomicBoolean isDone = new AtomicBoolean(false);
+        private final boolean pooledDirectBuffers;
 
         PublisherAdapter(StreamedHttpResponse response, ChannelHandlerContext channelContext,
                          RequestContext requestContext, CompletableFuture<Void> executeFuture) {
@@ -287,6 +288,8 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
             this.channelContext = channelContext;
             this.requestContext = requestContext;
             this.executeFuture = executeFuture;
+            this.pooledDirectBuffers = requestContext.configuration() != null &&
+                                       requestContext.configuration().pooledDirectBuffers();
         }
 
         @Override
@@ -330,6 +333,11 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (pooledDirectBuffers) {
+                        onNextWithoutCopy(httpContent);
+                        return;
+                    }
+
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -345,6 +353,31 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                /**
+                 * Deliver a read-only view of the content, and release the content once the subscriber's onNext returns. The
+                 * subscriber is required to consume the buffer before returning, see
+                 * {@code NettyNioAsyncHttpClient.Builder#usePooledDirectBuffers}.
+                 */
+                private void onNextWithoutCopy(HttpContent httpContent) {
+                    ByteBuffer byteBuffer;
+                    try {
+                        byteBuffer = httpContent.content().nioBuffer().asReadOnlyBuffer();
+                    } catch (Throwable t) {
+                        ReferenceCountUtil.release(httpContent);
+                        onError(t);
+                        return;
+                    }
+
+                    try {
+                        //As per reactive-streams rule 2.13, we should not call subscriber#onError when
+                        //exception is thrown from subscriber#onNext
+                        tryCatch(() -> subscriber.onNext(byteBuffer),
+                                 this::notifyError);
+                    } finally {
+                        ReferenceCountUtil.release(httpContent);
+                    }
+                }
+
                 @Override
                 public void onError(Throwable t) {
                     if (!isDone.compareAndSet(false, true)) {
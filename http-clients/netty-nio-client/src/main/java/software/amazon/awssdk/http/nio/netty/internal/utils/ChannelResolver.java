@@ -32,6 +32,7 @@ import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.nio.netty.internal.DelegatingEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.internal.IoUringLoader;
 
 @SdkInternalApi
 public final class ChannelResolver {
@@ -44,11 +45,15 @@ public final class ChannelResolver {
                                             "io.netty.channel.kqueue.KQueueSocketChannel");
         KNOWN_EL_GROUPS_SOCKET_CHANNELS.put("io.netty.channel.oio.OioEventLoopGroup",
                                             "io.netty.channel.socket.oio.OioSocketChannel");
+        KNOWN_EL_GROUPS_SOCKET_CHANNELS.put(IoUringLoader.IO_URING_EVENT_LOOP_GROUP,
+                                            IoUringLoader.IO_URING_SOCKET_CHANNEL);
 
         KNOWN_EL_GROUPS_DATAGRAM_CHANNELS.put("io.netty.channel.kqueue.KQueueEventLoopGroup",
                                               "io.netty.channel.kqueue.KQueueDatagramChannel");
         KNOWN_EL_GROUPS_DATAGRAM_CHANNELS.put("io.netty.channel.oio.OioEventLoopGroup",
                                               "io.netty.channel.socket.oio.OioDatagramChannel");
+        KNOWN_EL_GROUPS_DATAGRAM_CHANNELS.put(IoUringLoader.IO_URING_EVENT_LOOP_GROUP,
+                                              IoUringLoader.IO_URING_DATAGRAM_CHANNEL);
     }
 
     private ChannelResolver() {
@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClientTestUtils.assertCanReceiveBasicRequest;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.URI;
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class NettyNioAsyncHttpClientPooledDirectBuffersTest {
+
+    private static final SdkAsyncHttpClient client = NettyNioAsyncHttpClient.builder()
+                                                                            .usePooledDirectBuffers(true)
+                                                                            .buildWithDefaults(
+                                                                                AttributeMap.builder()
+                                                                                            .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true)
+                                                                                            .build());
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig()
+                                                          .dynamicPort()
+                                                          .dynamicHttpsPort());
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        client.close();
+    }
+
+    @Test
+    public void canMakeBasicRequestOverHttp() throws Exception {
+        String smallBody = randomAlphabetic(10);
+        URI uri = URI.create("http://localhost:" + mockServer.port());
+
+        assertCanReceiveBasicRequest(client, uri, smallBody);
+    }
+
+    @Test
+    public void canMakeBasicRequestOverHttps() throws Exception {
+        String smallBody = randomAlphabetic(10);
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+
+        assertCanReceiveBasicRequest(client, uri, smallBody);
+    }
+
+    @Test
+    public void canHandleLargerPayloadsOverHttp() throws Exception {
+        String largishBody = randomAlphabetic(250000);
+        URI uri = URI.create("http://localhost:" + mockServer.port());
+
+        assertCanReceiveBasicRequest(client, uri, largishBody);
+    }
+
+    @Test
+    public void canHandleLargerPayloadsOverHttps() throws Exception {
+        String largishBody = randomAlphabetic(250000);
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+
+        assertCanReceiveBasicRequest(client, uri, largishBody);
+    }
+}
@@ -26,6 +26,7 @@ import java.net.SocketAddress;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.http.CachingDnsResolver;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.utils.AttributeMap;
 
@@ -86,4 +87,21 @@ public class BootstrapProviderTest {
         Boolean keepAlive = (Boolean) bootstrap.config().options().get(ChannelOption.SO_KEEPALIVE);
         assertThat(keepAlive).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void createBootstrap_cachingDnsResolverConfigured_usesCachingResolver() {
+        NettyConfiguration nettyConfiguration =
+            new NettyConfiguration(AttributeMap.builder().put(NettyClientOption.CACHING_DNS_RESOLVER,
+                                                              CachingDnsResolver.create())
+                                               .build().merge(GLOBAL_HTTP_DEFAULTS));
+        BootstrapProvider provider =
+            new BootstrapProvider(SdkEventLoopGroup.builder().build(),
+                                  nettyConfiguration,
+                                  new SdkChannelOptions());
+
+        Bootstrap bootstrap = provider.createBootstrap("some-awesome-service-1234.amazonaws.com", 443, true);
+
+        assertThat(bootstrap.config().resolver()).isInstanceOf(CachingAddressResolverGroup.class);
+        assertThat(((InetSocketAddress) bootstrap.config().remoteAddress()).isUnresolved()).isTrue();
+    }
+}
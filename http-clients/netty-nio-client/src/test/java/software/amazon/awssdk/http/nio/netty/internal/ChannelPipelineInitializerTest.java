@@ -19,6 +19,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS;
 
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
@@ -35,6 +36,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import javax.net.ssl.SSLException;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.utils.AttributeMap;
 
 public class ChannelPipelineInitializerTest {
 
@@ -72,4 +74,36 @@ public class ChannelPipelineInitializerTest {
         assertThat(channel.config().getOption(ChannelOption.ALLOCATOR), is(UnpooledByteBufAllocator.DEFAULT));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void pooledDirectBuffersEnabled_usesPooledAllocator() throws SSLException {
+        targetUri = URI.create("https://some-awesome-service-1234.amazonaws.com:8080");
+
+        SslContext sslContext = SslContextBuilder.forClient()
+                                                 .sslProvider(SslProvider.JDK)
+                                                 .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+                                                 .build();
+
+        NettyConfiguration nettyConfiguration =
+            new NettyConfiguration(AttributeMap.builder()
+                                               .put(NettyClientOption.POOLED_DIRECT_BUFFERS, true)
+                                               .build()
+                                               .merge(GLOBAL_HTTP_DEFAULTS));
+
+        pipelineInitializer = new ChannelPipelineInitializer(Protocol.HTTP1_1,
+                                                             sslContext,
+                                                             SslProvider.JDK,
+                                                             100,
+                                                             1024,
+                                                             Duration.ZERO,
+                                                             new AtomicReference<>(),
+                                                             nettyConfiguration,
+                                                             targetUri);
+
+        Channel channel = new EmbeddedChannel();
+
+        pipelineInitializer.channelCreated(channel);
+
+        assertThat(channel.config().getOption(ChannelOption.ALLOCATOR), is(PooledByteBufAllocator.DEFAULT));
+    }
+}
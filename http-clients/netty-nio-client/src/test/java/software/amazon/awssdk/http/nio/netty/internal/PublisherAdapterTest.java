@@ -26,6 +26,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.EmptyByteBuf;
 import io.netty.buffer.Unpooled;
@@ -40,6 +41,9 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.reactivex.Flowable;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
@@ -56,6 +60,7 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.DefaultStreamedHttpResponse;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.StreamedHttpResponse;
+import software.amazon.awssdk.utils.AttributeMap;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PublisherAdapterTest {
@@ -285,7 +290,56 @@ public class PublisherAdapterTest {
         verify(channelPool).release(channel);
     }
 
-    static final class TestSubscriber implements Subscriber<ByteBuffer> {
+    @Test
+    public void pooledDirectBuffers_deliversReadOnlyViewAndReleasesAfterOnNext() {
+        RequestContext pooledRequestContext =
+            new RequestContext(channelPool,
+                               eventLoopGroup,
+                               AsyncExecuteRequest.builder()
+                                                  .request(SdkHttpRequest.builder()
+                                                                         .uri(URI.create("https://localhost"))
+                                                                         .method(SdkHttpMethod.GET)
+                                                                         .build())
+                                                  .responseHandler(responseHandler)
+                                                  .build(),
+                               new NettyConfiguration(AttributeMap.builder()
+                                                                  .put(NettyClientOption.POOLED_DIRECT_BUFFERS, true)
+                                                                  .build()));
+
+        ByteBuf content = ByteBufAllocator.DEFAULT.directBuffer();
+        content.writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        DefaultHttpContent httpContent = new DefaultHttpContent(content);
+
+        StreamedHttpResponse streamedHttpResponse = new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                                                                    HttpResponseStatus.OK,
+                                                                                    Flowable.just(httpContent));
+
+        ResponseHandler.PublisherAdapter publisherAdapter = new ResponseHandler.PublisherAdapter(streamedHttpResponse,
+                                                                                                 ctx,
+                                                                                                 pooledRequestContext,
+                                                                                                 executeFuture);
+
+        List<String> received = new ArrayList<>();
+        List<Integer> refCntsDuringOnNext = new ArrayList<>();
+        publisherAdapter.subscribe(new TestSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                assertThat(byteBuffer.isReadOnly()).isTrue();
+                refCntsDuringOnNext.add(content.refCnt());
+                byte[] bytes = new byte[byteBuffer.remaining()];
+                byteBuffer.get(bytes);
+                received.add(new String(bytes, StandardCharsets.UTF_8));
+                super.onNext(byteBuffer);
+            }
+        });
+
+        assertThat(received).containsExactly("hello");
+        assertThat(refCntsDuringOnNext).containsExactly(1);
+        assertThat(content.refCnt()).isZero();
+        executeFuture.join();
+    }
+
+    static class TestSubscriber implements Subscriber<ByteBuffer> {
 
         private Subscription subscription;
         private boolean isCompleted = false;
@@ -29,9 +29,13 @@ import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.channel.socket.oio.OioDatagramChannel;
 import io.netty.channel.socket.oio.OioSocketChannel;
+import io.netty.incubator.channel.uring.IOUringDatagramChannel;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringSocketChannel;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.http.nio.netty.internal.DelegatingEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.internal.IoUringLoader;
 
 public class ChannelResolverTest {
 
@@ -48,6 +52,13 @@ public class ChannelResolverTest {
         assertThat(resolveDatagramChannelFactory(new EpollEventLoopGroup()).newChannel()).isInstanceOf(EpollDatagramChannel.class);
     }
 
+    @Test
+    public void canDetectIoUringEventLoopGroupFactory() {
+        Assumptions.assumeTrue(IoUringLoader.isAvailable());
+        assertThat(resolveSocketChannelFactory(new IOUringEventLoopGroup()).newChannel()).isInstanceOf(IOUringSocketChannel.class);
+        assertThat(resolveDatagramChannelFactory(new IOUringEventLoopGroup()).newChannel()).isInstanceOf(IOUringDatagramChannel.class);
+    }
+
     @Test
     public void worksWithDelegateEventLoopGroupsFactory() {
         assertThat(resolveSocketChannelFactory(new DelegatingEventLoopGroup(new NioEventLoopGroup()) {}).newChannel()).isInstanceOf(NioSocketChannel.class);
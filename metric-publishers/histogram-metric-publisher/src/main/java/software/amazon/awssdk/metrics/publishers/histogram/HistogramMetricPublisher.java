@@ -0,0 +1,379 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.histogram.internal.ConcurrentHistogram;
+import software.amazon.awssdk.metrics.publishers.histogram.internal.HistogramKey;
+import software.amazon.awssdk.metrics.publishers.histogram.internal.JmxHistogram;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link MetricPublisher} that aggregates metric values into in-memory histograms, so that percentiles
+ * such as the p50, p99 and p99.9 latencies of AWS SDK clients can be read locally, without uploading the metrics anywhere.
+ *
+ * <p><b>Overview</b>
+ *
+ * <p>Every numeric or {@link Duration} metric that is published, such as {@link CoreMetric#API_CALL_DURATION},
+ * {@link CoreMetric#SERVICE_CALL_DURATION}, {@link CoreMetric#TIME_TO_FIRST_BYTE} or
+ * {@link HttpMetric#CONCURRENCY_ACQUIRE_DURATION}, is recorded in a histogram for that metric and the values of the configured
+ * {@link Builder#dimensions(Collection)}, which are the service and operation by default. Durations are recorded in
+ * nanoseconds. Recording a value does not lock, so the publisher can be shared by clients under heavy concurrency.
+ *
+ * <p>The histograms can be read with {@link #snapshots()}, or over JMX when {@link Builder#jmxEnabled(Boolean)} is set. Each
+ * histogram is registered as an MBean named after the publisher, its dimension values and its metric, for example
+ * {@code software.amazon.awssdk.metrics:type=Histogram,publisher=default,ServiceId=DynamoDB,OperationName=GetItem,
+ * metric=ApiCallDuration}, with the count, min, max, mean, p50, p90, p99 and p999 as attributes.
+ *
+ * <p>Values are accumulated from the time the publisher is created. Use {@link #reset()} to start a new interval, for example
+ * after each time the snapshots are exported to a dashboard.
+ *
+ * <p><b>Configuring AWS SDK clients to aggregate client metrics</b>
+ *
+ * <p>
+ * Create a {@link HistogramMetricPublisher}, and configure it via
+ * {@link ClientOverrideConfiguration.Builder#addMetricPublisher(MetricPublisher)}
+ *
+ * <pre>
+ *     HistogramMetricPublisher histogramMetricPublisher = HistogramMetricPublisher.builder()
+ *                                                                              .jmxEnabled(true)
+ *                                                                              .build();
+ *     DynamoDbClient dynamoDb = DynamoDbClient.builder()
+ *                                             .overrideConfiguration(o -&gt; o.addMetricPublisher(histogramMetricPublisher))
+ *                                             .build();
+ *
+ *     for (HistogramSnapshot snapshot : histogramMetricPublisher.snapshots()) {
+ *         System.out.println(snapshot.dimensions() + " " + snapshot.metric().name() + " p99=" + snapshot.p99());
+ *     }
+ * </pre>
+ *
+ * <p><b>Warning:</b> A histogram is kept for every unique combination of metric and dimension values. Configuring dimensions
+ * with many unique values, such as {@link CoreMetric#SERVICE_ENDPOINT}, can result in a large number of histograms. Make sure
+ * to {@link #close()} this publisher when it is done being used, to unregister its MBeans. Metrics published after the
+ * publisher is closed are ignored.
+ */
+@ThreadSafe
+@SdkPublicApi
+public final class HistogramMetricPublisher implements MetricPublisher {
+    private static final Logger log = Logger.loggerFor(HistogramMetricPublisher.class);
+
+    private static final String JMX_DOMAIN = "software.amazon.awssdk.metrics";
+    private static final Pattern JMX_SAFE_VALUE = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private static final String DEFAULT_NAME = "default";
+    private static final Set<SdkMetric<String>> DEFAULT_DIMENSIONS = Stream.of(CoreMetric.SERVICE_ID,
+                                                                               CoreMetric.OPERATION_NAME)
+                                                                           .collect(Collectors.toSet());
+    private static final Set<MetricCategory> DEFAULT_METRIC_CATEGORIES = Collections.singleton(MetricCategory.ALL);
+    private static final MetricLevel DEFAULT_METRIC_LEVEL = MetricLevel.INFO;
+
+    private final Map<HistogramKey, ConcurrentHistogram> histograms = new ConcurrentHashMap<>();
+    private final Set<ObjectName> registeredMBeans = ConcurrentHashMap.newKeySet();
+    // Guards registering MBeans against closing, so that no MBean is registered after close() unregistered them.
+    private final Object mBeanLock = new Object();
+    private volatile boolean closed;
+
+    private final String name;
+    private final Set<SdkMetric<String>> dimensions;
+    private final Set<MetricCategory> metricCategories;
+    private final boolean metricCategoriesContainsAll;
+    private final MetricLevel metricLevel;
+    private final MBeanServer mBeanServer;
+
+    private HistogramMetricPublisher(Builder builder) {
+        this.name = resolveName(builder);
+        this.dimensions = resolveDimensions(builder);
+        this.metricCategories = resolveMetricCategories(builder);
+        this.metricCategoriesContainsAll = metricCategories.contains(MetricCategory.ALL);
+        this.metricLevel = resolveMetricLevel(builder);
+        this.mBeanServer = Boolean.TRUE.equals(builder.jmxEnabled) ? ManagementFactory.getPlatformMBeanServer() : null;
+    }
+
+    private String resolveName(Builder builder) {
+        return builder.name == null ? DEFAULT_NAME : builder.name;
+    }
+
+    private Set<SdkMetric<String>> resolveDimensions(Builder builder) {
+        return builder.dimensions == null ? DEFAULT_DIMENSIONS : new LinkedHashSet<>(builder.dimensions);
+    }
+
+    private Set<MetricCategory> resolveMetricCategories(Builder builder) {
+        return builder.metricCategories == null ? DEFAULT_METRIC_CATEGORIES : new LinkedHashSet<>(builder.metricCategories);
+    }
+
+    private MetricLevel resolveMetricLevel(Builder builder) {
+        return builder.metricLevel == null ? DEFAULT_METRIC_LEVEL : builder.metricLevel;
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        if (closed) {
+            log.debug(() -> "Ignoring metrics published after the publisher was closed.");
+            return;
+        }
+        Map<String, String> dimensionValues = dimensionValues(metricCollection);
+        recordMetrics(metricCollection, dimensionValues);
+    }
+
+    /**
+     * Returns a snapshot of every histogram of this publisher.
+     */
+    public List<HistogramSnapshot> snapshots() {
+        List<HistogramSnapshot> result = new ArrayList<>(histograms.size());
+        histograms.forEach((key, histogram) -> result.add(HistogramSnapshot.create(key.metric(), key.dimensions(), histogram)));
+        return result;
+    }
+
+    /**
+     * Clear the values of every histogram of this publisher. Values that are published concurrently with a reset may be
+     * partially cleared.
+     */
+    public void reset() {
+        histograms.values().forEach(ConcurrentHistogram::reset);
+    }
+
+    @Override
+    public void close() {
+        synchronized (mBeanLock) {
+            closed = true;
+            registeredMBeans.forEach(this::unregisterMBean);
+            registeredMBeans.clear();
+        }
+    }
+
+    /**
+     * Create a new {@link Builder} that can be used to create {@link HistogramMetricPublisher}s.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a {@link HistogramMetricPublisher} using all default values.
+     */
+    public static HistogramMetricPublisher create() {
+        return builder().build();
+    }
+
+    private Map<String, String> dimensionValues(MetricCollection metricCollection) {
+        // Sorted by name, so that the order of the metrics in the collection does not affect which histogram is used.
+        Map<String, String> result = new TreeMap<>();
+        for (MetricRecord<?> metricRecord : metricCollection) {
+            if (dimensions.contains(metricRecord.metric())) {
+                result.put(metricRecord.metric().name(), (String) metricRecord.value());
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private void recordMetrics(MetricCollection metricCollection, Map<String, String> dimensionValues) {
+        for (MetricRecord<?> metricRecord : metricCollection) {
+            if (shouldRecord(metricRecord)) {
+                Object value = metricRecord.value();
+                if (value instanceof Duration) {
+                    histogram(metricRecord.metric(), dimensionValues).record(((Duration) value).toNanos());
+                } else if (value instanceof Double || value instanceof Float) {
+                    histogram(metricRecord.metric(), dimensionValues).record(Math.round(((Number) value).doubleValue()));
+                } else if (value instanceof Number) {
+                    histogram(metricRecord.metric(), dimensionValues).record(((Number) value).longValue());
+                }
+            }
+        }
+        metricCollection.children().forEach(child -> recordMetrics(child, dimensionValues));
+    }
+
+    private boolean shouldRecord(MetricRecord<?> metricRecord) {
+        SdkMetric<?> metric = metricRecord.metric();
+        return metricRecord.value() != null &&
+               metricLevel.includesLevel(metric.level()) &&
+               (metricCategoriesContainsAll || metric.categories().stream().anyMatch(metricCategories::contains));
+    }
+
+    private ConcurrentHistogram histogram(SdkMetric<?> metric, Map<String, String> dimensionValues) {
+        HistogramKey key = new HistogramKey(metric, dimensionValues);
+        ConcurrentHistogram histogram = histograms.get(key);
+        if (histogram != null) {
+            return histogram;
+        }
+
+        ConcurrentHistogram newHistogram = new ConcurrentHistogram();
+        histogram = histograms.putIfAbsent(key, newHistogram);
+        if (histogram != null) {
+            return histogram;
+        }
+
+        if (mBeanServer != null) {
+            registerMBean(key, newHistogram);
+        }
+        return newHistogram;
+    }
+
+    private void registerMBean(HistogramKey key, ConcurrentHistogram histogram) {
+        try {
+            Hashtable<String, String> properties = new Hashtable<>();
+            properties.put("type", "Histogram");
+            properties.put("publisher", jmxValue(name));
+            key.dimensions().forEach((dimension, value) -> properties.put(dimension, jmxValue(value)));
+            properties.put("metric", jmxValue(key.metric().name()));
+            ObjectName objectName = new ObjectName(JMX_DOMAIN, properties);
+
+            synchronized (mBeanLock) {
+                if (closed) {
+                    return;
+                }
+                mBeanServer.registerMBean(new JmxHistogram(key, histogram), objectName);
+                registeredMBeans.add(objectName);
+            }
+        } catch (JMException e) {
+            log.warn(() -> "Unable to register the MBean of the " + key.metric().name() + " histogram with dimensions "
+                           + key.dimensions() + ". Its values can still be read with snapshots().", e);
+        }
+    }
+
+    private void unregisterMBean(ObjectName objectName) {
+        try {
+            mBeanServer.unregisterMBean(objectName);
+        } catch (JMException e) {
+            log.warn(() -> "Unable to unregister MBean " + objectName + ".", e);
+        }
+    }
+
+    private static String jmxValue(String value) {
+        return JMX_SAFE_VALUE.matcher(value).matches() ? value : ObjectName.quote(value);
+    }
+
+    /**
+     * Builder class to construct {@link HistogramMetricPublisher} instances. See the individual properties for which
+     * configuration settings are available.
+     */
+    public static final class Builder {
+        private String name;
+        private Collection<SdkMetric<String>> dimensions;
+        private Collection<MetricCategory> metricCategories;
+        private MetricLevel metricLevel;
+        private Boolean jmxEnabled;
+
+        private Builder() {
+        }
+
+        /**
+         * Configure the name of the publisher, which is included in the names of its MBeans. Publishers that register MBeans
+         * in the same JVM should have different names.
+         *
+         * <p>If this is not specified, {@code default} is used.
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Configure the {@link SdkMetric}s whose values separate the histograms of a metric.
+         *
+         * <p>If this is not specified, {@link CoreMetric#SERVICE_ID} and {@link CoreMetric#OPERATION_NAME} are used, allowing
+         * you to compare metrics for different services and operations.
+         */
+        public Builder dimensions(Collection<SdkMetric<String>> dimensions) {
+            this.dimensions = new ArrayList<>(dimensions);
+            return this;
+        }
+
+        /**
+         * @see #dimensions(Collection)
+         */
+        @SafeVarargs
+        public final Builder dimensions(SdkMetric<String>... dimensions) {
+            return dimensions(Arrays.asList(dimensions));
+        }
+
+        /**
+         * Configure the {@link MetricCategory}s that should be recorded. Any metrics that do not fall under these categories
+         * are ignored.
+         *
+         * <p>If this is not specified, {@link MetricCategory#ALL} is used.
+         */
+        public Builder metricCategories(Collection<MetricCategory> metricCategories) {
+            this.metricCategories = new ArrayList<>(metricCategories);
+            return this;
+        }
+
+        /**
+         * @see #metricCategories(Collection)
+         */
+        public Builder metricCategories(MetricCategory... metricCategories) {
+            return metricCategories(Arrays.asList(metricCategories));
+        }
+
+        /**
+         * Configure the {@link MetricLevel} that should be recorded. Any metrics that are more verbose than this level are
+         * ignored.
+         *
+         * <p>If this is not specified, {@link MetricLevel#INFO} is used.
+         */
+        public Builder metricLevel(MetricLevel metricLevel) {
+            this.metricLevel = metricLevel;
+            return this;
+        }
+
+        /**
+         * Configure whether every histogram should be registered as an MBean with the platform MBean server.
+         *
+         * <p>If this is not specified, MBeans are not registered.
+         */
+        public Builder jmxEnabled(Boolean jmxEnabled) {
+            this.jmxEnabled = jmxEnabled;
+            return this;
+        }
+
+        /**
+         * Build a {@link HistogramMetricPublisher} using the configuration currently configured on this publisher.
+         */
+        public HistogramMetricPublisher build() {
+            Validate.paramNotBlank(name == null ? DEFAULT_NAME : name, "name");
+            return new HistogramMetricPublisher(this);
+        }
+    }
+}
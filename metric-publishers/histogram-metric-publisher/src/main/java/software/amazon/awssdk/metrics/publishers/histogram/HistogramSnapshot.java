@@ -0,0 +1,149 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.histogram.internal.ConcurrentHistogram;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A point-in-time view of the values a {@link HistogramMetricPublisher} aggregated for one metric and one set of dimension
+ * values.
+ *
+ * <p>Values of {@link Duration} metrics are in nanoseconds. Percentiles are accurate to within 1% of the recorded values.
+ */
+@SdkPublicApi
+@Immutable
+public final class HistogramSnapshot {
+    private final SdkMetric<?> metric;
+    private final Map<String, String> dimensions;
+    private final long count;
+    private final long min;
+    private final long max;
+    private final double mean;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long p999;
+
+    private HistogramSnapshot(SdkMetric<?> metric, Map<String, String> dimensions, ConcurrentHistogram histogram) {
+        this.metric = metric;
+        this.dimensions = dimensions;
+        this.count = histogram.count();
+        this.min = histogram.min();
+        this.max = histogram.max();
+        this.mean = histogram.mean();
+        this.p50 = histogram.valueAtPercentile(50);
+        this.p90 = histogram.valueAtPercentile(90);
+        this.p99 = histogram.valueAtPercentile(99);
+        this.p999 = histogram.valueAtPercentile(99.9);
+    }
+
+    static HistogramSnapshot create(SdkMetric<?> metric, Map<String, String> dimensions, ConcurrentHistogram histogram) {
+        return new HistogramSnapshot(metric, dimensions, histogram);
+    }
+
+    /**
+     * The metric that the values were reported for.
+     */
+    public SdkMetric<?> metric() {
+        return metric;
+    }
+
+    /**
+     * The values of the publisher's dimensions that the values were reported with, keyed by the dimension's metric name. For
+     * example, {@code {"ServiceId": "DynamoDB", "OperationName": "GetItem"}}.
+     */
+    public Map<String, String> dimensions() {
+        return dimensions;
+    }
+
+    /**
+     * The number of values.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * The smallest value.
+     */
+    public long min() {
+        return min;
+    }
+
+    /**
+     * The largest value.
+     */
+    public long max() {
+        return max;
+    }
+
+    /**
+     * The mean of the values.
+     */
+    public double mean() {
+        return mean;
+    }
+
+    /**
+     * The median value.
+     */
+    public long p50() {
+        return p50;
+    }
+
+    /**
+     * The value that 90% of the values are less than or equal to.
+     */
+    public long p90() {
+        return p90;
+    }
+
+    /**
+     * The value that 99% of the values are less than or equal to.
+     */
+    public long p99() {
+        return p99;
+    }
+
+    /**
+     * The value that 99.9% of the values are less than or equal to.
+     */
+    public long p999() {
+        return p999;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HistogramSnapshot")
+                       .add("metric", metric.name())
+                       .add("dimensions", dimensions)
+                       .add("count", count)
+                       .add("min", min)
+                       .add("max", max)
+                       .add("mean", mean)
+                       .add("p50", p50)
+                       .add("p90", p90)
+                       .add("p99", p99)
+                       .add("p999", p999)
+                       .build();
+    }
+}
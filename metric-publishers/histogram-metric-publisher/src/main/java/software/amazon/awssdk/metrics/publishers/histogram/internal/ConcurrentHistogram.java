@@ -0,0 +1,196 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A lock-free histogram of non-negative {@code long} values, with log-linear buckets in the style of HdrHistogram.
+ *
+ * <p>Values below {@value #LINEAR_LIMIT} are counted exactly. Larger values are counted in buckets that split every power of
+ * two into {@value #SUB_BUCKETS} equal parts, so any recorded value is reported with a relative error below 1%. The buckets for
+ * a power of two are only allocated once a value of that magnitude is recorded, so a histogram of values that span a few
+ * orders of magnitude stays small.
+ *
+ * <p>Recording a value only increments atomic counters. Reading the histogram while values are being recorded returns a
+ * result that includes some, but not necessarily all, of the concurrently recorded values.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ConcurrentHistogram {
+    /**
+     * The number of buckets each power of two is split into.
+     */
+    private static final int SUB_BUCKETS = 128;
+    private static final int SUB_BUCKET_BITS = 7;
+
+    /**
+     * Values below this limit are each counted in their own bucket.
+     */
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int LINEAR_LIMIT_BITS = SUB_BUCKET_BITS + 1;
+
+    /**
+     * One segment for the linear values, and one for each power of two from {@link #LINEAR_LIMIT} to {@link Long#MAX_VALUE}.
+     */
+    private static final int SEGMENTS = 1 + Long.SIZE - 1 - LINEAR_LIMIT_BITS;
+
+    private final AtomicReferenceArray<AtomicLongArray> segments = new AtomicReferenceArray<>(SEGMENTS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    /**
+     * Record a value. Negative values are recorded as zero.
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        int segment = segmentOf(v);
+        counts(segment).incrementAndGet(indexInSegment(v, segment));
+        count.increment();
+        sum.add(v);
+        min.accumulate(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the smallest recorded value, or 0 if no values have been recorded.
+     */
+    public long min() {
+        return count() == 0 ? 0 : min.get();
+    }
+
+    /**
+     * Returns the largest recorded value, or 0 if no values have been recorded.
+     */
+    public long max() {
+        return count() == 0 ? 0 : max.get();
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if no values have been recorded.
+     */
+    public double mean() {
+        long n = count();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Returns the value that the given percentage of recorded values are less than or equal to, or 0 if no values have been
+     * recorded. The result is the highest value in the bucket the percentile falls into, capped at the largest recorded value.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     */
+    public long valueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100, but was " + percentile);
+        }
+
+        long total = 0;
+        for (int segment = 0; segment < SEGMENTS; segment++) {
+            AtomicLongArray counts = segments.get(segment);
+            if (counts != null) {
+                for (int i = 0; i < counts.length(); i++) {
+                    total += counts.get(i);
+                }
+            }
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int segment = 0; segment < SEGMENTS; segment++) {
+            AtomicLongArray counts = segments.get(segment);
+            if (counts == null) {
+                continue;
+            }
+            for (int i = 0; i < counts.length(); i++) {
+                seen += counts.get(i);
+                if (seen >= rank) {
+                    return Math.min(highestValueInBucket(segment, i), max());
+                }
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Clear all recorded values. Values that are recorded concurrently with a reset may be partially cleared.
+     */
+    public void reset() {
+        for (int segment = 0; segment < SEGMENTS; segment++) {
+            segments.set(segment, null);
+        }
+        count.reset();
+        sum.reset();
+        min.reset();
+        max.reset();
+    }
+
+    private AtomicLongArray counts(int segment) {
+        AtomicLongArray counts = segments.get(segment);
+        if (counts == null) {
+            AtomicLongArray newCounts = new AtomicLongArray(segment == 0 ? LINEAR_LIMIT : SUB_BUCKETS);
+            if (segments.compareAndSet(segment, null, newCounts)) {
+                return newCounts;
+            }
+            counts = segments.get(segment);
+        }
+        return counts;
+    }
+
+    /**
+     * Segment 0 holds the values below {@link #LINEAR_LIMIT}. Segment {@code n} holds the values with {@code n + 7} as the
+     * position of their highest set bit, so shifting them right by {@code n} bits leaves the top 8 bits of the value.
+     */
+    private static int segmentOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return 0;
+        }
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    }
+
+    private static int indexInSegment(long value, int segment) {
+        if (segment == 0) {
+            return (int) value;
+        }
+        // The top 8 bits of the value, which are between SUB_BUCKETS and 2 * SUB_BUCKETS - 1.
+        return (int) (value >>> segment) - SUB_BUCKETS;
+    }
+
+    private static long highestValueInBucket(int segment, int index) {
+        if (segment == 0) {
+            return index;
+        }
+        long lowest = (long) (index + SUB_BUCKETS) << segment;
+        return lowest + (1L << segment) - 1;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import java.util.Map;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * The metric and dimension values that a {@link ConcurrentHistogram} aggregates the values of.
+ */
+@SdkInternalApi
+@Immutable
+public final class HistogramKey {
+    private final SdkMetric<?> metric;
+    private final Map<String, String> dimensions;
+    private final int hashCode;
+
+    public HistogramKey(SdkMetric<?> metric, Map<String, String> dimensions) {
+        this.metric = metric;
+        this.dimensions = dimensions;
+        this.hashCode = 31 * metric.hashCode() + dimensions.hashCode();
+    }
+
+    public SdkMetric<?> metric() {
+        return metric;
+    }
+
+    /**
+     * The dimension values, ordered by the dimension names.
+     */
+    public Map<String, String> dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        HistogramKey that = (HistogramKey) o;
+        return metric.equals(that.metric) && dimensions.equals(that.dimensions);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
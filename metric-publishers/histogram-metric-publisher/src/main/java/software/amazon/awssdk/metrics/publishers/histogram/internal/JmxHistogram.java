@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Exposes a {@link ConcurrentHistogram} over JMX. Every attribute is read from the histogram when it is requested.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class JmxHistogram implements HistogramMXBean {
+    private final HistogramKey key;
+    private final ConcurrentHistogram histogram;
+
+    public JmxHistogram(HistogramKey key, ConcurrentHistogram histogram) {
+        this.key = key;
+        this.histogram = histogram;
+    }
+
+    @Override
+    public String getUnit() {
+        return Duration.class.isAssignableFrom(key.metric().valueClass()) ? "NANOSECONDS" : "NONE";
+    }
+
+    @Override
+    public long getCount() {
+        return histogram.count();
+    }
+
+    @Override
+    public long getMin() {
+        return histogram.min();
+    }
+
+    @Override
+    public long getMax() {
+        return histogram.max();
+    }
+
+    @Override
+    public double getMean() {
+        return histogram.mean();
+    }
+
+    @Override
+    public long getP50() {
+        return histogram.valueAtPercentile(50);
+    }
+
+    @Override
+    public long getP90() {
+        return histogram.valueAtPercentile(90);
+    }
+
+    @Override
+    public long getP99() {
+        return histogram.valueAtPercentile(99);
+    }
+
+    @Override
+    public long getP999() {
+        return histogram.valueAtPercentile(99.9);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+
+public class HistogramMetricPublisherTest {
+    private static final MBeanServer MBEAN_SERVER = ManagementFactory.getPlatformMBeanServer();
+
+    @Test
+    public void noMetrics_noSnapshots() {
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.create()) {
+            publisher.publish(MetricCollector.create("test").collect());
+            assertThat(publisher.snapshots()).isEmpty();
+        }
+    }
+
+    @Test
+    public void durations_areRecordedInNanoseconds() {
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.create()) {
+            for (int i = 1; i <= 100; i++) {
+                publisher.publish(apiCall("DynamoDB", "GetItem", Duration.ofMillis(i)));
+            }
+
+            List<HistogramSnapshot> snapshots = publisher.snapshots();
+            assertThat(snapshots).hasSize(1);
+            HistogramSnapshot snapshot = snapshots.get(0);
+            assertThat(snapshot.metric()).isEqualTo(CoreMetric.API_CALL_DURATION);
+            assertThat(snapshot.dimensions()).containsEntry("ServiceId", "DynamoDB")
+                                             .containsEntry("OperationName", "GetItem")
+                                             .hasSize(2);
+            assertThat(snapshot.count()).isEqualTo(100);
+            assertThat(snapshot.min()).isEqualTo(Duration.ofMillis(1).toNanos());
+            assertThat(snapshot.max()).isEqualTo(Duration.ofMillis(100).toNanos());
+            assertThat(snapshot.p50()).isBetween(Duration.ofMillis(50).toNanos(), Duration.ofMillis(51).toNanos());
+            assertThat(snapshot.p99()).isBetween(Duration.ofMillis(99).toNanos(), Duration.ofMillis(100).toNanos());
+            assertThat(snapshot.p999()).isEqualTo(Duration.ofMillis(100).toNanos());
+        }
+    }
+
+    @Test
+    public void differentDimensionValues_areSeparateHistograms() {
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.create()) {
+            publisher.publish(apiCall("DynamoDB", "GetItem", Duration.ofMillis(1)));
+            publisher.publish(apiCall("DynamoDB", "PutItem", Duration.ofMillis(2)));
+            publisher.publish(apiCall("DynamoDB", "PutItem", Duration.ofMillis(3)));
+
+            assertThat(publisher.snapshots()).hasSize(2)
+                                             .anySatisfy(s -> {
+                                                 assertThat(s.dimensions()).containsEntry("OperationName", "GetItem");
+                                                 assertThat(s.count()).isEqualTo(1);
+                                             })
+                                             .anySatisfy(s -> {
+                                                 assertThat(s.dimensions()).containsEntry("OperationName", "PutItem");
+                                                 assertThat(s.count()).isEqualTo(2);
+                                             });
+        }
+    }
+
+    @Test
+    public void childMetrics_areRecordedWithParentDimensions() {
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.create()) {
+            MetricCollector collector = MetricCollector.create("ApiCall");
+            collector.reportMetric(CoreMetric.SERVICE_ID, "S3");
+            collector.reportMetric(CoreMetric.OPERATION_NAME, "GetObject");
+            MetricCollector attempt = collector.createChild("ApiCallAttempt");
+            attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.ofMillis(5));
+            attempt.reportMetric(CoreMetric.AWS_REQUEST_ID, "abc");
+            MetricCollector http = attempt.createChild("HttpClient");
+            http.reportMetric(HttpMetric.LEASED_CONCURRENCY, 3);
+            publisher.publish(collector.collect());
+
+            assertThat(publisher.snapshots()).hasSize(2)
+                                             .allSatisfy(s -> assertThat(s.dimensions())
+                                                 .containsEntry("ServiceId", "S3")
+                                                 .containsEntry("OperationName", "GetObject"))
+                                             .anySatisfy(s -> {
+                                                 assertThat(s.metric()).isEqualTo(CoreMetric.SERVICE_CALL_DURATION);
+                                                 assertThat(s.max()).isEqualTo(Duration.ofMillis(5).toNanos());
+                                             })
+                                             .anySatisfy(s -> {
+                                                 assertThat(s.metric()).isEqualTo(HttpMetric.LEASED_CONCURRENCY);
+                                                 assertThat(s.max()).isEqualTo(3);
+                                             });
+        }
+    }
+
+    @Test
+    public void metricCategoriesAndLevel_filterMetrics() {
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.builder()
+                                                                          .metricCategories(MetricCategory.HTTP_CLIENT)
+                                                                          .build()) {
+            MetricCollector collector = MetricCollector.create("test");
+            collector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(1));
+            collector.reportMetric(HttpMetric.LEASED_CONCURRENCY, 1);
+            collector.reportMetric(HttpMetric.HTTP_STATUS_CODE, 200);
+            publisher.publish(collector.collect());
+
+            assertThat(publisher.snapshots()).extracting(HistogramSnapshot::metric)
+                                             .containsExactly(HttpMetric.LEASED_CONCURRENCY);
+        }
+
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.builder()
+                                                                          .metricCategories(MetricCategory.HTTP_CLIENT)
+                                                                          .metricLevel(MetricLevel.TRACE)
+                                                                          .build()) {
+            MetricCollector collector = MetricCollector.create("test");
+            collector.reportMetric(HttpMetric.LEASED_CONCURRENCY, 1);
+            collector.reportMetric(HttpMetric.HTTP_STATUS_CODE, 200);
+            publisher.publish(collector.collect());
+
+            assertThat(publisher.snapshots()).hasSize(2);
+        }
+    }
+
+    @Test
+    public void reset_clearsSnapshotValues() {
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.create()) {
+            publisher.publish(apiCall("DynamoDB", "GetItem", Duration.ofMillis(1)));
+            publisher.reset();
+            assertThat(publisher.snapshots()).singleElement().satisfies(s -> assertThat(s.count()).isZero());
+        }
+    }
+
+    @Test
+    public void jmxEnabled_registersMBeansUntilClosed() throws Exception {
+        ObjectName pattern = new ObjectName("software.amazon.awssdk.metrics:type=Histogram,publisher=jmx-test,*");
+        HistogramMetricPublisher publisher = HistogramMetricPublisher.builder()
+                                                                     .name("jmx-test")
+                                                                     .jmxEnabled(true)
+                                                                     .build();
+        try {
+            for (int i = 1; i <= 100; i++) {
+                publisher.publish(apiCall("DynamoDB", "Get Item", Duration.ofMillis(i)));
+            }
+
+            Set<ObjectName> names = MBEAN_SERVER.queryNames(pattern, null);
+            assertThat(names).hasSize(1);
+            ObjectName name = names.iterator().next();
+            assertThat(name.getKeyProperty("ServiceId")).isEqualTo("DynamoDB");
+            assertThat(ObjectName.unquote(name.getKeyProperty("OperationName"))).isEqualTo("Get Item");
+            assertThat(name.getKeyProperty("metric")).isEqualTo("ApiCallDuration");
+
+            assertThat(MBEAN_SERVER.getAttribute(name, "Unit")).isEqualTo("NANOSECONDS");
+            assertThat(MBEAN_SERVER.getAttribute(name, "Count")).isEqualTo(100L);
+            assertThat(MBEAN_SERVER.getAttribute(name, "Max")).isEqualTo(Duration.ofMillis(100).toNanos());
+            assertThat((Long) MBEAN_SERVER.getAttribute(name, "P99")).isBetween(Duration.ofMillis(99).toNanos(),
+                                                                               Duration.ofMillis(100).toNanos());
+        } finally {
+            publisher.close();
+        }
+
+        assertThat(MBEAN_SERVER.queryNames(pattern, null)).isEmpty();
+    }
+
+    @Test
+    public void publishAfterClose_isIgnoredAndRegistersNoMBeans() throws Exception {
+        ObjectName pattern = new ObjectName("software.amazon.awssdk.metrics:type=Histogram,publisher=closed-test,*");
+        HistogramMetricPublisher publisher = HistogramMetricPublisher.builder()
+                                                                     .name("closed-test")
+                                                                     .jmxEnabled(true)
+                                                                     .build();
+        publisher.close();
+
+        publisher.publish(apiCall("DynamoDB", "GetItem", Duration.ofMillis(1)));
+
+        assertThat(publisher.snapshots()).isEmpty();
+        assertThat(MBEAN_SERVER.queryNames(pattern, null)).isEmpty();
+    }
+
+    @Test
+    public void jmxDisabled_registersNoMBeans() throws Exception {
+        ObjectName pattern = new ObjectName("software.amazon.awssdk.metrics:type=Histogram,publisher=no-jmx-test,*");
+        try (HistogramMetricPublisher publisher = HistogramMetricPublisher.builder().name("no-jmx-test").build()) {
+            publisher.publish(apiCall("DynamoDB", "GetItem", Duration.ofMillis(1)));
+            assertThat(MBEAN_SERVER.queryNames(pattern, null)).isEmpty();
+        }
+    }
+
+    private static MetricCollection apiCall(String serviceId, String operationName, Duration duration) {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.SERVICE_ID, serviceId);
+        collector.reportMetric(CoreMetric.OPERATION_NAME, operationName);
+        collector.reportMetric(CoreMetric.API_CALL_DURATION, duration);
+        return collector.collect();
+    }
+}
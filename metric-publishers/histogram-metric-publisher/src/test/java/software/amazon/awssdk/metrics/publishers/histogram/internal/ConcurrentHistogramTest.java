@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.histogram.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentHistogramTest {
+    @Test
+    public void emptyHistogram_reportsZeros() {
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.min()).isZero();
+        assertThat(histogram.max()).isZero();
+        assertThat(histogram.mean()).isZero();
+        assertThat(histogram.valueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    public void smallValues_areExact() {
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.min()).isEqualTo(1);
+        assertThat(histogram.max()).isEqualTo(100);
+        assertThat(histogram.mean()).isEqualTo(50.5);
+        assertThat(histogram.valueAtPercentile(0)).isEqualTo(1);
+        assertThat(histogram.valueAtPercentile(50)).isEqualTo(50);
+        assertThat(histogram.valueAtPercentile(99)).isEqualTo(99);
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(100);
+    }
+
+    @Test
+    public void negativeValues_areRecordedAsZero() {
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        histogram.record(-5);
+        assertThat(histogram.min()).isZero();
+        assertThat(histogram.valueAtPercentile(50)).isZero();
+    }
+
+    @Test
+    public void largeValues_areWithinOnePercent() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            ConcurrentHistogram histogram = new ConcurrentHistogram();
+            histogram.record(value);
+            histogram.record(Long.MAX_VALUE);
+            long reported = histogram.valueAtPercentile(50);
+            assertThat(reported).isGreaterThanOrEqualTo(value);
+            assertThat((double) reported - value).isLessThanOrEqualTo(value / 100.0);
+        }
+    }
+
+    @Test
+    public void percentiles_ofUniformDistribution() {
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        for (int i = 1; i <= 1_000_000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertThat(histogram.valueAtPercentile(50)).isBetween(500_000_000L, 505_000_000L);
+        assertThat(histogram.valueAtPercentile(99)).isBetween(990_000_000L, 999_900_000L);
+        assertThat(histogram.valueAtPercentile(99.9)).isBetween(999_000_000L, 1_000_000_000L);
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(1_000_000_000L);
+    }
+
+    @Test
+    public void percentileOutOfRange_throws() {
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        assertThatThrownBy(() -> histogram.valueAtPercentile(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> histogram.valueAtPercentile(100.1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void reset_clearsValues() {
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        histogram.record(1_000_000);
+        histogram.reset();
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.valueAtPercentile(100)).isZero();
+
+        histogram.record(7);
+        assertThat(histogram.min()).isEqualTo(7);
+        assertThat(histogram.max()).isEqualTo(7);
+    }
+
+    @Test
+    public void concurrentRecords_areAllCounted() {
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        histogram.record(i);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(histogram.count()).isEqualTo(800_000);
+        assertThat(histogram.min()).isZero();
+        assertThat(histogram.max()).isEqualTo(99_999);
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(99_999);
+    }
+}
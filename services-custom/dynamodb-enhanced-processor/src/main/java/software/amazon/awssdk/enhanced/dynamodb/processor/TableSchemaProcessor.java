@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappedClass;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappedClassIntrospector;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.TableSchemaWriter;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.UnsupportedMappedClassException;
+
+/**
+ * An annotation processor that generates the table schema of each class annotated with {@code @DynamoDbBean} or
+ * {@code @DynamoDbImmutable} at compile time. {@code TableSchema.fromClass} uses the generated schema instead of
+ * introspecting the class at runtime, which is slow on startup and requires reflection configuration in a GraalVM native
+ * image.
+ *
+ * <p>The processor is enabled by adding this module to the annotation processor path of the compiler, for example with
+ * the {@code annotationProcessorPaths} of the {@code maven-compiler-plugin}. For each annotated class {@code Customer}, it
+ * generates a class named {@code Customer_TableSchema} in the same package.
+ *
+ * <p>When the schema of a class cannot be generated, for example because the class is generic or its schema refers back to
+ * it through its documents, the processor reports a note and {@code TableSchema.fromClass} introspects the class at runtime
+ * as before.
+ */
+@SdkPublicApi
+@SupportedAnnotationTypes({MappedClassIntrospector.DYNAMO_DB_BEAN, MappedClassIntrospector.DYNAMO_DB_IMMUTABLE})
+public final class TableSchemaProcessor extends AbstractProcessor {
+    private static final String NATIVE_IMAGE_CONFIG_DIRECTORY =
+        "META-INF/native-image/software.amazon.awssdk.dynamodb-enhanced-processor/";
+
+    private MappedClassIntrospector introspector;
+    private TableSchemaWriter writer;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.introspector = new MappedClassIntrospector(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+        this.writer = new TableSchemaWriter(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), introspector,
+                                            TableSchemaProcessor.class.getName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.INTERFACE) {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+
+        // The annotations are not claimed, so that other processors can process them as well.
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        String source;
+        try {
+            MappedClass mappedClass = introspector.introspect(type);
+            if (introspector.isRecursive(type)) {
+                throw new UnsupportedMappedClassException("The table schema of the class refers back to the class.");
+            }
+            source = writer.write(mappedClass);
+        } catch (UnsupportedMappedClassException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                                                     "The table schema of " + type + " is not generated, and will be "
+                                                     + "created at runtime instead: " + e.getMessage(),
+                                                     type);
+            return;
+        }
+
+        String generatedClassName = writer.generatedClassName(type);
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(generatedClassName, type);
+            try (Writer sourceWriter = sourceFile.openWriter()) {
+                sourceWriter.write(source);
+            }
+
+            // The generated class is loaded by name, so it is registered for reflection in a GraalVM native image.
+            FileObject reflectConfig =
+                processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                                                        NATIVE_IMAGE_CONFIG_DIRECTORY + generatedClassName
+                                                        + "/reflect-config.json",
+                                                        type);
+            try (Writer configWriter = reflectConfig.openWriter()) {
+                configWriter.write("[\n"
+                                   + "  {\n"
+                                   + "    \"name\": \"" + generatedClassName + "\",\n"
+                                   + "    \"methods\": [\n"
+                                   + "      {\n"
+                                   + "        \"name\": \"<init>\",\n"
+                                   + "        \"parameterTypes\": []\n"
+                                   + "      }\n"
+                                   + "    ]\n"
+                                   + "  }\n"
+                                   + "]\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Unable to write the table schema of " + type + ": " + e.getMessage(),
+                                                     type);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.List;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A class annotated with {@code @DynamoDbBean} or {@code @DynamoDbImmutable}, with the properties that are mapped to
+ * attributes by its table schema.
+ */
+@SdkInternalApi
+public final class MappedClass {
+    private final TypeElement type;
+    private final TypeElement builderType;
+    private final ExecutableElement staticBuilderMethod;
+    private final List<TypeMirror> converterProviders;
+    private final List<MappedProperty> properties;
+
+    private MappedClass(TypeElement type,
+                        TypeElement builderType,
+                        ExecutableElement staticBuilderMethod,
+                        List<TypeMirror> converterProviders,
+                        List<MappedProperty> properties) {
+        this.type = type;
+        this.builderType = builderType;
+        this.staticBuilderMethod = staticBuilderMethod;
+        this.converterProviders = converterProviders;
+        this.properties = properties;
+    }
+
+    /**
+     * A class annotated with {@code @DynamoDbBean}.
+     */
+    public static MappedClass bean(TypeElement type, List<TypeMirror> converterProviders, List<MappedProperty> properties) {
+        return new MappedClass(type, null, null, converterProviders, properties);
+    }
+
+    /**
+     * A class annotated with {@code @DynamoDbImmutable}. The static builder method is null when the builder is created with
+     * its constructor.
+     */
+    public static MappedClass immutable(TypeElement type,
+                                        TypeElement builderType,
+                                        ExecutableElement staticBuilderMethod,
+                                        List<TypeMirror> converterProviders,
+                                        List<MappedProperty> properties) {
+        return new MappedClass(type, builderType, staticBuilderMethod, converterProviders, properties);
+    }
+
+    public TypeElement type() {
+        return type;
+    }
+
+    public boolean isImmutable() {
+        return builderType != null;
+    }
+
+    public TypeElement builderType() {
+        return builderType;
+    }
+
+    public ExecutableElement staticBuilderMethod() {
+        return staticBuilderMethod;
+    }
+
+    public List<TypeMirror> converterProviders() {
+        return converterProviders;
+    }
+
+    public List<MappedProperty> properties() {
+        return properties;
+    }
+}
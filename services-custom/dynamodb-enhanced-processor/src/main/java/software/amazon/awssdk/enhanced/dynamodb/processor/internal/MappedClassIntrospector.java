@@ -0,0 +1,454 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Finds the properties of an annotated class that are mapped to attributes, following the same rules as
+ * {@code BeanTableSchema} and {@code ImmutableTableSchema} do at runtime with {@code java.beans.Introspector} and
+ * {@code ImmutableIntrospector}. When the class would be rejected at runtime, an {@link UnsupportedMappedClassException} is
+ * thrown, so that the runtime reports the error as it always has.
+ */
+@SdkInternalApi
+public final class MappedClassIntrospector {
+    public static final String DYNAMO_DB_BEAN = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean";
+    public static final String DYNAMO_DB_IMMUTABLE =
+        "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable";
+
+    private static final String ANNOTATIONS_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.";
+    private static final String DYNAMO_DB_ATTRIBUTE = ANNOTATIONS_PACKAGE + "DynamoDbAttribute";
+    private static final String DYNAMO_DB_CONVERTED_BY = ANNOTATIONS_PACKAGE + "DynamoDbConvertedBy";
+    private static final String DYNAMO_DB_FLATTEN = ANNOTATIONS_PACKAGE + "DynamoDbFlatten";
+    private static final String DYNAMO_DB_IGNORE = ANNOTATIONS_PACKAGE + "DynamoDbIgnore";
+    private static final String DYNAMO_DB_IGNORE_NULLS = ANNOTATIONS_PACKAGE + "DynamoDbIgnoreNulls";
+    private static final String DYNAMO_DB_PRESERVE_EMPTY_OBJECT = ANNOTATIONS_PACKAGE + "DynamoDbPreserveEmptyObject";
+    private static final String BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG = ANNOTATIONS_PACKAGE + "BeanTableSchemaAttributeTag";
+    private static final String TRANSIENT = "java.beans.Transient";
+    private static final String LIST = "java.util.List";
+    private static final String MAP = "java.util.Map";
+
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+    private static final String BUILD_METHOD = "build";
+    private static final String BUILDER_METHOD = "builder";
+
+    // The public methods of Object, and toBuilder, are never mapped by ImmutableIntrospector.
+    private static final Set<String> IMMUTABLE_NAMES_TO_EXCLUDE = Collections.unmodifiableSet(new HashSet<>(
+        Arrays.asList("equals", "hashCode", "toString", "getClass", "notify", "notifyAll", "wait", "toBuilder")));
+
+    private final Elements elements;
+    private final Types types;
+
+    public MappedClassIntrospector(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    /**
+     * Whether the class is annotated with {@code @DynamoDbBean} or {@code @DynamoDbImmutable}, and is mapped as a document
+     * when it is the type of a property.
+     */
+    public boolean isMappedClass(TypeElement type) {
+        return annotation(type, DYNAMO_DB_IMMUTABLE) != null || annotation(type, DYNAMO_DB_BEAN) != null;
+    }
+
+    /**
+     * Find the mapped properties of an annotated class. As with {@code TableSchema.fromClass}, a class annotated with both
+     * annotations is mapped as an immutable class.
+     */
+    public MappedClass introspect(TypeElement type) {
+        AnnotationMirror dynamoDbImmutable = annotation(type, DYNAMO_DB_IMMUTABLE);
+        if (dynamoDbImmutable != null) {
+            return introspectImmutable(type, dynamoDbImmutable);
+        }
+
+        AnnotationMirror dynamoDbBean = annotation(type, DYNAMO_DB_BEAN);
+        if (dynamoDbBean != null) {
+            return introspectBean(type, dynamoDbBean);
+        }
+
+        throw new UnsupportedMappedClassException("The class is not annotated with @DynamoDbBean or @DynamoDbImmutable.");
+    }
+
+    /**
+     * Whether the table schema of the class refers back to the class, through the documents and flattened classes of its
+     * properties. The runtime breaks such cycles with a placeholder schema while the classes are introspected, which a
+     * generated schema, created when its class is initialized, cannot do.
+     */
+    public boolean isRecursive(TypeElement type) {
+        Set<TypeElement> visited = new HashSet<>();
+        Deque<TypeElement> toVisit = new ArrayDeque<>(referencedMappedClasses(type));
+
+        while (!toVisit.isEmpty()) {
+            TypeElement next = toVisit.pop();
+            if (next.equals(type)) {
+                return true;
+            }
+            if (visited.add(next)) {
+                toVisit.addAll(referencedMappedClasses(next));
+            }
+        }
+
+        return false;
+    }
+
+    private Set<TypeElement> referencedMappedClasses(TypeElement type) {
+        MappedClass mappedClass;
+        try {
+            mappedClass = introspect(type);
+        } catch (UnsupportedMappedClassException e) {
+            return Collections.emptySet();
+        }
+
+        Set<TypeElement> referenced = new LinkedHashSet<>();
+        for (MappedProperty property : mappedClass.properties()) {
+            if (property.flatten()) {
+                Element flattened = types.asElement(property.type());
+                if (flattened instanceof TypeElement && isMappedClass((TypeElement) flattened)) {
+                    referenced.add((TypeElement) flattened);
+                }
+            } else {
+                addDocumentClasses(property.type(), referenced);
+            }
+        }
+        return referenced;
+    }
+
+    /**
+     * Add the annotated classes that the runtime maps as documents for a property type: the type itself, or the element
+     * type of a {@code List} or the value type of a {@code Map}.
+     */
+    private void addDocumentClasses(TypeMirror type, Set<TypeElement> documentClasses) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return;
+        }
+
+        DeclaredType declaredType = (DeclaredType) type;
+        TypeElement element = (TypeElement) declaredType.asElement();
+        List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+
+        if (isClass(element, LIST) && typeArguments.size() == 1) {
+            addDocumentClasses(typeArguments.get(0), documentClasses);
+        } else if (isClass(element, MAP) && typeArguments.size() == 2) {
+            addDocumentClasses(typeArguments.get(1), documentClasses);
+        } else if (isMappedClass(element)) {
+            documentClasses.add(element);
+        }
+    }
+
+    private MappedClass introspectBean(TypeElement type, AnnotationMirror dynamoDbBean) {
+        boolean hasDefaultConstructor =
+            ElementFilter.constructorsIn(type.getEnclosedElements())
+                         .stream()
+                         .anyMatch(c -> c.getModifiers().contains(Modifier.PUBLIC) && c.getParameters().isEmpty());
+        if (!hasDefaultConstructor) {
+            throw new UnsupportedMappedClassException("The bean class does not have a public no-argument constructor.");
+        }
+
+        // java.beans.Introspector sorts the properties by name, and does not see the default methods of interfaces.
+        Map<String, ExecutableElement> getters = new TreeMap<>();
+        Map<String, List<ExecutableElement>> setters = new HashMap<>();
+
+        for (ExecutableElement method : publicInstanceMethods(type)) {
+            if (method.getEnclosingElement().getKind().isInterface()) {
+                continue;
+            }
+
+            String name = method.getSimpleName().toString();
+            int parameterCount = method.getParameters().size();
+            TypeKind returnKind = method.getReturnType().getKind();
+
+            if (parameterCount == 0 && name.length() > 2 && name.startsWith(IS_PREFIX) && returnKind == TypeKind.BOOLEAN) {
+                getters.put(decapitalize(name.substring(2)), method);
+            } else if (parameterCount == 0 && name.length() > 3 && name.startsWith(GET_PREFIX) && returnKind != TypeKind.VOID) {
+                getters.putIfAbsent(decapitalize(name.substring(3)), method);
+            } else if (parameterCount == 1 && name.length() > 3 && name.startsWith(SET_PREFIX) && returnKind == TypeKind.VOID) {
+                setters.computeIfAbsent(decapitalize(name.substring(3)), n -> new ArrayList<>()).add(method);
+            }
+        }
+
+        List<MappedProperty> properties = new ArrayList<>();
+        getters.forEach((name, getter) -> {
+            ExecutableElement setter =
+                setters.getOrDefault(name, Collections.emptyList())
+                       .stream()
+                       .filter(s -> isSameErasure(s.getParameters().get(0).asType(), getter.getReturnType()))
+                       .findFirst()
+                       .orElse(null);
+
+            if (setter != null && !isIgnored(getter, setter)) {
+                properties.add(property(name, getter, setter));
+            }
+        });
+
+        return MappedClass.bean(type, converterProviders(dynamoDbBean), properties);
+    }
+
+    private MappedClass introspectImmutable(TypeElement type, AnnotationMirror dynamoDbImmutable) {
+        TypeElement builderType = (TypeElement) types.asElement((TypeMirror) annotationValue(dynamoDbImmutable, "builder"));
+        ExecutableElement staticBuilderMethod = findStaticBuilderMethod(type, builderType);
+
+        Map<String, ExecutableElement> indexedBuilderMethods = new LinkedHashMap<>();
+        for (ExecutableElement method : immutableMappableMethods(builderType)) {
+            if (indexedBuilderMethods.put(normalizeSetterName(method), method) != null) {
+                throw new UnsupportedMappedClassException("The builder class has more than one method for the property of "
+                                                          + method + ".");
+            }
+        }
+
+        ExecutableElement buildMethod = indexedBuilderMethods.remove(BUILD_METHOD);
+        if (buildMethod == null
+            || !buildMethod.getParameters().isEmpty()
+            || !isSameErasure(buildMethod.getReturnType(), type.asType())) {
+            throw new UnsupportedMappedClassException("The builder class does not have a public method named 'build()' that "
+                                                      + "takes no arguments and returns an instance of the immutable class.");
+        }
+
+        List<MappedProperty> properties = new ArrayList<>();
+        for (ExecutableElement getter : immutableMappableMethods(type)) {
+            if (getter.getReturnType().getKind() == TypeKind.VOID || !getter.getParameters().isEmpty()) {
+                throw new UnsupportedMappedClassException("The method " + getter + " of the immutable class is not a valid "
+                                                          + "getter.");
+            }
+
+            String name = normalizeGetterName(getter);
+            ExecutableElement setter = indexedBuilderMethods.remove(name);
+            if (setter == null || !isValidImmutableSetter(setter, getter, builderType)) {
+                throw new UnsupportedMappedClassException("The method " + getter + " of the immutable class does not have a "
+                                                          + "matching setter on the builder class.");
+            }
+
+            properties.add(property(name, getter, setter));
+        }
+
+        if (!indexedBuilderMethods.isEmpty()) {
+            throw new UnsupportedMappedClassException("The method " + indexedBuilderMethods.values().iterator().next()
+                                                      + " of the builder class does not have a matching getter on the "
+                                                      + "immutable class.");
+        }
+
+        return MappedClass.immutable(type, builderType, staticBuilderMethod, converterProviders(dynamoDbImmutable),
+                                     properties);
+    }
+
+    private MappedProperty property(String name, ExecutableElement getter, ExecutableElement setter) {
+        AnnotationMirror dynamoDbAttribute = propertyAnnotation(getter, setter, DYNAMO_DB_ATTRIBUTE);
+        AnnotationMirror dynamoDbConvertedBy = propertyAnnotation(getter, setter, DYNAMO_DB_CONVERTED_BY);
+
+        List<AnnotationMirror> tagAnnotations =
+            Stream.concat(getter.getAnnotationMirrors().stream(), setter.getAnnotationMirrors().stream())
+                  .filter(this::isAttributeTag)
+                  .collect(Collectors.toList());
+
+        return MappedProperty.builder()
+                             .attributeName(dynamoDbAttribute == null ? name
+                                                                      : (String) annotationValue(dynamoDbAttribute, "value"))
+                             .getter(getter)
+                             .setter(setter)
+                             .flatten(propertyAnnotation(getter, setter, DYNAMO_DB_FLATTEN) != null)
+                             .attributeConverter(dynamoDbConvertedBy == null
+                                                 ? null
+                                                 : (TypeMirror) annotationValue(dynamoDbConvertedBy, "value"))
+                             .preserveEmptyObject(propertyAnnotation(getter, setter, DYNAMO_DB_PRESERVE_EMPTY_OBJECT) != null)
+                             .ignoreNulls(propertyAnnotation(getter, setter, DYNAMO_DB_IGNORE_NULLS) != null)
+                             .tagAnnotations(tagAnnotations)
+                             .build();
+    }
+
+    private List<TypeMirror> converterProviders(AnnotationMirror classAnnotation) {
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> providers =
+            (List<? extends AnnotationValue>) annotationValue(classAnnotation, "converterProviders");
+        return providers.stream().map(v -> (TypeMirror) v.getValue()).collect(Collectors.toList());
+    }
+
+    /**
+     * Whether the annotation is visible at runtime and is meta-annotated with {@code @BeanTableSchemaAttributeTag}.
+     */
+    private boolean isAttributeTag(AnnotationMirror annotation) {
+        Element annotationType = annotation.getAnnotationType().asElement();
+        if (annotation(annotationType, BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG) == null) {
+            return false;
+        }
+
+        AnnotationMirror retention = annotation(annotationType, "java.lang.annotation.Retention");
+        return retention != null
+               && ((VariableElement) annotationValue(retention, "value")).getSimpleName().contentEquals("RUNTIME");
+    }
+
+    /**
+     * Return the tag class named by the {@code @BeanTableSchemaAttributeTag} meta-annotation of a tag annotation.
+     */
+    public TypeElement attributeTagClass(AnnotationMirror tagAnnotation) {
+        AnnotationMirror attributeTag = annotation(tagAnnotation.getAnnotationType().asElement(),
+                                                   BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG);
+        return (TypeElement) types.asElement((TypeMirror) annotationValue(attributeTag, "value"));
+    }
+
+    private boolean isIgnored(ExecutableElement getter, ExecutableElement setter) {
+        return propertyAnnotation(getter, setter, DYNAMO_DB_IGNORE) != null
+               || propertyAnnotation(getter, setter, TRANSIENT) != null;
+    }
+
+    private ExecutableElement findStaticBuilderMethod(TypeElement type, TypeElement builderType) {
+        return ElementFilter.methodsIn(elements.getAllMembers(type))
+                            .stream()
+                            .filter(m -> m.getSimpleName().contentEquals(BUILDER_METHOD)
+                                         && m.getModifiers().contains(Modifier.PUBLIC)
+                                         && m.getModifiers().contains(Modifier.STATIC)
+                                         && m.getParameters().isEmpty()
+                                         && m.getEnclosingElement().getKind() == ElementKind.CLASS
+                                         && types.isAssignable(types.erasure(builderType.asType()),
+                                                               types.erasure(m.getReturnType())))
+                            .findFirst()
+                            .orElse(null);
+    }
+
+    private List<ExecutableElement> immutableMappableMethods(TypeElement type) {
+        return publicInstanceMethods(type).stream()
+                                          .filter(m -> !isClass(m.getEnclosingElement(), "java.lang.Object")
+                                                       && !IMMUTABLE_NAMES_TO_EXCLUDE.contains(m.getSimpleName().toString())
+                                                       && annotation(m, DYNAMO_DB_IGNORE) == null
+                                                       && annotation(m, TRANSIENT) == null)
+                                          .collect(Collectors.toList());
+    }
+
+    private boolean isValidImmutableSetter(ExecutableElement setter, ExecutableElement getter, TypeElement builderType) {
+        if (setter.getParameters().size() != 1
+            || !isSameErasure(setter.getParameters().get(0).asType(), getter.getReturnType())) {
+            return false;
+        }
+
+        TypeMirror returnType = setter.getReturnType();
+        return returnType.getKind() == TypeKind.VOID
+               || isClass(types.asElement(returnType), "java.lang.Void")
+               || types.isAssignable(types.erasure(builderType.asType()), types.erasure(returnType));
+    }
+
+    private List<ExecutableElement> publicInstanceMethods(TypeElement type) {
+        return ElementFilter.methodsIn(elements.getAllMembers(type))
+                            .stream()
+                            .filter(m -> m.getModifiers().contains(Modifier.PUBLIC)
+                                         && !m.getModifiers().contains(Modifier.STATIC))
+                            .collect(Collectors.toList());
+    }
+
+    private String normalizeGetterName(ExecutableElement getter) {
+        String name = getter.getSimpleName().toString();
+        TypeMirror returnType = getter.getReturnType();
+        boolean isBoolean = returnType.getKind() == TypeKind.BOOLEAN
+                            || isClass(types.asElement(returnType), "java.lang.Boolean");
+
+        if (name.length() > 2 && Character.isUpperCase(name.charAt(2)) && name.startsWith(IS_PREFIX) && isBoolean) {
+            return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+        }
+
+        if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith(GET_PREFIX)) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+
+        return name;
+    }
+
+    private static String normalizeSetterName(ExecutableElement setter) {
+        String name = setter.getSimpleName().toString();
+
+        if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith(SET_PREFIX)) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+
+        return name;
+    }
+
+    /**
+     * The property name of a bean accessor, as computed by {@code java.beans.Introspector.decapitalize}.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private boolean isSameErasure(TypeMirror first, TypeMirror second) {
+        return types.isSameType(types.erasure(first), types.erasure(second));
+    }
+
+    private static boolean isClass(Element element, String qualifiedName) {
+        return element instanceof TypeElement && ((TypeElement) element).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    /**
+     * Return the annotation of the getter, or of the setter when the getter does not have it.
+     */
+    private static AnnotationMirror propertyAnnotation(ExecutableElement getter, ExecutableElement setter, String annotation) {
+        AnnotationMirror getterAnnotation = annotation(getter, annotation);
+        return getterAnnotation != null ? getterAnnotation : annotation(setter, annotation);
+    }
+
+    private static AnnotationMirror annotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (isClass(mirror.getAnnotationType().asElement(), annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Return the value of an element of an annotation, or its default value when it is not set.
+     */
+    public Object annotationValue(AnnotationMirror annotation, String name) {
+        return elements.getElementValuesWithDefaults(annotation)
+                       .entrySet()
+                       .stream()
+                       .filter(e -> e.getKey().getSimpleName().contentEquals(name))
+                       .map(e -> e.getValue().getValue())
+                       .findFirst()
+                       .orElse(null);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.List;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A property of a {@link MappedClass}, read with a getter of the class and written with a setter of the class or of its
+ * builder.
+ */
+@SdkInternalApi
+public final class MappedProperty {
+    private final String attributeName;
+    private final ExecutableElement getter;
+    private final ExecutableElement setter;
+    private final boolean flatten;
+    private final TypeMirror attributeConverter;
+    private final boolean preserveEmptyObject;
+    private final boolean ignoreNulls;
+    private final List<AnnotationMirror> tagAnnotations;
+
+    private MappedProperty(Builder builder) {
+        this.attributeName = builder.attributeName;
+        this.getter = builder.getter;
+        this.setter = builder.setter;
+        this.flatten = builder.flatten;
+        this.attributeConverter = builder.attributeConverter;
+        this.preserveEmptyObject = builder.preserveEmptyObject;
+        this.ignoreNulls = builder.ignoreNulls;
+        this.tagAnnotations = builder.tagAnnotations;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String attributeName() {
+        return attributeName;
+    }
+
+    public ExecutableElement getter() {
+        return getter;
+    }
+
+    public ExecutableElement setter() {
+        return setter;
+    }
+
+    /**
+     * The type of the property, as returned by its getter.
+     */
+    public TypeMirror type() {
+        return getter.getReturnType();
+    }
+
+    public boolean flatten() {
+        return flatten;
+    }
+
+    /**
+     * The {@code @DynamoDbConvertedBy} converter class of the property, or null when it does not have one.
+     */
+    public TypeMirror attributeConverter() {
+        return attributeConverter;
+    }
+
+    public boolean preserveEmptyObject() {
+        return preserveEmptyObject;
+    }
+
+    public boolean ignoreNulls() {
+        return ignoreNulls;
+    }
+
+    /**
+     * The annotations of the getter and then of the setter that are meta-annotated with
+     * {@code @BeanTableSchemaAttributeTag}.
+     */
+    public List<AnnotationMirror> tagAnnotations() {
+        return tagAnnotations;
+    }
+
+    public static final class Builder {
+        private String attributeName;
+        private ExecutableElement getter;
+        private ExecutableElement setter;
+        private boolean flatten;
+        private TypeMirror attributeConverter;
+        private boolean preserveEmptyObject;
+        private boolean ignoreNulls;
+        private List<AnnotationMirror> tagAnnotations;
+
+        private Builder() {
+        }
+
+        public Builder attributeName(String attributeName) {
+            this.attributeName = attributeName;
+            return this;
+        }
+
+        public Builder getter(ExecutableElement getter) {
+            this.getter = getter;
+            return this;
+        }
+
+        public Builder setter(ExecutableElement setter) {
+            this.setter = setter;
+            return this;
+        }
+
+        public Builder flatten(boolean flatten) {
+            this.flatten = flatten;
+            return this;
+        }
+
+        public Builder attributeConverter(TypeMirror attributeConverter) {
+            this.attributeConverter = attributeConverter;
+            return this;
+        }
+
+        public Builder preserveEmptyObject(boolean preserveEmptyObject) {
+            this.preserveEmptyObject = preserveEmptyObject;
+            return this;
+        }
+
+        public Builder ignoreNulls(boolean ignoreNulls) {
+            this.ignoreNulls = ignoreNulls;
+            return this;
+        }
+
+        public Builder tagAnnotations(List<AnnotationMirror> tagAnnotations) {
+            this.tagAnnotations = tagAnnotations;
+            return this;
+        }
+
+        public MappedProperty build() {
+            return new MappedProperty(this);
+        }
+    }
+}
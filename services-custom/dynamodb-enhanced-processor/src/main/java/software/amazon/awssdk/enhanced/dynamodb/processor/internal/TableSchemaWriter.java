@@ -0,0 +1,518 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Writes the source of the class that holds the generated table schema of a {@link MappedClass}. The schema is a
+ * {@code StaticTableSchema} or {@code StaticImmutableTableSchema} built with lambdas that call the getters and setters
+ * directly, equivalent to the one that {@code BeanTableSchema} or {@code ImmutableTableSchema} creates at runtime.
+ *
+ * <p>All the types in the generated source are fully qualified, so that they cannot clash with the names of the classes
+ * in the package of the annotated class.
+ */
+@SdkInternalApi
+public final class TableSchemaWriter {
+    /**
+     * The suffix of the name of a generated class, which is the binary name of the annotated class in its package, with
+     * {@code $} replaced by {@code _}. This must match the name that {@code TableSchema.fromClass} looks up.
+     */
+    public static final String GENERATED_CLASS_SUFFIX = "_TableSchema";
+
+    private static final String TABLE_SCHEMA = "software.amazon.awssdk.enhanced.dynamodb.TableSchema";
+    private static final String ENHANCED_TYPE = "software.amazon.awssdk.enhanced.dynamodb.EnhancedType";
+    private static final String ATTRIBUTE_CONVERTER = "software.amazon.awssdk.enhanced.dynamodb.AttributeConverter";
+    private static final String STATIC_TABLE_SCHEMA = "software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema";
+    private static final String STATIC_IMMUTABLE_TABLE_SCHEMA =
+        "software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema";
+    private static final String GENERATED = "software.amazon.awssdk.annotations.Generated";
+    private static final String ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME = "attributeTagFor";
+
+    private static final String CHAIN_INDENT = "            ";
+    private static final String ATTRIBUTE_INDENT = CHAIN_INDENT + "      ";
+
+    private final Elements elements;
+    private final Types types;
+    private final MappedClassIntrospector introspector;
+    private final String generatorName;
+
+    public TableSchemaWriter(Elements elements, Types types, MappedClassIntrospector introspector, String generatorName) {
+        this.elements = elements;
+        this.types = types;
+        this.introspector = introspector;
+        this.generatorName = generatorName;
+    }
+
+    /**
+     * The fully qualified name of the class generated for an annotated class.
+     */
+    public String generatedClassName(TypeElement type) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleBinaryName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String generatedSimpleName = simpleBinaryName.replace('$', '_') + GENERATED_CLASS_SUFFIX;
+        return packageName.isEmpty() ? generatedSimpleName : packageName + "." + generatedSimpleName;
+    }
+
+    /**
+     * Write the source of the class generated for a mapped class.
+     *
+     * @throws UnsupportedMappedClassException If the generated source would not compile, or would not be equivalent to the
+     * table schema created at runtime.
+     */
+    public String write(MappedClass mappedClass) {
+        TypeElement type = mappedClass.type();
+        PackageElement packageElement = elements.getPackageOf(type);
+        checkInstantiable(type, packageElement, false);
+
+        String itemType = typeName(type.asType(), packageElement);
+        String generatedClassName = generatedClassName(type);
+        String generatedSimpleName = generatedClassName.substring(generatedClassName.lastIndexOf('.') + 1);
+
+        StringBuilder chain = new StringBuilder();
+        if (mappedClass.isImmutable()) {
+            TypeElement builderType = mappedClass.builderType();
+            checkInstantiable(builderType, packageElement, false);
+            String builderTypeName = typeName(builderType.asType(), packageElement);
+
+            chain.append("return ").append(STATIC_IMMUTABLE_TABLE_SCHEMA).append(".builder(").append(itemType)
+                 .append(".class, ").append(builderTypeName).append(".class)\n")
+                 .append(CHAIN_INDENT).append(".newItemBuilder(").append(newBuilder(mappedClass, builderTypeName))
+                 .append(", builder -> builder.build())\n");
+            checkNoCheckedExceptions(buildMethod(builderType));
+        } else {
+            checkNoCheckedExceptions(defaultConstructor(type));
+            chain.append("return ").append(STATIC_TABLE_SCHEMA).append(".builder(").append(itemType).append(".class)\n")
+                 .append(CHAIN_INDENT).append(".newItemSupplier(() -> new ").append(itemType).append("())\n");
+        }
+
+        chain.append(CHAIN_INDENT).append(".attributeConverterProviders(")
+             .append(mappedClass.converterProviders()
+                                .stream()
+                                .map(p -> newInstance(p, packageElement))
+                                .collect(Collectors.joining(", ")))
+             .append(")\n");
+
+        for (MappedProperty property : mappedClass.properties()) {
+            checkNoCheckedExceptions(property.getter());
+            checkNoCheckedExceptions(property.setter());
+            checkConcrete(property.setter().getParameters().get(0).asType());
+            if (!types.isSameType(property.type(), property.setter().getParameters().get(0).asType())) {
+                throw new UnsupportedMappedClassException("The type of the setter of property '" + property.attributeName()
+                                                          + "' is not the same as the type of its getter.");
+            }
+
+            if (property.flatten()) {
+                chain.append(CHAIN_INDENT).append(flatten(mappedClass, property, packageElement));
+            } else {
+                chain.append(CHAIN_INDENT).append(attribute(mappedClass, property, packageElement));
+            }
+        }
+
+        chain.append(CHAIN_INDENT).append(".build();\n");
+
+        StringBuilder source = new StringBuilder();
+        if (!packageElement.isUnnamed()) {
+            source.append("package ").append(packageElement.getQualifiedName()).append(";\n\n");
+        }
+
+        source.append("/**\n")
+              .append(" * The table schema of {@link ").append(itemType).append("}, generated from its annotations.\n")
+              .append(" * It is used by {@link ").append(TABLE_SCHEMA).append("#fromClass(Class)} instead of\n")
+              .append(" * introspecting the class at runtime.\n")
+              .append(" */\n")
+              .append("@").append(GENERATED).append("(\"").append(generatorName).append("\")\n")
+              .append("public final class ").append(generatedSimpleName).append("\n")
+              .append("    implements java.util.function.Supplier<").append(TABLE_SCHEMA).append("<").append(itemType)
+              .append(">> {\n")
+              .append("    private static final ").append(TABLE_SCHEMA).append("<").append(itemType)
+              .append("> TABLE_SCHEMA = create();\n\n")
+              .append("    @Override\n")
+              .append("    public ").append(TABLE_SCHEMA).append("<").append(itemType).append("> get() {\n")
+              .append("        return TABLE_SCHEMA;\n")
+              .append("    }\n\n")
+              .append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+              .append("    private static ").append(TABLE_SCHEMA).append("<").append(itemType).append("> create() {\n")
+              .append("        ").append(chain)
+              .append("    }\n")
+              .append("}\n");
+        return source.toString();
+    }
+
+    private String newBuilder(MappedClass mappedClass, String builderTypeName) {
+        ExecutableElement staticBuilderMethod = mappedClass.staticBuilderMethod();
+        if (staticBuilderMethod == null) {
+            checkNoCheckedExceptions(defaultConstructor(mappedClass.builderType()));
+            return "() -> new " + builderTypeName + "()";
+        }
+
+        checkNoCheckedExceptions(staticBuilderMethod);
+        TypeElement declaringType = (TypeElement) staticBuilderMethod.getEnclosingElement();
+        String invocation = typeName(types.erasure(declaringType.asType()), elements.getPackageOf(mappedClass.type()))
+                            + ".builder()";
+        if (types.isSameType(staticBuilderMethod.getReturnType(), mappedClass.builderType().asType())) {
+            return "() -> " + invocation;
+        }
+        return "() -> (" + builderTypeName + ") " + invocation;
+    }
+
+    private String flatten(MappedClass mappedClass, MappedProperty property, PackageElement packageElement) {
+        TypeMirror type = property.type();
+        if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            throw new UnsupportedMappedClassException("The flattened property '" + property.attributeName()
+                                                      + "' is not of a non-generic class.");
+        }
+
+        return ".flatten(" + TABLE_SCHEMA + ".fromClass(" + classLiteral(type, packageElement) + "),\n"
+               + CHAIN_INDENT + "         " + getter(property) + ",\n"
+               + CHAIN_INDENT + "         " + setter(mappedClass, property) + ")\n";
+    }
+
+    private String attribute(MappedClass mappedClass, MappedProperty property, PackageElement packageElement) {
+        StringBuilder attribute = new StringBuilder();
+        attribute.append(".addAttribute(").append(enhancedType(property.type(), property, packageElement)).append(",\n")
+                 .append(ATTRIBUTE_INDENT).append("a -> a.name(").append(elements.getConstantExpression(property.attributeName()))
+                 .append(")\n")
+                 .append(ATTRIBUTE_INDENT).append("      .getter(").append(getter(property)).append(")\n")
+                 .append(ATTRIBUTE_INDENT).append("      .setter(").append(setter(mappedClass, property)).append(")");
+
+        if (property.attributeConverter() != null) {
+            attribute.append("\n").append(ATTRIBUTE_INDENT).append("      .attributeConverter((").append(ATTRIBUTE_CONVERTER)
+                     .append(") ").append(newInstance(property.attributeConverter(), packageElement)).append(")");
+        }
+
+        for (AnnotationMirror tagAnnotation : property.tagAnnotations()) {
+            attribute.append("\n").append(ATTRIBUTE_INDENT).append("      .addTag(")
+                     .append(indent(attributeTag(tagAnnotation, packageElement), ATTRIBUTE_INDENT + "      "))
+                     .append(")");
+        }
+
+        return attribute.append(")\n").toString();
+    }
+
+    private static String getter(MappedProperty property) {
+        return "item -> item." + property.getter().getSimpleName() + "()";
+    }
+
+    private static String setter(MappedClass mappedClass, MappedProperty property) {
+        String target = mappedClass.isImmutable() ? "builder" : "item";
+        return "(" + target + ", value) -> " + target + "." + property.setter().getSimpleName() + "(value)";
+    }
+
+    /**
+     * The expression of the {@code EnhancedType} of a property, with the same rules as the runtime: the annotated classes
+     * of the property type, or of the elements of a {@code List} or the values of a {@code Map}, are documents with their
+     * own table schema.
+     */
+    private String enhancedType(TypeMirror type, MappedProperty property, PackageElement packageElement) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return plainEnhancedType(type, packageElement);
+        }
+
+        DeclaredType declaredType = (DeclaredType) type;
+        TypeElement element = (TypeElement) declaredType.asElement();
+        List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+
+        if (!typeArguments.isEmpty()) {
+            if (element.getQualifiedName().contentEquals("java.util.List") && typeArguments.size() == 1) {
+                return ENHANCED_TYPE + ".listOf(" + enhancedType(typeArguments.get(0), property, packageElement) + ")";
+            }
+            if (element.getQualifiedName().contentEquals("java.util.Map") && typeArguments.size() == 2) {
+                return ENHANCED_TYPE + ".mapOf(" + plainEnhancedType(typeArguments.get(0), packageElement) + ", "
+                       + enhancedType(typeArguments.get(1), property, packageElement) + ")";
+            }
+        }
+
+        if (introspector.isMappedClass(element)) {
+            if (!element.getTypeParameters().isEmpty()) {
+                throw new UnsupportedMappedClassException("The document class " + element + " is generic.");
+            }
+
+            String classLiteral = classLiteral(type, packageElement);
+            return ENHANCED_TYPE + ".documentOf(" + classLiteral + ", " + TABLE_SCHEMA + ".fromClass(" + classLiteral + "), "
+                   + "b -> b.preserveEmptyObject(" + property.preserveEmptyObject() + ").ignoreNulls("
+                   + property.ignoreNulls() + "))";
+        }
+
+        return plainEnhancedType(type, packageElement);
+    }
+
+    private String plainEnhancedType(TypeMirror type, PackageElement packageElement) {
+        checkConcrete(type);
+
+        if (type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return "new " + ENHANCED_TYPE + "<" + typeName(type, packageElement) + ">() { }";
+        }
+
+        if (type.getKind() == TypeKind.ARRAY && !types.isSameType(type, types.erasure(type))) {
+            throw new UnsupportedMappedClassException("The generic array type " + type + " is not supported.");
+        }
+
+        return ENHANCED_TYPE + ".of(" + classLiteral(type, packageElement) + ")";
+    }
+
+    private String attributeTag(AnnotationMirror tagAnnotation, PackageElement packageElement) {
+        TypeElement tagClass = introspector.attributeTagClass(tagAnnotation);
+        DeclaredType annotationType = tagAnnotation.getAnnotationType();
+
+        ExecutableElement tagMethod =
+            ElementFilter.methodsIn(tagClass.getEnclosedElements())
+                         .stream()
+                         .filter(m -> m.getSimpleName().contentEquals(ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME)
+                                      && m.getModifiers().contains(Modifier.PUBLIC)
+                                      && m.getModifiers().contains(Modifier.STATIC)
+                                      && m.getParameters().size() == 1
+                                      && types.isSameType(m.getParameters().get(0).asType(), annotationType))
+                         .findFirst()
+                         .orElseThrow(() -> new UnsupportedMappedClassException(
+                             "The class " + tagClass + " does not have a public static method named '"
+                             + ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME + "' for annotation " + annotationType + "."));
+        checkNoCheckedExceptions(tagMethod);
+
+        return typeName(types.erasure(tagClass.asType()), packageElement) + "." + ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME + "("
+               + annotationLiteral(tagAnnotation, packageElement) + ")";
+    }
+
+    /**
+     * An anonymous implementation of an annotation, which returns the values of the annotation on the property. The tag
+     * class reads the values of the annotation from it, without the reflection that {@code getAnnotations} requires.
+     */
+    private String annotationLiteral(AnnotationMirror annotation, PackageElement packageElement) {
+        String annotationType = typeName(annotation.getAnnotationType(), packageElement);
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values = elements.getElementValuesWithDefaults(annotation);
+
+        StringBuilder literal = new StringBuilder("new ").append(annotationType).append("() {\n");
+        for (ExecutableElement element : ElementFilter.methodsIn(annotation.getAnnotationType()
+                                                                           .asElement()
+                                                                           .getEnclosedElements())) {
+            AnnotationValue value = values.get(element);
+            literal.append("    @Override\n")
+                   .append("    public ").append(typeName(element.getReturnType(), packageElement)).append(" ")
+                   .append(element.getSimpleName()).append("() {\n")
+                   .append("        return ").append(annotationValueLiteral(value, element.getReturnType(), packageElement))
+                   .append(";\n")
+                   .append("    }\n\n");
+        }
+
+        return literal.append("    @Override\n")
+                      .append("    public java.lang.Class<? extends java.lang.annotation.Annotation> annotationType() {\n")
+                      .append("        return ").append(annotationType).append(".class;\n")
+                      .append("    }\n")
+                      .append("}")
+                      .toString();
+    }
+
+    private String annotationValueLiteral(AnnotationValue annotationValue, TypeMirror type, PackageElement packageElement) {
+        Object value = annotationValue.getValue();
+
+        if (value instanceof TypeMirror) {
+            return classLiteral((TypeMirror) value, packageElement);
+        }
+
+        if (value instanceof VariableElement) {
+            VariableElement constant = (VariableElement) value;
+            return typeName(constant.asType(), packageElement) + "." + constant.getSimpleName();
+        }
+
+        if (value instanceof List) {
+            TypeMirror componentType = ((ArrayType) type).getComponentType();
+            return "new " + typeName(types.erasure(componentType), packageElement) + "[] {"
+                   + ((List<?>) value).stream()
+                                      .map(v -> annotationValueLiteral((AnnotationValue) v, componentType, packageElement))
+                                      .collect(Collectors.joining(", "))
+                   + "}";
+        }
+
+        if (value instanceof AnnotationMirror) {
+            throw new UnsupportedMappedClassException("Annotations with annotation values are not supported as attribute "
+                                                      + "tags.");
+        }
+
+        return elements.getConstantExpression(value);
+    }
+
+    private String newInstance(TypeMirror type, PackageElement packageElement) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedMappedClassException("The type " + type + " cannot be instantiated.");
+        }
+
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        checkInstantiable(element, packageElement, true);
+        checkNoCheckedExceptions(defaultConstructor(element));
+        return "new " + typeName(types.erasure(type), packageElement) + "()";
+    }
+
+    private ExecutableElement defaultConstructor(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedMappedClassException("The type " + type + " is not a concrete class.");
+        }
+
+        return ElementFilter.constructorsIn(type.getEnclosedElements())
+                            .stream()
+                            .filter(c -> c.getModifiers().contains(Modifier.PUBLIC) && c.getParameters().isEmpty())
+                            .findFirst()
+                            .orElseThrow(() -> new UnsupportedMappedClassException(
+                                "The class " + type + " does not have a public no-argument constructor."));
+    }
+
+    private ExecutableElement buildMethod(TypeElement builderType) {
+        return ElementFilter.methodsIn(elements.getAllMembers(builderType))
+                            .stream()
+                            .filter(m -> m.getSimpleName().contentEquals("build") && m.getParameters().isEmpty())
+                            .findFirst()
+                            .orElseThrow(() -> new UnsupportedMappedClassException("The builder class " + builderType
+                                                                                   + " does not have a build method."));
+    }
+
+    /**
+     * Check that a class can be referenced from the generated class, and that its instances can be created without an
+     * enclosing instance. Classes of other packages must be public, as the runtime requires.
+     */
+    private void checkInstantiable(TypeElement type, PackageElement packageElement, boolean requirePublic) {
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedMappedClassException("The class " + type + " is generic.");
+        }
+        if (requirePublic && !type.getModifiers().contains(Modifier.PUBLIC)) {
+            throw new UnsupportedMappedClassException("The class " + type + " is not public.");
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER
+            && type.getKind() == ElementKind.CLASS
+            && !type.getModifiers().contains(Modifier.STATIC)) {
+            throw new UnsupportedMappedClassException("The class " + type + " is an inner class.");
+        }
+        checkAccessible(type, packageElement);
+    }
+
+    private void checkAccessible(TypeElement type, PackageElement packageElement) {
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            throw new UnsupportedMappedClassException("The class " + type + " is a local class.");
+        }
+
+        boolean samePackage = elements.getPackageOf(type).equals(packageElement);
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            boolean accessible = element.getModifiers().contains(Modifier.PUBLIC)
+                                 || samePackage && !element.getModifiers().contains(Modifier.PRIVATE);
+            if (!accessible) {
+                throw new UnsupportedMappedClassException("The class " + type + " is not accessible from "
+                                                          + packageElement + ".");
+            }
+        }
+    }
+
+    private void checkNoCheckedExceptions(ExecutableElement method) {
+        TypeMirror runtimeException = elements.getTypeElement("java.lang.RuntimeException").asType();
+        TypeMirror error = elements.getTypeElement("java.lang.Error").asType();
+
+        for (TypeMirror thrownType : method.getThrownTypes()) {
+            if (!types.isAssignable(thrownType, runtimeException) && !types.isAssignable(thrownType, error)) {
+                throw new UnsupportedMappedClassException("The method " + method + " of " + method.getEnclosingElement()
+                                                          + " throws the checked exception " + thrownType + ".");
+            }
+        }
+    }
+
+    /**
+     * Check that a type has no type variables or wildcards, which the runtime cannot map to an {@code EnhancedType}.
+     */
+    private void checkConcrete(TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED:
+                ((DeclaredType) type).getTypeArguments().forEach(this::checkConcrete);
+                return;
+            case ARRAY:
+                checkConcrete(((ArrayType) type).getComponentType());
+                return;
+            default:
+                if (!type.getKind().isPrimitive()) {
+                    throw new UnsupportedMappedClassException("The type " + type + " is not supported.");
+                }
+        }
+    }
+
+    private String classLiteral(TypeMirror type, PackageElement packageElement) {
+        return typeName(types.erasure(type), packageElement) + ".class";
+    }
+
+    /**
+     * The fully qualified source name of a type.
+     */
+    private String typeName(TypeMirror type, PackageElement packageElement) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return typeName(((ArrayType) type).getComponentType(), packageElement) + "[]";
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                TypeElement element = (TypeElement) declaredType.asElement();
+                checkAccessible(element, packageElement);
+
+                TypeMirror enclosingType = declaredType.getEnclosingType();
+                if (enclosingType.getKind() == TypeKind.DECLARED
+                    && !((DeclaredType) enclosingType).getTypeArguments().isEmpty()) {
+                    throw new UnsupportedMappedClassException("The type " + type + " is an inner class of a generic class.");
+                }
+
+                String name = element.getQualifiedName().toString();
+                if (declaredType.getTypeArguments().isEmpty()) {
+                    return name;
+                }
+                return name + declaredType.getTypeArguments()
+                                          .stream()
+                                          .map(t -> typeName(t, packageElement))
+                                          .collect(Collectors.joining(", ", "<", ">"));
+            case WILDCARD:
+                WildcardType wildcardType = (WildcardType) type;
+                if (wildcardType.getExtendsBound() != null) {
+                    return "? extends " + typeName(wildcardType.getExtendsBound(), packageElement);
+                }
+                if (wildcardType.getSuperBound() != null) {
+                    return "? super " + typeName(wildcardType.getSuperBound(), packageElement);
+                }
+                return "?";
+            default:
+                if (type.getKind().isPrimitive()) {
+                    return type.getKind().name().toLowerCase(Locale.ENGLISH);
+                }
+                throw new UnsupportedMappedClassException("The type " + type + " is not supported.");
+        }
+    }
+
+    private static String indent(String block, String indentation) {
+        return block.replace("\n", "\n" + indentation).replace(indentation + "\n", "\n");
+    }
+}
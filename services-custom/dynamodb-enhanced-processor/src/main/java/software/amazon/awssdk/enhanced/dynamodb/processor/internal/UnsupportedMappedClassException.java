@@ -0,0 +1,32 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Thrown when the table schema of an annotated class cannot be generated, either because the class is not mapped the same
+ * way at runtime or because the generated code would not compile. The table schema of such a class is created at runtime
+ * instead.
+ */
+@SdkInternalApi
+public final class UnsupportedMappedClassException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public UnsupportedMappedClassException(String message) {
+        super(message);
+    }
+}
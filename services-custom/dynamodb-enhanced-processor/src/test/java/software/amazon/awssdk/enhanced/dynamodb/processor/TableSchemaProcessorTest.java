@@ -0,0 +1,273 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class TableSchemaProcessorTest {
+    private static final String ADDRESS =
+        "package test;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "@DynamoDbBean\n"
+        + "public class Address {\n"
+        + "    private String city;\n"
+        + "    public String getCity() { return city; }\n"
+        + "    public void setCity(String city) { this.city = city; }\n"
+        + "}\n";
+
+    private static final String CUSTOMER =
+        "package test;\n"
+        + "import java.util.*;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbVersionAttribute;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "@DynamoDbBean\n"
+        + "public class Customer {\n"
+        + "    private String id;\n"
+        + "    private String email;\n"
+        + "    private int age;\n"
+        + "    private boolean active;\n"
+        + "    private Long version;\n"
+        + "    private Address address;\n"
+        + "    private List<Address> previousAddresses;\n"
+        + "    private Map<String, List<Integer>> scores;\n"
+        + "    private Set<String> tags;\n"
+        + "    private String ignored;\n"
+        + "    @DynamoDbPartitionKey @DynamoDbAttribute(\"customer_id\")\n"
+        + "    public String getId() { return id; }\n"
+        + "    public void setId(String id) { this.id = id; }\n"
+        + "    @DynamoDbSecondaryPartitionKey(indexNames = \"email-index\")\n"
+        + "    public String getEmail() { return email; }\n"
+        + "    public void setEmail(String email) { this.email = email; }\n"
+        + "    public int getAge() { return age; }\n"
+        + "    public void setAge(int age) { this.age = age; }\n"
+        + "    public boolean isActive() { return active; }\n"
+        + "    public void setActive(boolean active) { this.active = active; }\n"
+        + "    @DynamoDbVersionAttribute\n"
+        + "    public Long getVersion() { return version; }\n"
+        + "    public void setVersion(Long version) { this.version = version; }\n"
+        + "    @DynamoDbIgnoreNulls\n"
+        + "    public Address getAddress() { return address; }\n"
+        + "    public void setAddress(Address address) { this.address = address; }\n"
+        + "    public List<Address> getPreviousAddresses() { return previousAddresses; }\n"
+        + "    public void setPreviousAddresses(List<Address> addresses) { this.previousAddresses = addresses; }\n"
+        + "    public Map<String, List<Integer>> getScores() { return scores; }\n"
+        + "    public void setScores(Map<String, List<Integer>> scores) { this.scores = scores; }\n"
+        + "    public Set<String> getTags() { return tags; }\n"
+        + "    public void setTags(Set<String> tags) { this.tags = tags; }\n"
+        + "    @DynamoDbIgnore\n"
+        + "    public String getIgnored() { return ignored; }\n"
+        + "    public void setIgnored(String ignored) { this.ignored = ignored; }\n"
+        + "}\n";
+
+    private static final String ORDER =
+        "package test;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "@DynamoDbImmutable(builder = Order.Builder.class)\n"
+        + "public final class Order {\n"
+        + "    private final String id;\n"
+        + "    private final int quantity;\n"
+        + "    private Order(Builder builder) { this.id = builder.id; this.quantity = builder.quantity; }\n"
+        + "    public static Builder builder() { return new Builder(); }\n"
+        + "    @DynamoDbPartitionKey\n"
+        + "    public String id() { return id; }\n"
+        + "    public int quantity() { return quantity; }\n"
+        + "    public static final class Builder {\n"
+        + "        private String id;\n"
+        + "        private int quantity;\n"
+        + "        public Builder id(String id) { this.id = id; return this; }\n"
+        + "        public Builder quantity(int quantity) { this.quantity = quantity; return this; }\n"
+        + "        public Order build() { return new Order(this); }\n"
+        + "    }\n"
+        + "}\n";
+
+    private static final String NODE =
+        "package test;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "@DynamoDbBean\n"
+        + "public class Node {\n"
+        + "    private Node next;\n"
+        + "    public Node getNext() { return next; }\n"
+        + "    public void setNext(Node next) { this.next = next; }\n"
+        + "}\n";
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    public void bean_generatesStaticTableSchemaEquivalentToBeanTableSchema() throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(source("test.Address", ADDRESS),
+                                                                         source("test.Customer", CUSTOMER));
+        assertThat(errors(diagnostics)).isEmpty();
+
+        try (URLClassLoader classLoader = classLoader()) {
+            Class<Object> customerClass = loadClass(classLoader, "test.Customer");
+            TableSchema<Object> generated = TableSchema.fromClass(customerClass);
+            BeanTableSchema<Object> introspected = BeanTableSchema.create(customerClass);
+
+            assertThat(generated).isInstanceOf(StaticTableSchema.class);
+            assertThat(generated.attributeNames()).containsExactlyInAnyOrderElementsOf(introspected.attributeNames());
+            assertSameMetadata(generated.tableMetadata(), introspected.tableMetadata());
+
+            Map<String, AttributeValue> item = new HashMap<>();
+            item.put("customer_id", AttributeValue.builder().s("id-value").build());
+            item.put("email", AttributeValue.builder().s("a@example.com").build());
+            item.put("age", AttributeValue.builder().n("42").build());
+            item.put("active", AttributeValue.builder().bool(true).build());
+            item.put("version", AttributeValue.builder().n("3").build());
+            item.put("address", AttributeValue.builder().m(singletonCity("Seattle")).build());
+            item.put("previousAddresses", AttributeValue.builder()
+                                                        .l(AttributeValue.builder().m(singletonCity("Boston")).build())
+                                                        .build());
+            item.put("scores", AttributeValue.builder()
+                                             .m(Collections.singletonMap(
+                                                 "math", AttributeValue.builder()
+                                                                       .l(AttributeValue.builder().n("1").build())
+                                                                       .build()))
+                                             .build());
+            item.put("tags", AttributeValue.builder().ss("a", "b").build());
+
+            Object generatedItem = generated.mapToItem(item);
+            Object introspectedItem = introspected.mapToItem(item);
+            assertThat(generated.itemToMap(generatedItem, true))
+                .isEqualTo(introspected.itemToMap(introspectedItem, true))
+                .containsEntry("customer_id", item.get("customer_id"))
+                .containsEntry("address", item.get("address"));
+        }
+    }
+
+    @Test
+    public void immutable_generatesStaticImmutableTableSchemaEquivalentToImmutableTableSchema() throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(source("test.Order", ORDER));
+        assertThat(errors(diagnostics)).isEmpty();
+
+        try (URLClassLoader classLoader = classLoader()) {
+            Class<Object> orderClass = loadClass(classLoader, "test.Order");
+            TableSchema<Object> generated = TableSchema.fromClass(orderClass);
+            ImmutableTableSchema<Object> introspected = ImmutableTableSchema.create(orderClass);
+
+            assertThat(generated).isInstanceOf(StaticImmutableTableSchema.class);
+            assertThat(generated.attributeNames()).containsExactlyInAnyOrderElementsOf(introspected.attributeNames());
+            assertSameMetadata(generated.tableMetadata(), introspected.tableMetadata());
+
+            Map<String, AttributeValue> item = new HashMap<>();
+            item.put("id", AttributeValue.builder().s("id-value").build());
+            item.put("quantity", AttributeValue.builder().n("2").build());
+
+            assertThat(generated.itemToMap(generated.mapToItem(item), true)).isEqualTo(item);
+        }
+    }
+
+    @Test
+    public void recursiveBean_isNotGenerated() throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(source("test.Node", NODE));
+        assertThat(errors(diagnostics)).isEmpty();
+        assertThat(diagnostics).anySatisfy(d -> {
+            assertThat(d.getKind()).isEqualTo(Diagnostic.Kind.NOTE);
+            assertThat(d.getMessage(null)).contains("test.Node", "will be created at runtime");
+        });
+        assertThat(outputDirectory.resolve("test/Node_TableSchema.class")).doesNotExist();
+
+        try (URLClassLoader classLoader = classLoader()) {
+            assertThat(TableSchema.fromClass(loadClass(classLoader, "test.Node"))).isInstanceOf(BeanTableSchema.class);
+        }
+    }
+
+    @Test
+    public void generatedSchema_registersNativeImageReflectionConfiguration() {
+        compile(source("test.Order", ORDER));
+
+        assertThat(outputDirectory.resolve("META-INF/native-image/software.amazon.awssdk.dynamodb-enhanced-processor/"
+                                           + "test.Order_TableSchema/reflect-config.json"))
+            .content()
+            .contains("\"name\": \"test.Order_TableSchema\"", "\"<init>\"");
+    }
+
+    private static void assertSameMetadata(TableMetadata generated, TableMetadata introspected) {
+        assertThat(generated.primaryPartitionKey()).isEqualTo(introspected.primaryPartitionKey());
+        assertThat(generated.primarySortKey()).isEqualTo(introspected.primarySortKey());
+        assertThat(generated.indices()).containsExactlyInAnyOrderElementsOf(introspected.indices());
+        assertThat(generated.customMetadata()).isEqualTo(introspected.customMetadata());
+    }
+
+    private static Map<String, AttributeValue> singletonCity(String city) {
+        return Collections.singletonMap("city", AttributeValue.builder().s(city).build());
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(JavaFileObject... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                                             "-d", outputDirectory.toString(),
+                                             "-s", outputDirectory.toString());
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, Arrays.asList(sources));
+        task.setProcessors(Arrays.asList(new TableSchemaProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics();
+    }
+
+    private static List<String> errors(List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+        return diagnostics.stream()
+                          .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                          .map(d -> d.getMessage(null))
+                          .collect(Collectors.toList());
+    }
+
+    private URLClassLoader classLoader() throws IOException {
+        return new URLClassLoader(new URL[] {outputDirectory.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<Object> loadClass(ClassLoader classLoader, String name) throws ClassNotFoundException {
+        return (Class<Object>) Class.forName(name, true, classLoader);
+    }
+
+    private static JavaFileObject source(String className, String source) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+}
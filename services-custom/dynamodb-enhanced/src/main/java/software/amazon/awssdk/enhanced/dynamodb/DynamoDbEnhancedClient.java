@@ -15,7 +15,9 @@
 
 package software.amazon.awssdk.enhanced.dynamodb;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.NotThreadSafe;
@@ -26,8 +28,11 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.client.DefaultDynamoDbE
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchLoadEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.ConditionCheck;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
@@ -269,6 +274,163 @@ public interface DynamoDbEnhancedClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Puts and/or deletes any number of items in one or more tables. The operations are written with as many calls to the
+     * low-level DynamoDB API BatchWriteItem operation as needed: they are split into batches of up to 25 operations and
+     * 16 MB, and the operations that DynamoDb returns as unprocessed are sent again after a backoff delay.
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined
+     * in the {@link BulkWriteEnhancedRequest}.
+     * <p>
+     * The BatchWriteItem calls are made on the threads of the {@link BulkWriteEnhancedRequest#executor()}, up
+     * to {@link BulkWriteEnhancedRequest#maxConcurrency()} at the same time, and this method blocks until every operation
+     * is written or failed.
+     * Operations are read from the request as the batches are written, so they do not need to fit in memory.
+     * <p>
+     * <b>Partial updates</b><br>Each delete or put operation is atomic, but the bulk write as a whole is not. Operations
+     * whose BatchWriteItem call fails, or that are still unprocessed after {@link BulkWriteEnhancedRequest#maxAttempts()}
+     * attempts, are described by {@link BulkWriteResult#failures()}. Operations that write the same item may be written in
+     * any order.
+     * <p>
+     * <b>Note: </b> BulkWrite cannot update items. Instead, use the individual updateItem operation
+     * {@link DynamoDbTable#updateItem(UpdateItemEnhancedRequest)}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BulkWriteResult result = enhancedClient.bulkWrite(
+     *     BulkWriteEnhancedRequest.builder()
+     *                             .operations(items.stream()
+     *                                              .map(item -> BulkWriteOperation.put(itemTable, item))
+     *                                              .collect(Collectors.toList()))
+     *                             .maxConcurrency(16)
+     *                             .build());
+     * }
+     * </pre>
+     *
+     * @param request A {@link BulkWriteEnhancedRequest} containing the operations to write.
+     * @return a {@link BulkWriteResult}, which counts the written operations and describes the failed operations.
+     * @see DynamoDbClient#batchWriteItem
+     */
+    default BulkWriteResult bulkWrite(BulkWriteEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Puts and/or deletes any number of items in one or more tables. The operations are written with as many calls to the
+     * low-level DynamoDB API BatchWriteItem operation as needed: they are split into batches of up to 25 operations and
+     * 16 MB, and the operations that DynamoDb returns as unprocessed are sent again after a backoff delay.
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined
+     * in the {@link BulkWriteEnhancedRequest}.
+     * <p>
+     * The BatchWriteItem calls are made on the threads of the {@link BulkWriteEnhancedRequest#executor()}, up
+     * to {@link BulkWriteEnhancedRequest#maxConcurrency()} at the same time, and this method blocks until every operation
+     * is written or failed.
+     * Operations are read from the request as the batches are written, so they do not need to fit in memory.
+     * <p>
+     * <b>Partial updates</b><br>Each delete or put operation is atomic, but the bulk write as a whole is not. Operations
+     * whose BatchWriteItem call fails, or that are still unprocessed after {@link BulkWriteEnhancedRequest#maxAttempts()}
+     * attempts, are described by {@link BulkWriteResult#failures()}. Operations that write the same item may be written in
+     * any order.
+     * <p>
+     * <b>Note: </b> BulkWrite cannot update items. Instead, use the individual updateItem operation
+     * {@link DynamoDbTable#updateItem(UpdateItemEnhancedRequest)}.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link BulkWriteEnhancedRequest#builder()}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BulkWriteResult result = enhancedClient.bulkWrite(r -> r.operations(operations).maxConcurrency(16));
+     * }
+     * </pre>
+     *
+     * @param requestConsumer a {@link Consumer} of {@link BulkWriteEnhancedRequest} containing the operations to write.
+     * @return a {@link BulkWriteResult}, which counts the written operations and describes the failed operations.
+     * @see DynamoDbClient#batchWriteItem
+     */
+    default BulkWriteResult bulkWrite(Consumer<BulkWriteEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieves any number of items from a table by their primary keys. The items are loaded with as many calls to the
+     * low-level DynamoDB API BatchGetItem operation as needed: duplicate keys are removed, the keys are split into batches
+     * of up to 100 keys, and the keys that DynamoDb returns as unprocessed are sent again after a backoff delay.
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined
+     * in the {@link BatchLoadEnhancedRequest}.
+     * <p>
+     * The BatchGetItem calls are made on the threads of the {@link BatchLoadEnhancedRequest#executor()}, up
+     * to {@link BatchLoadEnhancedRequest#maxConcurrency()} at the same time, and this method blocks until every item is
+     * loaded.
+     * <p>
+     * Items that do not exist are not in the returned map. If a BatchGetItem call fails, or if a key is still unprocessed
+     * after {@link BatchLoadEnhancedRequest#maxAttempts()} attempts, this method throws, and the items that were already
+     * loaded are discarded.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * Map<Key, MyItem> items = enhancedClient.batchLoad(BatchLoadEnhancedRequest.builder(MyItem.class)
+     *                                                                            .mappedTableResource(myItemTable)
+     *                                                                            .keys(keys)
+     *                                                                            .consistentRead(true)
+     *                                                                            .build());
+     * }
+     * </pre>
+     *
+     * @param request A {@link BatchLoadEnhancedRequest} containing the table and the keys of the items to load.
+     * @param <T> The type of the modelled object of the table.
+     * @return a map of the loaded items, by the key they were requested with.
+     * @see DynamoDbClient#batchGetItem
+     */
+    default <T> Map<Key, T> batchLoad(BatchLoadEnhancedRequest<T> request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieves any number of items from a table by their primary keys. The items are loaded with as many calls to the
+     * low-level DynamoDB API BatchGetItem operation as needed: duplicate keys are removed, the keys are split into batches
+     * of up to 100 keys, and the keys that DynamoDb returns as unprocessed are sent again after a backoff delay.
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined
+     * in the {@link BatchLoadEnhancedRequest}.
+     * <p>
+     * The BatchGetItem calls are made on the threads of the {@link BatchLoadEnhancedRequest#executor()}, up
+     * to {@link BatchLoadEnhancedRequest#maxConcurrency()} at the same time, and this method blocks until every item is
+     * loaded.
+     * <p>
+     * Items that do not exist are not in the returned map. If a BatchGetItem call fails, or if a key is still unprocessed
+     * after {@link BatchLoadEnhancedRequest#maxAttempts()} attempts, this method throws, and the items that were already
+     * loaded are discarded.
+     * <p>
+     * <b>Note:</b> This is a convenience method that loads the items with the default parameters of a
+     * {@link BatchLoadEnhancedRequest}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * Map<Key, MyItem> items = enhancedClient.batchLoad(keys, myItemTable);
+     * }
+     * </pre>
+     *
+     * @param keys The keys of the items to load.
+     * @param mappedTableResource The table that the items are loaded from.
+     * @param <T> The type of the modelled object of the table.
+     * @return a map of the loaded items, by the key they were requested with.
+     * @see DynamoDbClient#batchGetItem
+     */
+    default <T> Map<Key, T> batchLoad(Collection<Key> keys, MappedTableResource<T> mappedTableResource) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Retrieves multiple items from one or more tables in a single atomic transaction. TransactGetItem is a composite operation
      * where the request contains a set of get requests, each containing a table reference and a
@@ -27,6 +27,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -766,6 +767,65 @@ public interface DynamoDbTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table in parallel segments and retrieves all items.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, and up to
+     * {@link ParallelScanEnhancedRequest#maxConcurrency()} segments are scanned at the same time by the threads of the
+     * {@link ParallelScanEnhancedRequest#executor()}. The pages of all the segments are returned in the order they are
+     * received, and each page records the {@link Page#segment()} it was scanned from. A segment only requests its next
+     * page once its previous page has been iterated over.
+     * <p>
+     * The {@link Page#lastEvaluatedKey()} of the last page of each segment that was iterated over can be used to resume the
+     * parallel scan, see {@link ParallelScanEnhancedRequest.Builder#exclusiveStartKeys}. When the scan of a segment fails,
+     * the iteration throws its exception according to the {@link ParallelScanEnhancedRequest#failurePolicy()}.
+     * <p>
+     * To stop the scan before its end, close the stream of the pages or of the items, for example with a
+     * try-with-resources statement. The iterators of the pages are {@link software.amazon.awssdk.utils.SdkAutoCloseable}
+     * and can be closed the same way.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PageIterable<MyItem> results = mappedTable.parallelScan(r -> r.totalSegments(8));
+     * results.items().forEach(item -> System.out.println(item));
+     *
+     * try (Stream<MyItem> items = mappedTable.parallelScan(r -> r.totalSegments(8)).items().stream()) {
+     *     Optional<MyItem> match = items.filter(item -> item.isMatch()).findFirst();
+     * }
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining how to divide the table and scan its segments.
+     * @return an iterator of type {@link SdkIterable} with paginated results of all segments (see {@link Page}).
+     */
+    default PageIterable<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table in parallel segments and retrieves all items.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PageIterable<MyItem> results = mappedTable.parallelScan(r -> r.totalSegments(8).maxConcurrency(4));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest} defining how to divide the table and
+     * scan its segments.
+     * @return an iterator of type {@link SdkIterable} with paginated results of all segments (see {@link Page}).
+     */
+    default PageIterable<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
@@ -18,10 +18,12 @@ package software.amazon.awssdk.enhanced.dynamodb;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.enhanced.dynamodb.document.DocumentTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.document.EnhancedDocument;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedTableSchemas;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
@@ -152,6 +154,11 @@ public interface TableSchema<T> {
      * because it's a moderately expensive operation.
      *
      * <p>
+     * When the table schema of the class was generated at compile time by the {@code dynamodb-enhanced-processor}
+     * annotation processor, the generated {@link StaticTableSchema} or {@link StaticImmutableTableSchema} is returned
+     * instead, and the class is not scanned.
+     *
+     * <p>
      * If this table schema is not behaving as you expect, enable debug logging for
      * {@code software.amazon.awssdk.enhanced.dynamodb.beans}.
      *
@@ -160,6 +167,11 @@ public interface TableSchema<T> {
      * @return An initialized {@link TableSchema}
      */
     static <T> TableSchema<T> fromClass(Class<T> annotatedClass) {
+        Optional<TableSchema<T>> generatedTableSchema = GeneratedTableSchemas.find(annotatedClass);
+        if (generatedTableSchema.isPresent()) {
+            return generatedTableSchema.get();
+        }
+
         if (annotatedClass.getAnnotation(DynamoDbImmutable.class) != null) {
             return fromImmutableClass(annotatedClass);
         }
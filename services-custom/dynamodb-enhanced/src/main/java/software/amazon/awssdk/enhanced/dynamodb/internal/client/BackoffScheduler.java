@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Runs the retries of the batch operations of the enhanced clients after their backoff delay. The delays are timed by a
+ * single daemon thread that is shared by all the clients, which only hands each retry over to the executor of its operation,
+ * so that a slow retry does not delay the retries of the other operations.
+ */
+@SdkInternalApi
+public final class BackoffScheduler {
+    private static final ScheduledExecutorService SCHEDULER =
+        Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().threadNamePrefix("sdk-dynamodb-enhanced-backoff")
+                                                                             .daemonThreads(true)
+                                                                             .build());
+
+    private BackoffScheduler() {
+    }
+
+    /**
+     * Runs a retry after the delay computed by a backoff strategy.
+     *
+     * @param backoffStrategy the strategy that computes the delay
+     * @param attempts the number of attempts that were already made, at least 1
+     * @param executor the executor that runs the retry
+     * @param retry the retry to run
+     */
+    public static void schedule(BackoffStrategy backoffStrategy, int attempts, Executor executor, Runnable retry) {
+        Duration delay = backoffStrategy.computeDelayBeforeNextRetry(
+            RetryPolicyContext.builder().retriesAttempted(attempts - 1).build());
+        SCHEDULER.schedule(() -> handOver(executor, retry), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static void handOver(Executor executor, Runnable retry) {
+        try {
+            executor.execute(retry);
+        } catch (RejectedExecutionException e) {
+            // The operation must still complete, so the retry is run here rather than dropped.
+            retry.run();
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchLoadEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+/**
+ * Loads the items of a batch load in batches of 100 keys, and sends the keys that DynamoDb returns as unprocessed again
+ * after a backoff delay.
+ * <p>
+ * Duplicate keys are removed before the batches are made, because DynamoDb rejects a BatchGetItem request that contains the
+ * same key twice. At most {@link BatchLoadEnhancedRequest#maxConcurrency()} batches are loaded at the same time. Unprocessed
+ * keys are sent again on the retry executor, once their backoff delay has passed.
+ * <p>
+ * The returned items are matched to the requested keys with their numeric key values normalized, because DynamoDb may
+ * return a number in a different form than it was requested with, such as {@code 1.0} for {@code 1}.
+ *
+ * @param <T> The type of the modelled object of the table.
+ */
+@SdkInternalApi
+public final class BatchLoader<T> {
+    static final int MAX_BATCH_KEYS = 100;
+
+    private final BatchLoadEnhancedRequest<T> request;
+    private final Function<BatchGetItemRequest, CompletableFuture<BatchGetItemResponse>> batchGetItem;
+    private final Executor retryExecutor;
+    private final MappedTableResource<T> mappedTableResource;
+    private final TableSchema<T> tableSchema;
+    private final String tableName;
+
+    // The state of the batch load is only read and modified by the thread that drains it. The signals of the batches are
+    // queued, and applied by the draining thread.
+    private final CompletableFuture<Map<Key, T>> result = new CompletableFuture<>();
+    private final Queue<Runnable> signals = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger drainers = new AtomicInteger();
+
+    private final Deque<Batch> readyBatches = new ArrayDeque<>();
+    private final Map<Map<String, AttributeValue>, Key> keysByKeyMap = new HashMap<>();
+    private final Map<Key, T> items = new LinkedHashMap<>();
+    private int batchesInProgress;
+    private boolean terminated;
+
+    public BatchLoader(BatchLoadEnhancedRequest<T> request,
+                       Function<BatchGetItemRequest, CompletableFuture<BatchGetItemResponse>> batchGetItem,
+                       Executor retryExecutor) {
+        this.request = request;
+        this.batchGetItem = batchGetItem;
+        this.retryExecutor = retryExecutor;
+        this.mappedTableResource = request.mappedTableResource();
+        this.tableSchema = mappedTableResource.tableSchema();
+        this.tableName = mappedTableResource.tableName();
+        result.whenComplete((r, t) -> drain());
+    }
+
+    /**
+     * Loads the items of the request. The returned future completes with the loaded items, by the key they were requested
+     * with, when every key is loaded. Keys of items that do not exist are not in the map. The future completes exceptionally
+     * if a BatchGetItem call fails, or if a key is still unprocessed after the maximum number of attempts. Cancelling it stops
+     * sending batches.
+     */
+    public CompletableFuture<Map<Key, T>> load() {
+        signal(() -> {
+            Batch batch = new Batch(1);
+            for (Key key : request.keys()) {
+                Map<String, AttributeValue> keyMap = key.primaryKeyMap(tableSchema);
+                if (keysByKeyMap.putIfAbsent(normalized(keyMap), key) != null) {
+                    continue;
+                }
+                if (batch.keyMaps.size() == MAX_BATCH_KEYS) {
+                    readyBatches.add(batch);
+                    batch = new Batch(1);
+                }
+                batch.keyMaps.add(keyMap);
+            }
+            if (!batch.keyMaps.isEmpty()) {
+                readyBatches.add(batch);
+            }
+        });
+        return result;
+    }
+
+    private static final class Batch {
+        private final int attempt;
+        private final List<Map<String, AttributeValue>> keyMaps = new ArrayList<>(MAX_BATCH_KEYS);
+
+        private Batch(int attempt) {
+            this.attempt = attempt;
+        }
+    }
+
+    private void signal(Runnable signal) {
+        signals.add(signal);
+        drain();
+    }
+
+    private void drain() {
+        if (drainers.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            Runnable signal;
+            while ((signal = signals.poll()) != null) {
+                try {
+                    signal.run();
+                } catch (RuntimeException e) {
+                    fail(e);
+                }
+            }
+            if (!terminated) {
+                drainOnce();
+            }
+            missed = drainers.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drainOnce() {
+        if (result.isDone()) {
+            // The result was cancelled by the caller.
+            terminate();
+            return;
+        }
+
+        while (batchesInProgress < request.maxConcurrency() && !readyBatches.isEmpty()) {
+            send(readyBatches.poll());
+        }
+
+        if (readyBatches.isEmpty() && batchesInProgress == 0) {
+            terminated = true;
+            result.complete(Collections.unmodifiableMap(items));
+        }
+    }
+
+    private void send(Batch batch) {
+        batchesInProgress++;
+        KeysAndAttributes keysAndAttributes = KeysAndAttributes.builder()
+                                                               .keys(batch.keyMaps)
+                                                               .consistentRead(request.consistentRead())
+                                                               .build();
+        BatchGetItemRequest batchGetItemRequest =
+            BatchGetItemRequest.builder().requestItems(Collections.singletonMap(tableName, keysAndAttributes)).build();
+
+        CompletableFuture<BatchGetItemResponse> response;
+        try {
+            response = batchGetItem.apply(batchGetItemRequest);
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        response.whenComplete((r, t) -> signal(() -> onBatchComplete(batch, r, t)));
+    }
+
+    private void onBatchComplete(Batch batch, BatchGetItemResponse response, Throwable t) {
+        batchesInProgress--;
+        if (terminated) {
+            return;
+        }
+        if (t != null) {
+            fail(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+            return;
+        }
+
+        for (Map<String, AttributeValue> itemMap : response.responses().getOrDefault(tableName, Collections.emptyList())) {
+            Map<String, AttributeValue> keyMap = new HashMap<>();
+            for (String keyName : tableSchema.tableMetadata().primaryKeys()) {
+                keyMap.put(keyName, itemMap.get(keyName));
+            }
+            T item = EnhancedClientUtils.readAndTransformSingleItem(itemMap,
+                                                                    tableSchema,
+                                                                    DefaultOperationContext.create(tableName),
+                                                                    mappedTableResource.mapperExtension());
+            Key key = keysByKeyMap.get(normalized(keyMap));
+            if (key != null && item != null) {
+                items.put(key, item);
+            }
+        }
+
+        KeysAndAttributes unprocessedKeys = response.unprocessedKeys().get(tableName);
+        if (unprocessedKeys == null || unprocessedKeys.keys().isEmpty()) {
+            return;
+        }
+        if (batch.attempt >= request.maxAttempts()) {
+            fail(SdkClientException.create(unprocessedKeys.keys().size() + " keys were still unprocessed after "
+                                           + batch.attempt + " attempts."));
+            return;
+        }
+
+        Batch unprocessedBatch = new Batch(batch.attempt + 1);
+        unprocessedBatch.keyMaps.addAll(unprocessedKeys.keys());
+        // The batch stays in progress while it waits, so that new batches are not sent to a throttled table.
+        batchesInProgress++;
+        BackoffScheduler.schedule(request.backoffStrategy(), batch.attempt, retryExecutor, () -> signal(() -> {
+            batchesInProgress--;
+            readyBatches.addFirst(unprocessedBatch);
+        }));
+    }
+
+    /**
+     * Returns a key map with its numeric values in their plain form without trailing zeros, so that the same number in
+     * different forms gives equal key maps.
+     */
+    private static Map<String, AttributeValue> normalized(Map<String, AttributeValue> keyMap) {
+        Map<String, AttributeValue> normalized = new HashMap<>(keyMap);
+        normalized.replaceAll((name, value) -> value == null || value.n() == null ? value : normalized(value));
+        return normalized;
+    }
+
+    private static AttributeValue normalized(AttributeValue number) {
+        try {
+            return AttributeValue.builder().n(new BigDecimal(number.n()).stripTrailingZeros().toPlainString()).build();
+        } catch (NumberFormatException e) {
+            return number;
+        }
+    }
+
+    private void fail(Throwable t) {
+        terminate();
+        result.completeExceptionally(t);
+    }
+
+    private void terminate() {
+        terminated = true;
+        readyBatches.clear();
+    }
+}
@@ -0,0 +1,473 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchableWriteOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteFailure;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Writes the operations of a bulk write in batches, and sends the operations that DynamoDb returns as unprocessed again
+ * after a backoff delay.
+ * <p>
+ * Operations are added to a batch until it holds 25 operations, or until its estimated size would exceed 16 MB. An operation
+ * that writes an item that an earlier operation is still writing, in a batch that is waiting, being written or waiting to be
+ * sent again, is held back until the earlier operation is written or failed, so that the writes of an item are applied in
+ * order. At most
+ * {@link BulkWriteEnhancedRequest#maxConcurrency()} batches are written at the same time, and operations are only requested
+ * from the publisher when there is no batch waiting to be written, so a slow table slows down the publisher instead of
+ * filling the memory. Unprocessed operations are sent again on the retry executor, once their backoff delay has passed.
+ */
+@SdkInternalApi
+public final class BulkWriter {
+    static final int MAX_BATCH_OPERATIONS = 25;
+    static final long MAX_BATCH_BYTES = 16L * 1024 * 1024;
+
+    private final BulkWriteEnhancedRequest request;
+    private final Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> batchWriteItem;
+    private final Executor retryExecutor;
+
+    public BulkWriter(BulkWriteEnhancedRequest request,
+                      Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> batchWriteItem,
+                      Executor retryExecutor) {
+        this.request = request;
+        this.batchWriteItem = batchWriteItem;
+        this.retryExecutor = retryExecutor;
+    }
+
+    /**
+     * Writes the operations of the request. The returned future completes when every operation is written or failed. It
+     * completes exceptionally if the publisher of the operations fails, after the batches being written complete. Cancelling
+     * it stops requesting operations from the publisher and sending batches.
+     */
+    public CompletableFuture<BulkWriteResult> write() {
+        BulkWriteSubscriber subscriber = new BulkWriteSubscriber();
+        request.operations().subscribe(subscriber);
+        return subscriber.result;
+    }
+
+    /**
+     * Returns an estimate of the size of an item in a BatchWriteItem request: the UTF-8 length of its attribute names and
+     * values, with binary values encoded in base64.
+     */
+    static long estimateSize(Map<String, AttributeValue> item) {
+        long size = 0;
+        for (Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+            size += utf8Length(attribute.getKey()) + estimateSize(attribute.getValue());
+        }
+        return size;
+    }
+
+    private static long estimateSize(AttributeValue value) {
+        if (value.s() != null) {
+            return utf8Length(value.s());
+        }
+        if (value.n() != null) {
+            return value.n().length();
+        }
+        if (value.b() != null) {
+            return base64Length(value.b().asByteArrayUnsafe().length);
+        }
+        long size = 1;
+        if (value.hasSs()) {
+            size += value.ss().stream().mapToLong(BulkWriter::utf8Length).sum();
+        } else if (value.hasNs()) {
+            size += value.ns().stream().mapToLong(String::length).sum();
+        } else if (value.hasBs()) {
+            size += value.bs().stream().mapToLong(b -> base64Length(b.asByteArrayUnsafe().length)).sum();
+        } else if (value.hasM()) {
+            size += estimateSize(value.m());
+        } else if (value.hasL()) {
+            size += value.l().stream().mapToLong(v -> 1 + estimateSize(v)).sum();
+        }
+        return size;
+    }
+
+    private static long utf8Length(String value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                // A surrogate pair is 4 bytes long, and each of its two chars is counted as 2.
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static long base64Length(int length) {
+        return (length + 2L) / 3 * 4;
+    }
+
+    private static <T> WriteRequest writeRequest(BulkWriteOperation<T> operation) {
+        MappedTableResource<T> mappedTableResource = operation.mappedTableResource();
+        BatchableWriteOperation<T> writeOperation;
+        if (operation.isPut()) {
+            writeOperation = PutItemOperation.create(PutItemEnhancedRequest.builder(
+                mappedTableResource.tableSchema().itemType().rawClass()).item(operation.item()).build());
+        } else {
+            writeOperation = DeleteItemOperation.create(DeleteItemEnhancedRequest.builder().key(operation.key()).build());
+        }
+        return writeOperation.generateWriteRequest(mappedTableResource.tableSchema(),
+                                                   DefaultOperationContext.create(mappedTableResource.tableName()),
+                                                   mappedTableResource.mapperExtension());
+    }
+
+    /**
+     * An operation with its write request, and the table and primary key of the item it writes.
+     */
+    private static final class Entry {
+        private final BulkWriteOperation<?> operation;
+        private final String tableName;
+        private final WriteRequest writeRequest;
+        private final List<Object> tableAndKey;
+        private final long size;
+
+        private Entry(BulkWriteOperation<?> operation) {
+            this.operation = operation;
+            this.tableName = operation.mappedTableResource().tableName();
+            this.writeRequest = writeRequest(operation);
+
+            Map<String, AttributeValue> item;
+            Map<String, AttributeValue> key;
+            if (writeRequest.putRequest() != null) {
+                item = writeRequest.putRequest().item();
+                key = new HashMap<>();
+                for (String keyName : operation.mappedTableResource().tableSchema().tableMetadata().primaryKeys()) {
+                    key.put(keyName, item.get(keyName));
+                }
+            } else {
+                item = writeRequest.deleteRequest().key();
+                key = item;
+            }
+            this.tableAndKey = Arrays.asList(tableName, key);
+            this.size = utf8Length(tableName) + estimateSize(item);
+        }
+    }
+
+    private static final class Batch {
+        private final int attempt;
+        private final List<Entry> entries = new ArrayList<>(MAX_BATCH_OPERATIONS);
+        private final Set<List<Object>> keys = new HashSet<>();
+        private long size;
+
+        private Batch(int attempt) {
+            this.attempt = attempt;
+        }
+
+        private boolean canAdd(Entry entry) {
+            return entries.size() < MAX_BATCH_OPERATIONS
+                   && (entries.isEmpty() || size + entry.size <= MAX_BATCH_BYTES);
+        }
+
+        private void add(Entry entry) {
+            entries.add(entry);
+            keys.add(entry.tableAndKey);
+            size += entry.size;
+        }
+
+        private boolean isFull() {
+            return entries.size() == MAX_BATCH_OPERATIONS;
+        }
+
+        private BatchWriteItemRequest toRequest() {
+            Map<String, List<WriteRequest>> requestItems = new LinkedHashMap<>();
+            for (Entry entry : entries) {
+                requestItems.computeIfAbsent(entry.tableName, t -> new ArrayList<>()).add(entry.writeRequest);
+            }
+            return BatchWriteItemRequest.builder().requestItems(requestItems).build();
+        }
+    }
+
+    /**
+     * The state of the bulk write is only read and modified by the thread that drains it. The signals of the publisher and
+     * of the batches are queued, and applied by the draining thread.
+     */
+    private final class BulkWriteSubscriber implements Subscriber<BulkWriteOperation<?>> {
+        private final CompletableFuture<BulkWriteResult> result = new CompletableFuture<>();
+        private final Queue<Runnable> signals = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger drainers = new AtomicInteger();
+
+        private final Deque<Batch> readyBatches = new ArrayDeque<>();
+        private final List<BulkWriteFailure> failures = new ArrayList<>();
+        private final Set<List<Object>> keysInProgress = new HashSet<>();
+        private final Map<List<Object>, Deque<Entry>> heldBackEntries = new HashMap<>();
+        private int heldBackCount;
+        private Subscription subscription;
+        private Batch currentBatch = new Batch(1);
+        private long requestedOperations;
+        private int batchesInProgress;
+        private long writtenOperationCount;
+        private boolean publisherDone;
+        private Throwable publisherFailure;
+        private boolean terminated;
+
+        private BulkWriteSubscriber() {
+            result.whenComplete((r, t) -> drain());
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            signal(() -> {
+                if (subscription != null || terminated) {
+                    s.cancel();
+                } else {
+                    subscription = s;
+                }
+            });
+        }
+
+        @Override
+        public void onNext(BulkWriteOperation<?> operation) {
+            signal(() -> {
+                requestedOperations--;
+                if (terminated) {
+                    return;
+                }
+
+                Entry entry;
+                try {
+                    entry = new Entry(operation);
+                } catch (RuntimeException e) {
+                    failures.add(BulkWriteFailure.create(operation, e, 0));
+                    return;
+                }
+                accept(entry);
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            signal(() -> {
+                publisherDone = true;
+                publisherFailure = t;
+                flushCurrentBatch();
+            });
+        }
+
+        @Override
+        public void onComplete() {
+            signal(() -> {
+                publisherDone = true;
+                flushCurrentBatch();
+            });
+        }
+
+        private void signal(Runnable signal) {
+            signals.add(signal);
+            drain();
+        }
+
+        private void drain() {
+            if (drainers.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                Runnable signal;
+                while ((signal = signals.poll()) != null) {
+                    signal.run();
+                }
+                if (!terminated) {
+                    drainOnce();
+                }
+                missed = drainers.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainOnce() {
+            if (result.isDone()) {
+                // The result was cancelled by the caller.
+                terminate();
+                return;
+            }
+
+            if (publisherDone || heldBackCount >= MAX_BATCH_OPERATIONS) {
+                // No more operations will fill the current batch, which may hold operations that were released after
+                // being held back.
+                flushCurrentBatch();
+            }
+
+            while (batchesInProgress < request.maxConcurrency() && !readyBatches.isEmpty()) {
+                send(readyBatches.poll());
+            }
+
+            if (!publisherDone && subscription != null && requestedOperations == 0 && readyBatches.isEmpty()
+                && heldBackCount < MAX_BATCH_OPERATIONS) {
+                requestedOperations = MAX_BATCH_OPERATIONS;
+                subscription.request(MAX_BATCH_OPERATIONS);
+            }
+
+            if (publisherDone && readyBatches.isEmpty() && batchesInProgress == 0) {
+                terminated = true;
+                if (publisherFailure != null) {
+                    result.completeExceptionally(publisherFailure);
+                } else {
+                    result.complete(BulkWriteResult.builder()
+                                                   .writtenOperationCount(writtenOperationCount)
+                                                   .failures(failures)
+                                                   .build());
+                }
+            }
+        }
+
+        private void accept(Entry entry) {
+            if (keysInProgress.contains(entry.tableAndKey)) {
+                heldBackEntries.computeIfAbsent(entry.tableAndKey, k -> new ArrayDeque<>()).add(entry);
+                heldBackCount++;
+                if (currentBatch.keys.contains(entry.tableAndKey)) {
+                    // Send the earlier write of the item, instead of waiting for the batch to fill.
+                    flushCurrentBatch();
+                }
+                return;
+            }
+
+            keysInProgress.add(entry.tableAndKey);
+            if (!currentBatch.canAdd(entry)) {
+                flushCurrentBatch();
+            }
+            currentBatch.add(entry);
+            if (currentBatch.isFull()) {
+                flushCurrentBatch();
+            }
+        }
+
+        /**
+         * Called once an operation is written or failed, to release the next operation that writes the same item.
+         */
+        private void done(Entry entry) {
+            keysInProgress.remove(entry.tableAndKey);
+            Deque<Entry> waiting = heldBackEntries.get(entry.tableAndKey);
+            if (waiting != null) {
+                Entry next = waiting.poll();
+                if (waiting.isEmpty()) {
+                    heldBackEntries.remove(entry.tableAndKey);
+                }
+                heldBackCount--;
+                accept(next);
+            }
+        }
+
+        private void flushCurrentBatch() {
+            if (!currentBatch.entries.isEmpty()) {
+                readyBatches.add(currentBatch);
+                currentBatch = new Batch(1);
+            }
+        }
+
+        private void send(Batch batch) {
+            batchesInProgress++;
+            CompletableFuture<BatchWriteItemResponse> response;
+            try {
+                response = batchWriteItem.apply(batch.toRequest());
+            } catch (RuntimeException e) {
+                response = new CompletableFuture<>();
+                response.completeExceptionally(e);
+            }
+            response.whenComplete((r, t) -> signal(() -> onBatchComplete(batch, r, t)));
+        }
+
+        private void onBatchComplete(Batch batch, BatchWriteItemResponse response, Throwable t) {
+            if (t != null) {
+                Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                batch.entries.forEach(entry -> failures.add(BulkWriteFailure.create(entry.operation, cause, batch.attempt)));
+                batch.entries.forEach(this::done);
+                batchesInProgress--;
+                return;
+            }
+
+            Map<String, Set<WriteRequest>> unprocessedItems = new HashMap<>();
+            response.unprocessedItems().forEach((tableName, writeRequests) -> {
+                unprocessedItems.put(tableName, new HashSet<>(writeRequests));
+            });
+
+            Batch unprocessedBatch = new Batch(batch.attempt + 1);
+            for (Entry entry : batch.entries) {
+                if (unprocessedItems.getOrDefault(entry.tableName, Collections.emptySet()).contains(entry.writeRequest)) {
+                    unprocessedBatch.add(entry);
+                } else {
+                    writtenOperationCount++;
+                    done(entry);
+                }
+            }
+
+            if (unprocessedBatch.entries.isEmpty()) {
+                batchesInProgress--;
+            } else if (batch.attempt >= request.maxAttempts()) {
+                SdkClientException exception =
+                    SdkClientException.create("The operation was still unprocessed after " + batch.attempt + " attempts.");
+                unprocessedBatch.entries.forEach(
+                    entry -> failures.add(BulkWriteFailure.create(entry.operation, exception, batch.attempt)));
+                unprocessedBatch.entries.forEach(this::done);
+                batchesInProgress--;
+            } else {
+                // The batch stays in progress while it waits, so that new batches are not sent to a throttled table.
+                BackoffScheduler.schedule(request.backoffStrategy(), batch.attempt, retryExecutor, () -> signal(() -> {
+                    batchesInProgress--;
+                    readyBatches.addFirst(unprocessedBatch);
+                }));
+            }
+        }
+
+        private void terminate() {
+            terminated = true;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            readyBatches.clear();
+            heldBackEntries.clear();
+        }
+    }
+}
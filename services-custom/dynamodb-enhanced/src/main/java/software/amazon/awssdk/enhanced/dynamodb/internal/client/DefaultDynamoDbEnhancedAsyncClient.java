@@ -17,14 +17,20 @@ package software.amazon.awssdk.enhanced.dynamodb.internal.client;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.enhanced.dynamodb.Document;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchGetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchWriteItemOperation;
@@ -32,8 +38,11 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactGetI
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactWriteItemsOperation;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchLoadEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
@@ -87,6 +96,31 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
         return batchWriteItem(builder.build());
     }
 
+    @Override
+    public CompletableFuture<BulkWriteResult> bulkWrite(BulkWriteEnhancedRequest request) {
+        return new BulkWriter(request, dynamoDbClient::batchWriteItem, retryExecutor(request.executor())).write();
+    }
+
+    @Override
+    public CompletableFuture<BulkWriteResult> bulkWrite(Consumer<BulkWriteEnhancedRequest.Builder> requestConsumer) {
+        BulkWriteEnhancedRequest.Builder builder = BulkWriteEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return bulkWrite(builder.build());
+    }
+
+    @Override
+    public <T> CompletableFuture<Map<Key, T>> batchLoad(BatchLoadEnhancedRequest<T> request) {
+        return new BatchLoader<>(request, dynamoDbClient::batchGetItem, retryExecutor(request.executor())).load();
+    }
+
+    @Override
+    public <T> CompletableFuture<Map<Key, T>> batchLoad(Collection<Key> keys, MappedTableResource<T> mappedTableResource) {
+        return batchLoad(BatchLoadEnhancedRequest.builder(mappedTableResource.tableSchema().itemType().rawClass())
+                                                 .mappedTableResource(mappedTableResource)
+                                                 .keys(keys)
+                                                 .build());
+    }
+
     @Override
     public CompletableFuture<List<Document>> transactGetItems(TransactGetItemsEnhancedRequest request) {
         TransactGetItemsOperation operation = TransactGetItemsOperation.create(request);
@@ -154,6 +188,14 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
         return result;
     }
 
+    /**
+     * Returns the executor that runs the retries of a batch operation, so that they do not run on the thread that times
+     * the backoff delays.
+     */
+    private static Executor retryExecutor(Executor configuredExecutor) {
+        return configuredExecutor != null ? configuredExecutor : ForkJoinPool.commonPool();
+    }
+
     @NotThreadSafe
     public static final class Builder implements DynamoDbEnhancedAsyncClient.Builder {
         private DynamoDbAsyncClient dynamoDbClient;
@@ -17,13 +17,22 @@ package software.amazon.awssdk.enhanced.dynamodb.internal.client;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.enhanced.dynamodb.Document;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchGetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchWriteItemOperation;
@@ -31,11 +40,16 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactGetI
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactWriteItemsOperation;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchLoadEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 
 @SdkInternalApi
 public final class DefaultDynamoDbEnhancedClient implements DynamoDbEnhancedClient {
@@ -82,6 +96,39 @@ public final class DefaultDynamoDbEnhancedClient implements DynamoDbEnhancedClie
         return batchWriteItem(builder.build());
     }
 
+    @Override
+    public BulkWriteResult bulkWrite(BulkWriteEnhancedRequest request) {
+        return joinOnExecutor(request.executor(), request.maxConcurrency(), "sdk-bulk-write", executor ->
+            new BulkWriter(request,
+                           r -> CompletableFuture.supplyAsync(() -> dynamoDbClient.batchWriteItem(r), executor),
+                           executor)
+                .write());
+    }
+
+    @Override
+    public BulkWriteResult bulkWrite(Consumer<BulkWriteEnhancedRequest.Builder> requestConsumer) {
+        BulkWriteEnhancedRequest.Builder builder = BulkWriteEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return bulkWrite(builder.build());
+    }
+
+    @Override
+    public <T> Map<Key, T> batchLoad(BatchLoadEnhancedRequest<T> request) {
+        return joinOnExecutor(request.executor(), request.maxConcurrency(), "sdk-batch-load", executor ->
+            new BatchLoader<>(request,
+                              r -> CompletableFuture.supplyAsync(() -> dynamoDbClient.batchGetItem(r), executor),
+                              executor)
+                .load());
+    }
+
+    @Override
+    public <T> Map<Key, T> batchLoad(Collection<Key> keys, MappedTableResource<T> mappedTableResource) {
+        return batchLoad(BatchLoadEnhancedRequest.builder(mappedTableResource.tableSchema().itemType().rawClass())
+                                                 .mappedTableResource(mappedTableResource)
+                                                 .keys(keys)
+                                                 .build());
+    }
+
     @Override
     public List<Document> transactGetItems(TransactGetItemsEnhancedRequest request) {
         TransactGetItemsOperation operation = TransactGetItemsOperation.create(request);
@@ -122,6 +169,34 @@ public final class DefaultDynamoDbEnhancedClient implements DynamoDbEnhancedClie
         return builder().dynamoDbClient(this.dynamoDbClient).extensions(this.extension);
     }
 
+    /**
+     * Runs an operation whose calls are made on an executor, and blocks until it completes. When no executor is configured,
+     * a thread is created for each of the calls that can be in progress at the same time.
+     */
+    private <T> T joinOnExecutor(Executor configuredExecutor, int maxConcurrency, String threadNamePrefix,
+                                 Function<Executor, CompletableFuture<T>> operation) {
+        ExecutorService createdExecutor = null;
+        Executor executor = configuredExecutor;
+        if (executor == null) {
+            createdExecutor = Executors.newFixedThreadPool(maxConcurrency,
+                                                           new ThreadFactoryBuilder().threadNamePrefix(threadNamePrefix)
+                                                                                     .daemonThreads(true)
+                                                                                     .build());
+            executor = createdExecutor;
+        }
+
+        CompletableFuture<T> result = operation.apply(executor);
+        try {
+            return CompletableFutureUtils.joinLikeSync(result);
+        } finally {
+            // Stops the operation if the calling thread was interrupted.
+            result.cancel(false);
+            if (createdExecutor != null) {
+                createdExecutor.shutdown();
+            }
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
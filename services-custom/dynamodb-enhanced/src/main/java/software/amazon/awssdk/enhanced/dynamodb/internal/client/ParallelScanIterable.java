@@ -0,0 +1,270 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanFailurePolicy;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Iterates over the pages of the segments of a parallel scan, as they are received.
+ * <p>
+ * Each iteration scans the segments with up to {@link ParallelScanEnhancedRequest#maxConcurrency()} workers, which run on
+ * the executor of the request or on threads created for the iteration. The workers hand their pages over through a queue
+ * with one slot per worker, so a worker waits for the iteration to catch up before it requests the next page of its
+ * segment. The workers stop when the iteration fails or is closed: the streams stop them when they are closed, and the
+ * iterators are {@link SdkAutoCloseable}. As a last resort, they also stop once an iterator that was neither read to its end
+ * nor closed is garbage collected.
+ */
+@SdkInternalApi
+public final class ParallelScanIterable<T> implements PageIterable<T> {
+    private static final Object WORKER_DONE = new Object();
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final ParallelScanEnhancedRequest request;
+    private final Function<ScanEnhancedRequest, SdkIterable<Page<T>>> scan;
+
+    public ParallelScanIterable(ParallelScanEnhancedRequest request, Function<ScanEnhancedRequest, SdkIterable<Page<T>>> scan) {
+        this.request = request;
+        this.scan = scan;
+    }
+
+    @Override
+    public Iterator<Page<T>> iterator() {
+        return new ParallelScanIterator();
+    }
+
+    /**
+     * Streams the pages of a new iteration. Closing the stream stops the workers of the iteration.
+     */
+    @Override
+    public Stream<Page<T>> stream() {
+        ParallelScanIterator iterator = new ParallelScanIterator();
+        Spliterator<Page<T>> pages = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(pages, false).onClose(iterator::close);
+    }
+
+    /**
+     * The items of the pages. Closing the stream of the items stops the workers, like closing the stream of the pages.
+     */
+    @Override
+    public SdkIterable<T> items() {
+        SdkIterable<T> items = PageIterable.super.items();
+        return new SdkIterable<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return items.iterator();
+            }
+
+            @Override
+            public Stream<T> stream() {
+                return ParallelScanIterable.this.stream().flatMap(page -> page.items().stream());
+            }
+        };
+    }
+
+    private static final class SegmentFailure {
+        private final RuntimeException exception;
+
+        private SegmentFailure(RuntimeException exception) {
+            this.exception = exception;
+        }
+    }
+
+    private final class ParallelScanIterator implements Iterator<Page<T>>, SdkAutoCloseable {
+        private final SegmentWorkers workers = new SegmentWorkers(this);
+
+        private int runningWorkers;
+        private RuntimeException failure;
+        private Page<T> nextPage;
+
+        private ParallelScanIterator() {
+            this.runningWorkers = workers.start();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean hasNext() {
+            while (nextPage == null && runningWorkers > 0) {
+                Object result = take();
+                if (result == WORKER_DONE) {
+                    runningWorkers--;
+                } else if (result instanceof SegmentFailure) {
+                    fail(((SegmentFailure) result).exception);
+                    if (request.failurePolicy() == ParallelScanFailurePolicy.CANCEL_OTHER_SEGMENTS) {
+                        stop();
+                        throw failure;
+                    }
+                } else {
+                    nextPage = (Page<T>) result;
+                }
+            }
+
+            if (nextPage == null && failure != null) {
+                throw failure;
+            }
+            return nextPage != null;
+        }
+
+        @Override
+        public Page<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Page<T> page = nextPage;
+            nextPage = null;
+            return page;
+        }
+
+        /**
+         * Stops the workers. The iteration ends with the pages it has already received.
+         */
+        @Override
+        public void close() {
+            stop();
+        }
+
+        private Object take() {
+            try {
+                return workers.results.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stop();
+                throw SdkClientException.create("Interrupted while waiting for the next page of a parallel scan.", e);
+            }
+        }
+
+        private void fail(RuntimeException e) {
+            if (failure == null) {
+                failure = e;
+            } else if (failure != e) {
+                failure.addSuppressed(e);
+            }
+        }
+
+        private void stop() {
+            workers.stop();
+            runningWorkers = 0;
+        }
+    }
+
+    /**
+     * The workers of one iteration. They only hold a weak reference to the iterator, so that they stop once an iteration
+     * that was abandoned before its end without being closed has been garbage collected, instead of waiting forever to hand
+     * over their next page.
+     */
+    private final class SegmentWorkers {
+        private final Queue<Integer> pendingSegments = new ConcurrentLinkedQueue<>(request.segments());
+        private final int workers = Math.min(request.maxConcurrency(), request.segments().size());
+        private final BlockingQueue<Object> results = new ArrayBlockingQueue<>(Math.max(workers, 1));
+        private final WeakReference<ParallelScanIterator> iterator;
+        private volatile boolean stopped;
+
+        private SegmentWorkers(ParallelScanIterator iterator) {
+            this.iterator = new WeakReference<>(iterator);
+        }
+
+        /**
+         * Starts the workers, and returns how many were started.
+         */
+        private int start() {
+            if (request.executor() != null) {
+                for (int i = 0; i < workers; i++) {
+                    request.executor().execute(this::work);
+                }
+            } else if (workers > 0) {
+                ExecutorService executor =
+                    Executors.newFixedThreadPool(workers, new ThreadFactoryBuilder().threadNamePrefix("sdk-parallel-scan")
+                                                                                    .daemonThreads(true)
+                                                                                    .build());
+                for (int i = 0; i < workers; i++) {
+                    executor.execute(this::work);
+                }
+                executor.shutdown();
+            }
+            return workers;
+        }
+
+        private void work() {
+            try {
+                Integer segment;
+                while (!stopped && (segment = pendingSegments.poll()) != null) {
+                    try {
+                        for (Page<T> page : scan.apply(request.segmentScanRequest(segment))) {
+                            if (!offer(ParallelScanPublisher.withSegment(page, segment))) {
+                                return;
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        if (!offer(new SegmentFailure(e))) {
+                            return;
+                        }
+                    }
+                }
+            } finally {
+                offer(WORKER_DONE);
+            }
+        }
+
+        /**
+         * Hands a result over to the iteration, and returns false if the iteration was stopped or abandoned instead.
+         */
+        private boolean offer(Object result) {
+            try {
+                while (!stopped) {
+                    if (results.offer(result, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        // The iteration may have been stopped while this worker was waiting for room in the queue.
+                        return !stopped;
+                    }
+                    if (iterator.get() == null) {
+                        stop();
+                    }
+                }
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void stop() {
+            stopped = true;
+            results.clear();
+        }
+    }
+}
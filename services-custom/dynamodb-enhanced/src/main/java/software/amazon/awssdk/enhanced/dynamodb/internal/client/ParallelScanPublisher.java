@@ -0,0 +1,278 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanFailurePolicy;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+/**
+ * Publishes the pages of the segments of a parallel scan, as they are received.
+ * <p>
+ * At most {@link ParallelScanEnhancedRequest#maxConcurrency()} segments are scanned at the same time. A page of a segment is
+ * only requested when the subscriber has requested more pages than are already received or requested, and each segment has
+ * at most one page requested at a time, so a slow subscriber slows down the scans of all segments.
+ */
+@SdkInternalApi
+public final class ParallelScanPublisher<T> implements SdkPublisher<Page<T>> {
+    private final ParallelScanEnhancedRequest request;
+    private final Function<ScanEnhancedRequest, SdkPublisher<Page<T>>> scan;
+
+    public ParallelScanPublisher(ParallelScanEnhancedRequest request, Function<ScanEnhancedRequest, SdkPublisher<Page<T>>> scan) {
+        this.request = request;
+        this.scan = scan;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Page<T>> subscriber) {
+        ParallelScanSubscription subscription = new ParallelScanSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Returns a copy of a page of a segment, which records the segment it was scanned from.
+     */
+    static <T> Page<T> withSegment(Page<T> page, int segment) {
+        Page.Builder<T> builder = Page.<T>builder(null).items(page.items())
+                                                       .count(page.count())
+                                                       .scannedCount(page.scannedCount())
+                                                       .consumedCapacity(page.consumedCapacity())
+                                                       .segment(segment);
+        if (page.lastEvaluatedKey() != null) {
+            builder.lastEvaluatedKey(page.lastEvaluatedKey());
+        }
+        return builder.build();
+    }
+
+    /**
+     * The state of the subscription is only read and modified by the thread that drains it. The signals of the segments
+     * are queued, and applied by the draining thread.
+     */
+    private final class ParallelScanSubscription implements Subscription {
+        private final Subscriber<? super Page<T>> subscriber;
+        private final Queue<Runnable> signals = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger drainers = new AtomicInteger();
+        private final AtomicLong demand = new AtomicLong();
+        private volatile boolean cancelled;
+
+        private final Queue<Integer> pendingSegments = new ArrayDeque<>(request.segments());
+        private final Map<Integer, SegmentSubscriber> activeSegments = new LinkedHashMap<>();
+        private final Queue<Page<T>> receivedPages = new ArrayDeque<>();
+        private Throwable failure;
+        private boolean terminated;
+
+        private ParallelScanSubscription(Subscriber<? super Page<T>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                signal(() -> {
+                    terminate();
+                    subscriber.onError(new IllegalArgumentException("Non-positive request signals are illegal."));
+                });
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void signal(Runnable signal) {
+            signals.add(signal);
+            drain();
+        }
+
+        private void drain() {
+            if (drainers.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                Runnable signal;
+                while ((signal = signals.poll()) != null) {
+                    signal.run();
+                }
+                if (!terminated) {
+                    drainOnce();
+                }
+                missed = drainers.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainOnce() {
+            if (cancelled) {
+                terminate();
+                return;
+            }
+
+            if (failure != null && request.failurePolicy() == ParallelScanFailurePolicy.CANCEL_OTHER_SEGMENTS) {
+                terminate();
+                subscriber.onError(failure);
+                return;
+            }
+
+            while (demand.get() > 0 && !receivedPages.isEmpty()) {
+                demand.decrementAndGet();
+                subscriber.onNext(receivedPages.poll());
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+            }
+
+            if (demand.get() > 0) {
+                startSegments();
+                requestPages();
+            }
+
+            if (activeSegments.isEmpty() && pendingSegments.isEmpty() && receivedPages.isEmpty()) {
+                terminated = true;
+                if (failure != null) {
+                    subscriber.onError(failure);
+                } else {
+                    subscriber.onComplete();
+                }
+            }
+        }
+
+        private void startSegments() {
+            while (activeSegments.size() < request.maxConcurrency() && !pendingSegments.isEmpty()) {
+                int segment = pendingSegments.poll();
+                SegmentSubscriber segmentSubscriber = new SegmentSubscriber(segment);
+                activeSegments.put(segment, segmentSubscriber);
+                try {
+                    scan.apply(request.segmentScanRequest(segment)).subscribe(segmentSubscriber);
+                } catch (RuntimeException e) {
+                    segmentSubscriber.onError(e);
+                }
+            }
+        }
+
+        private void requestPages() {
+            long requestedPages = activeSegments.values().stream().filter(s -> s.pageRequested).count();
+            List<SegmentSubscriber> requestedSegments = new ArrayList<>();
+            for (SegmentSubscriber segmentSubscriber : activeSegments.values()) {
+                if (demand.get() <= receivedPages.size() + requestedPages) {
+                    break;
+                }
+                if (segmentSubscriber.subscription != null && !segmentSubscriber.pageRequested) {
+                    segmentSubscriber.pageRequested = true;
+                    requestedPages++;
+                    requestedSegments.add(segmentSubscriber);
+                }
+            }
+
+            // The segments whose pages were requested go last, so that every segment gets its turn when the demand is low.
+            for (SegmentSubscriber segmentSubscriber : requestedSegments) {
+                activeSegments.remove(segmentSubscriber.segment);
+                activeSegments.put(segmentSubscriber.segment, segmentSubscriber);
+            }
+            requestedSegments.forEach(s -> s.subscription.request(1));
+        }
+
+        private void fail(Throwable t) {
+            if (failure == null) {
+                failure = t;
+            } else if (failure != t) {
+                failure.addSuppressed(t);
+            }
+        }
+
+        private void terminate() {
+            terminated = true;
+            for (Iterator<SegmentSubscriber> i = activeSegments.values().iterator(); i.hasNext(); ) {
+                SegmentSubscriber segmentSubscriber = i.next();
+                i.remove();
+                if (segmentSubscriber.subscription != null) {
+                    segmentSubscriber.subscription.cancel();
+                }
+            }
+            pendingSegments.clear();
+            receivedPages.clear();
+        }
+
+        private final class SegmentSubscriber implements Subscriber<Page<T>> {
+            private final int segment;
+            private Subscription subscription;
+            private boolean pageRequested;
+
+            private SegmentSubscriber(int segment) {
+                this.segment = segment;
+            }
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                signal(() -> {
+                    if (terminated) {
+                        s.cancel();
+                    } else {
+                        subscription = s;
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(Page<T> page) {
+                signal(() -> {
+                    if (!terminated) {
+                        pageRequested = false;
+                        receivedPages.add(withSegment(page, segment));
+                    }
+                });
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                signal(() -> {
+                    if (!terminated) {
+                        activeSegments.remove(segment);
+                        fail(t);
+                    }
+                });
+            }
+
+            @Override
+            public void onComplete() {
+                signal(() -> activeSegments.remove(segment));
+            }
+        }
+    }
+}
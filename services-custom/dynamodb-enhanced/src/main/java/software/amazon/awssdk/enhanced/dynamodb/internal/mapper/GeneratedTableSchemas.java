@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.DynamoDbEnhancedLogger.BEAN_LOGGER;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+
+/**
+ * Finds the table schemas generated at compile time by the {@code dynamodb-enhanced-processor} annotation processor. The
+ * schema of an annotated class {@code com.example.Customer} is held by the class {@code com.example.Customer_TableSchema},
+ * which supplies it.
+ *
+ * <p>The lookup of each class is only done once, and its result is held by the class itself, so that it does not keep the
+ * class loader of the class alive.
+ */
+@SdkInternalApi
+public final class GeneratedTableSchemas {
+    private static final String GENERATED_CLASS_SUFFIX = "_TableSchema";
+
+    private static final ClassValue<Optional<TableSchema<?>>> GENERATED_TABLE_SCHEMAS =
+        new ClassValue<Optional<TableSchema<?>>>() {
+            @Override
+            protected Optional<TableSchema<?>> computeValue(Class<?> type) {
+                return load(type);
+            }
+        };
+
+    private GeneratedTableSchemas() {
+    }
+
+    /**
+     * Return the generated table schema of an annotated class, or an empty optional when it was not generated.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<TableSchema<T>> find(Class<T> annotatedClass) {
+        return GENERATED_TABLE_SCHEMAS.get(annotatedClass).map(s -> (TableSchema<T>) s);
+    }
+
+    private static Optional<TableSchema<?>> load(Class<?> annotatedClass) {
+        ClassLoader classLoader = annotatedClass.getClassLoader();
+        if (classLoader == null
+            || annotatedClass.getAnnotation(DynamoDbBean.class) == null
+               && annotatedClass.getAnnotation(DynamoDbImmutable.class) == null) {
+            return Optional.empty();
+        }
+
+        String generatedClassName = generatedClassName(annotatedClass);
+        Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(generatedClassName, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        }
+
+        try {
+            Supplier<?> supplier = (Supplier<?>) generatedClass.getConstructor().newInstance();
+            TableSchema<?> tableSchema = (TableSchema<?>) supplier.get();
+
+            if (tableSchema.itemType().rawClass() != annotatedClass) {
+                BEAN_LOGGER.debug(() -> generatedClassName + " is not the table schema of " + annotatedClass.getTypeName()
+                                        + ", it will be ignored.");
+                return Optional.empty();
+            }
+
+            BEAN_LOGGER.debug(() -> annotatedClass.getTypeName() + " - Using generated schema " + generatedClassName);
+            return Optional.of(tableSchema);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // The schema is created at runtime instead, which reports the same error if the class cannot be mapped.
+            BEAN_LOGGER.debug(() -> "Unable to load the generated schema " + generatedClassName + ", it will be ignored.", e);
+            return Optional.empty();
+        }
+    }
+
+    private static String generatedClassName(Class<?> annotatedClass) {
+        String className = annotatedClass.getName();
+        int packageEnd = className.lastIndexOf('.');
+        String packagePrefix = className.substring(0, packageEnd + 1);
+        return packagePrefix + className.substring(packageEnd + 1).replace('$', '_') + GENERATED_CLASS_SUFFIX;
+    }
+}
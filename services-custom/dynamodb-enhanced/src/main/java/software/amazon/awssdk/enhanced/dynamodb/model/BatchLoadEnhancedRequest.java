@@ -0,0 +1,297 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used for the batchLoad() operation (such as
+ * {@link DynamoDbEnhancedClient#batchLoad(BatchLoadEnhancedRequest)} or
+ * {@link DynamoDbEnhancedAsyncClient#batchLoad(BatchLoadEnhancedRequest)}).
+ * <p>
+ * The table and the keys of the items to load are required. All other parameters are optional.
+ *
+ * @param <T> The type of the modelled object of the table.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BatchLoadEnhancedRequest<T> {
+    private static final int DEFAULT_MAX_CONCURRENCY = 8;
+    private static final int DEFAULT_MAX_ATTEMPTS = 10;
+    private static final BackoffStrategy DEFAULT_BACKOFF_STRATEGY =
+        FullJitterBackoffStrategy.builder()
+                                 .baseDelay(Duration.ofMillis(100))
+                                 .maxBackoffTime(Duration.ofSeconds(20))
+                                 .build();
+
+    private final MappedTableResource<T> mappedTableResource;
+    private final List<Key> keys;
+    private final Boolean consistentRead;
+    private final int maxConcurrency;
+    private final int maxAttempts;
+    private final BackoffStrategy backoffStrategy;
+    private final Executor executor;
+
+    private BatchLoadEnhancedRequest(Builder<T> builder) {
+        this.mappedTableResource = Validate.notNull(builder.mappedTableResource, "mappedTableResource must be configured.");
+        this.keys = Collections.unmodifiableList(new ArrayList<>(Validate.notNull(builder.keys, "keys must be configured.")));
+        keys.forEach(key -> Validate.notNull(key, "keys must not contain null."));
+        this.consistentRead = builder.consistentRead;
+        this.maxConcurrency = builder.maxConcurrency != null ? Validate.isPositive(builder.maxConcurrency, "maxConcurrency")
+                                                             : DEFAULT_MAX_CONCURRENCY;
+        this.maxAttempts = builder.maxAttempts != null ? Validate.isPositive(builder.maxAttempts, "maxAttempts")
+                                                       : DEFAULT_MAX_ATTEMPTS;
+        this.backoffStrategy = builder.backoffStrategy != null ? builder.backoffStrategy : DEFAULT_BACKOFF_STRATEGY;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Creates a newly initialized builder for the request object.
+     *
+     * @param itemClass the class that items in this table map to
+     * @param <T> The type of the modelled object, corresponding to itemClass
+     * @return a BatchLoadEnhancedRequest builder
+     */
+    public static <T> Builder<T> builder(Class<? extends T> itemClass) {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<T>().mappedTableResource(mappedTableResource)
+                               .keys(keys)
+                               .consistentRead(consistentRead)
+                               .maxConcurrency(maxConcurrency)
+                               .maxAttempts(maxAttempts)
+                               .backoffStrategy(backoffStrategy)
+                               .executor(executor);
+    }
+
+    /**
+     * Returns the table that the items are loaded from.
+     */
+    public MappedTableResource<T> mappedTableResource() {
+        return mappedTableResource;
+    }
+
+    /**
+     * Returns the keys of the items to load.
+     */
+    public List<Key> keys() {
+        return keys;
+    }
+
+    /**
+     * Returns the value of consistent read, or false if it has not been set.
+     */
+    public Boolean consistentRead() {
+        return consistentRead;
+    }
+
+    /**
+     * Returns the maximum number of BatchGetItem calls that are in progress at the same time.
+     */
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the maximum number of times a key is sent while DynamoDb returns it as unprocessed.
+     */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns the strategy that computes the delay before unprocessed keys are sent again.
+     */
+    public BackoffStrategy backoffStrategy() {
+        return backoffStrategy;
+    }
+
+    /**
+     * Returns the executor that runs the BatchGetItem calls of a synchronous client and the retries of unprocessed keys, or
+     * null if it was not configured.
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BatchLoadEnhancedRequest<?> that = (BatchLoadEnhancedRequest<?>) o;
+
+        return maxConcurrency == that.maxConcurrency
+               && maxAttempts == that.maxAttempts
+               && mappedTableResource.equals(that.mappedTableResource)
+               && keys.equals(that.keys)
+               && Objects.equals(consistentRead, that.consistentRead)
+               && backoffStrategy.equals(that.backoffStrategy)
+               && Objects.equals(executor, that.executor);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = mappedTableResource.hashCode();
+        result = 31 * result + keys.hashCode();
+        result = 31 * result + Objects.hashCode(consistentRead);
+        result = 31 * result + maxConcurrency;
+        result = 31 * result + maxAttempts;
+        result = 31 * result + backoffStrategy.hashCode();
+        result = 31 * result + Objects.hashCode(executor);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     *
+     * @param <T> The type of the modelled object of the table.
+     */
+    @NotThreadSafe
+    public static final class Builder<T> {
+        private MappedTableResource<T> mappedTableResource;
+        private Collection<Key> keys;
+        private Boolean consistentRead;
+        private Integer maxConcurrency;
+        private Integer maxAttempts;
+        private BackoffStrategy backoffStrategy;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * The table that the items are loaded from. This is required.
+         *
+         * @param mappedTableResource the table reference
+         * @return a builder of this type
+         */
+        public Builder<T> mappedTableResource(MappedTableResource<T> mappedTableResource) {
+            this.mappedTableResource = mappedTableResource;
+            return this;
+        }
+
+        /**
+         * The keys of the items to load. This is required. Duplicate keys are only loaded once, and there is no limit to the
+         * number of keys.
+         *
+         * @param keys the keys of the items to load
+         * @return a builder of this type
+         */
+        public Builder<T> keys(Collection<Key> keys) {
+            this.keys = keys;
+            return this;
+        }
+
+        /**
+         * Determines the read consistency model: If set to true, the operation uses strongly consistent reads; otherwise,
+         * the operation uses eventually consistent reads.
+         * <p>
+         * By default, the value of this property is set to <em>false</em>.
+         *
+         * @param consistentRead sets consistency model of the operation to use strong consistency if true
+         * @return a builder of this type
+         */
+        public Builder<T> consistentRead(Boolean consistentRead) {
+            this.consistentRead = consistentRead;
+            return this;
+        }
+
+        /**
+         * The maximum number of BatchGetItem calls that are in progress at the same time. Keys that are waiting to be sent
+         * again count towards this limit. By default, up to 8 calls are in progress at the same time.
+         *
+         * @param maxConcurrency the maximum number of BatchGetItem calls in progress at the same time
+         * @return a builder of this type
+         */
+        public Builder<T> maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * The maximum number of times a key is sent while DynamoDb returns it as unprocessed. The batch load fails if a key
+         * is still unprocessed after this many attempts. The default value is 10.
+         * <p>
+         * This is independent of the retry policy of the DynamoDb client, which retries the BatchGetItem calls that fail.
+         *
+         * @param maxAttempts the maximum number of times a key is sent
+         * @return a builder of this type
+         */
+        public Builder<T> maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * The strategy that computes the delay before unprocessed keys are sent again. By default, the delay is chosen at
+         * random up to an exponentially growing limit, starting at 100 milliseconds, and capped at 20 seconds.
+         *
+         * @param backoffStrategy the strategy that computes the delay before unprocessed keys are sent again
+         * @return a builder of this type
+         */
+        public Builder<T> backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
+        /**
+         * The executor that runs the BatchGetItem calls of a {@link DynamoDbEnhancedClient}. Each call in progress occupies
+         * a thread of the executor. By default, a thread is created for each of the {@link #maxConcurrency(Integer)} calls
+         * in progress at the same time, and stopped when the batch load completes. Unprocessed keys are sent again from this
+         * executor once their backoff delay has passed.
+         * <p>
+         * A {@link DynamoDbEnhancedAsyncClient} makes the calls with its asynchronous client, and only uses this executor to
+         * send unprocessed keys again. By default, it uses {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+         *
+         * @param executor the executor that runs the BatchGetItem calls and the retries of unprocessed keys
+         * @return a builder of this type
+         */
+        public Builder<T> executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public BatchLoadEnhancedRequest<T> build() {
+            return new BatchLoadEnhancedRequest<>(this);
+        }
+    }
+}
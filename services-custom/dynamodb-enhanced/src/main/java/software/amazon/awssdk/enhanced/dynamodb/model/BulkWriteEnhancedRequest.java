@@ -0,0 +1,255 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used for the bulkWrite() operation (such as
+ * {@link DynamoDbEnhancedClient#bulkWrite(BulkWriteEnhancedRequest)} or
+ * {@link DynamoDbEnhancedAsyncClient#bulkWrite(BulkWriteEnhancedRequest)}).
+ * <p>
+ * The operations to write are required, and are given either as an {@link Iterable} or as a {@link Publisher}. All other
+ * parameters are optional.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteEnhancedRequest {
+    private static final int DEFAULT_MAX_CONCURRENCY = 8;
+    private static final int DEFAULT_MAX_ATTEMPTS = 10;
+    private static final BackoffStrategy DEFAULT_BACKOFF_STRATEGY =
+        FullJitterBackoffStrategy.builder()
+                                 .baseDelay(Duration.ofMillis(100))
+                                 .maxBackoffTime(Duration.ofSeconds(20))
+                                 .build();
+
+    private final Publisher<? extends BulkWriteOperation<?>> operations;
+    private final int maxConcurrency;
+    private final int maxAttempts;
+    private final BackoffStrategy backoffStrategy;
+    private final Executor executor;
+
+    private BulkWriteEnhancedRequest(Builder builder) {
+        this.operations = Validate.notNull(builder.operations, "operations must be configured.");
+        this.maxConcurrency = builder.maxConcurrency != null ? Validate.isPositive(builder.maxConcurrency, "maxConcurrency")
+                                                             : DEFAULT_MAX_CONCURRENCY;
+        this.maxAttempts = builder.maxAttempts != null ? Validate.isPositive(builder.maxAttempts, "maxAttempts")
+                                                       : DEFAULT_MAX_ATTEMPTS;
+        this.backoffStrategy = builder.backoffStrategy != null ? builder.backoffStrategy : DEFAULT_BACKOFF_STRATEGY;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return builder().operations(operations)
+                        .maxConcurrency(maxConcurrency)
+                        .maxAttempts(maxAttempts)
+                        .backoffStrategy(backoffStrategy)
+                        .executor(executor);
+    }
+
+    /**
+     * Returns the operations to write.
+     */
+    public Publisher<? extends BulkWriteOperation<?>> operations() {
+        return operations;
+    }
+
+    /**
+     * Returns the maximum number of BatchWriteItem calls that are in progress at the same time.
+     */
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the maximum number of times an operation is sent while DynamoDb returns it as unprocessed.
+     */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns the strategy that computes the delay before unprocessed operations are sent again.
+     */
+    public BackoffStrategy backoffStrategy() {
+        return backoffStrategy;
+    }
+
+    /**
+     * Returns the executor that runs the BatchWriteItem calls of a synchronous client and the retries of unprocessed
+     * operations, or null if it was not configured.
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteEnhancedRequest that = (BulkWriteEnhancedRequest) o;
+
+        return maxConcurrency == that.maxConcurrency
+               && maxAttempts == that.maxAttempts
+               && operations.equals(that.operations)
+               && backoffStrategy.equals(that.backoffStrategy)
+               && Objects.equals(executor, that.executor);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = operations.hashCode();
+        result = 31 * result + maxConcurrency;
+        result = 31 * result + maxAttempts;
+        result = 31 * result + backoffStrategy.hashCode();
+        result = 31 * result + Objects.hashCode(executor);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Publisher<? extends BulkWriteOperation<?>> operations;
+        private Integer maxConcurrency;
+        private Integer maxAttempts;
+        private BackoffStrategy backoffStrategy;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * The operations to write. The operations are read as they are written, so the iterable does not need to hold all
+         * the operations in memory, and it is iterated once for each time the request is used. This replaces any operations
+         * configured previously.
+         * <p>
+         * Operations that write the same item may be written in any order, because their batches are written at the same
+         * time.
+         *
+         * @param operations the operations to write
+         * @return a builder of this type
+         */
+        public Builder operations(Iterable<? extends BulkWriteOperation<?>> operations) {
+            this.operations = operations != null ? SdkPublisher.fromIterable(operations) : null;
+            return this;
+        }
+
+        /**
+         * The operations to write. Operations are only requested from the publisher when there is room for them in the
+         * batches being written, and the publisher is subscribed to once for each time the request is used. This replaces
+         * any operations configured previously.
+         * <p>
+         * Operations that write the same item may be written in any order, because their batches are written at the same
+         * time.
+         *
+         * @param operations the operations to write
+         * @return a builder of this type
+         */
+        public Builder operations(Publisher<? extends BulkWriteOperation<?>> operations) {
+            this.operations = operations;
+            return this;
+        }
+
+        /**
+         * The maximum number of BatchWriteItem calls that are in progress at the same time. Batches whose unprocessed
+         * operations are waiting to be sent again count towards this limit. By default, up to 8 calls are in progress at
+         * the same time.
+         *
+         * @param maxConcurrency the maximum number of BatchWriteItem calls in progress at the same time
+         * @return a builder of this type
+         */
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * The maximum number of times an operation is sent while DynamoDb returns it as unprocessed. An operation that is
+         * still unprocessed after this many attempts is reported as a {@link BulkWriteFailure}. The default value is 10.
+         * <p>
+         * This is independent of the retry policy of the DynamoDb client, which retries the BatchWriteItem calls that fail.
+         *
+         * @param maxAttempts the maximum number of times an operation is sent
+         * @return a builder of this type
+         */
+        public Builder maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * The strategy that computes the delay before unprocessed operations are sent again. By default, the delay is
+         * chosen at random up to an exponentially growing limit, starting at 100 milliseconds, and capped at 20 seconds.
+         *
+         * @param backoffStrategy the strategy that computes the delay before unprocessed operations are sent again
+         * @return a builder of this type
+         */
+        public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
+        /**
+         * The executor that runs the BatchWriteItem calls of a {@link DynamoDbEnhancedClient}. Each call in progress
+         * occupies a thread of the executor. By default, a thread is created for each of the
+         * {@link #maxConcurrency(Integer)} calls in progress at the same time, and stopped when the bulk write completes.
+         * Unprocessed operations are sent again from this executor once their backoff delay has passed.
+         * <p>
+         * A {@link DynamoDbEnhancedAsyncClient} makes the calls with its asynchronous client, and only uses this executor to
+         * send unprocessed operations again. By default, it uses {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+         *
+         * @param executor the executor that runs the BatchWriteItem calls and the retries of unprocessed operations
+         * @return a builder of this type
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public BulkWriteEnhancedRequest build() {
+            return new BulkWriteEnhancedRequest(this);
+        }
+    }
+}
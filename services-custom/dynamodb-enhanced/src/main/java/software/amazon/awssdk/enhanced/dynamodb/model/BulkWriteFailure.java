@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Describes an operation of a bulkWrite() that could not be written, as part of a {@link BulkWriteResult}.
+ * <p>
+ * An operation fails when the BatchWriteItem call that it was sent with fails, or when it is still unprocessed after the
+ * maximum number of attempts of the {@link BulkWriteEnhancedRequest}.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteFailure {
+    private final BulkWriteOperation<?> operation;
+    private final Throwable exception;
+    private final int attempts;
+
+    private BulkWriteFailure(BulkWriteOperation<?> operation, Throwable exception, int attempts) {
+        this.operation = operation;
+        this.exception = exception;
+        this.attempts = attempts;
+    }
+
+    /**
+     * Creates a failure of an operation.
+     *
+     * @param operation the operation that could not be written
+     * @param exception the reason the operation could not be written
+     * @param attempts the number of times the operation was sent
+     * @return a failure of the operation
+     */
+    public static BulkWriteFailure create(BulkWriteOperation<?> operation, Throwable exception, int attempts) {
+        return new BulkWriteFailure(operation, exception, attempts);
+    }
+
+    /**
+     * Returns the operation that could not be written.
+     */
+    public BulkWriteOperation<?> operation() {
+        return operation;
+    }
+
+    /**
+     * Returns the reason the operation could not be written.
+     */
+    public Throwable exception() {
+        return exception;
+    }
+
+    /**
+     * Returns the number of times the operation was sent to DynamoDb. This is 0 if the write request of the operation
+     * could not be created.
+     */
+    public int attempts() {
+        return attempts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteFailure that = (BulkWriteFailure) o;
+
+        return attempts == that.attempts
+               && Objects.equals(operation, that.operation)
+               && Objects.equals(exception, that.exception);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(operation);
+        result = 31 * result + Objects.hashCode(exception);
+        result = 31 * result + attempts;
+        return result;
+    }
+}
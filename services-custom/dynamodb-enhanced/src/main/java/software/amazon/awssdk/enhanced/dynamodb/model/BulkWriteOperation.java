@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A single put or delete action on a table, written by the bulkWrite() operation (such as
+ * {@link DynamoDbEnhancedClient#bulkWrite(BulkWriteEnhancedRequest)} or
+ * {@link DynamoDbEnhancedAsyncClient#bulkWrite(BulkWriteEnhancedRequest)}).
+ * <p>
+ * Use {@link #put(MappedTableResource, Object)} to put an item, and {@link #delete(MappedTableResource, Key)} or
+ * {@link #delete(MappedTableResource, Object)} to delete an item.
+ *
+ * @param <T> The type of the modelled object of the table.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteOperation<T> {
+    private final MappedTableResource<T> mappedTableResource;
+    private final T item;
+    private final Key key;
+
+    private BulkWriteOperation(MappedTableResource<T> mappedTableResource, T item, Key key) {
+        this.mappedTableResource = Validate.paramNotNull(mappedTableResource, "mappedTableResource");
+        this.item = item;
+        this.key = key;
+    }
+
+    /**
+     * Creates an operation that puts an item in a table, replacing any existing item with the same primary key.
+     *
+     * @param mappedTableResource the table to put the item in
+     * @param item the item to insert or overwrite in the database
+     * @param <T> The type of the modelled object of the table.
+     * @return a put operation
+     */
+    public static <T> BulkWriteOperation<T> put(MappedTableResource<T> mappedTableResource, T item) {
+        return new BulkWriteOperation<>(mappedTableResource, Validate.paramNotNull(item, "item"), null);
+    }
+
+    /**
+     * Creates an operation that deletes an item from a table.
+     *
+     * @param mappedTableResource the table to delete the item from
+     * @param key a {@link Key} to match the item to be deleted from the database
+     * @param <T> The type of the modelled object of the table.
+     * @return a delete operation
+     */
+    public static <T> BulkWriteOperation<T> delete(MappedTableResource<T> mappedTableResource, Key key) {
+        return new BulkWriteOperation<>(mappedTableResource, null, Validate.paramNotNull(key, "key"));
+    }
+
+    /**
+     * Creates an operation that deletes an item from a table.
+     *
+     * @param mappedTableResource the table to delete the item from
+     * @param keyItem an item that will have its key fields used to match a record to delete from the database
+     * @param <T> The type of the modelled object of the table.
+     * @return a delete operation
+     */
+    public static <T> BulkWriteOperation<T> delete(MappedTableResource<T> mappedTableResource, T keyItem) {
+        Validate.paramNotNull(mappedTableResource, "mappedTableResource");
+        return delete(mappedTableResource, mappedTableResource.keyFrom(Validate.paramNotNull(keyItem, "keyItem")));
+    }
+
+    /**
+     * Returns the table that this operation writes to.
+     */
+    public MappedTableResource<T> mappedTableResource() {
+        return mappedTableResource;
+    }
+
+    /**
+     * Returns the item to put, or null if this is a delete operation.
+     */
+    public T item() {
+        return item;
+    }
+
+    /**
+     * Returns the key of the item to delete, or null if this is a put operation.
+     */
+    public Key key() {
+        return key;
+    }
+
+    /**
+     * Returns true if this operation puts an item, and false if it deletes an item.
+     */
+    public boolean isPut() {
+        return item != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteOperation<?> that = (BulkWriteOperation<?>) o;
+
+        return Objects.equals(mappedTableResource, that.mappedTableResource)
+               && Objects.equals(item, that.item)
+               && Objects.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(mappedTableResource);
+        result = 31 * result + Objects.hashCode(item);
+        result = 31 * result + Objects.hashCode(key);
+        return result;
+    }
+}
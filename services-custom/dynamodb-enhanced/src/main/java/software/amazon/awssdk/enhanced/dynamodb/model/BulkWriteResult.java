@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+
+/**
+ * Defines the result of the bulkWrite() operation, such as
+ * {@link DynamoDbEnhancedClient#bulkWrite(BulkWriteEnhancedRequest)} or
+ * {@link DynamoDbEnhancedAsyncClient#bulkWrite(BulkWriteEnhancedRequest)}.
+ * <p>
+ * Every operation of the request is either written, and counted by {@link #writtenOperationCount()}, or failed, and
+ * described by one of the {@link #failures()}. Written operations are only counted, so that the result of writing a large
+ * number of items stays small.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteResult {
+    private final long writtenOperationCount;
+    private final List<BulkWriteFailure> failures;
+
+    private BulkWriteResult(Builder builder) {
+        this.writtenOperationCount = builder.writtenOperationCount;
+        this.failures = Collections.unmodifiableList(new ArrayList<>(builder.failures));
+    }
+
+    /**
+     * Creates a newly initialized builder for a result object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of operations that were written.
+     */
+    public long writtenOperationCount() {
+        return writtenOperationCount;
+    }
+
+    /**
+     * Returns the operations that could not be written, with the reason they could not be written.
+     */
+    public List<BulkWriteFailure> failures() {
+        return failures;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteResult that = (BulkWriteResult) o;
+
+        return writtenOperationCount == that.writtenOperationCount && failures.equals(that.failures);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(writtenOperationCount);
+        result = 31 * result + failures.hashCode();
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a result with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private long writtenOperationCount;
+        private List<BulkWriteFailure> failures = Collections.emptyList();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of operations that were written.
+         *
+         * @param writtenOperationCount the number of written operations
+         * @return a builder of this type
+         */
+        public Builder writtenOperationCount(long writtenOperationCount) {
+            this.writtenOperationCount = writtenOperationCount;
+            return this;
+        }
+
+        /**
+         * Sets the operations that could not be written.
+         *
+         * @param failures the failed operations
+         * @return a builder of this type
+         */
+        public Builder failures(List<BulkWriteFailure> failures) {
+            this.failures = failures;
+            return this;
+        }
+
+        public BulkWriteResult build() {
+            return new BulkWriteResult(this);
+        }
+    }
+}
@@ -39,6 +39,7 @@ public final class Page<T> {
     private final Integer count;
     private final Integer scannedCount;
     private final ConsumedCapacity consumedCapacity;
+    private final Integer segment;
 
     private Page(List<T> items, Map<String, AttributeValue> lastEvaluatedKey) {
         this.items = items;
@@ -46,6 +47,7 @@ public final class Page<T> {
         this.count = null;
         this.scannedCount = null;
         this.consumedCapacity = null;
+        this.segment = null;
     }
 
     private Page(Builder<T> builder) {
@@ -54,6 +56,7 @@ public final class Page<T> {
         this.count = builder.count;
         this.scannedCount = builder.scannedCount;
         this.consumedCapacity = builder.consumedCapacity;
+        this.segment = builder.segment;
     }
 
     /**
@@ -123,6 +126,16 @@ public final class Page<T> {
         return consumedCapacity;
     }
 
+    /**
+     * Returns the segment of the table that this page was scanned from, when it is the result of a parallel scan. The
+     * {@link #lastEvaluatedKey()} of the page can be used to resume the scan of this segment.
+     *
+     * @return The segment of the page, or null if the page is not the result of a parallel scan.
+     */
+    public Integer segment() {
+        return segment;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -146,6 +159,9 @@ public final class Page<T> {
         if (count != null ? ! count.equals(page.count) : page.count != null) {
             return false;
         }
+        if (segment != null ? ! segment.equals(page.segment) : page.segment != null) {
+            return false;
+        }
         return scannedCount != null ? scannedCount.equals(page.scannedCount) : page.scannedCount == null;
     }
 
@@ -156,6 +172,7 @@ public final class Page<T> {
         result = 31 * result + (consumedCapacity != null ? consumedCapacity.hashCode() : 0);
         result = 31 * result + (count != null ? count.hashCode() : 0);
         result = 31 * result + (scannedCount != null ? scannedCount.hashCode() : 0);
+        result = 31 * result + (segment != null ? segment.hashCode() : 0);
         return result;
     }
 
@@ -164,6 +181,7 @@ public final class Page<T> {
         return ToString.builder("Page")
                        .add("lastEvaluatedKey", lastEvaluatedKey)
                        .add("items", items)
+                       .add("segment", segment)
                        .build();
     }
 
@@ -177,6 +195,7 @@ public final class Page<T> {
         private Integer count;
         private Integer scannedCount;
         private ConsumedCapacity consumedCapacity;
+        private Integer segment;
 
         public Builder<T> items(List<T> items) {
             this.items = new ArrayList<>(items);
@@ -203,6 +222,11 @@ public final class Page<T> {
             return this;
         }
 
+        public Builder<T> segment(Integer segment) {
+            this.segment = segment;
+            return this;
+        }
+
         public Page<T> build() {
             return new Page<T>(this);
         }
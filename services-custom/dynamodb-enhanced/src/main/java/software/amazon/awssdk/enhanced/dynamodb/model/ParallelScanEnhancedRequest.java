@@ -0,0 +1,342 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used to scan a DynamoDb table in parallel segments using the parallelScan() operation (such as
+ * {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)} or
+ * {@link DynamoDbAsyncTable#parallelScan(ParallelScanEnhancedRequest)}).
+ * <p>
+ * The total number of segments is required. All other parameters are optional.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanEnhancedRequest {
+    private static final int MAX_TOTAL_SEGMENTS = 1_000_000;
+    private static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    private final ScanEnhancedRequest scanRequest;
+    private final int totalSegments;
+    private final int maxConcurrency;
+    private final List<Integer> segments;
+    private final Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys;
+    private final ParallelScanFailurePolicy failurePolicy;
+    private final Executor executor;
+
+    private ParallelScanEnhancedRequest(Builder builder) {
+        this.scanRequest = builder.scanRequest != null ? builder.scanRequest : ScanEnhancedRequest.builder().build();
+        Validate.isTrue(scanRequest.segment() == null && scanRequest.totalSegments() == null,
+                        "The segments of a parallel scan must be configured on the parallel scan request, not on the scan "
+                        + "request.");
+        Validate.isTrue(scanRequest.exclusiveStartKey() == null,
+                        "The exclusive start keys of a parallel scan must be configured per segment with exclusiveStartKeys.");
+
+        Validate.notNull(builder.totalSegments, "totalSegments must be configured.");
+        Validate.isTrue(builder.totalSegments >= 1 && builder.totalSegments <= MAX_TOTAL_SEGMENTS,
+                        "totalSegments must be between 1 and %s, but was %s.", MAX_TOTAL_SEGMENTS, builder.totalSegments);
+        this.totalSegments = builder.totalSegments;
+
+        this.segments = builder.segments != null
+                        ? Collections.unmodifiableList(new ArrayList<>(builder.segments))
+                        : Collections.unmodifiableList(IntStream.range(0, totalSegments).boxed().collect(Collectors.toList()));
+        segments.forEach(this::validateSegment);
+
+        this.exclusiveStartKeys = builder.exclusiveStartKeys != null
+                                  ? Collections.unmodifiableMap(new HashMap<>(builder.exclusiveStartKeys))
+                                  : Collections.emptyMap();
+        exclusiveStartKeys.keySet().forEach(this::validateSegment);
+
+        this.maxConcurrency = builder.maxConcurrency != null
+                              ? Validate.isPositive(builder.maxConcurrency, "maxConcurrency")
+                              : Math.min(totalSegments, DEFAULT_MAX_CONCURRENCY);
+        this.failurePolicy = builder.failurePolicy != null ? builder.failurePolicy
+                                                           : ParallelScanFailurePolicy.CANCEL_OTHER_SEGMENTS;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return builder().scanRequest(scanRequest)
+                        .totalSegments(totalSegments)
+                        .maxConcurrency(maxConcurrency)
+                        .segments(segments)
+                        .exclusiveStartKeys(exclusiveStartKeys)
+                        .failurePolicy(failurePolicy)
+                        .executor(executor);
+    }
+
+    /**
+     * Returns the scan request that every segment is scanned with.
+     */
+    public ScanEnhancedRequest scanRequest() {
+        return scanRequest;
+    }
+
+    /**
+     * Returns the total number of segments that the table is divided into.
+     */
+    public int totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the maximum number of segments that are scanned at the same time.
+     */
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the segments that are scanned, in the order their scans are started.
+     */
+    public List<Integer> segments() {
+        return segments;
+    }
+
+    /**
+     * Returns the primary keys after which the scans of segments are resumed, by segment.
+     */
+    public Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys() {
+        return exclusiveStartKeys;
+    }
+
+    /**
+     * Returns the policy that is applied when the scan of a segment fails.
+     */
+    public ParallelScanFailurePolicy failurePolicy() {
+        return failurePolicy;
+    }
+
+    /**
+     * Returns the executor that runs the scans of the segments of a synchronous table, or null if it was not configured.
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Returns the scan request of one segment, which resumes the scan of the segment from its exclusive start key if it has
+     * one.
+     *
+     * @param segment the segment to scan
+     * @return the scan request of the segment
+     */
+    public ScanEnhancedRequest segmentScanRequest(int segment) {
+        validateSegment(segment);
+        return scanRequest.toBuilder()
+                          .segment(segment)
+                          .totalSegments(totalSegments)
+                          .exclusiveStartKey(exclusiveStartKeys.get(segment))
+                          .build();
+    }
+
+    private void validateSegment(Integer segment) {
+        Validate.isTrue(segment != null && segment >= 0 && segment < totalSegments,
+                        "Segment %s must be at least 0 and less than the total number of segments, %s.", segment, totalSegments);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanEnhancedRequest that = (ParallelScanEnhancedRequest) o;
+
+        return totalSegments == that.totalSegments
+               && maxConcurrency == that.maxConcurrency
+               && scanRequest.equals(that.scanRequest)
+               && segments.equals(that.segments)
+               && exclusiveStartKeys.equals(that.exclusiveStartKeys)
+               && failurePolicy == that.failurePolicy
+               && Objects.equals(executor, that.executor);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = scanRequest.hashCode();
+        result = 31 * result + totalSegments;
+        result = 31 * result + maxConcurrency;
+        result = 31 * result + segments.hashCode();
+        result = 31 * result + exclusiveStartKeys.hashCode();
+        result = 31 * result + failurePolicy.hashCode();
+        result = 31 * result + Objects.hashCode(executor);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private ScanEnhancedRequest scanRequest;
+        private Integer totalSegments;
+        private Integer maxConcurrency;
+        private List<Integer> segments;
+        private Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys;
+        private ParallelScanFailurePolicy failurePolicy;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * The scan request that every segment is scanned with, for example to configure a filter expression or the
+         * attributes to project. The segment, the total number of segments and the exclusive start key of the scan request
+         * must not be set, because they are configured per segment by the parallel scan.
+         *
+         * @param scanRequest the scan request of the segments
+         * @return a builder of this type
+         */
+        public Builder scanRequest(ScanEnhancedRequest scanRequest) {
+            this.scanRequest = scanRequest;
+            return this;
+        }
+
+        /**
+         * The total number of segments that the table is divided into, between 1 and 1,000,000. This is required.
+         * <p>
+         * DynamoDb divides the items of the table evenly between the segments, so a table should be divided into more
+         * segments as it grows. To resume a parallel scan, the same total number of segments must be used.
+         *
+         * @param totalSegments the total number of segments to divide the table into
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * The maximum number of segments that are scanned at the same time. When the scan of a segment completes, the scan
+         * of the next segment is started. By default, up to 16 segments are scanned at the same time.
+         *
+         * @param maxConcurrency the maximum number of segments scanned at the same time
+         * @return a builder of this type
+         */
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * The segments that are scanned, in the order their scans are started. By default, all the segments are scanned.
+         * <p>
+         * To resume a parallel scan, leave out the segments whose last page had no {@link Page#lastEvaluatedKey()}, because
+         * their scan was complete.
+         *
+         * @param segments the segments to scan
+         * @return a builder of this type
+         */
+        public Builder segments(Collection<Integer> segments) {
+            this.segments = segments != null ? new ArrayList<>(new LinkedHashSet<>(segments)) : null;
+            return this;
+        }
+
+        /**
+         * The primary keys after which the scans of segments are resumed, by segment. The scans of the other segments start
+         * from the beginning of the segment.
+         * <p>
+         * To resume a parallel scan, use the {@link Page#lastEvaluatedKey()} of the last page that was received for each
+         * {@link Page#segment()}.
+         *
+         * @param exclusiveStartKeys the primary keys after which the scans of segments are resumed, by segment
+         * @return a builder of this type
+         */
+        public Builder exclusiveStartKeys(Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys) {
+            this.exclusiveStartKeys = exclusiveStartKeys != null ? new HashMap<>(exclusiveStartKeys) : null;
+            return this;
+        }
+
+        /**
+         * The primary key after which the scan of a segment is resumed. This is additive to
+         * {@link #exclusiveStartKeys(Map)}.
+         *
+         * @param segment the segment whose scan is resumed
+         * @param exclusiveStartKey the primary key after which the scan of the segment is resumed
+         * @return a builder of this type
+         */
+        public Builder addExclusiveStartKey(int segment, Map<String, AttributeValue> exclusiveStartKey) {
+            if (exclusiveStartKeys == null) {
+                exclusiveStartKeys = new HashMap<>();
+            }
+            exclusiveStartKeys.put(segment, exclusiveStartKey);
+            return this;
+        }
+
+        /**
+         * What the parallel scan does when the scan of a segment fails. By default, the scans of the other segments are
+         * cancelled, see {@link ParallelScanFailurePolicy#CANCEL_OTHER_SEGMENTS}.
+         *
+         * @param failurePolicy the policy applied when the scan of a segment fails
+         * @return a builder of this type
+         */
+        public Builder failurePolicy(ParallelScanFailurePolicy failurePolicy) {
+            this.failurePolicy = failurePolicy;
+            return this;
+        }
+
+        /**
+         * The executor that runs the scans of the segments of a {@link DynamoDbTable}. Each segment being scanned occupies
+         * a thread of the executor until its scan completes. By default, a thread is created for each of the
+         * {@link #maxConcurrency(Integer)} segments scanned at the same time, and stopped when the parallel scan completes.
+         * <p>
+         * This is not used by a {@link DynamoDbAsyncTable}, which scans the segments with its asynchronous client.
+         *
+         * @param executor the executor that runs the scans of the segments
+         * @return a builder of this type
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ParallelScanEnhancedRequest build() {
+            return new ParallelScanEnhancedRequest(this);
+        }
+    }
+}
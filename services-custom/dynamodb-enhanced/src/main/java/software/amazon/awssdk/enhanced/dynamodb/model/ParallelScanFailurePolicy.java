@@ -0,0 +1,35 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * Defines what a parallel scan does when the scan of one of its segments fails. See
+ * {@link ParallelScanEnhancedRequest.Builder#failurePolicy(ParallelScanFailurePolicy)}.
+ */
+@SdkPublicApi
+public enum ParallelScanFailurePolicy {
+    /**
+     * Stop scanning the other segments and fail the parallel scan as soon as the scan of a segment fails.
+     */
+    CANCEL_OTHER_SEGMENTS,
+
+    /**
+     * Scan the other segments to completion, then fail the parallel scan with the first failure.
+     */
+    COMPLETE_OTHER_SEGMENTS
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteFailure;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+public class AsyncBulkWriteTest extends LocalDynamoDbAsyncTestBase {
+    private static class Record {
+        private String id;
+        private Integer value;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        private Integer getValue() {
+            return value;
+        }
+
+        private Record setValue(Integer value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id) && Objects.equals(value, record.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, value);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .addAttribute(Integer.class, a -> a.name("value")
+                                                            .getter(Record::getValue)
+                                                            .setter(Record::setValue))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 60)
+                 .mapToObj(i -> new Record().setId("id-value-" + i).setValue(i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedAsyncClient enhancedAsyncClient =
+        DynamoDbEnhancedAsyncClient.builder()
+                                   .dynamoDbClient(getDynamoDbAsyncClient())
+                                   .build();
+
+    private DynamoDbAsyncTable<Record> firstTable = enhancedAsyncClient.table(getConcreteTableName("first-table"), TABLE_SCHEMA);
+
+    private DynamoDbAsyncTable<Record> secondTable = enhancedAsyncClient.table(getConcreteTableName("second-table"),
+                                                                               TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        firstTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput())).join();
+        secondTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput())).join();
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbAsyncClient().deleteTable(DeleteTableRequest.builder()
+                                                               .tableName(getConcreteTableName("first-table"))
+                                                               .build()).join();
+        getDynamoDbAsyncClient().deleteTable(DeleteTableRequest.builder()
+                                                               .tableName(getConcreteTableName("second-table"))
+                                                               .build()).join();
+    }
+
+    @Test
+    public void bulkWrite_putsTheItemsInEveryTable() {
+        List<BulkWriteOperation<?>> operations = new ArrayList<>();
+        RECORDS.forEach(record -> operations.add(BulkWriteOperation.put(firstTable, record)));
+        RECORDS.subList(0, 10).forEach(record -> operations.add(BulkWriteOperation.put(secondTable, record)));
+
+        BulkWriteResult result = enhancedAsyncClient.bulkWrite(r -> r.operations(SdkPublisher.fromIterable(operations))
+                                                                     .maxConcurrency(2))
+                                                    .join();
+
+        assertThat(result.writtenOperationCount(), is(70L));
+        assertThat(result.failures(), hasSize(0));
+        assertThat(drainPublisher(firstTable.scan().items(), RECORDS.size()), containsInAnyOrder(RECORDS.toArray()));
+        assertThat(drainPublisher(secondTable.scan().items(), 10),
+                   containsInAnyOrder(RECORDS.subList(0, 10).toArray()));
+    }
+
+    @Test
+    public void bulkWrite_deletesTheItems() {
+        RECORDS.forEach(record -> firstTable.putItem(r -> r.item(record)).join());
+        List<BulkWriteOperation<?>> operations = new ArrayList<>();
+        RECORDS.subList(0, 30).forEach(record -> operations.add(BulkWriteOperation.delete(firstTable, record)));
+        operations.add(BulkWriteOperation.delete(firstTable, Key.builder().partitionValue("id-value-30").build()));
+
+        BulkWriteResult result = enhancedAsyncClient.bulkWrite(r -> r.operations(SdkPublisher.fromIterable(operations))).join();
+
+        assertThat(result.writtenOperationCount(), is(31L));
+        assertThat(drainPublisher(firstTable.scan().items(), RECORDS.size() - 31),
+                   containsInAnyOrder(RECORDS.subList(31, RECORDS.size()).toArray()));
+    }
+
+    @Test
+    public void bulkWrite_whenTheTableDoesNotExist_reportsTheFailedOperations() {
+        DynamoDbAsyncTable<Record> missingTable = enhancedAsyncClient.table(getConcreteTableName("missing-table"),
+                                                                            TABLE_SCHEMA);
+        List<BulkWriteOperation<?>> operations = RECORDS.stream()
+                                                        .map(record -> BulkWriteOperation.put(missingTable, record))
+                                                        .collect(Collectors.toList());
+
+        BulkWriteResult result = enhancedAsyncClient.bulkWrite(r -> r.operations(SdkPublisher.fromIterable(operations))).join();
+
+        assertThat(result.writtenOperationCount(), is(0L));
+        assertThat(result.failures().stream().map(BulkWriteFailure::operation).collect(Collectors.toList()),
+                   containsInAnyOrder(operations.toArray()));
+        assertThat(result.failures().stream().map(BulkWriteFailure::exception).collect(Collectors.toList()),
+                   everyItem(instanceOf(ResourceNotFoundException.class)));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanFailurePolicy;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+public class AsyncParallelScanTest extends LocalDynamoDbAsyncTestBase {
+    private static class Record {
+        private String id;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(id);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 20)
+                 .mapToObj(i -> new Record().setId("id-value-" + i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedAsyncClient enhancedAsyncClient =
+        DynamoDbEnhancedAsyncClient.builder()
+                                   .dynamoDbClient(getDynamoDbAsyncClient())
+                                   .build();
+
+    private DynamoDbAsyncTable<Record> mappedTable = enhancedAsyncClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput())).join();
+        RECORDS.forEach(record -> mappedTable.putItem(r -> r.item(record)).join());
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbAsyncClient().deleteTable(DeleteTableRequest.builder()
+                                                               .tableName(getConcreteTableName("table-name"))
+                                                               .build()).join();
+    }
+
+    @Test
+    public void parallelScan_publishesTheItemsOfAllSegments() {
+        PagePublisher<Record> publisher = mappedTable.parallelScan(r -> r.totalSegments(4).maxConcurrency(2));
+        List<Record> items = drainPublisher(publisher.items(), RECORDS.size());
+
+        assertThat(items, containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScan_pagesRecordTheirSegment() {
+        BufferingSubscriber<Page<Record>> subscriber = new BufferingSubscriber<>();
+        mappedTable.parallelScan(r -> r.totalSegments(4).scanRequest(ScanEnhancedRequest.builder().limit(3).build()))
+                   .subscribe(subscriber);
+        subscriber.waitForCompletion(5000L);
+
+        assertThat(subscriber.isCompleted(), is(true));
+        assertThat(subscriber.bufferedItems().stream().map(Page::segment).collect(Collectors.toSet()),
+                   containsInAnyOrder(0, 1, 2, 3));
+        assertThat(subscriber.bufferedItems().stream().mapToInt(page -> page.items().size()).sum(), is(RECORDS.size()));
+    }
+
+    @Test
+    public void parallelScan_withExclusiveStartKey_resumesTheSegment() {
+        List<Page<Record>> firstPages = drainPublisher(mappedTable.scan(r -> r.segment(0).totalSegments(2).limit(1)).limit(1),
+                                                       1);
+        Page<Record> firstPage = firstPages.get(0);
+        Map<String, AttributeValue> lastEvaluatedKey = firstPage.lastEvaluatedKey();
+
+        PagePublisher<Record> publisher =
+            mappedTable.parallelScan(r -> r.totalSegments(2).addExclusiveStartKey(0, lastEvaluatedKey));
+        List<Record> items = drainPublisher(publisher.items(), RECORDS.size() - 1);
+
+        assertThat(firstPage.items(), hasSize(1));
+        assertThat(items, not(hasItem(firstPage.items().get(0))));
+    }
+
+    @Test
+    public void parallelScan_whenTheTableDoesNotExist_signalsTheFailure() {
+        DynamoDbAsyncTable<Record> missingTable = enhancedAsyncClient.table(getConcreteTableName("missing-table"),
+                                                                            TABLE_SCHEMA);
+        BufferingSubscriber<Page<Record>> subscriber = new BufferingSubscriber<>();
+        missingTable.parallelScan(r -> r.totalSegments(4).failurePolicy(ParallelScanFailurePolicy.COMPLETE_OTHER_SEGMENTS))
+                    .subscribe(subscriber);
+        subscriber.waitForCompletion(5000L);
+
+        assertThat(subscriber.bufferedItems(), hasSize(0));
+        assertThat(subscriber.bufferedError(), anyOf(instanceOf(ResourceNotFoundException.class),
+                                                     hasProperty("cause", instanceOf(ResourceNotFoundException.class))));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primarySortKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchLoadEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+public class BatchLoadTest extends LocalDynamoDbSyncTestBase {
+    private static class Record {
+        private Integer id;
+        private Integer sort;
+        private Integer value;
+
+        private Integer getId() {
+            return id;
+        }
+
+        private Record setId(Integer id) {
+            this.id = id;
+            return this;
+        }
+
+        private Integer getSort() {
+            return sort;
+        }
+
+        private Record setSort(Integer sort) {
+            this.sort = sort;
+            return this;
+        }
+
+        private Integer getValue() {
+            return value;
+        }
+
+        private Record setValue(Integer value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id) && Objects.equals(sort, record.sort) && Objects.equals(value, record.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, sort, value);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(Integer.class, a -> a.name("id")
+                                                            .getter(Record::getId)
+                                                            .setter(Record::setId)
+                                                            .tags(primaryPartitionKey()))
+                         .addAttribute(Integer.class, a -> a.name("sort")
+                                                            .getter(Record::getSort)
+                                                            .setter(Record::setSort)
+                                                            .tags(primarySortKey()))
+                         .addAttribute(Integer.class, a -> a.name("value")
+                                                            .getter(Record::getValue)
+                                                            .setter(Record::setValue))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 250)
+                 .mapToObj(i -> new Record().setId(i).setSort(i % 3).setValue(i * 2))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedClient enhancedClient =
+        DynamoDbEnhancedClient.builder()
+                              .dynamoDbClient(getDynamoDbClient())
+                              .build();
+
+    private DynamoDbTable<Record> table = enhancedClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        table.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput()));
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbClient().deleteTable(DeleteTableRequest.builder()
+                                                          .tableName(getConcreteTableName("table-name"))
+                                                          .build());
+    }
+
+    @Test
+    public void batchLoad_loadsEveryItem() {
+        RECORDS.forEach(record -> table.putItem(r -> r.item(record)));
+        List<Key> keys = RECORDS.stream().map(this::keyOf).collect(Collectors.toList());
+
+        Map<Key, Record> items = enhancedClient.batchLoad(keys, table);
+
+        assertThat(items.size(), is(RECORDS.size()));
+        RECORDS.forEach(record -> assertThat(items.get(keyOf(record)), is(record)));
+    }
+
+    @Test
+    public void batchLoad_removesDuplicateKeysAndLeavesOutMissingItems() {
+        RECORDS.subList(0, 10).forEach(record -> table.putItem(r -> r.item(record)));
+        List<Key> keys = new ArrayList<>();
+        RECORDS.subList(0, 20).forEach(record -> keys.add(keyOf(record)));
+        RECORDS.subList(0, 20).forEach(record -> keys.add(keyOf(record)));
+
+        Map<Key, Record> items = enhancedClient.batchLoad(keys, table);
+
+        assertThat(items.size(), is(10));
+        RECORDS.subList(0, 10).forEach(record -> assertThat(items.get(keyOf(record)), is(record)));
+    }
+
+    @Test
+    public void batchLoad_withConsistentRead() {
+        RECORDS.subList(0, 5).forEach(record -> table.putItem(r -> r.item(record)));
+        List<Key> keys = RECORDS.subList(0, 5).stream().map(this::keyOf).collect(Collectors.toList());
+
+        Map<Key, Record> items = enhancedClient.batchLoad(BatchLoadEnhancedRequest.builder(Record.class)
+                                                                                  .mappedTableResource(table)
+                                                                                  .keys(keys)
+                                                                                  .consistentRead(true)
+                                                                                  .maxConcurrency(2)
+                                                                                  .build());
+
+        assertThat(items.size(), is(5));
+    }
+
+    private Key keyOf(Record record) {
+        return Key.builder().partitionValue(record.getId()).sortValue(record.getSort()).build();
+    }
+}
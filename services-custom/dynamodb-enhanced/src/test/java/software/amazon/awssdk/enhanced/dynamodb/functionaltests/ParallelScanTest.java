@@ -0,0 +1,217 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+public class ParallelScanTest extends LocalDynamoDbSyncTestBase {
+    private static class Record {
+        private String id;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(id);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 20)
+                 .mapToObj(i -> new Record().setId("id-value-" + i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
+                                                                          .dynamoDbClient(getDynamoDbClient())
+                                                                          .build();
+
+    private DynamoDbTable<Record> mappedTable = enhancedClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput()));
+        RECORDS.forEach(record -> mappedTable.putItem(r -> r.item(record)));
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbClient().deleteTable(DeleteTableRequest.builder()
+                                                          .tableName(getConcreteTableName("table-name"))
+                                                          .build());
+    }
+
+    @Test
+    public void parallelScan_returnsTheItemsOfAllSegments() {
+        List<Page<Record>> pages = mappedTable.parallelScan(r -> r.totalSegments(4).maxConcurrency(2)).stream()
+                                              .collect(Collectors.toList());
+
+        List<Record> items = pages.stream().flatMap(page -> page.items().stream()).collect(Collectors.toList());
+        assertThat(items, containsInAnyOrder(RECORDS.toArray()));
+        assertThat(pages.stream().map(Page::segment).collect(Collectors.toSet()), containsInAnyOrder(0, 1, 2, 3));
+    }
+
+    @Test
+    public void parallelScan_withExecutor_returnsTheItemsOfAllSegments() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Record> items = mappedTable.parallelScan(r -> r.totalSegments(3)
+                                                                .scanRequest(ScanEnhancedRequest.builder().limit(2).build())
+                                                                .executor(executor))
+                                            .items().stream()
+                                            .collect(Collectors.toList());
+
+            assertThat(items, containsInAnyOrder(RECORDS.toArray()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelScan_streamClosed_stopsTheWorkers() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Page<Record> firstPage;
+        try (Stream<Page<Record>> pages = mappedTable.parallelScan(r -> r.totalSegments(2)
+                                                                          .scanRequest(onePagePerItem())
+                                                                          .executor(executor))
+                                                     .stream()) {
+            firstPage = pages.findFirst().get();
+        }
+        executor.shutdown();
+
+        assertThat(firstPage.items(), hasSize(1));
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    public void parallelScan_itemStreamClosed_stopsTheWorkers() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (Stream<Record> items = mappedTable.parallelScan(r -> r.totalSegments(2)
+                                                                   .scanRequest(onePagePerItem())
+                                                                   .executor(executor))
+                                               .items().stream()) {
+            assertThat(items.findFirst().isPresent(), is(true));
+        }
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    public void parallelScan_iteratorClosed_stopsTheWorkers() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Iterator<Page<Record>> pages = mappedTable.parallelScan(r -> r.totalSegments(2)
+                                                                      .scanRequest(onePagePerItem())
+                                                                      .executor(executor))
+                                                  .iterator();
+        pages.next();
+        ((SdkAutoCloseable) pages).close();
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS), is(true));
+        assertThat(pages.hasNext(), is(false));
+    }
+
+    @Test
+    public void parallelScan_withExclusiveStartKey_resumesTheSegment() {
+        Page<Record> firstPage = mappedTable.scan(r -> r.segment(0).totalSegments(2).limit(1)).iterator().next();
+        Map<String, AttributeValue> lastEvaluatedKey = firstPage.lastEvaluatedKey();
+
+        List<Record> items = mappedTable.parallelScan(r -> r.totalSegments(2).addExclusiveStartKey(0, lastEvaluatedKey))
+                                        .items().stream()
+                                        .collect(Collectors.toList());
+
+        assertThat(firstPage.items(), hasSize(1));
+        assertThat(items, not(hasItem(firstPage.items().get(0))));
+        assertThat(items, hasSize(RECORDS.size() - 1));
+    }
+
+    @Test
+    public void parallelScan_withSegments_onlyScansThoseSegments() {
+        List<Page<Record>> pages = mappedTable.parallelScan(r -> r.totalSegments(4).segments(Arrays.asList(1, 3)))
+                                              .stream()
+                                              .collect(Collectors.toList());
+
+        assertThat(pages.stream().map(Page::segment).collect(Collectors.toSet()), containsInAnyOrder(1, 3));
+    }
+
+    @Test
+    public void parallelScan_whenTheTableDoesNotExist_throwsTheFailure() {
+        DynamoDbTable<Record> missingTable = enhancedClient.table(getConcreteTableName("missing-table"), TABLE_SCHEMA);
+
+        assertThatExceptionOfType(ResourceNotFoundException.class)
+            .isThrownBy(() -> missingTable.parallelScan(r -> r.totalSegments(4)).stream().count());
+    }
+
+    private static ScanEnhancedRequest onePagePerItem() {
+        return ScanEnhancedRequest.builder().limit(1).build();
+    }
+}
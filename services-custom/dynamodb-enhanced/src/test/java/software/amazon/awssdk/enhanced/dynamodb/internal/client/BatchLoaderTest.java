@@ -0,0 +1,304 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchLoadEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+public class BatchLoaderTest {
+    private static class Record {
+        private String id;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+    }
+
+    private static class NumberRecord {
+        private BigDecimal id;
+
+        private BigDecimal getId() {
+            return id;
+        }
+
+        private NumberRecord setId(BigDecimal id) {
+            this.id = id;
+            return this;
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .build();
+
+    private static final TableSchema<NumberRecord> NUMBER_TABLE_SCHEMA =
+        StaticTableSchema.builder(NumberRecord.class)
+                         .newItemSupplier(NumberRecord::new)
+                         .addAttribute(BigDecimal.class, a -> a.name("id")
+                                                               .getter(NumberRecord::getId)
+                                                               .setter(NumberRecord::setId)
+                                                               .tags(primaryPartitionKey()))
+                         .build();
+
+    private final DefaultDynamoDbEnhancedClient enhancedClient =
+        DefaultDynamoDbEnhancedClient.builder().dynamoDbClient(mock(DynamoDbClient.class)).build();
+
+    private final DynamoDbTable<Record> table = enhancedClient.table("table-name", TABLE_SCHEMA);
+
+    private final List<BatchGetItemRequest> requests = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void load_splitsTheKeysIntoBatchesOf100() {
+        Map<Key, Record> items = load(keys(250), 10, BatchLoaderTest::found);
+
+        assertThat(items.size(), is(250));
+        assertThat(batchSizes(), contains(100, 100, 50));
+    }
+
+    @Test
+    public void load_removesDuplicateKeys() {
+        List<Key> keys = new ArrayList<>(keys(3));
+        keys.addAll(keys(3));
+
+        Map<Key, Record> items = load(keys, 10, BatchLoaderTest::found);
+
+        assertThat(items.size(), is(3));
+        assertThat(batchSizes(), contains(3));
+    }
+
+    @Test
+    public void load_mapsTheItemsToTheirKeys() {
+        Map<Key, Record> items = load(keys(3), 10, BatchLoaderTest::found);
+
+        assertThat(items.get(key("1")).getId(), is("1"));
+    }
+
+    @Test
+    public void load_mapsItemsWithANumericKeyInAnotherFormToTheirKeys() {
+        Key key = Key.builder().partitionValue(1).build();
+        BatchLoadEnhancedRequest<NumberRecord> request =
+            BatchLoadEnhancedRequest.builder(NumberRecord.class)
+                                    .mappedTableResource(enhancedClient.table("table-name", NUMBER_TABLE_SCHEMA))
+                                    .keys(singletonList(key))
+                                    .build();
+        Map<String, AttributeValue> item = singletonMap("id", AttributeValue.builder().n("1.0").build());
+
+        Map<Key, NumberRecord> items = new BatchLoader<>(request, r -> CompletableFuture.completedFuture(
+            BatchGetItemResponse.builder().responses(singletonMap("table-name", singletonList(item))).build()), Runnable::run)
+            .load().join();
+
+        assertThat(items.get(key).getId(), is(new BigDecimal("1.0")));
+    }
+
+    @Test
+    public void load_leavesOutItemsThatDoNotExist() {
+        Map<Key, Record> items = load(keys(3), 10, r -> BatchGetItemResponse.builder().build());
+
+        assertThat(items.isEmpty(), is(true));
+    }
+
+    @Test
+    public void load_sendsUnprocessedKeysAgain() {
+        Map<Key, Record> items = load(keys(3), 10, r -> requests.size() == 1 ? unprocessed(r, 1) : found(r));
+
+        assertThat(items.size(), is(3));
+        assertThat(batchSizes(), contains(3, 1));
+        assertThat(requestedKeys(requests.get(1)), is(requestedKeys(requests.get(0)).subList(0, 1)));
+    }
+
+    @Test
+    public void load_sendsUnprocessedKeysAgainOnTheRetryExecutor() {
+        ExecutorService retryExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "retry-thread"));
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        BatchLoadEnhancedRequest<Record> request = BatchLoadEnhancedRequest.builder(Record.class)
+                                                                           .mappedTableResource(table)
+                                                                           .keys(keys(1))
+                                                                           .backoffStrategy(FixedDelayBackoffStrategy.create(
+                                                                               Duration.ofMillis(1)))
+                                                                           .build();
+        try {
+            Map<Key, Record> items = new BatchLoader<>(request, r -> {
+                requests.add(r);
+                threads.add(Thread.currentThread().getName());
+                return CompletableFuture.completedFuture(requests.size() == 1 ? unprocessed(r, 1) : found(r));
+            }, retryExecutor).load().join();
+
+            assertThat(items.size(), is(1));
+            assertThat(threads, hasSize(2));
+            assertThat(threads.get(1), is("retry-thread"));
+        } finally {
+            retryExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void load_failsWhenKeysAreStillUnprocessedAfterTheMaxAttempts() {
+        assertThatThrownBy(() -> load(keys(1), 3, r -> unprocessed(r, 1)))
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(SdkClientException.class);
+        assertThat(requests, hasSize(3));
+    }
+
+    @Test
+    public void load_failsWhenACallFails() {
+        RuntimeException exception = new RuntimeException("call failed");
+
+        assertThatThrownBy(() -> load(keys(250), 10, r -> {
+            throw exception;
+        })).hasCause(exception);
+        assertThat(requests, hasSize(1));
+    }
+
+    @Test
+    public void load_sendsUpToMaxConcurrencyBatchesAtTheSameTime() {
+        List<CompletableFuture<BatchGetItemResponse>> responses = Collections.synchronizedList(new ArrayList<>());
+        BatchLoadEnhancedRequest<Record> request = BatchLoadEnhancedRequest.builder(Record.class)
+                                                                           .mappedTableResource(table)
+                                                                           .keys(keys(400))
+                                                                           .maxConcurrency(2)
+                                                                           .build();
+
+        CompletableFuture<Map<Key, Record>> result = new BatchLoader<>(request, r -> {
+            requests.add(r);
+            CompletableFuture<BatchGetItemResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        }, Runnable::run).load();
+
+        assertThat(responses, hasSize(2));
+        responses.get(0).complete(found(requests.get(0)));
+        assertThat(responses, hasSize(3));
+        responses.get(1).complete(found(requests.get(1)));
+        responses.get(2).complete(found(requests.get(2)));
+        assertThat(responses, hasSize(4));
+        responses.get(3).complete(found(requests.get(3)));
+
+        assertThat(result.join().size(), is(400));
+    }
+
+    @Test
+    public void load_passesConsistentRead() {
+        BatchLoadEnhancedRequest<Record> request = BatchLoadEnhancedRequest.builder(Record.class)
+                                                                           .mappedTableResource(table)
+                                                                           .keys(keys(1))
+                                                                           .consistentRead(true)
+                                                                           .build();
+
+        new BatchLoader<>(request, r -> {
+            requests.add(r);
+            return CompletableFuture.completedFuture(found(r));
+        }, Runnable::run).load().join();
+
+        assertThat(requests.get(0).requestItems().get("table-name").consistentRead(), is(true));
+    }
+
+    private Map<Key, Record> load(List<Key> keys, int maxAttempts,
+                                  Function<BatchGetItemRequest, BatchGetItemResponse> batchGetItem) {
+        BatchLoadEnhancedRequest<Record> request = BatchLoadEnhancedRequest.builder(Record.class)
+                                                                           .mappedTableResource(table)
+                                                                           .keys(keys)
+                                                                           .maxConcurrency(1)
+                                                                           .maxAttempts(maxAttempts)
+                                                                           .backoffStrategy(FixedDelayBackoffStrategy.create(
+                                                                               Duration.ofMillis(1)))
+                                                                           .build();
+        return new BatchLoader<>(request, r -> {
+            requests.add(r);
+            return CompletableFuture.completedFuture(batchGetItem.apply(r));
+        }, Runnable::run).load().join();
+    }
+
+    private List<Integer> batchSizes() {
+        return requests.stream()
+                       .map(r -> requestedKeys(r).size())
+                       .collect(Collectors.toList());
+    }
+
+    private static List<Map<String, AttributeValue>> requestedKeys(BatchGetItemRequest request) {
+        return request.requestItems().get("table-name").keys();
+    }
+
+    private static List<Key> keys(int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> key(String.valueOf(i)))
+                        .collect(Collectors.toList());
+    }
+
+    private static Key key(String id) {
+        return Key.builder().partitionValue(id).build();
+    }
+
+    private static BatchGetItemResponse found(BatchGetItemRequest request) {
+        return BatchGetItemResponse.builder()
+                                   .responses(singletonMap("table-name", requestedKeys(request)))
+                                   .build();
+    }
+
+    private static BatchGetItemResponse unprocessed(BatchGetItemRequest request, int count) {
+        List<Map<String, AttributeValue>> keys = requestedKeys(request);
+        return BatchGetItemResponse.builder()
+                                   .responses(singletonMap("table-name", keys.subList(count, keys.size())))
+                                   .unprocessedKeys(singletonMap("table-name",
+                                                                 KeysAndAttributes.builder()
+                                                                                  .keys(keys.subList(0, count))
+                                                                                  .build()))
+                                   .build();
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteFailure;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+public class BulkWriterTest {
+    private static class Record {
+        private String id;
+        private String data;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        private String getData() {
+            return data;
+        }
+
+        private Record setData(String data) {
+            this.data = data;
+            return this;
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .addAttribute(String.class, a -> a.name("data")
+                                                           .getter(Record::getData)
+                                                           .setter(Record::setData))
+                         .build();
+
+    private final DefaultDynamoDbEnhancedClient enhancedClient =
+        DefaultDynamoDbEnhancedClient.builder().dynamoDbClient(mock(DynamoDbClient.class)).build();
+
+    private final DynamoDbTable<Record> firstTable = enhancedClient.table("first-table", TABLE_SCHEMA);
+
+    private final DynamoDbTable<Record> secondTable = enhancedClient.table("second-table", TABLE_SCHEMA);
+
+    private final List<BatchWriteItemRequest> requests = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void write_splitsTheOperationsIntoBatchesOf25() {
+        BulkWriteResult result = write(puts(firstTable, 60), r -> processed());
+
+        assertThat(result.writtenOperationCount(), is(60L));
+        assertThat(result.failures(), hasSize(0));
+        assertThat(batchSizes(), contains(25, 25, 10));
+    }
+
+    @Test
+    public void write_groupsTheOperationsOfABatchByTable() {
+        List<BulkWriteOperation<?>> operations = Arrays.asList(BulkWriteOperation.put(firstTable, record("1")),
+                                                               BulkWriteOperation.put(secondTable, record("2")),
+                                                               BulkWriteOperation.delete(firstTable, key("3")));
+
+        BulkWriteResult result = write(operations, r -> processed());
+
+        assertThat(result.writtenOperationCount(), is(3L));
+        assertThat(requests, hasSize(1));
+        assertThat(requests.get(0).requestItems().get("first-table"), hasSize(2));
+        assertThat(requests.get(0).requestItems().get("second-table"), hasSize(1));
+    }
+
+    @Test
+    public void write_startsANewBatchWhenAnItemIsWrittenTwice() {
+        List<BulkWriteOperation<?>> operations = Arrays.asList(BulkWriteOperation.put(firstTable, record("1")),
+                                                               BulkWriteOperation.put(secondTable, record("1")),
+                                                               BulkWriteOperation.delete(firstTable, key("1")));
+
+        BulkWriteResult result = write(operations, r -> processed());
+
+        assertThat(result.writtenOperationCount(), is(3L));
+        assertThat(batchSizes(), contains(2, 1));
+    }
+
+    @Test
+    public void write_holdsBackAnOperationUntilTheEarlierWriteOfTheItemIsDone() {
+        List<BulkWriteOperation<?>> operations = Arrays.asList(BulkWriteOperation.put(firstTable, record("1").setData("old")),
+                                                               BulkWriteOperation.put(firstTable, record("1").setData("new")),
+                                                               BulkWriteOperation.put(firstTable, record("2")));
+        BulkWriteEnhancedRequest request = BulkWriteEnhancedRequest.builder()
+                                                                   .operations(operations)
+                                                                   .maxConcurrency(2)
+                                                                   .backoffStrategy(FixedDelayBackoffStrategy.create(
+                                                                       Duration.ofMillis(1)))
+                                                                   .build();
+
+        BulkWriteResult result = new BulkWriter(request, r -> {
+            requests.add(r);
+            return CompletableFuture.completedFuture(requests.size() == 1 ? unprocessed(r, 0) : processed());
+        }, Runnable::run).write().join();
+
+        List<String> writesOfTheItem = requests.stream()
+                                               .flatMap(r -> r.requestItems().get("first-table").stream())
+                                               .map(writeRequest -> writeRequest.putRequest().item())
+                                               .filter(item -> item.get("id").s().equals("1"))
+                                               .map(item -> item.get("data").s())
+                                               .collect(Collectors.toList());
+        assertThat(result.writtenOperationCount(), is(3L));
+        assertThat(writesOfTheItem, contains("old", "old", "new"));
+    }
+
+    @Test
+    public void write_startsANewBatchBeforeItExceeds16Megabytes() {
+        char[] data = new char[1024 * 1024];
+        Arrays.fill(data, 'x');
+        List<BulkWriteOperation<?>> operations =
+            IntStream.range(0, 20)
+                     .mapToObj(i -> BulkWriteOperation.put(firstTable, record(String.valueOf(i)).setData(new String(data))))
+                     .collect(Collectors.toList());
+
+        BulkWriteResult result = write(operations, r -> processed());
+
+        assertThat(result.writtenOperationCount(), is(20L));
+        assertThat(batchSizes(), contains(15, 5));
+    }
+
+    @Test
+    public void write_sendsUnprocessedOperationsAgain() {
+        List<BulkWriteOperation<?>> operations = puts(firstTable, 3);
+
+        BulkWriteResult result = write(operations, r -> requests.size() == 1 ? unprocessed(r, 1) : processed());
+
+        assertThat(result.writtenOperationCount(), is(3L));
+        assertThat(batchSizes(), contains(3, 1));
+        assertThat(requests.get(1).requestItems().get("first-table"),
+                   is(requests.get(0).requestItems().get("first-table").subList(1, 2)));
+    }
+
+    @Test
+    public void write_sendsUnprocessedOperationsAgainOnTheRetryExecutor() {
+        ExecutorService retryExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "retry-thread"));
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        try {
+            BulkWriteResult result = new BulkWriter(request(puts(firstTable, 1)), r -> {
+                requests.add(r);
+                threads.add(Thread.currentThread().getName());
+                return CompletableFuture.completedFuture(requests.size() == 1 ? unprocessed(r, 0) : processed());
+            }, retryExecutor).write().join();
+
+            assertThat(result.writtenOperationCount(), is(1L));
+            assertThat(threads, hasSize(2));
+            assertThat(threads.get(1), is("retry-thread"));
+        } finally {
+            retryExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void write_sendsUnprocessedOperationsAgainWhenTheRetryExecutorRejectsThem() {
+        BulkWriteResult result = new BulkWriter(request(puts(firstTable, 1)), r -> {
+            requests.add(r);
+            return CompletableFuture.completedFuture(requests.size() == 1 ? unprocessed(r, 0) : processed());
+        }, r -> {
+            throw new RejectedExecutionException();
+        }).write().join();
+
+        assertThat(result.writtenOperationCount(), is(1L));
+        assertThat(requests, hasSize(2));
+    }
+
+    @Test
+    public void write_reportsOperationsThatAreStillUnprocessedAfterTheMaxAttempts() {
+        BulkWriteOperation<Record> operation = BulkWriteOperation.put(firstTable, record("1"));
+
+        BulkWriteResult result = write(singletonList(operation), 3, r -> unprocessed(r, 0));
+
+        assertThat(requests, hasSize(3));
+        assertThat(result.writtenOperationCount(), is(0L));
+        assertThat(result.failures(), hasSize(1));
+        BulkWriteFailure failure = result.failures().get(0);
+        assertThat(failure.operation(), is(operation));
+        assertThat(failure.attempts(), is(3));
+        assertThat(failure.exception() instanceof SdkClientException, is(true));
+    }
+
+    @Test
+    public void write_reportsTheOperationsOfAFailedCall() {
+        RuntimeException exception = new RuntimeException("call failed");
+        List<BulkWriteOperation<?>> operations = puts(firstTable, 30);
+
+        BulkWriteResult result = write(operations, 10, r -> {
+            if (requests.size() == 1) {
+                throw exception;
+            }
+            return processed();
+        });
+
+        assertThat(result.writtenOperationCount(), is(5L));
+        assertThat(result.failures(), hasSize(25));
+        assertThat(result.failures().stream().map(BulkWriteFailure::exception).collect(Collectors.toList()),
+                   everyItem(is(exception)));
+        assertThat(result.failures().stream().map(BulkWriteFailure::operation).collect(Collectors.toList()),
+                   is(operations.subList(0, 25)));
+    }
+
+    @Test
+    public void write_sendsUpToMaxConcurrencyBatchesAtTheSameTime() {
+        List<CompletableFuture<BatchWriteItemResponse>> responses = Collections.synchronizedList(new ArrayList<>());
+        BulkWriteEnhancedRequest request = BulkWriteEnhancedRequest.builder()
+                                                                   .operations(puts(firstTable, 100))
+                                                                   .maxConcurrency(2)
+                                                                   .build();
+
+        CompletableFuture<BulkWriteResult> result = new BulkWriter(request, r -> {
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        }, Runnable::run).write();
+
+        assertThat(responses, hasSize(2));
+        responses.get(0).complete(processed());
+        assertThat(responses, hasSize(3));
+        responses.get(1).complete(processed());
+        responses.get(2).complete(processed());
+        assertThat(responses, hasSize(4));
+        responses.get(3).complete(processed());
+
+        assertThat(result.join().writtenOperationCount(), is(100L));
+    }
+
+    @Test
+    public void estimateSize_countsTheBytesOfNamesAndValues() {
+        Map<String, AttributeValue> item = singletonMap("name", stringValue("\u00e9t\u00e9"));
+
+        assertThat(BulkWriter.estimateSize(item), is(4L + 5L));
+    }
+
+    private BulkWriteResult write(List<BulkWriteOperation<?>> operations,
+                                  Function<BatchWriteItemRequest, BatchWriteItemResponse> batchWriteItem) {
+        return write(operations, 10, batchWriteItem);
+    }
+
+    private static BulkWriteEnhancedRequest request(List<BulkWriteOperation<?>> operations) {
+        return BulkWriteEnhancedRequest.builder()
+                                       .operations(operations)
+                                       .backoffStrategy(FixedDelayBackoffStrategy.create(Duration.ofMillis(1)))
+                                       .build();
+    }
+
+    private BulkWriteResult write(List<BulkWriteOperation<?>> operations, int maxAttempts,
+                                  Function<BatchWriteItemRequest, BatchWriteItemResponse> batchWriteItem) {
+        BulkWriteEnhancedRequest request = BulkWriteEnhancedRequest.builder()
+                                                                   .operations(operations)
+                                                                   .maxConcurrency(1)
+                                                                   .maxAttempts(maxAttempts)
+                                                                   .backoffStrategy(FixedDelayBackoffStrategy.create(
+                                                                       Duration.ofMillis(1)))
+                                                                   .build();
+        return new BulkWriter(request, r -> {
+            requests.add(r);
+            return CompletableFuture.completedFuture(batchWriteItem.apply(r));
+        }, Runnable::run).write().join();
+    }
+
+    private List<Integer> batchSizes() {
+        return requests.stream()
+                       .map(r -> r.requestItems().values().stream().mapToInt(List::size).sum())
+                       .collect(Collectors.toList());
+    }
+
+    private static List<BulkWriteOperation<?>> puts(DynamoDbTable<Record> table, int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> BulkWriteOperation.put(table, record(String.valueOf(i))))
+                        .collect(Collectors.toList());
+    }
+
+    private static Record record(String id) {
+        return new Record().setId(id);
+    }
+
+    private static Key key(String id) {
+        return Key.builder().partitionValue(id).build();
+    }
+
+    private static BatchWriteItemResponse processed() {
+        return BatchWriteItemResponse.builder().build();
+    }
+
+    private static BatchWriteItemResponse unprocessed(BatchWriteItemRequest request, int index) {
+        Map<String, List<WriteRequest>> unprocessedItems =
+            request.requestItems().entrySet().stream()
+                   .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().subList(index, index + 1)));
+        return BatchWriteItemResponse.builder().unprocessedItems(unprocessedItems).build();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.Test;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+
+public class BatchLoadEnhancedRequestTest {
+    private static class Record {
+    }
+
+    @SuppressWarnings("unchecked")
+    private final MappedTableResource<Record> mappedTableResource = mock(MappedTableResource.class);
+
+    private final Key key = Key.builder().partitionValue("id").build();
+
+    @Test
+    public void builder_minimal() {
+        BatchLoadEnhancedRequest<Record> builtObject = BatchLoadEnhancedRequest.builder(Record.class)
+                                                                               .mappedTableResource(mappedTableResource)
+                                                                               .keys(Collections.singletonList(key))
+                                                                               .build();
+
+        assertThat(builtObject.mappedTableResource(), is(mappedTableResource));
+        assertThat(builtObject.keys(), contains(key));
+        assertThat(builtObject.consistentRead(), is(nullValue()));
+        assertThat(builtObject.maxConcurrency(), is(8));
+        assertThat(builtObject.maxAttempts(), is(10));
+        assertThat(builtObject.backoffStrategy(), is(FullJitterBackoffStrategy.builder()
+                                                                             .baseDelay(Duration.ofMillis(100))
+                                                                             .maxBackoffTime(Duration.ofSeconds(20))
+                                                                             .build()));
+        assertThat(builtObject.executor(), is(nullValue()));
+    }
+
+    @Test
+    public void builder_maximal() {
+        BackoffStrategy backoffStrategy = FixedDelayBackoffStrategy.create(Duration.ofMillis(5));
+        Executor executor = Runnable::run;
+
+        BatchLoadEnhancedRequest<Record> builtObject = BatchLoadEnhancedRequest.builder(Record.class)
+                                                                               .mappedTableResource(mappedTableResource)
+                                                                               .keys(Collections.singletonList(key))
+                                                                               .consistentRead(true)
+                                                                               .maxConcurrency(2)
+                                                                               .maxAttempts(3)
+                                                                               .backoffStrategy(backoffStrategy)
+                                                                               .executor(executor)
+                                                                               .build();
+
+        assertThat(builtObject.consistentRead(), is(true));
+        assertThat(builtObject.maxConcurrency(), is(2));
+        assertThat(builtObject.maxAttempts(), is(3));
+        assertThat(builtObject.backoffStrategy(), is(backoffStrategy));
+        assertThat(builtObject.executor(), is(executor));
+    }
+
+    @Test
+    public void build_copiesTheKeys() {
+        List<Key> keys = new ArrayList<>(Collections.singletonList(key));
+
+        BatchLoadEnhancedRequest<Record> builtObject = BatchLoadEnhancedRequest.builder(Record.class)
+                                                                               .mappedTableResource(mappedTableResource)
+                                                                               .keys(keys)
+                                                                               .build();
+        keys.clear();
+
+        assertThat(builtObject.keys(), contains(key));
+    }
+
+    @Test
+    public void toBuilder() {
+        BatchLoadEnhancedRequest<Record> builtObject = BatchLoadEnhancedRequest.builder(Record.class)
+                                                                               .mappedTableResource(mappedTableResource)
+                                                                               .keys(Collections.singletonList(key))
+                                                                               .consistentRead(true)
+                                                                               .maxConcurrency(4)
+                                                                               .build();
+
+        BatchLoadEnhancedRequest<Record> copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject, is(builtObject));
+    }
+
+    @Test
+    public void build_withoutTable_throwsException() {
+        assertThatThrownBy(() -> BatchLoadEnhancedRequest.builder(Record.class).keys(Collections.singletonList(key)).build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("mappedTableResource");
+    }
+
+    @Test
+    public void build_withoutKeys_throwsException() {
+        assertThatThrownBy(() -> BatchLoadEnhancedRequest.builder(Record.class).mappedTableResource(mappedTableResource).build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("keys");
+    }
+
+    @Test
+    public void build_withNullKey_throwsException() {
+        assertThatThrownBy(() -> BatchLoadEnhancedRequest.builder(Record.class)
+                                                         .mappedTableResource(mappedTableResource)
+                                                         .keys(Arrays.asList(key, null))
+                                                         .build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("keys");
+    }
+
+    @Test
+    public void build_withNonPositiveMaxConcurrency_throwsException() {
+        assertThatThrownBy(() -> BatchLoadEnhancedRequest.builder(Record.class)
+                                                         .mappedTableResource(mappedTableResource)
+                                                         .keys(Collections.singletonList(key))
+                                                         .maxConcurrency(0)
+                                                         .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxConcurrency");
+    }
+}
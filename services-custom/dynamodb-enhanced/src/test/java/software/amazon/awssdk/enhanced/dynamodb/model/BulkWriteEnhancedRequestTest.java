@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.Executor;
+import org.junit.Test;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+
+public class BulkWriteEnhancedRequestTest {
+
+    @Test
+    public void builder_minimal() {
+        BulkWriteEnhancedRequest builtObject = BulkWriteEnhancedRequest.builder()
+                                                                       .operations(Collections.emptyList())
+                                                                       .build();
+
+        assertThat(builtObject.operations(), instanceOf(SdkPublisher.class));
+        assertThat(builtObject.maxConcurrency(), is(8));
+        assertThat(builtObject.maxAttempts(), is(10));
+        assertThat(builtObject.backoffStrategy(), is(FullJitterBackoffStrategy.builder()
+                                                                             .baseDelay(Duration.ofMillis(100))
+                                                                             .maxBackoffTime(Duration.ofSeconds(20))
+                                                                             .build()));
+        assertThat(builtObject.executor(), is(nullValue()));
+    }
+
+    @Test
+    public void builder_maximal() {
+        SdkPublisher<BulkWriteOperation<?>> operations = SdkPublisher.fromIterable(Collections.emptyList());
+        BackoffStrategy backoffStrategy = FixedDelayBackoffStrategy.create(Duration.ofMillis(5));
+        Executor executor = Runnable::run;
+
+        BulkWriteEnhancedRequest builtObject = BulkWriteEnhancedRequest.builder()
+                                                                       .operations(operations)
+                                                                       .maxConcurrency(2)
+                                                                       .maxAttempts(3)
+                                                                       .backoffStrategy(backoffStrategy)
+                                                                       .executor(executor)
+                                                                       .build();
+
+        assertThat(builtObject.operations(), is(operations));
+        assertThat(builtObject.maxConcurrency(), is(2));
+        assertThat(builtObject.maxAttempts(), is(3));
+        assertThat(builtObject.backoffStrategy(), is(backoffStrategy));
+        assertThat(builtObject.executor(), is(executor));
+    }
+
+    @Test
+    public void toBuilder() {
+        BulkWriteEnhancedRequest builtObject = BulkWriteEnhancedRequest.builder()
+                                                                       .operations(Collections.emptyList())
+                                                                       .maxConcurrency(4)
+                                                                       .build();
+
+        BulkWriteEnhancedRequest copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject, is(builtObject));
+    }
+
+    @Test
+    public void build_withoutOperations_throwsException() {
+        assertThatThrownBy(() -> BulkWriteEnhancedRequest.builder().build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("operations");
+    }
+
+    @Test
+    public void build_withNonPositiveMaxConcurrency_throwsException() {
+        assertThatThrownBy(() -> BulkWriteEnhancedRequest.builder().operations(Collections.emptyList()).maxConcurrency(0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxConcurrency");
+    }
+
+    @Test
+    public void build_withNonPositiveMaxAttempts_throwsException() {
+        assertThatThrownBy(() -> BulkWriteEnhancedRequest.builder().operations(Collections.emptyList()).maxAttempts(0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxAttempts");
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.junit.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class ParallelScanEnhancedRequestTest {
+
+    @Test
+    public void builder_minimal() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder().totalSegments(3).build();
+
+        assertThat(builtObject.totalSegments(), is(3));
+        assertThat(builtObject.maxConcurrency(), is(3));
+        assertThat(builtObject.segments(), contains(0, 1, 2));
+        assertThat(builtObject.exclusiveStartKeys(), is(Collections.emptyMap()));
+        assertThat(builtObject.failurePolicy(), is(ParallelScanFailurePolicy.CANCEL_OTHER_SEGMENTS));
+        assertThat(builtObject.scanRequest(), is(ScanEnhancedRequest.builder().build()));
+        assertThat(builtObject.executor(), is(nullValue()));
+    }
+
+    @Test
+    public void builder_defaultMaxConcurrency_isCapped() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder().totalSegments(100).build();
+
+        assertThat(builtObject.maxConcurrency(), is(16));
+    }
+
+    @Test
+    public void builder_maximal() {
+        Map<String, AttributeValue> exclusiveStartKey = singletonMap("id", stringValue("id-value"));
+        ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder().consistentRead(true).limit(10).build();
+        Executor executor = Runnable::run;
+
+        ParallelScanEnhancedRequest builtObject =
+            ParallelScanEnhancedRequest.builder()
+                                       .scanRequest(scanRequest)
+                                       .totalSegments(8)
+                                       .maxConcurrency(2)
+                                       .segments(Arrays.asList(5, 1, 5))
+                                       .addExclusiveStartKey(5, exclusiveStartKey)
+                                       .failurePolicy(ParallelScanFailurePolicy.COMPLETE_OTHER_SEGMENTS)
+                                       .executor(executor)
+                                       .build();
+
+        assertThat(builtObject.scanRequest(), is(scanRequest));
+        assertThat(builtObject.totalSegments(), is(8));
+        assertThat(builtObject.maxConcurrency(), is(2));
+        assertThat(builtObject.segments(), contains(5, 1));
+        assertThat(builtObject.exclusiveStartKeys(), is(singletonMap(5, exclusiveStartKey)));
+        assertThat(builtObject.failurePolicy(), is(ParallelScanFailurePolicy.COMPLETE_OTHER_SEGMENTS));
+        assertThat(builtObject.executor(), is(executor));
+    }
+
+    @Test
+    public void segmentScanRequest_setsTheSegmentAndItsExclusiveStartKey() {
+        Map<String, AttributeValue> exclusiveStartKey = singletonMap("id", stringValue("id-value"));
+        ParallelScanEnhancedRequest request =
+            ParallelScanEnhancedRequest.builder()
+                                       .scanRequest(ScanEnhancedRequest.builder().consistentRead(true).build())
+                                       .totalSegments(4)
+                                       .addExclusiveStartKey(2, exclusiveStartKey)
+                                       .build();
+
+        assertThat(request.segmentScanRequest(2), is(ScanEnhancedRequest.builder()
+                                                                         .consistentRead(true)
+                                                                         .segment(2)
+                                                                         .totalSegments(4)
+                                                                         .exclusiveStartKey(exclusiveStartKey)
+                                                                         .build()));
+        assertThat(request.segmentScanRequest(3).exclusiveStartKey(), is(nullValue()));
+    }
+
+    @Test
+    public void build_withoutTotalSegments_throwsException() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("totalSegments");
+    }
+
+    @Test
+    public void build_withSegmentOnScanRequest_throwsException() {
+        ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder().segment(0).totalSegments(2).build();
+
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().scanRequest(scanRequest).totalSegments(2).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void build_withSegmentOutOfRange_throwsException() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(2).segments(Arrays.asList(2)).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Segment 2");
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(2).addExclusiveStartKey(-1, null).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void toBuilder() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .totalSegments(4)
+                                                                             .maxConcurrency(1)
+                                                                             .build();
+
+        ParallelScanEnhancedRequest copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject, is(builtObject));
+    }
+}
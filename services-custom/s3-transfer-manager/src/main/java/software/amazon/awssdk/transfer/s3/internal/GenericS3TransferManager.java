@@ -34,7 +34,6 @@ import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
-import software.amazon.awssdk.services.s3.DelegatingS3AsyncClient;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3AsyncClient;
 import software.amazon.awssdk.services.s3.internal.resource.S3AccessPointResource;
@@ -331,7 +330,8 @@ class GenericS3TransferManager implements S3TransferManager {
         try {
             assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
 
-            CompletableFuture<ResultT> future = doGetObject(downloadRequest.getObjectRequest(), responseTransformer);
+            CompletableFuture<ResultT> future = s3AsyncClient.getObject(downloadRequest.getObjectRequest(),
+                                                                        responseTransformer);
 
             // Forward download cancellation to future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
@@ -373,7 +373,8 @@ class GenericS3TransferManager implements S3TransferManager {
 
             assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
 
-            CompletableFuture<GetObjectResponse> future = doGetObject(downloadRequest.getObjectRequest(), responseTransformer);
+            CompletableFuture<GetObjectResponse> future = s3AsyncClient.getObject(downloadRequest.getObjectRequest(),
+                                                                                  responseTransformer);
 
             // Forward download cancellation to future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
@@ -552,14 +553,4 @@ class GenericS3TransferManager implements S3TransferManager {
 
         return !s3EndpointResource.region().isPresent();
     }
-
-    // TODO remove once MultipartS3AsyncClient is complete
-    private <ResultT> CompletableFuture<ResultT> doGetObject(
-        GetObjectRequest getObjectRequest, AsyncResponseTransformer<GetObjectResponse, ResultT> asyncResponseTransformer) {
-        S3AsyncClient clientToUse = s3AsyncClient;
-        if (s3AsyncClient instanceof MultipartS3AsyncClient) {
-            clientToUse = (S3AsyncClient) ((DelegatingS3AsyncClient) s3AsyncClient).delegate();
-        }
-        return clientToUse.getObject(getObjectRequest, asyncResponseTransformer);
-    }
 }
@@ -18,12 +18,23 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3AsyncClient;
@@ -34,6 +45,9 @@ import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileDownload;
 
 class MultipartDownloadJavaBasedTest {
+    private static final long PART_SIZE = 1024;
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^bytes=(\\d+)-(\\d+)$");
+
     private S3AsyncClient mockDelegate;
     private MultipartS3AsyncClient s3Multi;
     private S3TransferManager tm;
@@ -41,10 +55,15 @@ class MultipartDownloadJavaBasedTest {
     private DownloadDirectoryHelper downloadDirectoryHelper;
     private TransferManagerConfiguration configuration;
 
+    @TempDir
+    private Path tempDir;
+
     @BeforeEach
     public void methodSetup() {
         mockDelegate = mock(S3AsyncClient.class);
-        s3Multi = MultipartS3AsyncClient.create(mockDelegate, MultipartConfiguration.builder().build());
+        s3Multi = MultipartS3AsyncClient.create(mockDelegate, MultipartConfiguration.builder()
+                                                                                    .minimumPartSizeInBytes(PART_SIZE)
+                                                                                    .build());
         uploadDirectoryHelper = mock(UploadDirectoryHelper.class);
         configuration = mock(TransferManagerConfiguration.class);
         downloadDirectoryHelper = mock(DownloadDirectoryHelper.class);
@@ -52,16 +71,42 @@ class MultipartDownloadJavaBasedTest {
     }
 
     @Test
-    void usingMultipartDownload_shouldNotThrowException() {
-        GetObjectResponse response = GetObjectResponse.builder().build();
+    void usingMultipartDownload_shouldWriteAllPartsToFile() throws Exception {
+        byte[] content = RandomStringUtils.randomAlphanumeric((int) (PART_SIZE * 3 + 512)).getBytes(StandardCharsets.UTF_8);
         when(mockDelegate.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
-            .thenReturn(CompletableFuture.completedFuture(response));
+            .thenAnswer(i -> respond(i.getArgument(0), i.getArgument(1), content));
+        Path destination = tempDir.resolve("object");
 
         CompletedFileDownload completedFileDownload = tm.downloadFile(d -> d.getObjectRequest(g -> g.bucket("bucket")
                                                                                                     .key("key"))
-                                                                            .destination(Paths.get(".")))
+                                                                            .destination(destination))
                                                         .completionFuture()
                                                         .join();
-        assertThat(completedFileDownload.response()).isEqualTo(response);
+
+        assertThat(completedFileDownload.response().contentLength()).isEqualTo(content.length);
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+
+        ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(mockDelegate, times(4)).getObject(requestCaptor.capture(), any(AsyncResponseTransformer.class));
+        assertThat(requestCaptor.getAllValues()).extracting(GetObjectRequest::range)
+                                                .containsExactlyInAnyOrder("bytes=0-1023", "bytes=1024-2047",
+                                                                           "bytes=2048-3071", "bytes=3072-3583");
+    }
+
+    private static <T> CompletableFuture<T> respond(GetObjectRequest request,
+                                                    AsyncResponseTransformer<GetObjectResponse, T> transformer,
+                                                    byte[] content) {
+        Matcher matcher = RANGE_PATTERN.matcher(request.range());
+        assertThat(matcher.matches()).isTrue();
+        int start = Integer.parseInt(matcher.group(1));
+        int end = Math.min(Integer.parseInt(matcher.group(2)), content.length - 1);
+
+        CompletableFuture<T> future = transformer.prepare();
+        transformer.onResponse(GetObjectResponse.builder()
+                                                .contentLength((long) end - start + 1)
+                                                .contentRange(String.format("bytes %d-%d/%d", start, end, content.length))
+                                                .build());
+        transformer.onStream(AsyncRequestBody.fromBytes(Arrays.copyOfRange(content, start, end + 1)));
+        return future;
     }
 }
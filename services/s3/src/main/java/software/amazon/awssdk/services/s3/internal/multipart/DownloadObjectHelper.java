@@ -0,0 +1,226 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.async.PositionalWriteAsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * An internal helper class that downloads an object using concurrent ranged GET requests.
+ *
+ * <p>The first part is fetched with a ranged GET of {@code partSizeInBytes}. Its {@code Content-Range} header tells us the
+ * total size of the object; if there is more to fetch, the remaining parts are downloaded concurrently by a
+ * {@link MultipartDownloadPublisher} and streamed, in order, into the user's {@link AsyncResponseTransformer}. Every
+ * subsequent part request is pinned to the ETag returned by the first part so that the object cannot change mid-download.
+ *
+ * <p>If the transformer supports positional writes (e.g. {@link AsyncResponseTransformer#toFile}), the remaining parts are
+ * instead written directly at their offsets by a {@link PositionalMultipartDownloader}, without being re-sequenced.
+ *
+ * <p>Requests that already specify a {@code Range} or {@code PartNumber} are sent as-is.
+ */
+@SdkInternalApi
+public final class DownloadObjectHelper {
+    private static final Logger log = Logger.loggerFor(DownloadObjectHelper.class);
+    private static final Pattern CONTENT_RANGE_PATTERN = Pattern.compile("^bytes \\d+-\\d+/(\\d+)$");
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long partSizeInBytes;
+    private final int maxInFlightParts;
+
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, MultipartConfigurationResolver resolver) {
+        this(s3AsyncClient, resolver.minimalPartSizeInBytes(), resolver.apiCallBufferSize());
+    }
+
+    @SdkTestInternalApi
+    DownloadObjectHelper(S3AsyncClient s3AsyncClient, long partSizeInBytes, long maxMemoryUsageInBytes) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.partSizeInBytes = partSizeInBytes;
+        this.maxInFlightParts = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxMemoryUsageInBytes / partSizeInBytes));
+    }
+
+    public <ReturnT> CompletableFuture<ReturnT> downloadObject(
+        GetObjectRequest getObjectRequest, AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer) {
+
+        if (getObjectRequest.range() != null || getObjectRequest.partNumber() != null) {
+            log.debug(() -> "Range or partNumber is set on the request, downloading the object with a single GET request");
+            return s3AsyncClient.getObject(getObjectRequest, asyncResponseTransformer);
+        }
+
+        CompletableFuture<ReturnT> returnFuture = new CompletableFuture<>();
+        try {
+            GetObjectRequest firstPartRequest = getObjectRequest.toBuilder()
+                                                                .range(String.format("bytes=0-%d", partSizeInBytes - 1))
+                                                                .build();
+            CompletableFuture<ResponseBytes<GetObjectResponse>> firstPartFuture =
+                s3AsyncClient.getObject(firstPartRequest, AsyncResponseTransformer.toBytes());
+
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, firstPartFuture);
+
+            firstPartFuture.whenComplete((firstPart, throwable) -> {
+                if (throwable != null) {
+                    handleFirstPartFailure(getObjectRequest, asyncResponseTransformer, returnFuture, throwable);
+                } else {
+                    downloadRemainingParts(getObjectRequest, asyncResponseTransformer, returnFuture, firstPart);
+                }
+            });
+        } catch (Throwable throwable) {
+            returnFuture.completeExceptionally(throwable);
+        }
+        return returnFuture;
+    }
+
+    private <ReturnT> void handleFirstPartFailure(GetObjectRequest getObjectRequest,
+                                                  AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer,
+                                                  CompletableFuture<ReturnT> returnFuture,
+                                                  Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+
+        // S3 rejects ranged GETs on empty objects, fall back to a regular GET in that case.
+        if (cause instanceof S3Exception && ((S3Exception) cause).statusCode() == RANGE_NOT_SATISFIABLE) {
+            log.debug(() -> "The first ranged GET request was not satisfiable, downloading the object with a single GET "
+                            + "request");
+            CompletableFuture<ReturnT> future = s3AsyncClient.getObject(getObjectRequest, asyncResponseTransformer);
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
+            CompletableFutureUtils.forwardResultTo(future, returnFuture);
+            return;
+        }
+        returnFuture.completeExceptionally(cause);
+    }
+
+    private <ReturnT> void downloadRemainingParts(GetObjectRequest getObjectRequest,
+                                                  AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer,
+                                                  CompletableFuture<ReturnT> returnFuture,
+                                                  ResponseBytes<GetObjectResponse> firstPart) {
+        try {
+            GetObjectResponse firstPartResponse = firstPart.response();
+            long contentLength = determineContentLength(firstPartResponse, firstPart.asByteArrayUnsafe().length);
+
+            GetObjectRequest.Builder partRequestBuilder = getObjectRequest.toBuilder();
+            if (getObjectRequest.ifMatch() == null && firstPartResponse.eTag() != null) {
+                partRequestBuilder.ifMatch(firstPartResponse.eTag());
+            }
+
+            GetObjectResponse fullObjectResponse = firstPartResponse.toBuilder()
+                                                                    .contentLength(contentLength)
+                                                                    .contentRange(null)
+                                                                    .build();
+
+            if (asyncResponseTransformer instanceof PositionalWriteAsyncResponseTransformer) {
+                writePartsAtPosition(partRequestBuilder.build(),
+                                     (PositionalWriteAsyncResponseTransformer<GetObjectResponse, ReturnT>)
+                                         asyncResponseTransformer,
+                                     returnFuture, firstPart, fullObjectResponse);
+            } else {
+                publishPartsInOrder(partRequestBuilder.build(), asyncResponseTransformer, returnFuture, firstPart,
+                                    fullObjectResponse);
+            }
+        } catch (Throwable throwable) {
+            returnFuture.completeExceptionally(throwable);
+        }
+    }
+
+    private <ReturnT> void publishPartsInOrder(GetObjectRequest partRequest,
+                                               AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer,
+                                               CompletableFuture<ReturnT> returnFuture,
+                                               ResponseBytes<GetObjectResponse> firstPart,
+                                               GetObjectResponse fullObjectResponse) {
+        MultipartDownloadPublisher publisher = new MultipartDownloadPublisher(s3AsyncClient,
+                                                                              partRequest,
+                                                                              firstPart.asByteBuffer(),
+                                                                              fullObjectResponse.contentLength(),
+                                                                              partSizeInBytes,
+                                                                              maxInFlightParts);
+
+        log.debug(() -> String.format("Starting multipart download with partCount: %d, partSize: %d, maxInFlightParts: "
+                                      + "%d", publisher.totalNumParts(), partSizeInBytes, maxInFlightParts));
+
+        CompletableFuture<ReturnT> transformFuture = asyncResponseTransformer.prepare();
+        CompletableFutureUtils.forwardResultTo(transformFuture, returnFuture);
+        returnFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                publisher.cancel(t);
+            }
+        });
+        publisher.completionFuture().whenComplete((r, t) -> {
+            if (t != null) {
+                asyncResponseTransformer.exceptionOccurred(t);
+            }
+        });
+
+        asyncResponseTransformer.onResponse(fullObjectResponse);
+        asyncResponseTransformer.onStream(publisher);
+    }
+
+    private <ReturnT> void writePartsAtPosition(GetObjectRequest partRequest,
+                                                PositionalWriteAsyncResponseTransformer<GetObjectResponse, ReturnT> transformer,
+                                                CompletableFuture<ReturnT> returnFuture,
+                                                ResponseBytes<GetObjectResponse> firstPart,
+                                                GetObjectResponse fullObjectResponse) {
+        PositionalMultipartDownloader downloader = new PositionalMultipartDownloader(s3AsyncClient,
+                                                                                     partRequest,
+                                                                                     transformer,
+                                                                                     firstPart.asByteArrayUnsafe().length,
+                                                                                     fullObjectResponse.contentLength(),
+                                                                                     partSizeInBytes,
+                                                                                     maxInFlightParts);
+
+        log.debug(() -> String.format("Starting multipart download with positional writes, partCount: %d, partSize: %d, "
+                                      + "maxInFlightParts: %d", downloader.totalNumParts(), partSizeInBytes,
+                                      maxInFlightParts));
+
+        CompletableFuture<ReturnT> transformFuture = transformer.prepare();
+        CompletableFutureUtils.forwardResultTo(transformFuture, returnFuture);
+        returnFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                downloader.cancel(t);
+            }
+        });
+
+        transformer.onResponse(fullObjectResponse);
+        transformer.startPositionalWrite();
+        if (!returnFuture.isDone()) {
+            downloader.start(firstPart.asByteBuffer());
+        }
+    }
+
+    private static long determineContentLength(GetObjectResponse response, long bytesReceived) {
+        String contentRange = response.contentRange();
+        if (contentRange == null) {
+            // The service returned the whole object.
+            return bytesReceived;
+        }
+        Matcher matcher = CONTENT_RANGE_PATTERN.matcher(contentRange);
+        if (!matcher.matches()) {
+            throw SdkClientException.create("Unable to determine the object size from Content-Range: " + contentRange);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * A {@link SdkPublisher} that downloads the remaining parts of an object using concurrent ranged GET requests and publishes
+ * their content in order. The first part is downloaded by the caller and provided to this publisher; every subsequent part
+ * is {@code partSizeInBytes} long, except the last.
+ *
+ * <p>Parts may complete in any order. A completed part is held in memory until all the parts before it have been
+ * published. The number of parts that are either in flight or waiting to be published is bounded by
+ * {@code maxInFlightParts}, which bounds the memory used by a single download to roughly
+ * {@code maxInFlightParts * partSizeInBytes}.
+ */
+@SdkInternalApi
+public final class MultipartDownloadPublisher implements SdkPublisher<ByteBuffer> {
+    private static final Logger log = Logger.loggerFor(MultipartDownloadPublisher.class);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final GetObjectRequest getObjectRequest;
+    private final long contentLength;
+    private final long partSizeInBytes;
+    private final long firstPartLength;
+    private final int totalNumParts;
+    private final int maxInFlightParts;
+    private final SimplePublisher<ByteBuffer> simplePublisher = new SimplePublisher<>();
+    private final CompletableFuture<Void> completionFuture = new CompletableFuture<>();
+    private final Map<Integer, CompletableFuture<ResponseBytes<GetObjectResponse>>> inFlightParts =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Parts that have been downloaded but not yet handed to the {@link #simplePublisher}, keyed by part index.
+     */
+    private final Map<Integer, ByteBuffer> completedParts = new HashMap<>();
+
+    private int nextPartToRequest;
+    private int nextPartToPublish;
+    private int outstandingParts;
+    private boolean subscribed;
+    private boolean failed;
+
+    public MultipartDownloadPublisher(S3AsyncClient s3AsyncClient,
+                                      GetObjectRequest getObjectRequest,
+                                      ByteBuffer firstPart,
+                                      long contentLength,
+                                      long partSizeInBytes,
+                                      int maxInFlightParts) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.getObjectRequest = getObjectRequest;
+        this.contentLength = contentLength;
+        this.partSizeInBytes = partSizeInBytes;
+        this.firstPartLength = firstPart.remaining();
+        this.totalNumParts = 1 + Math.toIntExact((contentLength - firstPartLength + partSizeInBytes - 1) / partSizeInBytes);
+        this.maxInFlightParts = Math.max(1, maxInFlightParts);
+        this.completedParts.put(0, firstPart);
+        this.nextPartToRequest = 1;
+        this.outstandingParts = 1;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        synchronized (this) {
+            if (subscribed) {
+                throw new IllegalStateException("This publisher only supports a single subscriber.");
+            }
+            subscribed = true;
+        }
+        simplePublisher.subscribe(subscriber);
+        publishCompletedParts();
+        requestMoreParts();
+    }
+
+    /**
+     * @return a future that is completed when all parts have been delivered to the subscriber, or completed exceptionally if
+     * any part fails to download or the subscriber cancels.
+     */
+    public CompletableFuture<Void> completionFuture() {
+        return completionFuture;
+    }
+
+    /**
+     * Stop downloading and cancel all the in-flight part requests.
+     */
+    public void cancel(Throwable cause) {
+        handleFailure(cause);
+    }
+
+    int totalNumParts() {
+        return totalNumParts;
+    }
+
+    private void requestMoreParts() {
+        while (true) {
+            int partIndex;
+            synchronized (this) {
+                if (failed || nextPartToRequest >= totalNumParts || outstandingParts >= maxInFlightParts) {
+                    return;
+                }
+                partIndex = nextPartToRequest++;
+                outstandingParts++;
+            }
+            sendPartRequest(partIndex);
+        }
+    }
+
+    private void sendPartRequest(int partIndex) {
+        long start = firstPartLength + (partIndex - 1) * partSizeInBytes;
+        long end = Math.min(start + partSizeInBytes, contentLength) - 1;
+        GetObjectRequest partRequest = getObjectRequest.toBuilder()
+                                                       .range(String.format("bytes=%d-%d", start, end))
+                                                       .build();
+
+        log.debug(() -> String.format("Sending ranged GET request for part %d of %d, range: %d-%d", partIndex + 1,
+                                      totalNumParts, start, end));
+
+        CompletableFuture<ResponseBytes<GetObjectResponse>> partFuture =
+            s3AsyncClient.getObject(partRequest, AsyncResponseTransformer.toBytes());
+        inFlightParts.put(partIndex, partFuture);
+
+        partFuture.whenComplete((responseBytes, throwable) -> {
+            inFlightParts.remove(partIndex);
+            if (throwable != null) {
+                log.debug(() -> "Failed to download part " + (partIndex + 1), throwable);
+                handleFailure(throwable);
+                return;
+            }
+            long expectedLength = end - start + 1;
+            if (responseBytes.asByteArrayUnsafe().length != expectedLength) {
+                handleFailure(SdkClientException.create(
+                    String.format("Part %d of the object had an unexpected length. Expected %d bytes, but received %d bytes.",
+                                  partIndex + 1, expectedLength, responseBytes.asByteArrayUnsafe().length)));
+                return;
+            }
+            synchronized (this) {
+                completedParts.put(partIndex, responseBytes.asByteBuffer());
+            }
+            publishCompletedParts();
+        });
+    }
+
+    /**
+     * Hand every part that is next in order to the {@link #simplePublisher}. The part's slot is released once the
+     * subscriber has received it, at which point another part can be requested.
+     */
+    private void publishCompletedParts() {
+        while (true) {
+            ByteBuffer part;
+            boolean lastPart;
+            synchronized (this) {
+                if (failed || !subscribed || !completedParts.containsKey(nextPartToPublish)) {
+                    return;
+                }
+                part = completedParts.remove(nextPartToPublish);
+                nextPartToPublish++;
+                lastPart = nextPartToPublish == totalNumParts;
+            }
+
+            simplePublisher.send(part).whenComplete((r, t) -> {
+                if (t != null) {
+                    handleFailure(t);
+                    return;
+                }
+                synchronized (this) {
+                    outstandingParts--;
+                }
+                requestMoreParts();
+            });
+
+            if (lastPart) {
+                simplePublisher.complete().whenComplete((r, t) -> {
+                    if (t != null) {
+                        completionFuture.completeExceptionally(t);
+                    } else {
+                        completionFuture.complete(null);
+                    }
+                });
+                return;
+            }
+        }
+    }
+
+    private void handleFailure(Throwable throwable) {
+        synchronized (this) {
+            if (failed) {
+                return;
+            }
+            failed = true;
+            completedParts.clear();
+        }
+        inFlightParts.values().forEach(f -> f.cancel(true));
+        inFlightParts.clear();
+        simplePublisher.error(throwable);
+        completionFuture.completeExceptionally(throwable);
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.async.PositionalWriteAsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Downloads the remaining parts of an object using concurrent ranged GET requests, streaming each part directly to its
+ * position through a {@link PositionalWriteAsyncResponseTransformer}.
+ *
+ * <p>Unlike {@link MultipartDownloadPublisher}, parts are not re-sequenced: each part is written as it arrives, so a slow
+ * part never holds up the others and no part is buffered in memory. The number of concurrent part requests is bounded by
+ * {@code maxInFlightParts}.
+ */
+@SdkInternalApi
+public final class PositionalMultipartDownloader {
+    private static final Logger log = Logger.loggerFor(PositionalMultipartDownloader.class);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final GetObjectRequest getObjectRequest;
+    private final PositionalWriteAsyncResponseTransformer<GetObjectResponse, ?> transformer;
+    private final long contentLength;
+    private final long partSizeInBytes;
+    private final long firstPartLength;
+    private final int totalNumParts;
+    private final int maxInFlightParts;
+    private final Map<Integer, CompletableFuture<Void>> inFlightParts = new ConcurrentHashMap<>();
+
+    private int nextPartToRequest;
+    private int partsInProgress;
+    private int completedParts;
+    private boolean failed;
+
+    public PositionalMultipartDownloader(S3AsyncClient s3AsyncClient,
+                                         GetObjectRequest getObjectRequest,
+                                         PositionalWriteAsyncResponseTransformer<GetObjectResponse, ?> transformer,
+                                         long firstPartLength,
+                                         long contentLength,
+                                         long partSizeInBytes,
+                                         int maxInFlightParts) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.getObjectRequest = getObjectRequest;
+        this.transformer = transformer;
+        this.contentLength = contentLength;
+        this.partSizeInBytes = partSizeInBytes;
+        this.firstPartLength = firstPartLength;
+        this.totalNumParts = 1 + Math.toIntExact((contentLength - firstPartLength + partSizeInBytes - 1) / partSizeInBytes);
+        this.maxInFlightParts = Math.max(1, maxInFlightParts);
+        this.nextPartToRequest = 1;
+        this.partsInProgress = 1;
+    }
+
+    int totalNumParts() {
+        return totalNumParts;
+    }
+
+    /**
+     * Write the already downloaded first part and start downloading the remaining parts. The transformer's
+     * {@link PositionalWriteAsyncResponseTransformer#startPositionalWrite()} must have already been called.
+     */
+    public void start(ByteBuffer firstPart) {
+        CompletableFuture<Void> firstPartFuture = new CompletableFuture<>();
+        inFlightParts.put(0, firstPartFuture);
+        firstPartFuture.whenComplete((r, t) -> onPartComplete(0, t));
+        AsyncRequestBody.fromByteBufferUnsafe(firstPart)
+                        .subscribe(transformer.positionalWriteSubscriber(0, firstPartFuture));
+
+        requestMoreParts();
+    }
+
+    /**
+     * Stop downloading and cancel all the in-flight part requests.
+     */
+    public void cancel(Throwable cause) {
+        handleFailure(cause);
+    }
+
+    private void requestMoreParts() {
+        while (true) {
+            int partIndex;
+            synchronized (this) {
+                if (failed || nextPartToRequest >= totalNumParts || partsInProgress >= maxInFlightParts) {
+                    return;
+                }
+                partIndex = nextPartToRequest++;
+                partsInProgress++;
+            }
+            sendPartRequest(partIndex);
+        }
+    }
+
+    private void sendPartRequest(int partIndex) {
+        long start = firstPartLength + (partIndex - 1) * partSizeInBytes;
+        long end = Math.min(start + partSizeInBytes, contentLength) - 1;
+        GetObjectRequest partRequest = getObjectRequest.toBuilder()
+                                                       .range(String.format("bytes=%d-%d", start, end))
+                                                       .build();
+
+        log.debug(() -> String.format("Sending ranged GET request for part %d of %d, range: %d-%d", partIndex + 1,
+                                      totalNumParts, start, end));
+
+        PartTransformer partTransformer = new PartTransformer(partIndex, start, end - start + 1);
+        CompletableFuture<Void> partFuture = s3AsyncClient.getObject(partRequest, partTransformer);
+        inFlightParts.put(partIndex, partFuture);
+        partFuture.whenComplete((r, t) -> onPartComplete(partIndex, t));
+    }
+
+    private void onPartComplete(int partIndex, Throwable throwable) {
+        inFlightParts.remove(partIndex);
+        if (throwable != null) {
+            log.debug(() -> "Failed to download part " + (partIndex + 1), throwable);
+            handleFailure(throwable);
+            return;
+        }
+
+        boolean allPartsCompleted;
+        synchronized (this) {
+            if (failed) {
+                return;
+            }
+            partsInProgress--;
+            completedParts++;
+            allPartsCompleted = completedParts == totalNumParts;
+        }
+
+        if (allPartsCompleted) {
+            log.debug(() -> "All parts have been written");
+            transformer.completePositionalWrite();
+        } else {
+            requestMoreParts();
+        }
+    }
+
+    private void handleFailure(Throwable throwable) {
+        synchronized (this) {
+            if (failed || completedParts == totalNumParts) {
+                return;
+            }
+            failed = true;
+        }
+        inFlightParts.values().forEach(f -> f.cancel(true));
+        inFlightParts.clear();
+        transformer.exceptionOccurred(throwable);
+    }
+
+    /**
+     * Writes the body of a single part at its position. A new write is started for every attempt, so a retried part simply
+     * overwrites whatever the failed attempt wrote. The part fails if its body is not exactly as long as the requested range,
+     * since the missing bytes would otherwise be left as a gap in the file.
+     */
+    private final class PartTransformer implements AsyncResponseTransformer<GetObjectResponse, Void> {
+        private final int partIndex;
+        private final long position;
+        private final long expectedLength;
+        private volatile CompletableFuture<Void> future;
+        private volatile AtomicLong receivedBytes;
+
+        private PartTransformer(int partIndex, long position, long expectedLength) {
+            this.partIndex = partIndex;
+            this.position = position;
+            this.expectedLength = expectedLength;
+        }
+
+        @Override
+        public CompletableFuture<Void> prepare() {
+            future = new CompletableFuture<>();
+            receivedBytes = new AtomicLong();
+            return future;
+        }
+
+        @Override
+        public void onResponse(GetObjectResponse response) {
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            CompletableFuture<Void> partFuture = future;
+            AtomicLong partBytes = receivedBytes;
+            CompletableFuture<Void> writeFuture = new CompletableFuture<>();
+            writeFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    partFuture.completeExceptionally(t);
+                } else if (partBytes.get() != expectedLength) {
+                    partFuture.completeExceptionally(SdkClientException.create(String.format(
+                        "Part %d of the object had an unexpected length. Expected %d bytes, but received %d bytes.",
+                        partIndex + 1, expectedLength, partBytes.get())));
+                } else {
+                    partFuture.complete(null);
+                }
+            });
+            publisher.map(byteBuffer -> {
+                partBytes.addAndGet(byteBuffer.remaining());
+                return byteBuffer;
+            }).subscribe(transformer.positionalWriteSubscriber(position, writeFuture));
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            future.completeExceptionally(error);
+        }
+    }
+}
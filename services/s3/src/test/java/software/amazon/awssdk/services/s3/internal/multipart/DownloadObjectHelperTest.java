@@ -0,0 +1,219 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+class DownloadObjectHelperTest {
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final String ETAG = "\"etag\"";
+    private static final long PART_SIZE = 1024;
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^bytes=(\\d+)-(\\d+)$");
+
+    private S3AsyncClient s3AsyncClient;
+    private DownloadObjectHelper downloadHelper;
+
+    @BeforeEach
+    void setUp() {
+        s3AsyncClient = Mockito.mock(S3AsyncClient.class);
+        downloadHelper = new DownloadObjectHelper(s3AsyncClient, PART_SIZE, PART_SIZE * 2);
+    }
+
+    @Test
+    void downloadObject_objectLargerThanPartSize_shouldDownloadPartsInOrder() {
+        byte[] content = randomBytes(PART_SIZE * 4 + 100);
+        AtomicInteger maxConcurrentParts = stubRangedGets(content, true);
+
+        ResponseBytes<GetObjectResponse> result =
+            downloadHelper.downloadObject(getObjectRequest(), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(result.asByteArray()).isEqualTo(content);
+        assertThat(result.response().contentLength()).isEqualTo(content.length);
+        assertThat(result.response().contentRange()).isNull();
+        assertThat(maxConcurrentParts.get()).isLessThanOrEqualTo(2);
+
+        List<GetObjectRequest> requests = capturedRequests(5);
+        assertThat(requests.stream().map(GetObjectRequest::range).collect(Collectors.toList()))
+            .containsExactly("bytes=0-1023", "bytes=1024-2047", "bytes=2048-3071", "bytes=3072-4095", "bytes=4096-4195");
+        assertThat(requests.get(0).ifMatch()).isNull();
+        assertThat(requests.subList(1, requests.size())).allSatisfy(r -> assertThat(r.ifMatch()).isEqualTo(ETAG));
+    }
+
+    @Test
+    void downloadObject_fileTransformer_shouldWritePartsAtTheirPositions(@TempDir Path tempDir) throws IOException {
+        byte[] content = randomBytes(PART_SIZE * 4 + 100);
+        AtomicInteger maxConcurrentParts = stubRangedGets(content, true);
+        Path destination = tempDir.resolve("object");
+
+        GetObjectResponse response =
+            downloadHelper.downloadObject(getObjectRequest(), AsyncResponseTransformer.toFile(destination)).join();
+
+        assertThat(response.contentLength()).isEqualTo(content.length);
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        assertThat(maxConcurrentParts.get()).isLessThanOrEqualTo(2);
+        capturedRequests(5);
+    }
+
+    @Test
+    void downloadObject_objectSmallerThanPartSize_shouldUseSingleRequest() {
+        byte[] content = randomBytes(PART_SIZE - 1);
+        stubRangedGets(content, false);
+
+        ResponseBytes<GetObjectResponse> result =
+            downloadHelper.downloadObject(getObjectRequest(), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(result.asByteArray()).isEqualTo(content);
+        capturedRequests(1);
+    }
+
+    @Test
+    void downloadObject_rangeSetOnRequest_shouldPassThrough() {
+        GetObjectRequest request = getObjectRequest().toBuilder().range("bytes=0-10").build();
+        AsyncResponseTransformer<GetObjectResponse, ResponseBytes<GetObjectResponse>> transformer =
+            AsyncResponseTransformer.toBytes();
+        CompletableFuture<ResponseBytes<GetObjectResponse>> future = new CompletableFuture<>();
+        when(s3AsyncClient.getObject(request, transformer)).thenReturn(future);
+
+        assertThat(downloadHelper.downloadObject(request, transformer)).isSameAs(future);
+    }
+
+    @Test
+    void downloadObject_emptyObject_shouldFallBackToSingleGet() {
+        S3Exception invalidRange = (S3Exception) S3Exception.builder().statusCode(416).message("InvalidRange").build();
+        when(s3AsyncClient.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
+            .thenReturn(CompletableFutureUtils.failedFuture(invalidRange))
+            .thenReturn(CompletableFuture.completedFuture(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(),
+                                                                                      new byte[0])));
+
+        ResponseBytes<GetObjectResponse> result =
+            downloadHelper.downloadObject(getObjectRequest(), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(result.asByteArray()).isEmpty();
+        assertThat(capturedRequests(2).get(1).range()).isNull();
+    }
+
+    @Test
+    void downloadObject_partFails_shouldFailFuture() {
+        byte[] content = randomBytes(PART_SIZE * 3);
+        RuntimeException exception = new RuntimeException("boom");
+        when(s3AsyncClient.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
+            .thenAnswer(i -> {
+                GetObjectRequest request = i.getArgument(0);
+                if (request.range().startsWith("bytes=1024")) {
+                    return CompletableFutureUtils.failedFuture(exception);
+                }
+                return respond(request, i.getArgument(1), content);
+            });
+
+        assertThatThrownBy(() -> downloadHelper.downloadObject(getObjectRequest(), AsyncResponseTransformer.toBytes()).join())
+            .hasRootCause(exception);
+    }
+
+    private AtomicInteger stubRangedGets(byte[] content, boolean completeAsync) {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(s3AsyncClient.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
+            .thenAnswer(i -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                if (!completeAsync) {
+                    inFlight.decrementAndGet();
+                    return respond(i.getArgument(0), i.getArgument(1), content);
+                }
+                // Complete parts on another thread so they may finish out of order
+                return CompletableFuture.supplyAsync(() -> null)
+                                        .thenCompose(ignored -> {
+                                            inFlight.decrementAndGet();
+                                            return respond(i.getArgument(0), i.getArgument(1), content);
+                                        });
+            });
+        return maxInFlight;
+    }
+
+    private static <T> CompletableFuture<T> respond(GetObjectRequest request,
+                                                    AsyncResponseTransformer<GetObjectResponse, T> transformer,
+                                                    byte[] content) {
+        Matcher matcher = RANGE_PATTERN.matcher(request.range());
+        assertThat(matcher.matches()).isTrue();
+        int start = Integer.parseInt(matcher.group(1));
+        int end = Math.min(Integer.parseInt(matcher.group(2)), content.length - 1);
+
+        CompletableFuture<T> future = transformer.prepare();
+        transformer.onResponse(GetObjectResponse.builder()
+                                                .eTag(ETAG)
+                                                .contentLength((long) end - start + 1)
+                                                .contentRange(String.format("bytes %d-%d/%d", start, end, content.length))
+                                                .build());
+        transformer.onStream(AsyncRequestBody.fromBytes(Arrays.copyOfRange(content, start, end + 1)));
+        return future;
+    }
+
+    private List<GetObjectRequest> capturedRequests(int times) {
+        ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3AsyncClient, times(times)).getObject(captor.capture(), any(AsyncResponseTransformer.class));
+        return captor.getAllValues().stream()
+                     .sorted((a, b) -> Long.compare(rangeStart(a), rangeStart(b)))
+                     .collect(Collectors.toList());
+    }
+
+    private static long rangeStart(GetObjectRequest request) {
+        if (request.range() == null) {
+            return Long.MAX_VALUE;
+        }
+        Matcher matcher = RANGE_PATTERN.matcher(request.range());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : Long.MAX_VALUE;
+    }
+
+    private static GetObjectRequest getObjectRequest() {
+        return GetObjectRequest.builder().bucket(BUCKET).key(KEY).build();
+    }
+
+    private static byte[] randomBytes(long size) {
+        byte[] bytes = new byte[Math.toIntExact(size)];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+}
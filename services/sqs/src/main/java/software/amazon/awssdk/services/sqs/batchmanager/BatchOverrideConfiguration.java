@@ -0,0 +1,331 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration values for the {@link SqsAsyncBatchManager}. All values are optional, and the default values will be used if
+ * they are not specified.
+ */
+@SdkPublicApi
+public final class BatchOverrideConfiguration implements ToCopyableBuilder<BatchOverrideConfiguration.Builder,
+    BatchOverrideConfiguration> {
+
+    /**
+     * The maximum number of entries SQS accepts in a single batch request.
+     */
+    private static final int MAX_SUPPORTED_BATCH_SIZE = 10;
+
+    private final Integer maxBatchSize;
+    private final Duration sendRequestFrequency;
+    private final Integer maxInflightReceiveBatches;
+    private final Integer maxDoneReceiveBatches;
+    private final Duration receiveMessageVisibilityTimeout;
+    private final List<String> receiveMessageAttributeNames;
+    private final List<MessageSystemAttributeName> receiveMessageSystemAttributeNames;
+
+    private BatchOverrideConfiguration(DefaultBuilder builder) {
+        this.maxBatchSize = Validate.isPositiveOrNull(builder.maxBatchSize, "maxBatchSize");
+        Validate.isTrue(maxBatchSize == null || maxBatchSize <= MAX_SUPPORTED_BATCH_SIZE,
+                        "maxBatchSize must not be greater than %d.", MAX_SUPPORTED_BATCH_SIZE);
+        this.sendRequestFrequency = Validate.isPositiveOrNull(builder.sendRequestFrequency, "sendRequestFrequency");
+        this.maxInflightReceiveBatches = builder.maxInflightReceiveBatches;
+        Validate.isTrue(maxInflightReceiveBatches == null || maxInflightReceiveBatches >= 0,
+                        "maxInflightReceiveBatches must not be negative.");
+        this.maxDoneReceiveBatches = Validate.isPositiveOrNull(builder.maxDoneReceiveBatches, "maxDoneReceiveBatches");
+        this.receiveMessageVisibilityTimeout = Validate.isPositiveOrNull(builder.receiveMessageVisibilityTimeout,
+                                                                         "receiveMessageVisibilityTimeout");
+        this.receiveMessageAttributeNames = builder.receiveMessageAttributeNames == null
+                                            ? null
+                                            : Collections.unmodifiableList(builder.receiveMessageAttributeNames);
+        this.receiveMessageSystemAttributeNames = builder.receiveMessageSystemAttributeNames == null
+                                                  ? null
+                                                  : Collections.unmodifiableList(builder.receiveMessageSystemAttributeNames);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * @return the maximum number of requests sent in a single batch request.
+     */
+    public Integer maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the maximum amount of time a request is buffered before its batch is sent.
+     */
+    public Duration sendRequestFrequency() {
+        return sendRequestFrequency;
+    }
+
+    /**
+     * @return the maximum number of concurrent receive message requests kept in flight for each queue.
+     */
+    public Integer maxInflightReceiveBatches() {
+        return maxInflightReceiveBatches;
+    }
+
+    /**
+     * @return the maximum number of batches of received messages buffered for each queue.
+     */
+    public Integer maxDoneReceiveBatches() {
+        return maxDoneReceiveBatches;
+    }
+
+    /**
+     * @return the visibility timeout requested for buffered messages.
+     */
+    public Duration receiveMessageVisibilityTimeout() {
+        return receiveMessageVisibilityTimeout;
+    }
+
+    /**
+     * @return the message attributes requested for buffered messages.
+     */
+    public List<String> receiveMessageAttributeNames() {
+        return receiveMessageAttributeNames;
+    }
+
+    /**
+     * @return the message system attributes requested for buffered messages.
+     */
+    public List<MessageSystemAttributeName> receiveMessageSystemAttributeNames() {
+        return receiveMessageSystemAttributeNames;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BatchOverrideConfiguration")
+                       .add("maxBatchSize", maxBatchSize)
+                       .add("sendRequestFrequency", sendRequestFrequency)
+                       .add("maxInflightReceiveBatches", maxInflightReceiveBatches)
+                       .add("maxDoneReceiveBatches", maxDoneReceiveBatches)
+                       .add("receiveMessageVisibilityTimeout", receiveMessageVisibilityTimeout)
+                       .add("receiveMessageAttributeNames", receiveMessageAttributeNames)
+                       .add("receiveMessageSystemAttributeNames", receiveMessageSystemAttributeNames)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BatchOverrideConfiguration that = (BatchOverrideConfiguration) o;
+        return Objects.equals(maxBatchSize, that.maxBatchSize)
+               && Objects.equals(sendRequestFrequency, that.sendRequestFrequency)
+               && Objects.equals(maxInflightReceiveBatches, that.maxInflightReceiveBatches)
+               && Objects.equals(maxDoneReceiveBatches, that.maxDoneReceiveBatches)
+               && Objects.equals(receiveMessageVisibilityTimeout, that.receiveMessageVisibilityTimeout)
+               && Objects.equals(receiveMessageAttributeNames, that.receiveMessageAttributeNames)
+               && Objects.equals(receiveMessageSystemAttributeNames, that.receiveMessageSystemAttributeNames);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(maxBatchSize);
+        result = 31 * result + Objects.hashCode(sendRequestFrequency);
+        result = 31 * result + Objects.hashCode(maxInflightReceiveBatches);
+        result = 31 * result + Objects.hashCode(maxDoneReceiveBatches);
+        result = 31 * result + Objects.hashCode(receiveMessageVisibilityTimeout);
+        result = 31 * result + Objects.hashCode(receiveMessageAttributeNames);
+        result = 31 * result + Objects.hashCode(receiveMessageSystemAttributeNames);
+        return result;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, BatchOverrideConfiguration> {
+
+        /**
+         * Define the maximum number of requests sent in a single batch request. A buffered batch is sent as soon as it holds
+         * this many requests. The value must be between 1 and 10, the maximum number of entries SQS accepts in a single
+         * batch request.
+         * <p>
+         * Default value: 10
+         *
+         * @param maxBatchSize the maximum number of requests in a batch.
+         * @return This builder for method chaining.
+         */
+        Builder maxBatchSize(Integer maxBatchSize);
+
+        /**
+         * Define the maximum amount of time a request is buffered, waiting for other requests to the same queue, before its
+         * batch is sent. Higher values allow for fuller batches at the expense of latency.
+         * <p>
+         * Default value: 200 milliseconds
+         *
+         * @param sendRequestFrequency the maximum amount of time a request is buffered.
+         * @return This builder for method chaining.
+         */
+        Builder sendRequestFrequency(Duration sendRequestFrequency);
+
+        /**
+         * Define the maximum number of concurrent long polling receive message requests kept in flight for each queue in
+         * order to fill the receive buffer. Set to 0 to disable the receive buffer, in which case every
+         * {@link SqsAsyncBatchManager#receiveMessage} call is sent directly to SQS.
+         * <p>
+         * Default value: 10
+         *
+         * @param maxInflightReceiveBatches the maximum number of concurrent receive message requests per queue.
+         * @return This builder for method chaining.
+         */
+        Builder maxInflightReceiveBatches(Integer maxInflightReceiveBatches);
+
+        /**
+         * Define the maximum number of batches of received messages buffered for each queue, where a batch holds up to 10
+         * messages. No more receive message requests are sent for a queue once its buffer is full.
+         * <p>
+         * Buffered messages are invisible to other consumers until they are returned by
+         * {@link SqsAsyncBatchManager#receiveMessage} and processed, or until their visibility timeout expires. Keep this
+         * value low if messages are processed slowly.
+         * <p>
+         * Default value: 10
+         *
+         * @param maxDoneReceiveBatches the maximum number of buffered batches per queue.
+         * @return This builder for method chaining.
+         */
+        Builder maxDoneReceiveBatches(Integer maxDoneReceiveBatches);
+
+        /**
+         * Define the visibility timeout requested when receiving messages into the buffer. Buffered messages whose
+         * visibility timeout has expired are discarded rather than returned.
+         * <p>
+         * By default, the visibility timeout configured on the queue is used.
+         *
+         * @param receiveMessageVisibilityTimeout the visibility timeout of buffered messages.
+         * @return This builder for method chaining.
+         */
+        Builder receiveMessageVisibilityTimeout(Duration receiveMessageVisibilityTimeout);
+
+        /**
+         * Define the message attributes requested when receiving messages into the buffer. Receive message requests asking
+         * for message attributes that are not in this list are sent directly to SQS.
+         * <p>
+         * By default, no message attributes are requested.
+         *
+         * @param receiveMessageAttributeNames the message attributes of buffered messages.
+         * @return This builder for method chaining.
+         */
+        Builder receiveMessageAttributeNames(List<String> receiveMessageAttributeNames);
+
+        /**
+         * Define the message system attributes requested when receiving messages into the buffer. Receive message requests
+         * asking for message system attributes that are not in this list are sent directly to SQS.
+         * <p>
+         * By default, no message system attributes are requested.
+         *
+         * @param receiveMessageSystemAttributeNames the message system attributes of buffered messages.
+         * @return This builder for method chaining.
+         */
+        Builder receiveMessageSystemAttributeNames(List<MessageSystemAttributeName> receiveMessageSystemAttributeNames);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Integer maxBatchSize;
+        private Duration sendRequestFrequency;
+        private Integer maxInflightReceiveBatches;
+        private Integer maxDoneReceiveBatches;
+        private Duration receiveMessageVisibilityTimeout;
+        private List<String> receiveMessageAttributeNames;
+        private List<MessageSystemAttributeName> receiveMessageSystemAttributeNames;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(BatchOverrideConfiguration configuration) {
+            this.maxBatchSize = configuration.maxBatchSize;
+            this.sendRequestFrequency = configuration.sendRequestFrequency;
+            this.maxInflightReceiveBatches = configuration.maxInflightReceiveBatches;
+            this.maxDoneReceiveBatches = configuration.maxDoneReceiveBatches;
+            this.receiveMessageVisibilityTimeout = configuration.receiveMessageVisibilityTimeout;
+            this.receiveMessageAttributeNames = configuration.receiveMessageAttributeNames;
+            this.receiveMessageSystemAttributeNames = configuration.receiveMessageSystemAttributeNames;
+        }
+
+        @Override
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        @Override
+        public Builder sendRequestFrequency(Duration sendRequestFrequency) {
+            this.sendRequestFrequency = sendRequestFrequency;
+            return this;
+        }
+
+        @Override
+        public Builder maxInflightReceiveBatches(Integer maxInflightReceiveBatches) {
+            this.maxInflightReceiveBatches = maxInflightReceiveBatches;
+            return this;
+        }
+
+        @Override
+        public Builder maxDoneReceiveBatches(Integer maxDoneReceiveBatches) {
+            this.maxDoneReceiveBatches = maxDoneReceiveBatches;
+            return this;
+        }
+
+        @Override
+        public Builder receiveMessageVisibilityTimeout(Duration receiveMessageVisibilityTimeout) {
+            this.receiveMessageVisibilityTimeout = receiveMessageVisibilityTimeout;
+            return this;
+        }
+
+        @Override
+        public Builder receiveMessageAttributeNames(List<String> receiveMessageAttributeNames) {
+            this.receiveMessageAttributeNames = receiveMessageAttributeNames == null
+                                                ? null
+                                                : new ArrayList<>(receiveMessageAttributeNames);
+            return this;
+        }
+
+        @Override
+        public Builder receiveMessageSystemAttributeNames(List<MessageSystemAttributeName> receiveMessageSystemAttributeNames) {
+            this.receiveMessageSystemAttributeNames = receiveMessageSystemAttributeNames == null
+                                                      ? null
+                                                      : new ArrayList<>(receiveMessageSystemAttributeNames);
+            return this;
+        }
+
+        @Override
+        public BatchOverrideConfiguration build() {
+            return new BatchOverrideConfiguration(this);
+        }
+    }
+}
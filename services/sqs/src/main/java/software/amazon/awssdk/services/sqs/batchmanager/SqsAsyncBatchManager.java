@@ -0,0 +1,234 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.DefaultSqsAsyncBatchManager;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Batch manager for implementing automatic batching with an SQS async client. Individual {@code sendMessage},
+ * {@code deleteMessage} and {@code changeMessageVisibility} calls are buffered per queue and sent as
+ * {@code SendMessageBatch}, {@code DeleteMessageBatch} and {@code ChangeMessageVisibilityBatch} requests. A buffered batch is
+ * sent as soon as it holds {@link BatchOverrideConfiguration#maxBatchSize()} entries, once its payload would exceed the
+ * 256 KiB limit imposed by SQS, or once its oldest entry has waited for
+ * {@link BatchOverrideConfiguration#sendRequestFrequency()}, whichever happens first.
+ *
+ * <p>Each call returns a future for the individual message, which is completed with the result of its entry in the batch
+ * response. If the entry failed, the future is completed exceptionally with an
+ * {@link software.amazon.awssdk.services.sqs.model.SqsException} describing the failure.
+ *
+ * <p>Requests are only batched together if they target the same queue and have the same override configuration.
+ *
+ * <p>{@code receiveMessage} calls are served from a per-queue buffer that is kept filled by up to
+ * {@link BatchOverrideConfiguration#maxInflightReceiveBatches()} concurrent long polling receive message requests, so that
+ * callers do not wait for a long poll round trip when messages are available. Closing the batch manager makes the buffered
+ * messages visible again.
+ *
+ * <p>Create an instance using {@link SqsAsyncClient#batchManager()} or {@link #builder()}. Closing the batch manager sends
+ * any buffered requests; it does not close the {@link SqsAsyncClient}, which must remain open until all the returned
+ * futures have completed.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface SqsAsyncBatchManager extends SdkAutoCloseable {
+
+    /**
+     * Buffers an outgoing {@link SendMessageRequest} to be sent as part of a {@code SendMessageBatch} request.
+     *
+     * @param request the outgoing {@link SendMessageRequest}.
+     * @return a future that is completed with the result of this message's entry in the batch response.
+     */
+    default CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers an outgoing {@link SendMessageRequest} to be sent as part of a {@code SendMessageBatch} request.
+     * <p>
+     * This is a convenience method that creates an instance of the {@link SendMessageRequest.Builder} avoiding the need to
+     * create one manually via {@link SendMessageRequest#builder()}.
+     *
+     * @param sendMessageRequest a {@link Consumer} that will call methods on {@link SendMessageRequest.Builder}.
+     * @return a future that is completed with the result of this message's entry in the batch response.
+     */
+    default CompletableFuture<SendMessageResponse> sendMessage(Consumer<SendMessageRequest.Builder> sendMessageRequest) {
+        return sendMessage(SendMessageRequest.builder().applyMutation(sendMessageRequest).build());
+    }
+
+    /**
+     * Buffers an outgoing {@link DeleteMessageRequest} to be sent as part of a {@code DeleteMessageBatch} request.
+     *
+     * @param request the outgoing {@link DeleteMessageRequest}.
+     * @return a future that is completed with the result of this message's entry in the batch response.
+     */
+    default CompletableFuture<DeleteMessageResponse> deleteMessage(DeleteMessageRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers an outgoing {@link DeleteMessageRequest} to be sent as part of a {@code DeleteMessageBatch} request.
+     * <p>
+     * This is a convenience method that creates an instance of the {@link DeleteMessageRequest.Builder} avoiding the need to
+     * create one manually via {@link DeleteMessageRequest#builder()}.
+     *
+     * @param deleteMessageRequest a {@link Consumer} that will call methods on {@link DeleteMessageRequest.Builder}.
+     * @return a future that is completed with the result of this message's entry in the batch response.
+     */
+    default CompletableFuture<DeleteMessageResponse> deleteMessage(Consumer<DeleteMessageRequest.Builder> deleteMessageRequest) {
+        return deleteMessage(DeleteMessageRequest.builder().applyMutation(deleteMessageRequest).build());
+    }
+
+    /**
+     * Buffers an outgoing {@link ChangeMessageVisibilityRequest} to be sent as part of a
+     * {@code ChangeMessageVisibilityBatch} request.
+     *
+     * @param request the outgoing {@link ChangeMessageVisibilityRequest}.
+     * @return a future that is completed with the result of this message's entry in the batch response.
+     */
+    default CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(ChangeMessageVisibilityRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers an outgoing {@link ChangeMessageVisibilityRequest} to be sent as part of a
+     * {@code ChangeMessageVisibilityBatch} request.
+     * <p>
+     * This is a convenience method that creates an instance of the {@link ChangeMessageVisibilityRequest.Builder} avoiding
+     * the need to create one manually via {@link ChangeMessageVisibilityRequest#builder()}.
+     *
+     * @param changeMessageVisibilityRequest a {@link Consumer} that will call methods on
+     * {@link ChangeMessageVisibilityRequest.Builder}.
+     * @return a future that is completed with the result of this message's entry in the batch response.
+     */
+    default CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(
+        Consumer<ChangeMessageVisibilityRequest.Builder> changeMessageVisibilityRequest) {
+        return changeMessageVisibility(ChangeMessageVisibilityRequest.builder()
+                                                                     .applyMutation(changeMessageVisibilityRequest)
+                                                                     .build());
+    }
+
+    /**
+     * Receives messages from the buffer of the queue, waiting up to {@link ReceiveMessageRequest#waitTimeSeconds()} for
+     * messages to become available. The buffer starts being filled by the first call for a queue.
+     * <p>
+     * The request is sent directly to SQS, bypassing the buffer, if it targets a FIFO queue, if it sets a visibility timeout,
+     * a receive request attempt id or an override configuration, or if it asks for attributes that are not requested for
+     * buffered messages, see {@link BatchOverrideConfiguration#receiveMessageAttributeNames()} and
+     * {@link BatchOverrideConfiguration#receiveMessageSystemAttributeNames()}.
+     *
+     * @param request the {@link ReceiveMessageRequest}.
+     * @return a future that is completed with the received messages.
+     */
+    default CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Receives messages from the buffer of the queue, waiting up to {@link ReceiveMessageRequest#waitTimeSeconds()} for
+     * messages to become available.
+     * <p>
+     * This is a convenience method that creates an instance of the {@link ReceiveMessageRequest.Builder} avoiding the need to
+     * create one manually via {@link ReceiveMessageRequest#builder()}.
+     *
+     * @param receiveMessageRequest a {@link Consumer} that will call methods on {@link ReceiveMessageRequest.Builder}.
+     * @return a future that is completed with the received messages.
+     * @see #receiveMessage(ReceiveMessageRequest)
+     */
+    default CompletableFuture<ReceiveMessageResponse> receiveMessage(
+        Consumer<ReceiveMessageRequest.Builder> receiveMessageRequest) {
+        return receiveMessage(ReceiveMessageRequest.builder().applyMutation(receiveMessageRequest).build());
+    }
+
+    /**
+     * Create a builder that can be used to configure and create a {@link SqsAsyncBatchManager}.
+     *
+     * @return a builder
+     */
+    static Builder builder() {
+        return DefaultSqsAsyncBatchManager.builder();
+    }
+
+    interface Builder {
+
+        /**
+         * Defines overrides to the default batching configuration.
+         *
+         * @param overrideConfiguration the override configuration to set
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration);
+
+        /**
+         * Defines overrides to the default batching configuration.
+         * <p>
+         * This is a convenience method that creates an instance of the {@link BatchOverrideConfiguration.Builder} avoiding
+         * the need to create one manually via {@link BatchOverrideConfiguration#builder()}.
+         *
+         * @param overrideConfiguration a {@link Consumer} that will call methods on
+         * {@link BatchOverrideConfiguration.Builder}.
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        default Builder overrideConfiguration(Consumer<BatchOverrideConfiguration.Builder> overrideConfiguration) {
+            BatchOverrideConfiguration.Builder builder = BatchOverrideConfiguration.builder();
+            overrideConfiguration.accept(builder);
+            return overrideConfiguration(builder.build());
+        }
+
+        /**
+         * Sets the {@link SqsAsyncClient} used to send the batch requests. The client is not closed when the batch manager
+         * is closed.
+         * <p>
+         * This is a required parameter.
+         *
+         * @param client the client to use
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder client(SqsAsyncClient client);
+
+        /**
+         * Sets the {@link ScheduledExecutorService} used to send buffered batches once they have waited for
+         * {@link BatchOverrideConfiguration#sendRequestFrequency()}. The executor is not shut down when the batch manager is
+         * closed.
+         * <p>
+         * If not provided, the batch manager creates and manages its own executor.
+         *
+         * @param scheduledExecutor the executor to use
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Builds an instance of {@link SqsAsyncBatchManager} based on the configurations supplied to this builder.
+         *
+         * @return an initialized {@link SqsAsyncBatchManager}
+         */
+        SqsAsyncBatchManager build();
+    }
+}
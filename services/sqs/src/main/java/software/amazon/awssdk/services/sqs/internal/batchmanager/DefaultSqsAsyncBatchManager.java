@@ -0,0 +1,147 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.sqs.batchmanager.SqsAsyncBatchManager;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultSqsAsyncBatchManager implements SqsAsyncBatchManager {
+    private static final int DEFAULT_MAX_BATCH_SIZE = 10;
+    private static final Duration DEFAULT_SEND_REQUEST_FREQUENCY = Duration.ofMillis(200);
+
+    private final ScheduledExecutorService scheduledExecutor;
+    private final boolean shouldShutdownExecutor;
+    private final SendMessageBatchManager sendMessageBatchManager;
+    private final DeleteMessageBatchManager deleteMessageBatchManager;
+    private final ChangeMessageVisibilityBatchManager changeMessageVisibilityBatchManager;
+    private final ReceiveMessageBatchManager receiveMessageBatchManager;
+
+    private DefaultSqsAsyncBatchManager(DefaultBuilder builder) {
+        SqsAsyncClient client = Validate.paramNotNull(builder.client, "client");
+
+        if (builder.scheduledExecutor == null) {
+            this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().threadNamePrefix("sqs-batch-manager").build());
+            this.shouldShutdownExecutor = true;
+        } else {
+            this.scheduledExecutor = builder.scheduledExecutor;
+            this.shouldShutdownExecutor = false;
+        }
+
+        BatchOverrideConfiguration overrideConfiguration = builder.overrideConfiguration == null
+                                                           ? BatchOverrideConfiguration.builder().build()
+                                                           : builder.overrideConfiguration;
+        int maxBatchSize = overrideConfiguration.maxBatchSize() == null
+                           ? DEFAULT_MAX_BATCH_SIZE
+                           : overrideConfiguration.maxBatchSize();
+        Duration sendRequestFrequency = overrideConfiguration.sendRequestFrequency() == null
+                                        ? DEFAULT_SEND_REQUEST_FREQUENCY
+                                        : overrideConfiguration.sendRequestFrequency();
+
+        this.sendMessageBatchManager =
+            new SendMessageBatchManager(client, maxBatchSize, sendRequestFrequency, scheduledExecutor);
+        this.deleteMessageBatchManager =
+            new DeleteMessageBatchManager(client, maxBatchSize, sendRequestFrequency, scheduledExecutor);
+        this.changeMessageVisibilityBatchManager =
+            new ChangeMessageVisibilityBatchManager(client, maxBatchSize, sendRequestFrequency, scheduledExecutor);
+        this.receiveMessageBatchManager =
+            new ReceiveMessageBatchManager(client, scheduledExecutor, new ReceiveBatchConfiguration(overrideConfiguration));
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
+        return sendMessageBatchManager.batchRequest(request);
+    }
+
+    @Override
+    public CompletableFuture<DeleteMessageResponse> deleteMessage(DeleteMessageRequest request) {
+        return deleteMessageBatchManager.batchRequest(request);
+    }
+
+    @Override
+    public CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(ChangeMessageVisibilityRequest request) {
+        return changeMessageVisibilityBatchManager.batchRequest(request);
+    }
+
+    @Override
+    public CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        return receiveMessageBatchManager.receiveMessage(request);
+    }
+
+    @Override
+    public void close() {
+        receiveMessageBatchManager.close();
+        sendMessageBatchManager.close();
+        deleteMessageBatchManager.close();
+        changeMessageVisibilityBatchManager.close();
+        if (shouldShutdownExecutor) {
+            scheduledExecutor.shutdownNow();
+        }
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private SqsAsyncClient client;
+        private ScheduledExecutorService scheduledExecutor;
+        private BatchOverrideConfiguration overrideConfiguration;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public Builder client(SqsAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public SqsAsyncBatchManager build() {
+            return new DefaultSqsAsyncBatchManager(this);
+        }
+    }
+}
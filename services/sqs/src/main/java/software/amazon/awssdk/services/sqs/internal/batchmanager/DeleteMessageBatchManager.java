@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.utils.Either;
+
+/**
+ * Batches {@link DeleteMessageRequest}s into {@link DeleteMessageBatchRequest}s.
+ */
+@SdkInternalApi
+public final class DeleteMessageBatchManager
+    extends RequestBatchManager<DeleteMessageRequest, DeleteMessageResponse, DeleteMessageBatchResponse> {
+
+    private final SqsAsyncClient client;
+
+    public DeleteMessageBatchManager(SqsAsyncClient client,
+                                     int maxBatchSize,
+                                     Duration sendRequestFrequency,
+                                     ScheduledExecutorService scheduledExecutor) {
+        super(maxBatchSize, sendRequestFrequency, scheduledExecutor);
+        this.client = client;
+    }
+
+    @Override
+    protected String queueUrl(DeleteMessageRequest request) {
+        return request.queueUrl();
+    }
+
+    @Override
+    protected CompletableFuture<DeleteMessageBatchResponse> sendBatchRequest(List<DeleteMessageRequest> requests) {
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            DeleteMessageRequest request = requests.get(i);
+            entries.add(DeleteMessageBatchRequestEntry.builder()
+                                                      .id(String.valueOf(i))
+                                                      .receiptHandle(request.receiptHandle())
+                                                      .build());
+        }
+
+        DeleteMessageBatchRequest batchRequest =
+            DeleteMessageBatchRequest.builder()
+                                     .queueUrl(requests.get(0).queueUrl())
+                                     .entries(entries)
+                                     .overrideConfiguration(batchOverrideConfiguration(requests))
+                                     .build();
+        return client.deleteMessageBatch(batchRequest);
+    }
+
+    @Override
+    protected Map<String, Either<DeleteMessageResponse, Throwable>> mapBatchResponse(DeleteMessageBatchResponse batchResponse) {
+        Map<String, Either<DeleteMessageResponse, Throwable>> results = new HashMap<>();
+        batchResponse.successful().forEach(entry -> {
+            DeleteMessageResponse.Builder response = DeleteMessageResponse.builder();
+            response.responseMetadata(batchResponse.responseMetadata())
+                    .sdkHttpResponse(batchResponse.sdkHttpResponse());
+            results.put(entry.id(), Either.left(response.build()));
+        });
+        batchResponse.failed().forEach(entry -> results.put(entry.id(), Either.right(batchEntryException(entry))));
+        return results;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+
+/**
+ * The receive buffer settings of a {@link BatchOverrideConfiguration}, with the default values applied.
+ */
+@SdkInternalApi
+public final class ReceiveBatchConfiguration {
+    private static final int DEFAULT_MAX_INFLIGHT_RECEIVE_BATCHES = 10;
+    private static final int DEFAULT_MAX_DONE_RECEIVE_BATCHES = 10;
+
+    private final int maxInflightReceiveBatches;
+    private final int maxDoneReceiveBatches;
+    private final Duration visibilityTimeout;
+    private final List<String> messageAttributeNames;
+    private final List<MessageSystemAttributeName> messageSystemAttributeNames;
+
+    public ReceiveBatchConfiguration(BatchOverrideConfiguration overrideConfiguration) {
+        this.maxInflightReceiveBatches = overrideConfiguration.maxInflightReceiveBatches() == null
+                                         ? DEFAULT_MAX_INFLIGHT_RECEIVE_BATCHES
+                                         : overrideConfiguration.maxInflightReceiveBatches();
+        this.maxDoneReceiveBatches = overrideConfiguration.maxDoneReceiveBatches() == null
+                                     ? DEFAULT_MAX_DONE_RECEIVE_BATCHES
+                                     : overrideConfiguration.maxDoneReceiveBatches();
+        this.visibilityTimeout = overrideConfiguration.receiveMessageVisibilityTimeout();
+        this.messageAttributeNames = overrideConfiguration.receiveMessageAttributeNames() == null
+                                     ? Collections.emptyList()
+                                     : overrideConfiguration.receiveMessageAttributeNames();
+        this.messageSystemAttributeNames = overrideConfiguration.receiveMessageSystemAttributeNames() == null
+                                           ? Collections.emptyList()
+                                           : overrideConfiguration.receiveMessageSystemAttributeNames();
+    }
+
+    public int maxInflightReceiveBatches() {
+        return maxInflightReceiveBatches;
+    }
+
+    public int maxDoneReceiveBatches() {
+        return maxDoneReceiveBatches;
+    }
+
+    /**
+     * @return the visibility timeout to request, or null to use the visibility timeout of the queue.
+     */
+    public Duration visibilityTimeout() {
+        return visibilityTimeout;
+    }
+
+    public List<String> messageAttributeNames() {
+        return messageAttributeNames;
+    }
+
+    public List<MessageSystemAttributeName> messageSystemAttributeNames() {
+        return messageSystemAttributeNames;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Serves receive message requests from a {@link ReceiveQueueBuffer} per queue. Requests that the buffered messages cannot
+ * satisfy are sent directly to SQS.
+ */
+@SdkInternalApi
+public final class ReceiveMessageBatchManager implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(ReceiveMessageBatchManager.class);
+    private static final String FIFO_QUEUE_SUFFIX = ".fifo";
+    private static final String ALL_MESSAGE_ATTRIBUTES = "All";
+    private static final String ALL_MESSAGE_ATTRIBUTES_WILDCARD = ".*";
+    private static final int MAX_MESSAGES_PER_RECEIVE = 10;
+    private static final int MAX_WAIT_TIME_SECONDS = 20;
+
+    private final SqsAsyncClient client;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final ReceiveBatchConfiguration configuration;
+    private final Map<String, ReceiveQueueBuffer> buffers = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    public ReceiveMessageBatchManager(SqsAsyncClient client,
+                                      ScheduledExecutorService scheduledExecutor,
+                                      ReceiveBatchConfiguration configuration) {
+        this.client = client;
+        this.scheduledExecutor = scheduledExecutor;
+        this.configuration = configuration;
+    }
+
+    public CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        if (!canBeBuffered(request)) {
+            log.debug(() -> "Sending receive message request to queue " + request.queueUrl() + " without buffering");
+            return client.receiveMessage(request);
+        }
+
+        if (closed) {
+            CompletableFuture<ReceiveMessageResponse> response = new CompletableFuture<>();
+            response.completeExceptionally(SdkClientException.create("The batch manager has been closed."));
+            return response;
+        }
+
+        ReceiveQueueBuffer buffer = buffers.computeIfAbsent(request.queueUrl(), queueUrl -> {
+            log.debug(() -> "Creating a receive buffer for queue " + queueUrl);
+            return new ReceiveQueueBuffer(client, queueUrl, scheduledExecutor, configuration);
+        });
+        return buffer.receiveMessage(request);
+    }
+
+    /**
+     * Close every receive buffer, making the buffered messages visible again.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        buffers.values().forEach(ReceiveQueueBuffer::close);
+    }
+
+    @SuppressWarnings("deprecation")
+    private boolean canBeBuffered(ReceiveMessageRequest request) {
+        if (configuration.maxInflightReceiveBatches() == 0
+            || request.queueUrl() == null
+            || request.queueUrl().endsWith(FIFO_QUEUE_SUFFIX)
+            || request.overrideConfiguration().isPresent()
+            || request.visibilityTimeout() != null
+            || request.receiveRequestAttemptId() != null
+            || request.hasAttributeNames()) {
+            return false;
+        }
+
+        Integer maxNumberOfMessages = request.maxNumberOfMessages();
+        if (maxNumberOfMessages != null && (maxNumberOfMessages < 1 || maxNumberOfMessages > MAX_MESSAGES_PER_RECEIVE)) {
+            return false;
+        }
+        Integer waitTimeSeconds = request.waitTimeSeconds();
+        if (waitTimeSeconds != null && (waitTimeSeconds < 0 || waitTimeSeconds > MAX_WAIT_TIME_SECONDS)) {
+            return false;
+        }
+
+        return request.messageAttributeNames().stream().allMatch(this::isMessageAttributeBuffered)
+               && request.messageSystemAttributeNames().stream().allMatch(this::isMessageSystemAttributeBuffered);
+    }
+
+    private boolean isMessageAttributeBuffered(String attributeName) {
+        List<String> bufferedAttributes = configuration.messageAttributeNames();
+        for (String bufferedAttribute : bufferedAttributes) {
+            if (bufferedAttribute.equals(attributeName)
+                || bufferedAttribute.equals(ALL_MESSAGE_ATTRIBUTES)
+                || bufferedAttribute.equals(ALL_MESSAGE_ATTRIBUTES_WILDCARD)) {
+                return true;
+            }
+            if (bufferedAttribute.endsWith(ALL_MESSAGE_ATTRIBUTES_WILDCARD)) {
+                String prefix = bufferedAttribute.substring(0, bufferedAttribute.length() - 1);
+                if (attributeName.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isMessageSystemAttributeBuffered(MessageSystemAttributeName attributeName) {
+        List<MessageSystemAttributeName> bufferedAttributes = configuration.messageSystemAttributeNames();
+        return bufferedAttributes.contains(MessageSystemAttributeName.ALL) || bufferedAttributes.contains(attributeName);
+    }
+}
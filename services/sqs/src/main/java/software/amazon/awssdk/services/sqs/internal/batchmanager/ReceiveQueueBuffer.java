@@ -0,0 +1,388 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * A buffer of received messages for a single queue. The buffer is filled by up to {@code maxInflightReceiveBatches}
+ * concurrent long polling receive message requests, as long as the buffered messages and the messages that the in-flight
+ * requests may return fit in {@code maxDoneReceiveBatches} batches. Receive calls are served from the buffer, waiting for
+ * messages to arrive if it is empty.
+ *
+ * <p>Buffered messages whose visibility timeout has expired are discarded, since they may already have been received by
+ * another consumer. The visibility timeout is measured from the time the receive message request was sent. When the buffer
+ * is closed, buffered messages and messages returned by in-flight requests are made visible again.
+ */
+@SdkInternalApi
+public final class ReceiveQueueBuffer implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(ReceiveQueueBuffer.class);
+    private static final ApiName USER_AGENT_API_NAME = ApiName.builder().name("hll").version("sqsBatchManager").build();
+    private static final int MAX_MESSAGES_PER_RECEIVE = 10;
+    private static final int LONG_POLL_WAIT_TIME_SECONDS = 20;
+    private static final Duration DEFAULT_QUEUE_VISIBILITY_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration RECEIVE_FAILURE_BACKOFF = Duration.ofSeconds(1);
+
+    private final SqsAsyncClient client;
+    private final String queueUrl;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final ReceiveBatchConfiguration configuration;
+    private final int maxBufferedMessages;
+    private final Deque<BufferedMessage> messages = new ArrayDeque<>();
+    private final Deque<PendingReceive> pendingReceives = new ArrayDeque<>();
+
+    private long visibilityTimeoutNanos = -1;
+    private boolean visibilityTimeoutRequested;
+    private int inflightReceives;
+    private boolean backingOff;
+    private boolean closed;
+
+    public ReceiveQueueBuffer(SqsAsyncClient client,
+                              String queueUrl,
+                              ScheduledExecutorService scheduledExecutor,
+                              ReceiveBatchConfiguration configuration) {
+        this.client = client;
+        this.queueUrl = queueUrl;
+        this.scheduledExecutor = scheduledExecutor;
+        this.configuration = configuration;
+        this.maxBufferedMessages = configuration.maxDoneReceiveBatches() * MAX_MESSAGES_PER_RECEIVE;
+        if (configuration.visibilityTimeout() != null) {
+            this.visibilityTimeoutNanos = configuration.visibilityTimeout().toNanos();
+        }
+    }
+
+    /**
+     * Receive up to {@link ReceiveMessageRequest#maxNumberOfMessages()} messages from the buffer, waiting up to
+     * {@link ReceiveMessageRequest#waitTimeSeconds()} for at least one message to become available.
+     */
+    public CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        int maxNumberOfMessages = request.maxNumberOfMessages() == null ? 1 : request.maxNumberOfMessages();
+        int waitTimeSeconds = request.waitTimeSeconds() == null ? 0 : request.waitTimeSeconds();
+        PendingReceive pendingReceive = new PendingReceive(maxNumberOfMessages);
+
+        synchronized (this) {
+            if (closed) {
+                pendingReceive.future.completeExceptionally(SdkClientException.create("The batch manager has been closed."));
+                return pendingReceive.future;
+            }
+            pendingReceives.add(pendingReceive);
+        }
+
+        deliverMessages();
+        if (waitTimeSeconds > 0) {
+            pendingReceive.timeout = scheduledExecutor.schedule(() -> expire(pendingReceive), waitTimeSeconds,
+                                                                TimeUnit.SECONDS);
+        } else {
+            expire(pendingReceive);
+        }
+        fillBuffer();
+        return pendingReceive.future;
+    }
+
+    /**
+     * Stop receiving messages, fail the pending receive calls and make the buffered messages visible again.
+     */
+    @Override
+    public void close() {
+        List<Message> toRelease = new ArrayList<>();
+        List<PendingReceive> toFail;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            discardExpiredMessages();
+            messages.forEach(m -> toRelease.add(m.message));
+            messages.clear();
+            toFail = new ArrayList<>(pendingReceives);
+            pendingReceives.clear();
+        }
+
+        SdkClientException closedException = SdkClientException.create("The batch manager has been closed.");
+        toFail.forEach(p -> p.completeExceptionally(closedException));
+        releaseMessages(toRelease);
+    }
+
+    private void expire(PendingReceive pendingReceive) {
+        synchronized (this) {
+            if (!pendingReceives.remove(pendingReceive)) {
+                return;
+            }
+        }
+        pendingReceive.complete(Collections.emptyList());
+    }
+
+    /**
+     * Hand the buffered messages to the pending receive calls, oldest first.
+     */
+    private void deliverMessages() {
+        List<Pair<PendingReceive, List<Message>>> completions = new ArrayList<>();
+        synchronized (this) {
+            discardExpiredMessages();
+            while (!pendingReceives.isEmpty() && !messages.isEmpty()) {
+                PendingReceive pendingReceive = pendingReceives.poll();
+                List<Message> received = new ArrayList<>(pendingReceive.maxNumberOfMessages);
+                while (received.size() < pendingReceive.maxNumberOfMessages && !messages.isEmpty()) {
+                    received.add(messages.poll().message);
+                }
+                completions.add(Pair.of(pendingReceive, received));
+            }
+        }
+        completions.forEach(c -> c.left().complete(c.right()));
+    }
+
+    /**
+     * Send as many receive message requests as allowed by the configuration and the space left in the buffer.
+     */
+    private void fillBuffer() {
+        int receivesToSend = 0;
+        boolean requestVisibilityTimeout = false;
+        synchronized (this) {
+            if (closed || backingOff) {
+                return;
+            }
+            if (visibilityTimeoutNanos < 0) {
+                requestVisibilityTimeout = !visibilityTimeoutRequested;
+                visibilityTimeoutRequested = true;
+            } else {
+                discardExpiredMessages();
+                while (inflightReceives < configuration.maxInflightReceiveBatches()
+                       && messages.size() + (inflightReceives + 1) * MAX_MESSAGES_PER_RECEIVE <= maxBufferedMessages) {
+                    inflightReceives++;
+                    receivesToSend++;
+                }
+            }
+        }
+
+        if (requestVisibilityTimeout) {
+            resolveQueueVisibilityTimeout();
+        }
+        for (int i = 0; i < receivesToSend; i++) {
+            sendReceiveRequest();
+        }
+    }
+
+    private void resolveQueueVisibilityTimeout() {
+        GetQueueAttributesRequest request = GetQueueAttributesRequest.builder()
+                                                                     .queueUrl(queueUrl)
+                                                                     .attributeNames(QueueAttributeName.VISIBILITY_TIMEOUT)
+                                                                     .overrideConfiguration(userAgentOverrideConfiguration())
+                                                                     .build();
+        client.getQueueAttributes(request).whenComplete((response, throwable) -> {
+            Duration visibilityTimeout = queueVisibilityTimeout(response, throwable);
+            synchronized (this) {
+                visibilityTimeoutNanos = visibilityTimeout.toNanos();
+            }
+            fillBuffer();
+        });
+    }
+
+    private Duration queueVisibilityTimeout(GetQueueAttributesResponse response, Throwable throwable) {
+        String value = response == null ? null : response.attributes().get(QueueAttributeName.VISIBILITY_TIMEOUT);
+        if (throwable != null || value == null) {
+            log.warn(() -> String.format("Unable to determine the visibility timeout of queue %s, assuming %s.", queueUrl,
+                                         DEFAULT_QUEUE_VISIBILITY_TIMEOUT), throwable);
+            return DEFAULT_QUEUE_VISIBILITY_TIMEOUT;
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private void sendReceiveRequest() {
+        ReceiveMessageRequest.Builder request =
+            ReceiveMessageRequest.builder()
+                                 .queueUrl(queueUrl)
+                                 .maxNumberOfMessages(MAX_MESSAGES_PER_RECEIVE)
+                                 .waitTimeSeconds(LONG_POLL_WAIT_TIME_SECONDS)
+                                 .overrideConfiguration(userAgentOverrideConfiguration());
+        if (!configuration.messageAttributeNames().isEmpty()) {
+            request.messageAttributeNames(configuration.messageAttributeNames());
+        }
+        if (!configuration.messageSystemAttributeNames().isEmpty()) {
+            request.messageSystemAttributeNames(configuration.messageSystemAttributeNames());
+        }
+        if (configuration.visibilityTimeout() != null) {
+            request.visibilityTimeout(Math.toIntExact(configuration.visibilityTimeout().getSeconds()));
+        }
+
+        long requestTime = System.nanoTime();
+        CompletableFuture<ReceiveMessageResponse> response;
+        try {
+            response = client.receiveMessage(request.build());
+        } catch (Throwable t) {
+            onReceiveComplete(null, t, requestTime);
+            return;
+        }
+        response.whenComplete((r, t) -> onReceiveComplete(r, t, requestTime));
+    }
+
+    private void onReceiveComplete(ReceiveMessageResponse response, Throwable throwable, long requestTime) {
+        List<Message> toRelease = Collections.emptyList();
+        List<PendingReceive> toFail = Collections.emptyList();
+        synchronized (this) {
+            inflightReceives--;
+            if (closed) {
+                if (response != null) {
+                    toRelease = response.messages();
+                }
+            } else if (throwable != null) {
+                backingOff = true;
+                toFail = new ArrayList<>(pendingReceives);
+                pendingReceives.clear();
+            } else {
+                long expiresAt = requestTime + visibilityTimeoutNanos;
+                response.messages().forEach(m -> messages.add(new BufferedMessage(m, expiresAt)));
+            }
+        }
+
+        if (!toRelease.isEmpty()) {
+            releaseMessages(toRelease);
+        }
+
+        if (throwable != null) {
+            Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+            log.debug(() -> "Failed to receive messages from queue " + queueUrl, cause);
+            toFail.forEach(p -> p.completeExceptionally(cause));
+            scheduleRetry();
+            return;
+        }
+
+        deliverMessages();
+        fillBuffer();
+    }
+
+    private void scheduleRetry() {
+        try {
+            scheduledExecutor.schedule(() -> {
+                synchronized (this) {
+                    backingOff = false;
+                }
+                fillBuffer();
+            }, RECEIVE_FAILURE_BACKOFF.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.debug(() -> "Unable to schedule receiving messages from queue " + queueUrl, e);
+        }
+    }
+
+    private void discardExpiredMessages() {
+        long now = System.nanoTime();
+        Iterator<BufferedMessage> iterator = messages.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt - now <= 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Make the given messages visible again, so that they can be received by other consumers.
+     */
+    private void releaseMessages(List<Message> toRelease) {
+        for (int start = 0; start < toRelease.size(); start += MAX_MESSAGES_PER_RECEIVE) {
+            List<Message> batch = toRelease.subList(start, Math.min(start + MAX_MESSAGES_PER_RECEIVE, toRelease.size()));
+            List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                entries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                                                                    .id(String.valueOf(i))
+                                                                    .receiptHandle(batch.get(i).receiptHandle())
+                                                                    .visibilityTimeout(0)
+                                                                    .build());
+            }
+            ChangeMessageVisibilityBatchRequest request =
+                ChangeMessageVisibilityBatchRequest.builder()
+                                                   .queueUrl(queueUrl)
+                                                   .entries(entries)
+                                                   .overrideConfiguration(userAgentOverrideConfiguration())
+                                                   .build();
+            try {
+                client.changeMessageVisibilityBatch(request).whenComplete((r, t) -> {
+                    if (t != null) {
+                        log.debug(() -> "Failed to release buffered messages of queue " + queueUrl, t);
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.debug(() -> "Failed to release buffered messages of queue " + queueUrl, e);
+            }
+        }
+    }
+
+    private static AwsRequestOverrideConfiguration userAgentOverrideConfiguration() {
+        return AwsRequestOverrideConfiguration.builder().addApiName(USER_AGENT_API_NAME).build();
+    }
+
+    private static final class BufferedMessage {
+        private final Message message;
+        private final long expiresAt;
+
+        private BufferedMessage(Message message, long expiresAt) {
+            this.message = message;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class PendingReceive {
+        private final int maxNumberOfMessages;
+        private final CompletableFuture<ReceiveMessageResponse> future = new CompletableFuture<>();
+        private volatile ScheduledFuture<?> timeout;
+
+        private PendingReceive(int maxNumberOfMessages) {
+            this.maxNumberOfMessages = maxNumberOfMessages;
+        }
+
+        private void complete(List<Message> messages) {
+            cancelTimeout();
+            future.complete(ReceiveMessageResponse.builder().messages(messages).build());
+        }
+
+        private void completeExceptionally(Throwable throwable) {
+            cancelTimeout();
+            future.completeExceptionally(throwable);
+        }
+
+        private void cancelTimeout() {
+            ScheduledFuture<?> scheduledTimeout = timeout;
+            if (scheduledTimeout != null) {
+                scheduledTimeout.cancel(false);
+            }
+        }
+    }
+}
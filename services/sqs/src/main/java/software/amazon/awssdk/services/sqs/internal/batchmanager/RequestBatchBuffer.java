@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.LongFunction;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Buffers the requests for a single batch key until they are ready to be sent as a batch. A batch is ready when it holds
+ * {@code maxBatchSize} requests, when adding another request would take its payload over {@code maxPayloadSizeInBytes}, or
+ * when the flush that was scheduled when its first request was buffered runs.
+ *
+ * <p>Every batch handed out by this buffer is given a new generation, so that a scheduled flush that races with a size
+ * triggered flush does not send the next batch early.
+ */
+@SdkInternalApi
+public final class RequestBatchBuffer<RequestT, ResponseT> {
+    private final int maxBatchSize;
+    private final long maxPayloadSizeInBytes;
+
+    private List<BatchingExecutionContext<RequestT, ResponseT>> entries = new ArrayList<>();
+    private long payloadSizeInBytes;
+    private long generation;
+    private ScheduledFuture<?> scheduledFlush;
+
+    public RequestBatchBuffer(int maxBatchSize, long maxPayloadSizeInBytes) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxPayloadSizeInBytes = maxPayloadSizeInBytes;
+    }
+
+    /**
+     * Add a request to the buffer.
+     *
+     * @param context the request to add.
+     * @param flushScheduler called with the generation of the current batch when a flush needs to be scheduled for it.
+     * @return the batches that are ready to be sent, in the order they should be sent.
+     */
+    public synchronized List<List<BatchingExecutionContext<RequestT, ResponseT>>> put(
+        BatchingExecutionContext<RequestT, ResponseT> context, LongFunction<ScheduledFuture<?>> flushScheduler) {
+
+        List<List<BatchingExecutionContext<RequestT, ResponseT>>> readyBatches = new ArrayList<>(2);
+        if (!entries.isEmpty() && payloadSizeInBytes + context.payloadSizeInBytes() > maxPayloadSizeInBytes) {
+            readyBatches.add(drain());
+        }
+
+        entries.add(context);
+        payloadSizeInBytes += context.payloadSizeInBytes();
+
+        if (entries.size() >= maxBatchSize || payloadSizeInBytes >= maxPayloadSizeInBytes) {
+            readyBatches.add(drain());
+        } else if (scheduledFlush == null) {
+            try {
+                scheduledFlush = flushScheduler.apply(generation);
+            } catch (RuntimeException e) {
+                entries.remove(entries.size() - 1);
+                payloadSizeInBytes -= context.payloadSizeInBytes();
+                throw e;
+            }
+        }
+        return readyBatches;
+    }
+
+    /**
+     * Remove and return the buffered batch if it is still of the given generation.
+     */
+    public synchronized List<BatchingExecutionContext<RequestT, ResponseT>> flush(long batchGeneration) {
+        if (batchGeneration != generation) {
+            return Collections.emptyList();
+        }
+        return drain();
+    }
+
+    /**
+     * Remove and return the buffered batch, whatever its generation.
+     */
+    public synchronized List<BatchingExecutionContext<RequestT, ResponseT>> flush() {
+        return drain();
+    }
+
+    private List<BatchingExecutionContext<RequestT, ResponseT>> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<BatchingExecutionContext<RequestT, ResponseT>> batch = entries;
+        entries = new ArrayList<>();
+        payloadSizeInBytes = 0;
+        generation++;
+        return batch;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+import software.amazon.awssdk.services.sqs.model.SqsRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Buffers individual requests per queue and sends them as batch requests. Subclasses define how a batch request is built
+ * from the buffered requests and how the batch response is mapped back to the result of each request.
+ *
+ * <p>Within a batch request, the entry for the buffered request at index {@code i} has the id {@code String.valueOf(i)}.
+ *
+ * @param <RequestT> the type of the individual request.
+ * @param <ResponseT> the type of the individual response.
+ * @param <BatchResponseT> the type of the batch response.
+ */
+@SdkInternalApi
+public abstract class RequestBatchManager<RequestT extends SqsRequest, ResponseT, BatchResponseT>
+    implements SdkAutoCloseable {
+
+    /**
+     * The maximum total payload size of a batch request accepted by SQS.
+     */
+    public static final long MAX_PAYLOAD_SIZE_IN_BYTES = 256 * 1024;
+
+    private static final Logger log = Logger.loggerFor(RequestBatchManager.class);
+    private static final ApiName USER_AGENT_API_NAME = ApiName.builder().name("hll").version("sqsBatchManager").build();
+    private static final int SENDER_FAULT_STATUS_CODE = 400;
+    private static final int SERVICE_FAULT_STATUS_CODE = 500;
+
+    private final int maxBatchSize;
+    private final Duration sendRequestFrequency;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final Map<BatchKey, RequestBatchBuffer<RequestT, ResponseT>> buffers = new ConcurrentHashMap<>();
+    // Requests are buffered under the read lock and the manager is closed under the write lock, so that no request is
+    // buffered after the final flush.
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    protected RequestBatchManager(int maxBatchSize, Duration sendRequestFrequency, ScheduledExecutorService scheduledExecutor) {
+        this.maxBatchSize = maxBatchSize;
+        this.sendRequestFrequency = sendRequestFrequency;
+        this.scheduledExecutor = scheduledExecutor;
+    }
+
+    /**
+     * Buffer a request to be sent as part of a batch.
+     *
+     * @return a future that is completed with the result of the request's entry in the batch response.
+     */
+    public CompletableFuture<ResponseT> batchRequest(RequestT request) {
+        CompletableFuture<ResponseT> response = new CompletableFuture<>();
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                response.completeExceptionally(SdkClientException.create("The batch manager has been closed."));
+                return response;
+            }
+
+            BatchKey batchKey = new BatchKey(queueUrl(request), request.overrideConfiguration().orElse(null));
+            RequestBatchBuffer<RequestT, ResponseT> buffer =
+                buffers.computeIfAbsent(batchKey, k -> new RequestBatchBuffer<>(maxBatchSize, MAX_PAYLOAD_SIZE_IN_BYTES));
+
+            BatchingExecutionContext<RequestT, ResponseT> context =
+                new BatchingExecutionContext<>(request, response, payloadSizeInBytes(request));
+            List<List<BatchingExecutionContext<RequestT, ResponseT>>> readyBatches =
+                buffer.put(context, generation -> scheduledExecutor.schedule(() -> sendBatch(buffer.flush(generation)),
+                                                                             sendRequestFrequency.toMillis(),
+                                                                             TimeUnit.MILLISECONDS));
+            readyBatches.forEach(this::sendBatch);
+        } catch (Throwable t) {
+            response.completeExceptionally(t);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        return response;
+    }
+
+    /**
+     * Send all the buffered requests. Requests buffered after the batch manager is closed are rejected.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        buffers.values().forEach(buffer -> sendBatch(buffer.flush()));
+    }
+
+    /**
+     * @return the URL of the queue targeted by the request.
+     */
+    protected abstract String queueUrl(RequestT request);
+
+    /**
+     * @return the number of bytes the request contributes towards the maximum payload size of a batch request.
+     */
+    protected long payloadSizeInBytes(RequestT request) {
+        return 0;
+    }
+
+    /**
+     * Send a batch request containing the given requests, all of which target the same queue and have the same override
+     * configuration.
+     */
+    protected abstract CompletableFuture<BatchResponseT> sendBatchRequest(List<RequestT> requests);
+
+    /**
+     * Map the batch response to the result of each entry, keyed by entry id.
+     */
+    protected abstract Map<String, Either<ResponseT, Throwable>> mapBatchResponse(BatchResponseT batchResponse);
+
+    /**
+     * @return the override configuration to use for the batch request created from the given requests.
+     */
+    protected static AwsRequestOverrideConfiguration batchOverrideConfiguration(List<? extends SqsRequest> requests) {
+        return requests.get(0).overrideConfiguration()
+                       .map(AwsRequestOverrideConfiguration::toBuilder)
+                       .orElseGet(AwsRequestOverrideConfiguration::builder)
+                       .addApiName(USER_AGENT_API_NAME)
+                       .build();
+    }
+
+    /**
+     * @return the exception describing a failed entry in a batch response.
+     */
+    protected static Throwable batchEntryException(BatchResultErrorEntry errorEntry) {
+        AwsErrorDetails errorDetails = AwsErrorDetails.builder()
+                                                      .errorCode(errorEntry.code())
+                                                      .errorMessage(errorEntry.message())
+                                                      .serviceName("Sqs")
+                                                      .build();
+        return SqsException.builder()
+                           .awsErrorDetails(errorDetails)
+                           .message(errorEntry.message())
+                           .statusCode(Boolean.TRUE.equals(errorEntry.senderFault()) ? SENDER_FAULT_STATUS_CODE
+                                                                                     : SERVICE_FAULT_STATUS_CODE)
+                           .build();
+    }
+
+    private void sendBatch(List<BatchingExecutionContext<RequestT, ResponseT>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<RequestT> requests = new ArrayList<>(batch.size());
+        batch.forEach(context -> requests.add(context.request()));
+
+        log.trace(() -> String.format("Sending a batch request with %d entries", requests.size()));
+
+        CompletableFuture<BatchResponseT> batchResponse;
+        try {
+            batchResponse = sendBatchRequest(requests);
+        } catch (Throwable t) {
+            batchResponse = CompletableFutureUtils.failedFuture(t);
+        }
+
+        batchResponse.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                batch.forEach(context -> context.response().completeExceptionally(cause));
+                return;
+            }
+            completeResponses(batch, response);
+        });
+    }
+
+    private void completeResponses(List<BatchingExecutionContext<RequestT, ResponseT>> batch, BatchResponseT batchResponse) {
+        Map<String, Either<ResponseT, Throwable>> results;
+        try {
+            results = mapBatchResponse(batchResponse);
+        } catch (Throwable t) {
+            batch.forEach(context -> context.response().completeExceptionally(t));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            CompletableFuture<ResponseT> response = batch.get(i).response();
+            Either<ResponseT, Throwable> result = results.get(String.valueOf(i));
+            if (result == null) {
+                response.completeExceptionally(
+                    SdkClientException.create("The batch response did not contain a result for entry " + i));
+            } else {
+                result.apply(response::complete, response::completeExceptionally);
+            }
+        }
+    }
+
+    private static final class BatchKey {
+        private final String queueUrl;
+        private final AwsRequestOverrideConfiguration overrideConfiguration;
+
+        private BatchKey(String queueUrl, AwsRequestOverrideConfiguration overrideConfiguration) {
+            this.queueUrl = queueUrl;
+            this.overrideConfiguration = overrideConfiguration;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            BatchKey batchKey = (BatchKey) o;
+            return Objects.equals(queueUrl, batchKey.queueUrl)
+                   && Objects.equals(overrideConfiguration, batchKey.overrideConfiguration);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(queueUrl);
+            result = 31 * result + Objects.hashCode(overrideConfiguration);
+            return result;
+        }
+    }
+}
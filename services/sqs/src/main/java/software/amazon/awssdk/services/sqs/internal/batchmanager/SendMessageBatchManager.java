@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.utils.Either;
+
+/**
+ * Batches {@link SendMessageRequest}s into {@link SendMessageBatchRequest}s. The payload size of a message counts its body
+ * and its message attributes, the same way SQS does when enforcing the maximum size of a batch request.
+ */
+@SdkInternalApi
+public final class SendMessageBatchManager
+    extends RequestBatchManager<SendMessageRequest, SendMessageResponse, SendMessageBatchResponse> {
+
+    private final SqsAsyncClient client;
+
+    public SendMessageBatchManager(SqsAsyncClient client,
+                                   int maxBatchSize,
+                                   Duration sendRequestFrequency,
+                                   ScheduledExecutorService scheduledExecutor) {
+        super(maxBatchSize, sendRequestFrequency, scheduledExecutor);
+        this.client = client;
+    }
+
+    @Override
+    protected String queueUrl(SendMessageRequest request) {
+        return request.queueUrl();
+    }
+
+    @Override
+    protected long payloadSizeInBytes(SendMessageRequest request) {
+        long size = utf8Length(request.messageBody());
+        if (request.hasMessageAttributes()) {
+            for (Map.Entry<String, MessageAttributeValue> attribute : request.messageAttributes().entrySet()) {
+                MessageAttributeValue value = attribute.getValue();
+                size += utf8Length(attribute.getKey())
+                        + utf8Length(value.dataType())
+                        + utf8Length(value.stringValue())
+                        + binaryLength(value.binaryValue());
+            }
+        }
+        if (request.hasMessageSystemAttributes()) {
+            for (Map.Entry<String, MessageSystemAttributeValue> attribute :
+                request.messageSystemAttributesAsStrings().entrySet()) {
+                MessageSystemAttributeValue value = attribute.getValue();
+                size += utf8Length(attribute.getKey())
+                        + utf8Length(value.dataType())
+                        + utf8Length(value.stringValue())
+                        + binaryLength(value.binaryValue());
+            }
+        }
+        return size;
+    }
+
+    @Override
+    protected CompletableFuture<SendMessageBatchResponse> sendBatchRequest(List<SendMessageRequest> requests) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            SendMessageRequest request = requests.get(i);
+            entries.add(SendMessageBatchRequestEntry.builder()
+                                                    .id(String.valueOf(i))
+                                                    .messageBody(request.messageBody())
+                                                    .delaySeconds(request.delaySeconds())
+                                                    .messageAttributes(request.messageAttributes())
+                                                    .messageSystemAttributesWithStrings(
+                                                        request.messageSystemAttributesAsStrings())
+                                                    .messageDeduplicationId(request.messageDeduplicationId())
+                                                    .messageGroupId(request.messageGroupId())
+                                                    .build());
+        }
+
+        SendMessageBatchRequest batchRequest = SendMessageBatchRequest.builder()
+                                                                      .queueUrl(requests.get(0).queueUrl())
+                                                                      .entries(entries)
+                                                                      .overrideConfiguration(
+                                                                          batchOverrideConfiguration(requests))
+                                                                      .build();
+        return client.sendMessageBatch(batchRequest);
+    }
+
+    @Override
+    protected Map<String, Either<SendMessageResponse, Throwable>> mapBatchResponse(SendMessageBatchResponse batchResponse) {
+        Map<String, Either<SendMessageResponse, Throwable>> results = new HashMap<>();
+        batchResponse.successful().forEach(entry -> {
+            SendMessageResponse.Builder response = SendMessageResponse.builder()
+                                                                      .messageId(entry.messageId())
+                                                                      .md5OfMessageBody(entry.md5OfMessageBody())
+                                                                      .md5OfMessageAttributes(entry.md5OfMessageAttributes())
+                                                                      .md5OfMessageSystemAttributes(
+                                                                          entry.md5OfMessageSystemAttributes())
+                                                                      .sequenceNumber(entry.sequenceNumber());
+            response.responseMetadata(batchResponse.responseMetadata())
+                    .sdkHttpResponse(batchResponse.sdkHttpResponse());
+            results.put(entry.id(), Either.left(response.build()));
+        });
+        batchResponse.failed().forEach(entry -> results.put(entry.id(), Either.right(batchEntryException(entry))));
+        return results;
+    }
+
+    private static long utf8Length(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static long binaryLength(SdkBytes value) {
+        return value == null ? 0 : value.asByteArrayUnsafe().length;
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+class SqsAsyncBatchManagerReceiveTest {
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+    private static final String FIFO_QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue.fifo";
+
+    private SqsAsyncClient client;
+    private ScheduledExecutorService scheduledExecutor;
+    private Queue<CompletableFuture<ReceiveMessageResponse>> receives;
+    private SqsAsyncBatchManager batchManager;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(SqsAsyncClient.class);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        receives = new ConcurrentLinkedQueue<>();
+        when(client.receiveMessage(any(ReceiveMessageRequest.class))).thenAnswer(i -> {
+            CompletableFuture<ReceiveMessageResponse> response = new CompletableFuture<>();
+            receives.add(response);
+            return response;
+        });
+        when(client.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ChangeMessageVisibilityBatchResponse.builder().build()));
+        batchManager = batchManager(b -> b.receiveMessageVisibilityTimeout(Duration.ofSeconds(30))
+                                          .maxInflightReceiveBatches(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchManager.close();
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void receiveMessage_shouldKeepMaxInflightLongPollsRunning() {
+        batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).waitTimeSeconds(20));
+
+        List<ReceiveMessageRequest> requests = sentReceives(2);
+        assertThat(requests).allSatisfy(r -> {
+            assertThat(r.queueUrl()).isEqualTo(QUEUE_URL);
+            assertThat(r.maxNumberOfMessages()).isEqualTo(10);
+            assertThat(r.waitTimeSeconds()).isEqualTo(20);
+            assertThat(r.visibilityTimeout()).isEqualTo(30);
+            assertThat(r.overrideConfiguration().get().apiNames())
+                .extracting(ApiName::version)
+                .contains("sqsBatchManager");
+        });
+        verify(client, never()).getQueueAttributes(any(GetQueueAttributesRequest.class));
+    }
+
+    @Test
+    void receiveMessage_messagesAvailable_shouldBeServedFromBuffer() {
+        CompletableFuture<ReceiveMessageResponse> first =
+            batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).maxNumberOfMessages(2).waitTimeSeconds(20));
+        sentReceives(2);
+        receives.poll().complete(messages(0, 5));
+
+        assertThat(first.join().messages()).extracting(Message::messageId).containsExactly("message-0", "message-1");
+
+        ReceiveMessageResponse second = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).maxNumberOfMessages(10)).join();
+        assertThat(second.messages()).extracting(Message::messageId)
+                                     .containsExactly("message-2", "message-3", "message-4");
+    }
+
+    @Test
+    void receiveMessage_completedPoll_shouldBeReplacedByNewPoll() {
+        batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).waitTimeSeconds(20));
+        sentReceives(2);
+
+        receives.poll().complete(ReceiveMessageResponse.builder().build());
+
+        sentReceives(3);
+    }
+
+    @Test
+    void receiveMessage_bufferFull_shouldNotSendMorePolls() {
+        batchManager = batchManager(b -> b.receiveMessageVisibilityTimeout(Duration.ofSeconds(30))
+                                          .maxInflightReceiveBatches(2)
+                                          .maxDoneReceiveBatches(2));
+        batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL));
+        sentReceives(2);
+
+        receives.poll().complete(messages(0, 10));
+        receives.poll().complete(messages(10, 10));
+
+        verify(client, times(2)).receiveMessage(any(ReceiveMessageRequest.class));
+
+        batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).maxNumberOfMessages(10)).join();
+        sentReceives(3);
+    }
+
+    @Test
+    void receiveMessage_noMessagesWithinWaitTime_shouldReturnEmptyResponse() {
+        CompletableFuture<ReceiveMessageResponse> response =
+            batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).waitTimeSeconds(1));
+
+        assertThat(response.join().messages()).isEmpty();
+    }
+
+    @Test
+    void receiveMessage_noWaitTime_shouldReturnImmediately() {
+        CompletableFuture<ReceiveMessageResponse> response = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL));
+
+        assertThat(response).isCompleted();
+        assertThat(response.join().messages()).isEmpty();
+    }
+
+    @Test
+    void receiveMessage_expiredMessages_shouldBeDiscarded() throws InterruptedException {
+        batchManager = batchManager(b -> b.receiveMessageVisibilityTimeout(Duration.ofSeconds(1))
+                                          .maxInflightReceiveBatches(1));
+        batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL));
+        sentReceives(1);
+        receives.poll().complete(messages(0, 3));
+
+        TimeUnit.MILLISECONDS.sleep(1100);
+
+        assertThat(batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).maxNumberOfMessages(10)).join().messages())
+            .isEmpty();
+    }
+
+    @Test
+    void receiveMessage_visibilityTimeoutNotConfigured_shouldUseQueueVisibilityTimeout() {
+        when(client.getQueueAttributes(any(GetQueueAttributesRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                GetQueueAttributesResponse.builder()
+                                          .attributes(singletonVisibilityTimeout("60"))
+                                          .build()));
+        batchManager = batchManager(b -> b.maxInflightReceiveBatches(1));
+
+        batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL));
+
+        ArgumentCaptor<GetQueueAttributesRequest> captor = ArgumentCaptor.forClass(GetQueueAttributesRequest.class);
+        verify(client).getQueueAttributes(captor.capture());
+        assertThat(captor.getValue().attributeNames()).containsExactly(QueueAttributeName.VISIBILITY_TIMEOUT);
+        assertThat(sentReceives(1).get(0).visibilityTimeout()).isNull();
+    }
+
+    @Test
+    void receiveMessage_pollFails_shouldFailPendingReceives() {
+        CompletableFuture<ReceiveMessageResponse> response =
+            batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).waitTimeSeconds(20));
+        sentReceives(2);
+        SqsException exception = (SqsException) SqsException.builder().message("boom").build();
+
+        receives.poll().completeExceptionally(exception);
+
+        assertThatThrownBy(response::join).isInstanceOf(CompletionException.class).hasCause(exception);
+    }
+
+    @Test
+    void receiveMessage_fifoQueue_shouldBypassBuffer() {
+        ReceiveMessageRequest request = ReceiveMessageRequest.builder().queueUrl(FIFO_QUEUE_URL).build();
+
+        CompletableFuture<ReceiveMessageResponse> response = batchManager.receiveMessage(request);
+
+        assertThat(response).isSameAs(receives.peek());
+        verify(client).receiveMessage(request);
+    }
+
+    @Test
+    void receiveMessage_requestVisibilityTimeout_shouldBypassBuffer() {
+        ReceiveMessageRequest request = ReceiveMessageRequest.builder().queueUrl(QUEUE_URL).visibilityTimeout(5).build();
+
+        batchManager.receiveMessage(request);
+
+        verify(client).receiveMessage(request);
+        verify(client, times(1)).receiveMessage(any(ReceiveMessageRequest.class));
+    }
+
+    @Test
+    void receiveMessage_attributesNotBuffered_shouldBypassBuffer() {
+        batchManager = batchManager(b -> b.receiveMessageVisibilityTimeout(Duration.ofSeconds(30))
+                                          .maxInflightReceiveBatches(1)
+                                          .receiveMessageAttributeNames(Arrays.asList("trace.*")));
+
+        ReceiveMessageRequest buffered =
+            ReceiveMessageRequest.builder().queueUrl(QUEUE_URL).messageAttributeNames("trace.id").build();
+        ReceiveMessageRequest bypassed =
+            ReceiveMessageRequest.builder().queueUrl(QUEUE_URL).messageAttributeNames("other").build();
+
+        batchManager.receiveMessage(buffered);
+        batchManager.receiveMessage(bypassed);
+
+        verify(client, never()).receiveMessage(buffered);
+        verify(client).receiveMessage(bypassed);
+        assertThat(sentReceives(2).get(0).messageAttributeNames()).containsExactly("trace.*");
+    }
+
+    @Test
+    void receiveMessage_bufferDisabled_shouldBypassBuffer() {
+        batchManager = batchManager(b -> b.maxInflightReceiveBatches(0));
+        ReceiveMessageRequest request = ReceiveMessageRequest.builder().queueUrl(QUEUE_URL).build();
+
+        batchManager.receiveMessage(request);
+
+        verify(client, times(1)).receiveMessage(any(ReceiveMessageRequest.class));
+        verify(client).receiveMessage(request);
+    }
+
+    @Test
+    void close_shouldReleaseBufferedMessagesAndFailPendingReceives() {
+        batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL));
+        sentReceives(2);
+        receives.poll().complete(messages(0, 12));
+        CompletableFuture<ReceiveMessageResponse> other =
+            batchManager.receiveMessage(r -> r.queueUrl("https://sqs.us-east-1.amazonaws.com/123456789012/other")
+                                              .waitTimeSeconds(20));
+
+        batchManager.close();
+
+        assertThatThrownBy(other::join).hasCauseInstanceOf(SdkClientException.class);
+        ArgumentCaptor<ChangeMessageVisibilityBatchRequest> captor =
+            ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+        verify(client, times(2)).changeMessageVisibilityBatch(captor.capture());
+        List<ChangeMessageVisibilityBatchRequestEntry> entries =
+            captor.getAllValues().stream().flatMap(r -> r.entries().stream()).collect(Collectors.toList());
+        assertThat(entries).extracting(ChangeMessageVisibilityBatchRequestEntry::receiptHandle)
+                           .containsExactlyElementsOf(IntStream.range(0, 12)
+                                                               .mapToObj(i -> "handle-" + i)
+                                                               .collect(Collectors.toList()));
+        assertThat(entries).allSatisfy(e -> assertThat(e.visibilityTimeout()).isZero());
+    }
+
+    @Test
+    void close_inflightPollCompletes_shouldReleaseReturnedMessages() {
+        batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL));
+        sentReceives(2);
+
+        batchManager.close();
+        receives.poll().complete(messages(0, 3));
+
+        ArgumentCaptor<ChangeMessageVisibilityBatchRequest> captor =
+            ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+        verify(client).changeMessageVisibilityBatch(captor.capture());
+        assertThat(captor.getValue().entries()).hasSize(3);
+    }
+
+    @Test
+    void receiveMessage_afterClose_shouldFail() {
+        batchManager.close();
+
+        assertThatThrownBy(() -> batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL)).join())
+            .hasCauseInstanceOf(SdkClientException.class)
+            .hasMessageContaining("closed");
+    }
+
+    private SqsAsyncBatchManager batchManager(Consumer<BatchOverrideConfiguration.Builder> configuration) {
+        if (batchManager != null) {
+            batchManager.close();
+            receives.clear();
+        }
+        return SqsAsyncBatchManager.builder()
+                                   .client(client)
+                                   .scheduledExecutor(scheduledExecutor)
+                                   .overrideConfiguration(configuration)
+                                   .build();
+    }
+
+    private List<ReceiveMessageRequest> sentReceives(int count) {
+        ArgumentCaptor<ReceiveMessageRequest> captor = ArgumentCaptor.forClass(ReceiveMessageRequest.class);
+        verify(client, timeout(1000).times(count)).receiveMessage(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static ReceiveMessageResponse messages(int start, int count) {
+        return ReceiveMessageResponse.builder()
+                                     .messages(IntStream.range(start, start + count)
+                                                        .mapToObj(i -> Message.builder()
+                                                                              .messageId("message-" + i)
+                                                                              .receiptHandle("handle-" + i)
+                                                                              .build())
+                                                        .collect(Collectors.toList()))
+                                     .build();
+    }
+
+    private static Map<QueueAttributeName, String> singletonVisibilityTimeout(String value) {
+        return Collections.singletonMap(QueueAttributeName.VISIBILITY_TIMEOUT, value);
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+class SqsAsyncBatchManagerTest {
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+    private static final String OTHER_QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/other-queue";
+
+    private SqsAsyncClient client;
+    private ScheduledExecutorService scheduledExecutor;
+    private SqsAsyncBatchManager batchManager;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(SqsAsyncClient.class);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(i -> successfulSend(i.getArgument(0)));
+        batchManager = batchManager(Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchManager.close();
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void sendMessage_fullBatch_shouldBeSentWithoutWaiting() {
+        batchManager = batchManager(Duration.ofHours(1));
+
+        List<CompletableFuture<SendMessageResponse>> responses = sendMessages(QUEUE_URL, 10);
+
+        assertThat(responses.stream().map(f -> f.join().messageId()).collect(Collectors.toList()))
+            .containsExactlyElementsOf(IntStream.range(0, 10).mapToObj(i -> "message-" + i).collect(Collectors.toList()));
+
+        SendMessageBatchRequest batchRequest = sentBatches(1).get(0);
+        assertThat(batchRequest.queueUrl()).isEqualTo(QUEUE_URL);
+        assertThat(batchRequest.entries()).extracting(SendMessageBatchRequestEntry::id)
+                                          .containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        assertThat(batchRequest.overrideConfiguration().get().apiNames())
+            .extracting(ApiName::version)
+            .contains("sqsBatchManager");
+    }
+
+    @Test
+    void sendMessage_partialBatch_shouldBeSentAfterSendRequestFrequency() {
+        List<CompletableFuture<SendMessageResponse>> responses = sendMessages(QUEUE_URL, 3);
+
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+        assertThat(sentBatches(1).get(0).entries()).hasSize(3);
+    }
+
+    @Test
+    void sendMessage_moreThanMaxBatchSize_shouldSplitIntoBatches() {
+        List<CompletableFuture<SendMessageResponse>> responses = sendMessages(QUEUE_URL, 25);
+
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+        assertThat(sentBatches(3)).extracting(r -> r.entries().size()).containsExactly(10, 10, 5);
+    }
+
+    @Test
+    void sendMessage_differentQueues_shouldNotBeBatchedTogether() {
+        List<CompletableFuture<SendMessageResponse>> responses = new ArrayList<>();
+        responses.addAll(sendMessages(QUEUE_URL, 2));
+        responses.addAll(sendMessages(OTHER_QUEUE_URL, 2));
+
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+        assertThat(sentBatches(2)).extracting(SendMessageBatchRequest::queueUrl)
+                                  .containsExactlyInAnyOrder(QUEUE_URL, OTHER_QUEUE_URL);
+    }
+
+    @Test
+    void sendMessage_payloadLimitReached_shouldStartNewBatch() {
+        batchManager = batchManager(Duration.ofHours(1));
+        String body = new String(new char[100 * 1024]).replace('\0', 'a');
+
+        List<CompletableFuture<SendMessageResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            responses.add(batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(body)));
+        }
+
+        responses.get(0).join();
+        responses.get(1).join();
+        assertThat(responses.get(2)).isNotDone();
+        assertThat(sentBatches(1).get(0).entries()).hasSize(2);
+
+        batchManager.close();
+        responses.get(2).join();
+    }
+
+    @Test
+    void sendMessage_entryFails_shouldFailOnlyThatMessage() {
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class))).thenReturn(CompletableFuture.completedFuture(
+            SendMessageBatchResponse.builder()
+                                    .successful(SendMessageBatchResultEntry.builder().id("0").messageId("m0").build())
+                                    .failed(BatchResultErrorEntry.builder()
+                                                                 .id("1")
+                                                                 .code("InvalidParameterValue")
+                                                                 .message("Invalid message")
+                                                                 .senderFault(true)
+                                                                 .build())
+                                    .build()));
+
+        List<CompletableFuture<SendMessageResponse>> responses = sendMessages(QUEUE_URL, 2);
+
+        assertThat(responses.get(0).join().messageId()).isEqualTo("m0");
+        assertThatThrownBy(() -> responses.get(1).join())
+            .hasCauseInstanceOf(SqsException.class)
+            .satisfies(e -> {
+                SqsException cause = (SqsException) e.getCause();
+                assertThat(cause.awsErrorDetails().errorCode()).isEqualTo("InvalidParameterValue");
+                assertThat(cause.statusCode()).isEqualTo(400);
+            });
+    }
+
+    @Test
+    void sendMessage_batchRequestFails_shouldFailAllMessages() {
+        RuntimeException exception = new RuntimeException("boom");
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class)))
+            .thenReturn(CompletableFutureUtils.failedFuture(exception));
+
+        List<CompletableFuture<SendMessageResponse>> responses = sendMessages(QUEUE_URL, 2);
+
+        responses.forEach(response -> assertThatThrownBy(response::join).isInstanceOf(CompletionException.class)
+                                                                          .hasCause(exception));
+    }
+
+    @Test
+    void deleteMessage_shouldBeBatched() {
+        when(client.deleteMessageBatch(any(DeleteMessageBatchRequest.class))).thenAnswer(i -> {
+            DeleteMessageBatchRequest request = i.getArgument(0);
+            return CompletableFuture.completedFuture(
+                DeleteMessageBatchResponse.builder()
+                                          .successful(request.entries().stream()
+                                                             .map(e -> DeleteMessageBatchResultEntry.builder().id(e.id()).build())
+                                                             .collect(Collectors.toList()))
+                                          .build());
+        });
+
+        CompletableFuture<DeleteMessageResponse> first = batchManager.deleteMessage(r -> r.queueUrl(QUEUE_URL)
+                                                                                          .receiptHandle("handle-0"));
+        CompletableFuture<DeleteMessageResponse> second = batchManager.deleteMessage(r -> r.queueUrl(QUEUE_URL)
+                                                                                           .receiptHandle("handle-1"));
+        CompletableFuture.allOf(first, second).join();
+
+        ArgumentCaptor<DeleteMessageBatchRequest> captor = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+        verify(client).deleteMessageBatch(captor.capture());
+        assertThat(captor.getValue().entries()).extracting(e -> e.receiptHandle()).containsExactly("handle-0", "handle-1");
+    }
+
+    @Test
+    void changeMessageVisibility_shouldBeBatched() {
+        when(client.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class))).thenAnswer(i -> {
+            ChangeMessageVisibilityBatchRequest request = i.getArgument(0);
+            return CompletableFuture.completedFuture(
+                ChangeMessageVisibilityBatchResponse.builder()
+                                                    .successful(request.entries().stream()
+                                                                       .map(e -> ChangeMessageVisibilityBatchResultEntry
+                                                                           .builder().id(e.id()).build())
+                                                                       .collect(Collectors.toList()))
+                                                    .build());
+        });
+
+        CompletableFuture<ChangeMessageVisibilityResponse> first =
+            batchManager.changeMessageVisibility(r -> r.queueUrl(QUEUE_URL).receiptHandle("handle-0").visibilityTimeout(10));
+        CompletableFuture<ChangeMessageVisibilityResponse> second =
+            batchManager.changeMessageVisibility(r -> r.queueUrl(QUEUE_URL).receiptHandle("handle-1").visibilityTimeout(20));
+        CompletableFuture.allOf(first, second).join();
+
+        ArgumentCaptor<ChangeMessageVisibilityBatchRequest> captor =
+            ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+        verify(client).changeMessageVisibilityBatch(captor.capture());
+        assertThat(captor.getValue().entries()).extracting(e -> e.visibilityTimeout()).containsExactly(10, 20);
+    }
+
+    @Test
+    void close_shouldSendBufferedRequestsAndRejectNewOnes() {
+        batchManager = batchManager(Duration.ofHours(1));
+        List<CompletableFuture<SendMessageResponse>> responses = sendMessages(QUEUE_URL, 2);
+        verify(client, never()).sendMessageBatch(any(SendMessageBatchRequest.class));
+
+        batchManager.close();
+
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+        assertThatThrownBy(() -> batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("late")).join())
+            .hasMessageContaining("closed");
+    }
+
+    @Test
+    void close_concurrentWithSendMessage_shouldCompleteEveryResponse() throws Exception {
+        batchManager = batchManager(Duration.ofHours(1));
+        ExecutorService senders = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch started = new CountDownLatch(4);
+            List<Future<List<CompletableFuture<SendMessageResponse>>>> sent = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                sent.add(senders.submit(() -> {
+                    started.countDown();
+                    return sendMessages(QUEUE_URL, 500);
+                }));
+            }
+            started.await();
+
+            batchManager.close();
+            scheduledExecutor.shutdownNow();
+
+            // Every response is either sent by the final flush or rejected; none is left buffered.
+            for (Future<List<CompletableFuture<SendMessageResponse>>> responses : sent) {
+                for (CompletableFuture<SendMessageResponse> response : responses.get(10, TimeUnit.SECONDS)) {
+                    response.handle((r, t) -> t == null || t.getMessage().contains("closed"))
+                            .thenAccept(expected -> assertThat(expected).isTrue())
+                            .get(10, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            senders.shutdownNow();
+        }
+    }
+
+    @Test
+    void batchManager_createdFromClient_shouldUseClient() {
+        try (SqsAsyncClient sqsAsyncClient = SqsAsyncClient.builder()
+                                                           .region(Region.US_EAST_1)
+                                                           .credentialsProvider(AnonymousCredentialsProvider.create())
+                                                           .build();
+             SqsAsyncBatchManager manager = sqsAsyncClient.batchManager()) {
+            assertThat(manager).isNotNull();
+        }
+    }
+
+    @Test
+    void overrideConfiguration_maxBatchSizeAboveLimit_shouldThrow() {
+        assertThatThrownBy(() -> BatchOverrideConfiguration.builder().maxBatchSize(11).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SqsAsyncBatchManager batchManager(Duration sendRequestFrequency) {
+        if (batchManager != null) {
+            batchManager.close();
+        }
+        return SqsAsyncBatchManager.builder()
+                                   .client(client)
+                                   .scheduledExecutor(scheduledExecutor)
+                                   .overrideConfiguration(o -> o.sendRequestFrequency(sendRequestFrequency))
+                                   .build();
+    }
+
+    private List<CompletableFuture<SendMessageResponse>> sendMessages(String queueUrl, int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> batchManager.sendMessage(r -> r.queueUrl(queueUrl).messageBody("body-" + i)))
+                        .collect(Collectors.toList());
+    }
+
+    private List<SendMessageBatchRequest> sentBatches(int count) {
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(client, timeout(1000).times(count)).sendMessageBatch(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static CompletableFuture<SendMessageBatchResponse> successfulSend(SendMessageBatchRequest request) {
+        List<SendMessageBatchResultEntry> entries =
+            request.entries().stream()
+                   .map(e -> SendMessageBatchResultEntry.builder()
+                                                        .id(e.id())
+                                                        .messageId(e.messageBody().replace("body", "message"))
+                                                        .build())
+                   .collect(Collectors.toList());
+        return CompletableFuture.completedFuture(SendMessageBatchResponse.builder().successful(entries).build());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClientBuilder;
+import software.amazon.awssdk.testutils.service.http.MockSyncHttpClient;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class EndpointResolutionCacheTest {
+
+    private MockSyncHttpClient mockHttpClient;
+    private CapturingPublisher publisher;
+
+    @BeforeEach
+    public void setup() {
+        mockHttpClient = new MockSyncHttpClient();
+        publisher = new CapturingPublisher();
+    }
+
+    @Test
+    public void cacheSizeConfigured_secondRequestServedFromCache() {
+        try (ProtocolRestJsonClient client = clientBuilder(10).build()) {
+            callAllTypes(client);
+            callAllTypes(client);
+        }
+
+        assertThat(cacheHits()).containsExactly(false, true);
+        assertThat(mockHttpClient.getRequests().get(1).getUri())
+            .isEqualTo(mockHttpClient.getRequests().get(0).getUri());
+    }
+
+    @Test
+    public void cacheSizeNotConfigured_noCacheMetricReported() {
+        try (ProtocolRestJsonClient client = clientBuilder(null).build()) {
+            callAllTypes(client);
+            callAllTypes(client);
+        }
+
+        assertThat(cacheHits()).isEmpty();
+    }
+
+    @Test
+    public void customEndpointProvider_notCached() {
+        AtomicInteger resolutions = new AtomicInteger();
+        try (ProtocolRestJsonClient client =
+                 clientBuilder(10).endpointProvider(p -> {
+                     resolutions.incrementAndGet();
+                     return CompletableFuture.completedFuture(
+                         Endpoint.builder().url(URI.create("https://custom.amazonaws.com")).build());
+                 }).build()) {
+            callAllTypes(client);
+            callAllTypes(client);
+        }
+
+        assertThat(resolutions).hasValue(2);
+        assertThat(cacheHits()).isEmpty();
+    }
+
+    private ProtocolRestJsonClientBuilder clientBuilder(Integer cacheSize) {
+        return ProtocolRestJsonClient.builder()
+                                     .credentialsProvider(AnonymousCredentialsProvider.create())
+                                     .region(Region.US_WEST_2)
+                                     .httpClient(mockHttpClient)
+                                     .overrideConfiguration(o -> o.putAdvancedOption(
+                                                                      SdkAdvancedClientOption.ENDPOINT_RESOLUTION_CACHE_SIZE,
+                                                                      cacheSize)
+                                                                  .addMetricPublisher(publisher));
+    }
+
+    private void callAllTypes(ProtocolRestJsonClient client) {
+        mockHttpClient.stubNextResponse(
+            HttpExecuteResponse.builder()
+                               .response(SdkHttpResponse.builder().statusCode(200).build())
+                               .responseBody(AbortableInputStream.create(new StringInputStream("{}")))
+                               .build());
+        client.allTypes();
+    }
+
+    private List<Boolean> cacheHits() {
+        List<Boolean> hits = new ArrayList<>();
+        for (MetricCollection metrics : publisher.published) {
+            hits.addAll(metrics.metricValues(CoreMetric.ENDPOINT_RESOLVE_CACHE_HIT));
+        }
+        return hits;
+    }
+
+    private static final class CapturingPublisher implements MetricPublisher {
+        private final List<MetricCollection> published = new ArrayList<>();
+
+        @Override
+        public void publish(MetricCollection metricCollection) {
+            published.add(metricCollection);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
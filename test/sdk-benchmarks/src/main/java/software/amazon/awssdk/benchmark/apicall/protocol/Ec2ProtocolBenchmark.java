@@ -26,6 +26,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -36,10 +37,12 @@ import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.services.protocolec2.ProtocolEc2Client;
 
 /**
- * Benchmarking for running with different protocols.
+ * Benchmarking for running with different protocols. The {@code streamingUnmarshalling} parameter compares unmarshalling
+ * the response through an {@code XmlElement} tree with unmarshalling it directly from the parser's event stream.
  */
 @State(Scope.Benchmark)
 @Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
@@ -48,13 +51,21 @@ import software.amazon.awssdk.services.protocolec2.ProtocolEc2Client;
 @BenchmarkMode(Mode.Throughput)
 public class Ec2ProtocolBenchmark implements SdkProtocolBenchmark {
 
+    @Param({"false", "true"})
+    public String streamingUnmarshalling;
+
     private ProtocolEc2Client client;
 
     @Setup(Level.Trial)
     public void setup() {
-        client = ProtocolEc2Client.builder()
-                                  .httpClient(new MockHttpClient(XML_BODY, ERROR_XML_BODY))
-                                  .build();
+        System.setProperty(SdkSystemSetting.STREAMING_XML_UNMARSHALLING_ENABLED.property(), streamingUnmarshalling);
+        try {
+            client = ProtocolEc2Client.builder()
+                                      .httpClient(new MockHttpClient(XML_BODY, ERROR_XML_BODY))
+                                      .build();
+        } finally {
+            System.clearProperty(SdkSystemSetting.STREAMING_XML_UNMARSHALLING_ENABLED.property());
+        }
     }
 
     @Override
@@ -26,6 +26,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -36,10 +37,12 @@ import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
 
 /**
- * Benchmarking for running with different protocols.
+ * Benchmarking for running with different protocols. The {@code streamingUnmarshalling} parameter compares unmarshalling
+ * the response through a {@code JsonNode} tree with unmarshalling it directly from the parser's token stream.
  */
 @State(Scope.Benchmark)
 @Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
@@ -48,13 +51,21 @@ import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
 @BenchmarkMode(Mode.Throughput)
 public class JsonProtocolBenchmark implements SdkProtocolBenchmark {
 
+    @Param({"false", "true"})
+    public String streamingUnmarshalling;
+
     private ProtocolRestJsonClient client;
 
     @Setup(Level.Trial)
     public void setup() {
-        client = ProtocolRestJsonClient.builder()
-                                       .httpClient(new MockHttpClient(JSON_BODY, ERROR_JSON_BODY))
-                                       .build();
+        System.setProperty(SdkSystemSetting.STREAMING_JSON_UNMARSHALLING_ENABLED.property(), streamingUnmarshalling);
+        try {
+            client = ProtocolRestJsonClient.builder()
+                                           .httpClient(new MockHttpClient(JSON_BODY, ERROR_JSON_BODY))
+                                           .build();
+        } finally {
+            System.clearProperty(SdkSystemSetting.STREAMING_JSON_UNMARSHALLING_ENABLED.property());
+        }
     }
 
     @Override
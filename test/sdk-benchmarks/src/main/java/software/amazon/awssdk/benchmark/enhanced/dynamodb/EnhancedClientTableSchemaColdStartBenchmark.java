@@ -0,0 +1,271 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+
+/**
+ * Measures the time to create the first table schema of an annotated class in a new JVM, when the schema is introspected
+ * at runtime and when it was generated at compile time by the dynamodb-enhanced-processor. Every fork creates a single
+ * schema, so the results include the class loading and reflection costs that dominate the cold start of short-lived
+ * applications such as AWS Lambda functions.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class EnhancedClientTableSchemaColdStartBenchmark {
+
+    @Benchmark
+    public void introspectedBeanTableSchema(Blackhole blackhole) {
+        blackhole.consume(BeanTableSchema.create(ColdStartBean.class));
+    }
+
+    @Benchmark
+    public void generatedBeanTableSchema(Blackhole blackhole) {
+        blackhole.consume(TableSchema.fromClass(ColdStartBean.class));
+    }
+
+    @Benchmark
+    public void introspectedImmutableTableSchema(Blackhole blackhole) {
+        blackhole.consume(ImmutableTableSchema.create(ColdStartImmutable.class));
+    }
+
+    @Benchmark
+    public void generatedImmutableTableSchema(Blackhole blackhole) {
+        blackhole.consume(TableSchema.fromClass(ColdStartImmutable.class));
+    }
+
+    @DynamoDbBean
+    public static class ColdStartBean {
+        private String id;
+        private Instant createdAt;
+        private String name;
+        private Integer quantity;
+        private Double price;
+        private Boolean active;
+        private List<String> tags;
+        private Map<String, String> labels;
+        private ColdStartAddress address;
+
+        @DynamoDbPartitionKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        @DynamoDbSortKey
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(Instant createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+
+        public Double getPrice() {
+            return price;
+        }
+
+        public void setPrice(Double price) {
+            this.price = price;
+        }
+
+        public Boolean getActive() {
+            return active;
+        }
+
+        public void setActive(Boolean active) {
+            this.active = active;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Map<String, String> getLabels() {
+            return labels;
+        }
+
+        public void setLabels(Map<String, String> labels) {
+            this.labels = labels;
+        }
+
+        public ColdStartAddress getAddress() {
+            return address;
+        }
+
+        public void setAddress(ColdStartAddress address) {
+            this.address = address;
+        }
+    }
+
+    @DynamoDbBean
+    public static class ColdStartAddress {
+        private String street;
+        private String city;
+        private String postalCode;
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public String getPostalCode() {
+            return postalCode;
+        }
+
+        public void setPostalCode(String postalCode) {
+            this.postalCode = postalCode;
+        }
+    }
+
+    @DynamoDbImmutable(builder = ColdStartImmutable.Builder.class)
+    public static final class ColdStartImmutable {
+        private final String id;
+        private final Instant createdAt;
+        private final String name;
+        private final Integer quantity;
+        private final List<String> tags;
+
+        private ColdStartImmutable(Builder builder) {
+            this.id = builder.id;
+            this.createdAt = builder.createdAt;
+            this.name = builder.name;
+            this.quantity = builder.quantity;
+            this.tags = builder.tags;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        @DynamoDbPartitionKey
+        public String id() {
+            return id;
+        }
+
+        @DynamoDbSortKey
+        public Instant createdAt() {
+            return createdAt;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public Integer quantity() {
+            return quantity;
+        }
+
+        public List<String> tags() {
+            return tags;
+        }
+
+        public static final class Builder {
+            private String id;
+            private Instant createdAt;
+            private String name;
+            private Integer quantity;
+            private List<String> tags;
+
+            public Builder id(String id) {
+                this.id = id;
+                return this;
+            }
+
+            public Builder createdAt(Instant createdAt) {
+                this.createdAt = createdAt;
+                return this;
+            }
+
+            public Builder name(String name) {
+                this.name = name;
+                return this;
+            }
+
+            public Builder quantity(Integer quantity) {
+                this.quantity = quantity;
+                return this;
+            }
+
+            public Builder tags(List<String> tags) {
+                this.tags = tags;
+                return this;
+            }
+
+            public ColdStartImmutable build() {
+                return new ColdStartImmutable(this);
+            }
+        }
+    }
+}
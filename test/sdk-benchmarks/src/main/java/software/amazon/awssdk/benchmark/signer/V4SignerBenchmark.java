@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner;
+import software.amazon.awssdk.http.auth.spi.signer.SignRequest;
+import software.amazon.awssdk.http.auth.spi.signer.SignedRequest;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+/**
+ * Measures the throughput of SigV4 request signing as the number of signing threads grows, which exercises the contention
+ * on the signer's shared state, such as the signing key cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class V4SignerBenchmark {
+
+    /**
+     * The number of distinct credentials that requests are signed with, each of which has its own cached signing key.
+     */
+    @Param({"1", "100"})
+    private int credentialsCount;
+
+    private AwsV4HttpSigner signer;
+    private SignRequest<AwsCredentialsIdentity>[] requests;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        signer = AwsV4HttpSigner.create();
+        SdkHttpRequest httpRequest = SdkHttpRequest.builder()
+                                                   .method(SdkHttpMethod.POST)
+                                                   .uri(URI.create("https://dynamodb.us-east-1.amazonaws.com/"))
+                                                   .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                                   .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                                   .putHeader("User-Agent", "aws-sdk-java/2.x benchmark")
+                                                   .putHeader("amz-sdk-invocation-id", "b0c8b2a8-8e1c-4b2a-9f0e-1d2c3b4a5f6e")
+                                                   .putHeader("amz-sdk-request", "attempt=1; max=4")
+                                                   .build();
+        requests = new SignRequest[credentialsCount];
+        for (int i = 0; i < credentialsCount; i++) {
+            AwsCredentialsIdentity credentials = AwsCredentialsIdentity.create("akid" + i, "skid" + i);
+            requests[i] = SignRequest.builder(credentials)
+                                     .request(httpRequest)
+                                     .putProperty(AwsV4HttpSigner.REGION_NAME, "us-east-1")
+                                     .putProperty(AwsV4HttpSigner.SERVICE_SIGNING_NAME, "dynamodb")
+                                     .putProperty(AwsV4HttpSigner.PAYLOAD_SIGNING_ENABLED, false)
+                                     .build();
+        }
+    }
+
+    /**
+     * The requests signed by one benchmark thread, which cycles through the credentials.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private int next;
+
+        SignRequest<AwsCredentialsIdentity> nextRequest(V4SignerBenchmark benchmark) {
+            SignRequest<AwsCredentialsIdentity>[] requests = benchmark.requests;
+            SignRequest<AwsCredentialsIdentity> request = requests[next];
+            next = (next + 1) % requests.length;
+            return request;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public SignedRequest sign1Thread(ThreadState state) {
+        return sign(state);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public SignedRequest sign4Threads(ThreadState state) {
+        return sign(state);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public SignedRequest sign16Threads(ThreadState state) {
+        return sign(state);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public SignedRequest sign64Threads(ThreadState state) {
+        return sign(state);
+    }
+
+    private SignedRequest sign(ThreadState state) {
+        return signer.sign(state.nextRequest(this));
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(V4SignerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
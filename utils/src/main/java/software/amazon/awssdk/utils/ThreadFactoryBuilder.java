@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.utils;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicLong;
@@ -35,8 +36,11 @@ public class ThreadFactoryBuilder {
 
     private static final AtomicLong POOL_NUMBER = new AtomicLong(0);
 
+    private static final Logger log = Logger.loggerFor(ThreadFactoryBuilder.class);
+
     private String threadNamePrefix = "aws-java-sdk";
     private Boolean daemonThreads = true;
+    private Boolean virtualThreads = false;
 
     /**
      * The name prefix for threads created by this thread factory. The prefix will be appended with a number unique to the thread
@@ -60,6 +64,16 @@ public class ThreadFactoryBuilder {
         return this;
     }
 
+    /**
+     * Whether the factory should create virtual threads instead of platform threads. Virtual threads are only available on
+     * Java 21 or later; on older runtimes, this setting is ignored and platform threads are created. Virtual threads are always
+     * daemon threads. By default this is false.
+     */
+    public ThreadFactoryBuilder virtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
     /**
      * Test API to reset pool count for reliable assertions.
      */
@@ -74,7 +88,12 @@ public class ThreadFactoryBuilder {
     public ThreadFactory build() {
         String threadNamePrefixWithPoolNumber = threadNamePrefix + "-" + POOL_NUMBER.getAndIncrement() % POOL_NUMBER_MAX;
 
-        ThreadFactory result = new NamedThreadFactory(Executors.defaultThreadFactory(), threadNamePrefixWithPoolNumber);
+        ThreadFactory delegate = Boolean.TRUE.equals(virtualThreads) ? virtualThreadFactory() : null;
+        if (delegate == null) {
+            delegate = Executors.defaultThreadFactory();
+        }
+
+        ThreadFactory result = new NamedThreadFactory(delegate, threadNamePrefixWithPoolNumber);
 
         if (daemonThreads) {
             result = new DaemonThreadFactory(result);
@@ -82,4 +101,20 @@ public class ThreadFactoryBuilder {
 
         return result;
     }
+
+    /**
+     * Load {@code Thread.ofVirtual().factory()} reflectively, because the SDK is compiled for Java 8.
+     *
+     * @return The virtual thread factory, or null if the runtime does not support virtual threads.
+     */
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug(() -> "Virtual threads are not supported by this runtime, so platform threads will be used instead.", e);
+            return null;
+        }
+    }
 }
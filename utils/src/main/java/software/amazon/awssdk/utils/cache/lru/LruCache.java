@@ -18,6 +18,8 @@ package software.amazon.awssdk.utils.cache.lru;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -47,7 +49,7 @@ public final class LruCache<K, V>  {
 
     private final Map<K, CacheEntry<K, V>> cache;
     private final Function<K, V> valueSupplier;
-    private final Object listLock = new Object();
+    private final Lock listLock = new ReentrantLock();
     private final int maxCacheSize;
 
     private CacheEntry<K, V> leastRecentlyUsed = null;
@@ -67,12 +69,15 @@ public final class LruCache<K, V>  {
     public V get(K key) {
         while (true) {
             CacheEntry<K, V> cachedEntry = cache.computeIfAbsent(key, this::newEntry);
-            synchronized (listLock) {
+            listLock.lock();
+            try {
                 if (cachedEntry.evicted()) {
                     continue;
                 }
                 moveToBackOfQueue(cachedEntry);
                 return cachedEntry.value();
+            } finally {
+                listLock.unlock();
             }
         }
     }
@@ -59,6 +59,17 @@ public class ThreadFactoryBuilderTest {
         assertThat(thread.isDaemon()).isTrue();
     }
 
+    @Test
+    public void virtualThreadsKeepNameAndDaemonSettings() {
+        Thread thread = new ThreadFactoryBuilder()
+                .threadNamePrefix("virtual")
+                .virtualThreads(true)
+                .build()
+                .newThread(this::doNothing);
+        assertThat(thread.getName()).isEqualTo("virtual-0-0");
+        assertThat(thread.isDaemon()).isTrue();
+    }
+
     /**
      * To use as a {@link Runnable} method reference.
      */